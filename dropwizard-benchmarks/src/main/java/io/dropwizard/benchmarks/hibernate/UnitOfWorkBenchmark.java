@@ -0,0 +1,137 @@
+package io.dropwizard.benchmarks.hibernate;
+
+import io.dropwizard.hibernate.UnitOfWork;
+import io.dropwizard.hibernate.UnitOfWorkApplicationListener;
+import io.dropwizard.logging.BootstrapLogging;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link UnitOfWork} on a request, from the start of the resource method to the end of
+ * the request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class UnitOfWorkBenchmark {
+
+    static {
+        BootstrapLogging.bootstrap();
+    }
+
+    private final UnitOfWorkApplicationListener listener = new UnitOfWorkApplicationListener();
+    private SessionFactory sessionFactory;
+    private RequestEvent[] withoutUnitOfWork;
+    private RequestEvent[] withUnitOfWork;
+    private RequestEvent[] withTransactionalUnitOfWork;
+
+    @Setup
+    public void setUp() throws Exception {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty(AvailableSettings.URL, "jdbc:h2:mem:unit-of-work-benchmark;DB_CLOSE_DELAY=-1");
+        configuration.setProperty(AvailableSettings.USER, "sa");
+        configuration.setProperty(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect");
+        configuration.setProperty(AvailableSettings.CURRENT_SESSION_CONTEXT_CLASS, "managed");
+        sessionFactory = configuration.buildSessionFactory();
+        listener.registerSessionFactory("hibernate", sessionFactory);
+
+        withoutUnitOfWork = events("withoutUnitOfWork");
+        withUnitOfWork = events("withUnitOfWork");
+        withTransactionalUnitOfWork = events("withTransactionalUnitOfWork");
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    private static RequestEvent[] events(String methodName) throws NoSuchMethodException {
+        final ResourceMethod method = Resource.builder()
+            .addMethod()
+            .handledBy(new ExampleResource(), ExampleResource.class.getMethod(methodName))
+            .build();
+        final ExtendedUriInfo uriInfo = (ExtendedUriInfo) Proxy.newProxyInstance(
+            ExtendedUriInfo.class.getClassLoader(), new Class<?>[]{ExtendedUriInfo.class},
+            (proxy, invokedMethod, args) -> method);
+        return new RequestEvent[]{
+            event(RequestEvent.Type.START, uriInfo),
+            event(RequestEvent.Type.RESOURCE_METHOD_START, uriInfo),
+            event(RequestEvent.Type.RESP_FILTERS_START, uriInfo),
+            event(RequestEvent.Type.FINISHED, uriInfo)
+        };
+    }
+
+    private static RequestEvent event(RequestEvent.Type type, ExtendedUriInfo uriInfo) {
+        return (RequestEvent) Proxy.newProxyInstance(RequestEvent.class.getClassLoader(),
+            new Class<?>[]{RequestEvent.class},
+            (proxy, method, args) -> "getType".equals(method.getName()) ? type : uriInfo);
+    }
+
+    private RequestEventListener request(RequestEvent[] events) {
+        final RequestEventListener requestListener = listener.onRequest(events[0]);
+        for (int i = 1; i < events.length; i++) {
+            requestListener.onEvent(events[i]);
+        }
+        return requestListener;
+    }
+
+    @Benchmark
+    public RequestEventListener requestWithoutUnitOfWork() {
+        return request(withoutUnitOfWork);
+    }
+
+    @Benchmark
+    public RequestEventListener requestWithUnitOfWork() {
+        return request(withUnitOfWork);
+    }
+
+    @Benchmark
+    public RequestEventListener requestWithTransactionalUnitOfWork() {
+        return request(withTransactionalUnitOfWork);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(UnitOfWorkBenchmark.class.getSimpleName())
+            .forks(1)
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .build())
+            .run();
+    }
+
+    public static class ExampleResource {
+        public void withoutUnitOfWork() {
+            // stub implementation
+        }
+
+        @UnitOfWork(transactional = false)
+        public void withUnitOfWork() {
+            // stub implementation
+        }
+
+        @UnitOfWork
+        public void withTransactionalUnitOfWork() {
+            // stub implementation
+        }
+    }
+}
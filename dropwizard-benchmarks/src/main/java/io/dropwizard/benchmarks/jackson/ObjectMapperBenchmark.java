@@ -0,0 +1,60 @@
+package io.dropwizard.benchmarks.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.logging.AppenderFactory;
+import io.dropwizard.logging.BootstrapLogging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of creating object mappers, as applications and their tests create many of them, and of
+ * resolving a {@link io.dropwizard.jackson.Discoverable} type with a new object mapper.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ObjectMapperBenchmark {
+
+    static {
+        BootstrapLogging.bootstrap();
+    }
+
+    /**
+     * Don't trust the IDE, it's advisedly non-final to avoid constant folding
+     */
+    private String appender = "{\"type\": \"console\"}";
+
+    @Benchmark
+    public ObjectMapper newObjectMapper() {
+        return Jackson.newObjectMapper();
+    }
+
+    @Benchmark
+    public ObjectMapper newMinimalObjectMapper() {
+        return Jackson.newMinimalObjectMapper();
+    }
+
+    @Benchmark
+    public AppenderFactory<?> newObjectMapperAndReadDiscoverableType() throws Exception {
+        return Jackson.newObjectMapper().readValue(appender, AppenderFactory.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ObjectMapperBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
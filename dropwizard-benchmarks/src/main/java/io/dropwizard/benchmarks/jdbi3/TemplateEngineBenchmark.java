@@ -0,0 +1,102 @@
+package io.dropwizard.benchmarks.jdbi3;
+
+import io.dropwizard.jdbi3.NamePrependingTemplateEngine;
+import io.dropwizard.logging.BootstrapLogging;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.NoTemplateEngine;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of prepending the names of SQLObject methods to their statements, on statements which are
+ * run against an in-memory database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TemplateEngineBenchmark {
+
+    static {
+        BootstrapLogging.bootstrap();
+    }
+
+    public interface NumberDao {
+        @SqlQuery("SELECT :number + 1")
+        int next(@Bind("number") int number);
+    }
+
+    private Handle plainHandle;
+    private Handle commentedHandle;
+    private Handle commentedWithoutTemplatesHandle;
+    private NumberDao plain;
+    private NumberDao commented;
+    private NumberDao commentedWithoutTemplates;
+
+    @Setup
+    public void prepare() {
+        plainHandle = jdbi().open();
+        plain = plainHandle.attach(NumberDao.class);
+
+        final Jdbi commentedJdbi = jdbi();
+        commentedJdbi.setTemplateEngine(new NamePrependingTemplateEngine(
+            commentedJdbi.getConfig(SqlStatements.class).getTemplateEngine()));
+        commentedHandle = commentedJdbi.open();
+        commented = commentedHandle.attach(NumberDao.class);
+
+        final Jdbi commentedWithoutTemplatesJdbi = jdbi();
+        commentedWithoutTemplatesJdbi.setTemplateEngine(new NamePrependingTemplateEngine(new NoTemplateEngine()));
+        commentedWithoutTemplatesHandle = commentedWithoutTemplatesJdbi.open();
+        commentedWithoutTemplates = commentedWithoutTemplatesHandle.attach(NumberDao.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        plainHandle.close();
+        commentedHandle.close();
+        commentedWithoutTemplatesHandle.close();
+    }
+
+    private static Jdbi jdbi() {
+        return Jdbi.create("jdbc:h2:mem:template-engine-benchmark").installPlugin(new SqlObjectPlugin());
+    }
+
+    @Benchmark
+    public int plainStatement() {
+        return plain.next(1);
+    }
+
+    @Benchmark
+    public int commentedStatement() {
+        return commented.next(1);
+    }
+
+    @Benchmark
+    public int commentedStatementWithoutTemplates() {
+        return commentedWithoutTemplates.next(1);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(TemplateEngineBenchmark.class.getSimpleName())
+            .forks(1)
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .build())
+            .run();
+    }
+}
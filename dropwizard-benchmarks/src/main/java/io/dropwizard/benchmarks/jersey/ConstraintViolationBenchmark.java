@@ -1,9 +1,11 @@
 package io.dropwizard.benchmarks.jersey;
 
 import io.dropwizard.jersey.validation.ConstraintMessage;
+import io.dropwizard.jersey.validation.DropwizardConfiguredValidator;
 import io.dropwizard.jersey.validation.Validators;
 import io.dropwizard.logging.BootstrapLogging;
 import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.MethodHandler;
 import javax.validation.constraints.NotEmpty;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -40,6 +42,10 @@ public class ConstraintViolationBenchmark {
         public String objectFunc(@Valid Foo foo) {
             return foo.toString();
         }
+
+        public String unconstrainedFunc(String secretSauce) {
+            return secretSauce;
+        }
     }
 
     public static class Foo {
@@ -52,6 +58,12 @@ public class ConstraintViolationBenchmark {
 
     final Invocable invocable = Invocable.create(request -> null);
 
+    private final Resource resource = new Resource();
+    private final Object[] validParams = {"sauce"};
+    private DropwizardConfiguredValidator configuredValidator;
+    private Invocable paramInvocable;
+    private Invocable unconstrainedInvocable;
+
     @Setup
     public void prepare() throws NoSuchMethodException {
         final Validator validator = Validators.newValidator();
@@ -72,6 +84,12 @@ public class ConstraintViolationBenchmark {
                 new Object[]{new Foo()} // the parameter value
             );
         objViolation = objViolations.iterator().next();
+
+        configuredValidator = new DropwizardConfiguredValidator(validator);
+        paramInvocable = Invocable.create(MethodHandler.create(Resource.class),
+            Resource.class.getMethod("paramFunc", String.class));
+        unconstrainedInvocable = Invocable.create(MethodHandler.create(Resource.class),
+            Resource.class.getMethod("unconstrainedFunc", String.class));
     }
 
     @Benchmark
@@ -84,6 +102,18 @@ public class ConstraintViolationBenchmark {
         return ConstraintMessage.getMessage(objViolation, invocable);
     }
 
+    @Benchmark
+    public Object[] validParams() {
+        configuredValidator.validateResourceAndInputParams(resource, paramInvocable, validParams);
+        return validParams;
+    }
+
+    @Benchmark
+    public Object[] unconstrainedParams() {
+        configuredValidator.validateResourceAndInputParams(resource, unconstrainedInvocable, validParams);
+        return validParams;
+    }
+
     public static void main(String[] args) throws Exception {
         new Runner(new OptionsBuilder()
                 .include(ConstraintViolationBenchmark.class.getSimpleName())
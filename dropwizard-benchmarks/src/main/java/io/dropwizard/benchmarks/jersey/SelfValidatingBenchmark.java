@@ -17,7 +17,10 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
+import javax.validation.constraints.NotEmpty;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @BenchmarkMode(Mode.AverageTime)
@@ -74,8 +77,40 @@ public class SelfValidatingBenchmark {
         }
     }
 
+    /**
+     * A request entity, which is validated on every call of its resource method.
+     */
+    @SelfValidating
+    public static class RequestEntity {
+        @NotEmpty
+        private final String name;
+        private final int quantity;
+        private final int maximumQuantity;
+
+        public RequestEntity(String name, int quantity, int maximumQuantity) {
+            this.name = name;
+            this.quantity = quantity;
+            this.maximumQuantity = maximumQuantity;
+        }
+
+        @SelfValidation
+        public void validateQuantity(ViolationCollector collector) {
+            if (quantity > maximumQuantity) {
+                collector.addViolation("quantity must not exceed maximumQuantity");
+            }
+        }
+
+        @SelfValidation
+        public void validateName(ViolationCollector collector) {
+            if (name.trim().isEmpty()) {
+                collector.addViolation("name must not be blank");
+            }
+        }
+    }
+
     private ValidationMethodUser validationMethodUser;
     private SelfValidatingMethodUser selfValidatingMethodUser;
+    private RequestEntity requestEntity;
     private Validator validator;
 
     final Invocable invocable = Invocable.create(request -> null);
@@ -85,6 +120,7 @@ public class SelfValidatingBenchmark {
         validator = Validators.newValidator();
         validationMethodUser = new ValidationMethodUser();
         selfValidatingMethodUser = new SelfValidatingMethodUser();
+        requestEntity = new RequestEntity("widget", 1, 10);
     }
 
     @Benchmark
@@ -97,6 +133,13 @@ public class SelfValidatingBenchmark {
         validator.validate(selfValidatingMethodUser);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Set<ConstraintViolation<RequestEntity>> selfValidatingRequestEntity() {
+        return validator.validate(requestEntity);
+    }
+
     public static void main(String[] args) throws Exception {
         new Runner(new OptionsBuilder()
             .include(SelfValidatingBenchmark.class.getSimpleName())
@@ -5,6 +5,7 @@ import com.codahale.metrics.httpclient.HttpClientMetricNameStrategy;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.jersey.gzip.ConfiguredGZipEncoder;
 import io.dropwizard.jersey.gzip.GZipDecoder;
+import io.dropwizard.jersey.jackson.JacksonBinaryFormat;
 import io.dropwizard.jersey.jackson.JacksonFeature;
 import io.dropwizard.jersey.validation.HibernateValidationBinder;
 import io.dropwizard.jersey.validation.Validators;
@@ -30,6 +31,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
 
@@ -74,13 +76,17 @@ public class JerseyClientBuilder {
     @Nullable
     private ConnectorProvider connectorProvider;
 
+    private final MetricRegistry metricRegistry;
+
     public JerseyClientBuilder(Environment environment) {
         this.apacheHttpClientBuilder = new HttpClientBuilder(environment);
         this.environment = environment;
+        this.metricRegistry = environment.metrics();
     }
 
     public JerseyClientBuilder(MetricRegistry metricRegistry) {
         this.apacheHttpClientBuilder = new HttpClientBuilder(metricRegistry);
+        this.metricRegistry = metricRegistry;
     }
 
     public void setApacheHttpClientBuilder(HttpClientBuilder apacheHttpClientBuilder) {
@@ -401,7 +407,13 @@ public class JerseyClientBuilder {
             config.register(provider);
         }
 
-        config.register(new JacksonFeature(objectMapper));
+        final Set<JacksonBinaryFormat> jacksonBinaryFormats = configuration.getJacksonBinaryFormats();
+        if (jacksonBinaryFormats.isEmpty()) {
+            config.register(new JacksonFeature(objectMapper));
+        } else {
+            config.register(new JacksonFeature(objectMapper, jacksonBinaryFormats, metricRegistry,
+                MetricRegistry.name(JacksonFeature.class, "client", name)));
+        }
         config.register(new HibernateValidationBinder(validator));
 
         for (Map.Entry<String, Object> property : this.properties.entrySet()) {
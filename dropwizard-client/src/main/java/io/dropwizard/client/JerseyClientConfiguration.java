@@ -2,10 +2,14 @@ package io.dropwizard.client;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.jersey.jackson.JacksonBinaryFormat;
 import io.dropwizard.validation.ValidationMethod;
 
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * The configuration class used by {@link JerseyClientBuilder}. Extends
@@ -33,6 +37,9 @@ public class JerseyClientConfiguration extends HttpClientConfiguration {
 
     private boolean chunkedEncodingEnabled = true;
 
+    @NotNull
+    private Set<JacksonBinaryFormat> jacksonBinaryFormats = Collections.emptySet();
+
     @JsonProperty
     public int getMinThreads() {
         return minThreads;
@@ -93,6 +100,22 @@ public class JerseyClientConfiguration extends HttpClientConfiguration {
         this.workQueueSize = workQueueSize;
     }
 
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public Set<JacksonBinaryFormat> getJacksonBinaryFormats() {
+        return jacksonBinaryFormats;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public void setJacksonBinaryFormats(Set<JacksonBinaryFormat> jacksonBinaryFormats) {
+        this.jacksonBinaryFormats = jacksonBinaryFormats;
+    }
+
     @JsonIgnore
     @ValidationMethod(message = ".minThreads must be less than or equal to maxThreads")
     public boolean isThreadPoolSizedCorrectly() {
@@ -12,17 +12,30 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.node.TreeTraversingParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -40,11 +53,16 @@ public abstract class BaseConfigurationFactory<T> implements ConfigurationFactor
     private static final Pattern ESCAPED_COMMA_SPLIT_PATTERN = Pattern.compile("(?<!\\\\),");
     private static final Pattern ESCAPED_DOT_PATTERN = Pattern.compile("\\\\\\.");
     private static final Pattern ESCAPED_DOT_SPLIT_PATTERN = Pattern.compile("(?<!\\\\)\\.");
+    private static final Pattern INDEXED_KEY_PATTERN = Pattern.compile(".+\\[\\d+\\]$");
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseConfigurationFactory.class);
 
     private final Class<T> klass;
     private final String propertyPrefix;
     protected final ObjectMapper mapper;
-    private final ConfigurationMetadata configurationMetadata;
+    @Nullable
+    private ConfigurationMetadata configurationMetadata;
+    @Nullable
+    private Path cacheDirectory;
 
     @Nullable
     private final Validator validator;
@@ -73,12 +91,107 @@ public abstract class BaseConfigurationFactory<T> implements ConfigurationFactor
         this.mapper = objectMapper;
         this.parserFactory = parserFactory;
         this.validator = validator;
-        this.configurationMetadata = new ConfigurationMetadata(mapper, klass);
     }
 
     @Override
     public T build(ConfigurationSourceProvider provider, String path) throws IOException, ConfigurationException {
+        final Path directory = cacheDirectory;
+        if (directory != null) {
+            return buildCached(provider, path, directory);
+        }
+        try (InputStream input = provider.open(requireNonNull(path))) {
+            return build(readTree(input, path), path);
+        }
+    }
+
+    /**
+     * Caches the configurations which are built successfully, so that they can be reused by subsequent builds,
+     * e.g. by later starts of the application, instead of being parsed again.
+     * <p>
+     * A cached configuration is the JSON tree of a configuration file, with its overrides applied. It's reused if
+     * the contents of the file, after the substitution of environment variables, the overrides and the
+     * configuration class are the same. It's bound to a new configuration object, which is validated like any
+     * other, as the constraints of the configuration classes may have changed since it was cached.
+     * <p>
+     * The cached configurations contain the same secrets as the configuration files, the cache directory must be
+     * protected like them.
+     *
+     * @param cacheDirectory the directory of the cached configurations, or {@code null} to not cache them
+     * @since 2.1.2
+     */
+    public void setCacheDirectory(@Nullable Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    private T buildCached(ConfigurationSourceProvider provider, String path, Path directory)
+        throws IOException, ConfigurationException {
+        final byte[] source;
         try (InputStream input = provider.open(requireNonNull(path))) {
+            source = readAllBytes(input);
+        }
+        final Path cached = directory.resolve(cacheKey(source, getOverrides()) + ".json");
+
+        if (Files.isRegularFile(cached)) {
+            try {
+                final long start = System.nanoTime();
+                final JsonNode node = mapper.readTree(cached.toFile());
+                if (node != null) {
+                    final T config = bind(node, path);
+                    validate(path, config);
+                    LOGGER.debug("Built configuration {} from the cached configuration {} in {} ms",
+                        path, cached, millisSince(start));
+                    return config;
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read the cached configuration {}", cached, e);
+            }
+        }
+
+        final JsonNode node = readTree(new ByteArrayInputStream(source), path);
+        final T config = build(node, path);
+        try {
+            Files.createDirectories(directory);
+            final Path temporary = Files.createTempFile(directory, "configuration", ".tmp");
+            try {
+                Files.write(temporary, mapper.writeValueAsBytes(node));
+                Files.move(temporary, cached, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to cache the configuration {} in {}", path, directory, e);
+        }
+        return config;
+    }
+
+    private String cacheKey(byte[] source, Map<String, String> overrides) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(klass.getName().getBytes(StandardCharsets.UTF_8));
+        digest.update(source);
+        for (Map.Entry<String, String> override : overrides.entrySet()) {
+            digest.update((override.getKey() + '=' + override.getValue() + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    private static byte[] readAllBytes(InputStream input) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
+
+    private JsonNode readTree(InputStream input, String path) throws IOException, ConfigurationException {
+        try {
+            final long start = System.nanoTime();
             final JsonNode node = mapper.readTree(createParser(input));
 
             if (node == null) {
@@ -87,7 +200,8 @@ public abstract class BaseConfigurationFactory<T> implements ConfigurationFactor
                     .build(path);
             }
 
-            return build(node, path);
+            LOGGER.debug("Parsed configuration {} in {} ms", path, millisSince(start));
+            return node;
         } catch (JsonParseException e) {
             throw ConfigurationParsingException
                 .builder("Malformed " + formatName)
@@ -116,18 +230,39 @@ public abstract class BaseConfigurationFactory<T> implements ConfigurationFactor
     }
 
     protected T build(JsonNode node, String path) throws IOException, ConfigurationException {
+        final long start = System.nanoTime();
+        for (Map.Entry<String, String> override : getOverrides().entrySet()) {
+            addOverride(node, override.getKey(), override.getValue());
+        }
+
+        final long bindingStart = System.nanoTime();
+        final T config = bind(node, path);
+        final long validationStart = System.nanoTime();
+        validate(path, config);
+        LOGGER.debug("Built configuration {} in {} ms (overrides: {} ms, binding: {} ms, validation: {} ms)",
+            path, millisSince(start), millisBetween(start, bindingStart), millisBetween(bindingStart, validationStart),
+            millisSince(validationStart));
+        return config;
+    }
+
+    /**
+     * @return the overrides of the configuration by system properties, sorted by name
+     */
+    private Map<String, String> getOverrides() {
+        final Map<String, String> overrides = new TreeMap<>();
         for (Map.Entry<Object, Object> pref : System.getProperties().entrySet()) {
             final String prefName = (String) pref.getKey();
             if (prefName.startsWith(propertyPrefix)) {
                 final String configName = prefName.substring(propertyPrefix.length());
-                addOverride(node, configName, System.getProperty(prefName));
+                overrides.put(configName, System.getProperty(prefName));
             }
         }
+        return overrides;
+    }
 
+    private T bind(JsonNode node, String path) throws IOException, ConfigurationException {
         try {
-            final T config = mapper.readValue(new TreeTraversingParser(node, mapper), klass);
-            validate(path, config);
-            return config;
+            return mapper.readValue(new TreeTraversingParser(node, mapper), klass);
         } catch (UnrecognizedPropertyException e) {
             final List<String> properties = e.getKnownPropertyIds().stream()
                 .map(Object::toString)
@@ -182,7 +317,7 @@ public abstract class BaseConfigurationFactory<T> implements ConfigurationFactor
             JsonNode child;
             final boolean moreParts = i < parts.size() - 1;
 
-            if (key.matches(".+\\[\\d+\\]$")) {
+            if (INDEXED_KEY_PATTERN.matcher(key).matches()) {
                 final int s = key.indexOf('[');
                 final int index = Integer.parseInt(key.substring(s + 1, key.length() - 1));
                 child = obj.get(key.substring(0, s));
@@ -220,7 +355,7 @@ public abstract class BaseConfigurationFactory<T> implements ConfigurationFactor
 
             if (!moreParts) {
                 if ((node.get(key) != null && node.get(key).isArray())
-                    || (node.get(key) == null && configurationMetadata.isCollectionOfStrings(name))) {
+                    || (node.get(key) == null && getConfigurationMetadata().isCollectionOfStrings(name))) {
                     ArrayNode arrayNode = (ArrayNode) obj.get(key);
                     if (arrayNode == null) {
                         arrayNode = obj.arrayNode();
@@ -238,6 +373,27 @@ public abstract class BaseConfigurationFactory<T> implements ConfigurationFactor
         }
     }
 
+    /**
+     * The metadata of the configuration class is only needed by some overrides, and is slow to build for large
+     * configuration classes, so it's built on demand.
+     */
+    private ConfigurationMetadata getConfigurationMetadata() {
+        ConfigurationMetadata metadata = configurationMetadata;
+        if (metadata == null) {
+            metadata = new ConfigurationMetadata(mapper, klass);
+            configurationMetadata = metadata;
+        }
+        return metadata;
+    }
+
+    private static long millisSince(long start) {
+        return millisBetween(start, System.nanoTime());
+    }
+
+    private static long millisBetween(long start, long end) {
+        return TimeUnit.NANOSECONDS.toMillis(end - start);
+    }
+
     private void validate(String path, T config) throws ConfigurationValidationException {
         if (validator != null) {
             final Set<ConstraintViolation<T>> violations = validator.validate(config);
@@ -0,0 +1,87 @@
+package io.dropwizard.configuration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.dropwizard.jackson.Jackson.newObjectMapper;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class CachingYamlConfigurationFactoryTest extends YamlConfigurationFactoryTest {
+    private Path cacheDirectory = Paths.get("");
+
+    @BeforeEach
+    void setUpCache(@TempDir Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        final YamlConfigurationFactory<Example> cachingFactory =
+            new YamlConfigurationFactory<>(Example.class, validator, newObjectMapper(), "dw");
+        cachingFactory.setCacheDirectory(cacheDirectory);
+        this.factory = cachingFactory;
+    }
+
+    @Test
+    void reusesCachedConfigurations() throws Exception {
+        factory.build(configurationSourceProvider, validFile);
+        final List<Path> cached = cachedConfigurations();
+        assertThat(cached).hasSize(1);
+
+        // The cached configuration is bound without being parsed again
+        final Path cachedConfiguration = cached.get(0);
+        Files.write(cachedConfiguration, new String(Files.readAllBytes(cachedConfiguration), StandardCharsets.UTF_8)
+            .replace("Coda Hale", "Cached Hale").getBytes(StandardCharsets.UTF_8));
+
+        assertThat(factory.build(configurationSourceProvider, validFile).getName()).isEqualTo("Cached Hale");
+        assertThat(cachedConfigurations()).containsExactlyElementsOf(cached);
+    }
+
+    @Test
+    void validatesCachedConfigurations() throws Exception {
+        factory.build(configurationSourceProvider, validFile);
+        final Path cachedConfiguration = cachedConfigurations().get(0);
+        Files.write(cachedConfiguration, new String(Files.readAllBytes(cachedConfiguration), StandardCharsets.UTF_8)
+            .replace("Coda Hale", "Invalid").getBytes(StandardCharsets.UTF_8));
+
+        assertThatExceptionOfType(ConfigurationValidationException.class)
+            .isThrownBy(() -> factory.build(configurationSourceProvider, validFile));
+    }
+
+    @Test
+    void cachesConfigurationsByOverrides() throws Exception {
+        factory.build(configurationSourceProvider, validFile);
+        System.setProperty("dw.name", "Coda Hale Overridden");
+
+        assertThat(factory.build(configurationSourceProvider, validFile).getName())
+            .isEqualTo("Coda Hale Overridden");
+        assertThat(factory.build(configurationSourceProvider, validFile).getName())
+            .isEqualTo("Coda Hale Overridden");
+        assertThat(cachedConfigurations()).hasSize(2);
+    }
+
+    @Test
+    void doesNotCacheInvalidConfigurations() throws Exception {
+        factory.build(configurationSourceProvider, validFile);
+        System.setProperty("dw.name", "Invalid");
+
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(ConfigurationValidationException.class)
+                .isThrownBy(() -> factory.build(configurationSourceProvider, validFile));
+        }
+        assertThat(cachedConfigurations()).hasSize(1);
+    }
+
+    private List<Path> cachedConfigurations() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
@@ -3,6 +3,9 @@ package io.dropwizard;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * A reusable bundle of functionality, used to define blocks of application behavior that are
  * conditional on configuration parameters.
@@ -21,6 +24,22 @@ public interface ConfiguredBundle<T> {
         // Do nothing
     }
 
+    /**
+     * Prepares the bundle before the bundles are run, e.g. by connecting to the services it depends on. When the
+     * bundles are run concurrently (see {@link Bootstrap#setConcurrentBundles(boolean)}), they're prepared
+     * concurrently, and then run one after the other in the order they have been added, so that only one of them
+     * changes the environment at a time. This method must therefore not change the environment, apart from its
+     * metric and health check registries, which are thread-safe.
+     *
+     * @param configuration the configuration object
+     * @param environment   the application's {@link Environment}
+     * @throws Exception if something goes wrong
+     * @since 2.1.2
+     */
+    default void prepare(T configuration, Environment environment) throws Exception {
+        // Do nothing
+    }
+
     /**
      * Initializes the application bootstrap.
      *
@@ -29,4 +48,18 @@ public interface ConfiguredBundle<T> {
     default void initialize(Bootstrap<?> bootstrap) {
         // Do nothing
     }
+
+    /**
+     * Returns the types of the bundles, added before this bundle, which must be prepared before it when the bundles
+     * are run concurrently (see {@link Bootstrap#setConcurrentBundles(boolean)}). A bundle which returns an empty set
+     * doesn't depend on any other bundle, and its {@link #prepare(Object, Environment)} method must be safe to call
+     * concurrently with those of the other bundles.
+     *
+     * @return the types of the bundles this bundle depends on, or an empty optional if it depends on all the
+     *         bundles added before it, which is the default
+     * @since 2.1.2
+     */
+    default Optional<Set<Class<?>>> getDependencies() {
+        return Optional.empty();
+    }
 }
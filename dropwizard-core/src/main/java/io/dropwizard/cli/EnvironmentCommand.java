@@ -4,6 +4,8 @@ import io.dropwizard.Application;
 import io.dropwizard.Configuration;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.setup.StartupTimeline;
+import io.dropwizard.setup.StartupTimelineTask;
 import net.sourceforge.argparse4j.inf.Namespace;
 
 import javax.annotation.Nullable;
@@ -45,26 +47,32 @@ public abstract class EnvironmentCommand<T extends Configuration> extends Config
     @SuppressWarnings("NullAway")
     @Override
     protected void run(Bootstrap<T> bootstrap, Namespace namespace, T configuration) throws Exception {
-        this.environment = new Environment(bootstrap.getApplication().getName(),
-                                           bootstrap.getObjectMapper(),
-                                           bootstrap.getValidatorFactory(),
-                                           bootstrap.getMetricRegistry(),
-                                           bootstrap.getClassLoader(),
-                                           bootstrap.getHealthCheckRegistry(),
-                                           configuration);
-        configuration.getMetricsFactory().configure(environment.lifecycle(),
-                                                    bootstrap.getMetricRegistry());
-        configuration.getServerFactory().configure(environment);
-        configuration.getHealthFactory().ifPresent(health -> health.configure(
-                environment.lifecycle(),
-                environment.servlets(),
-                environment.jersey(),
-                environment.health(),
-                environment.getObjectMapper(),
-                application.getName()));
+        final StartupTimeline timeline = bootstrap.getStartupTimeline();
+        try (StartupTimeline.Phase ignored = timeline.start("build environment")) {
+            this.environment = new Environment(bootstrap.getApplication().getName(),
+                                               bootstrap.getObjectMapper(),
+                                               bootstrap.getValidatorFactory(),
+                                               bootstrap.getMetricRegistry(),
+                                               bootstrap.getClassLoader(),
+                                               bootstrap.getHealthCheckRegistry(),
+                                               configuration);
+            configuration.getMetricsFactory().configure(environment.lifecycle(),
+                                                        bootstrap.getMetricRegistry());
+            configuration.getServerFactory().configure(environment);
+            configuration.getHealthFactory().ifPresent(health -> health.configure(
+                    environment.lifecycle(),
+                    environment.servlets(),
+                    environment.jersey(),
+                    environment.health(),
+                    environment.getObjectMapper(),
+                    application.getName()));
+            environment.admin().addTask(new StartupTimelineTask(timeline));
+        }
 
         bootstrap.run(configuration, environment);
-        application.run(configuration, environment);
+        try (StartupTimeline.Phase ignored = timeline.start("run application")) {
+            application.run(configuration, environment);
+        }
         run(environment, namespace, configuration);
     }
 
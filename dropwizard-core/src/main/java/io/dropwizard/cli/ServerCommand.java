@@ -2,7 +2,9 @@ package io.dropwizard.cli;
 
 import io.dropwizard.Application;
 import io.dropwizard.Configuration;
+import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.setup.StartupTimeline;
 import net.sourceforge.argparse4j.inf.Namespace;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.util.component.LifeCycle;
@@ -18,6 +20,7 @@ public class ServerCommand<T extends Configuration> extends EnvironmentCommand<T
     private static final Logger LOGGER = LoggerFactory.getLogger(ServerCommand.class);
 
     private final Class<T> configurationClass;
+    private StartupTimeline timeline = new StartupTimeline();
 
     public ServerCommand(Application<T> application) {
         this(application, "server", "Runs the Dropwizard application as an HTTP server");
@@ -43,13 +46,25 @@ public class ServerCommand<T extends Configuration> extends EnvironmentCommand<T
         return configurationClass;
     }
 
+    @Override
+    protected void run(Bootstrap<T> bootstrap, Namespace namespace, T configuration) throws Exception {
+        this.timeline = bootstrap.getStartupTimeline();
+        super.run(bootstrap, namespace, configuration);
+    }
+
     @Override
     protected void run(Environment environment, Namespace namespace, T configuration) throws Exception {
-        final Server server = configuration.getServerFactory().build(environment);
+        final Server server;
+        try (StartupTimeline.Phase ignored = timeline.start("build server")) {
+            server = configuration.getServerFactory().build(environment);
+        }
         try {
             server.addLifeCycleListener(new LifeCycleListener());
             cleanupAsynchronously();
-            server.start();
+            try (StartupTimeline.Phase ignored = timeline.start("start server")) {
+                server.start();
+            }
+            LOGGER.info("Startup timeline: {}", timeline.report());
         } catch (Exception e) {
             LOGGER.error("Unable to start server, shutting down", e);
             try {
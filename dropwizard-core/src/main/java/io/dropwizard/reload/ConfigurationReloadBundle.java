@@ -0,0 +1,104 @@
+package io.dropwizard.reload;
+
+import io.dropwizard.Configuration;
+import io.dropwizard.ConfiguredBundle;
+import io.dropwizard.configuration.ConfigurationFactory;
+import io.dropwizard.health.DefaultHealthFactory;
+import io.dropwizard.health.HealthFactory;
+import io.dropwizard.logging.DefaultLoggingFactory;
+import io.dropwizard.setup.Bootstrap;
+import io.dropwizard.setup.Environment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+/**
+ * Bundle that registers the {@code reload-configuration} admin task, which loads the configuration of the
+ * application again and applies its changed properties to the {@link Reconfigurable} components, without
+ * restarting the application.
+ * <p>
+ * The levels of the loggers, the frequencies of the metrics reporters and the check and downtime intervals of the
+ * health checks are applied by default. Register other components from
+ * {@link io.dropwizard.Application#run(Configuration, Environment)}:
+ *
+ * <pre>{@code
+ * reloadBundle.getReloader().register(rateLimiter);
+ * }</pre>
+ * <p>
+ * The configurations are compared as serialized by the object mapper of the environment. If the configuration
+ * can't be serialized, the error is logged and the task isn't registered. The properties which aren't serialized,
+ * such as {@code @JsonIgnore} and {@code WRITE_ONLY} properties, are never reported as changed.
+ *
+ * @param <T> the type of the configuration
+ * @since 2.1.2
+ */
+public class ConfigurationReloadBundle<T extends Configuration> implements ConfiguredBundle<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigurationReloadBundle.class);
+
+    @Nullable
+    private Bootstrap<?> bootstrap;
+    @Nullable
+    private ConfigurationReloader<T> reloader;
+    @Nullable
+    private IllegalArgumentException failure;
+
+    @Override
+    public void initialize(Bootstrap<?> bootstrap) {
+        this.bootstrap = bootstrap;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void run(T configuration, Environment environment) {
+        final Bootstrap<T> bootstrap = (Bootstrap<T>) this.bootstrap;
+        if (bootstrap == null) {
+            throw new IllegalStateException("The bundle hasn't been initialized");
+        }
+
+        final ConfigurationFactory<T> configurationFactory = bootstrap.getConfigurationFactoryFactory()
+            .create((Class<T>) configuration.getClass(), environment.getValidator(), bootstrap.getObjectMapper(), "dw");
+        final String path = bootstrap.getConfigurationPath();
+        final ConfigurationReloader<T> configurationReloader;
+        try {
+            configurationReloader = new ConfigurationReloader<>(configuration, environment.getObjectMapper(),
+                () -> path == null ? configurationFactory.build()
+                    : configurationFactory.build(bootstrap.getConfigurationSourceProvider(), path));
+        } catch (IllegalArgumentException e) {
+            // The configurations are compared once serialized, which some of their properties may not support
+            LOGGER.error("Unable to serialize the configuration, it can't be reloaded", e);
+            this.failure = e;
+            return;
+        }
+
+        if (configuration.getLoggingFactory() instanceof DefaultLoggingFactory) {
+            configurationReloader.register(
+                new LoggingLevelsReconfigurable((DefaultLoggingFactory) configuration.getLoggingFactory()));
+        }
+        configurationReloader.register(
+            new MetricsFrequencyReconfigurable(configuration.getMetricsFactory(), environment.metrics()));
+        final HealthFactory healthFactory = configuration.getHealthFactory().orElse(null);
+        if (healthFactory instanceof DefaultHealthFactory) {
+            configurationReloader.register(new HealthCheckSchedulesReconfigurable((DefaultHealthFactory) healthFactory));
+        }
+        environment.admin().addTask(new ConfigurationReloadTask(configurationReloader));
+        this.reloader = configurationReloader;
+    }
+
+    /**
+     * @return the reloader of the configuration
+     * @throws IllegalStateException if the bundle hasn't been run yet, or if the configuration can't be serialized
+     */
+    public ConfigurationReloader<T> getReloader() {
+        final ConfigurationReloader<T> configurationReloader = reloader;
+        if (configurationReloader == null) {
+            final IllegalArgumentException serializationFailure = failure;
+            if (serializationFailure != null) {
+                throw new IllegalStateException("The configuration can't be serialized, so it can't be reloaded",
+                    serializationFailure);
+            }
+            throw new IllegalStateException("The bundle hasn't been run yet");
+        }
+        return configurationReloader;
+    }
+}
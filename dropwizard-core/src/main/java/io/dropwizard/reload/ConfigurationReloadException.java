@@ -0,0 +1,25 @@
+package io.dropwizard.reload;
+
+/**
+ * Thrown when a {@link Reconfigurable} component fails to apply a reloaded configuration. The components before it
+ * have applied the configuration, as told by the {@link #getResult() result}.
+ *
+ * @since 2.1.2
+ */
+public class ConfigurationReloadException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final transient ConfigurationReloader.Result result;
+
+    public ConfigurationReloadException(String message, ConfigurationReloader.Result result, Throwable cause) {
+        super(message, cause);
+        this.result = result;
+    }
+
+    /**
+     * @return the properties which have been applied, and those which have failed or require a restart
+     */
+    public ConfigurationReloader.Result getResult() {
+        return result;
+    }
+}
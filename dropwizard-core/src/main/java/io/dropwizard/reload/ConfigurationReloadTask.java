@@ -0,0 +1,38 @@
+package io.dropwizard.reload;
+
+import io.dropwizard.servlets.tasks.Task;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reloads the configuration of the application, and lists the changed properties which have been applied and
+ * those which require a restart, and those which have failed to be applied if a component failed.
+ *
+ * @since 2.1.2
+ */
+public class ConfigurationReloadTask extends Task {
+    private final ConfigurationReloader<?> reloader;
+
+    public ConfigurationReloadTask(ConfigurationReloader<?> reloader) {
+        super("reload-configuration");
+        this.reloader = reloader;
+    }
+
+    @Override
+    public void execute(Map<String, List<String>> parameters, PrintWriter output) throws Exception {
+        try {
+            print(reloader.reload(), output);
+        } catch (ConfigurationReloadException e) {
+            print(e.getResult(), output);
+            output.println("Failed: " + e.getResult().getFailedPaths());
+            throw e;
+        }
+    }
+
+    private static void print(ConfigurationReloader.Result result, PrintWriter output) {
+        output.println("Applied: " + result.getAppliedPaths());
+        output.println("Restart required: " + result.getRestartRequiredPaths());
+    }
+}
@@ -0,0 +1,209 @@
+package io.dropwizard.reload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dropwizard.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reloads the configuration of a running application, and applies the changed properties to the
+ * {@link Reconfigurable} components which can apply them. The other changed properties are only applied once the
+ * application is restarted.
+ * <p>
+ * The configurations are compared as serialized by the object mapper, so the changes of properties which aren't
+ * serialized, such as {@link com.fasterxml.jackson.annotation.JsonIgnore} and
+ * {@link com.fasterxml.jackson.annotation.JsonProperty.Access#WRITE_ONLY} properties, are never reported.
+ *
+ * @param <T> the type of the configuration
+ * @since 2.1.2
+ */
+public class ConfigurationReloader<T extends Configuration> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigurationReloader.class);
+
+    private final Callable<T> loader;
+    private final ObjectMapper mapper;
+    private final List<Reconfigurable<? super T>> reconfigurables = new CopyOnWriteArrayList<>();
+    private T configuration;
+    private JsonNode tree;
+
+    /**
+     * @param configuration the current configuration
+     * @param mapper        the object mapper which serializes configurations, to compare them
+     * @param loader        loads and validates the configuration again
+     * @throws IllegalArgumentException if the configuration can't be serialized by the object mapper
+     */
+    public ConfigurationReloader(T configuration, ObjectMapper mapper, Callable<T> loader) {
+        this.configuration = requireNonNull(configuration);
+        this.mapper = requireNonNull(mapper);
+        this.loader = requireNonNull(loader);
+        this.tree = mapper.valueToTree(configuration);
+    }
+
+    /**
+     * Registers a component which applies the changes of some properties of the configuration.
+     *
+     * @param reconfigurable the component
+     */
+    public void register(Reconfigurable<? super T> reconfigurable) {
+        reconfigurables.add(requireNonNull(reconfigurable));
+    }
+
+    /**
+     * @return the most recently loaded configuration
+     */
+    public synchronized T getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Loads the configuration again, and applies its changed properties to the components which can apply them,
+     * in the order they have been registered.
+     * <p>
+     * Applying a configuration isn't transactional: if a component fails to apply it, the components before it keep
+     * the new configuration, and the components after it aren't reconfigured. The {@link Result} of the thrown
+     * {@link ConfigurationReloadException} tells which properties have been applied and which have failed. The
+     * current configuration isn't changed then, so the next reload applies all the changed properties again.
+     *
+     * @return the changed properties, and whether they have been applied
+     * @throws ConfigurationReloadException if one of the components fails to apply the configuration
+     * @throws Exception                    if the configuration can't be loaded
+     */
+    public synchronized Result reload() throws Exception {
+        final T newConfiguration = loader.call();
+        final JsonNode newTree = mapper.valueToTree(newConfiguration);
+        final Set<String> changedPaths = new TreeSet<>();
+        diff("", tree, newTree, changedPaths);
+
+        final Set<String> restartRequiredPaths = new TreeSet<>(changedPaths);
+        final Set<String> failedPaths = new TreeSet<>();
+        Exception failure = null;
+        for (Reconfigurable<? super T> reconfigurable : reconfigurables) {
+            final Set<String> paths = new TreeSet<>();
+            for (String path : changedPaths) {
+                if (reconfigurable.isReconfigurable(path)) {
+                    paths.add(path);
+                }
+            }
+            if (paths.isEmpty()) {
+                continue;
+            }
+            restartRequiredPaths.removeAll(paths);
+            if (failure != null) {
+                failedPaths.addAll(paths);
+                continue;
+            }
+            try {
+                reconfigurable.reconfigure(newConfiguration, paths);
+            } catch (Exception e) {
+                failure = e;
+                failedPaths.addAll(paths);
+            }
+        }
+
+        final Result result = new Result(changedPaths, restartRequiredPaths, failedPaths);
+        if (failure != null) {
+            throw new ConfigurationReloadException("Unable to apply the reloaded configuration: " + result, result,
+                failure);
+        }
+        configuration = newConfiguration;
+        tree = newTree;
+        LOGGER.info("Reloaded the configuration: {}", result);
+        return result;
+    }
+
+    /**
+     * Collects the paths of the properties which differ between two configuration trees. Arrays of different
+     * sizes are considered changed as a whole. When an object replaces a value or the other way around, e.g. a
+     * logger whose level is replaced by an object with appenders, the properties of the object are reported.
+     */
+    static void diff(String path, JsonNode oldNode, JsonNode newNode, Set<String> changedPaths) {
+        if (oldNode.equals(newNode)) {
+            return;
+        }
+        if (oldNode.isObject() || newNode.isObject()) {
+            final Set<String> names = new TreeSet<>();
+            oldNode.fieldNames().forEachRemaining(names::add);
+            newNode.fieldNames().forEachRemaining(names::add);
+            final int changes = changedPaths.size();
+            for (String name : names) {
+                diff(path.isEmpty() ? name : path + '.' + name, oldNode.path(name), newNode.path(name),
+                    changedPaths);
+            }
+            if (changedPaths.size() == changes) {
+                changedPaths.add(path);
+            }
+        } else if (oldNode.isArray() && newNode.isArray() && oldNode.size() == newNode.size()) {
+            final Iterator<JsonNode> oldElements = oldNode.elements();
+            final Iterator<JsonNode> newElements = newNode.elements();
+            for (int i = 0; oldElements.hasNext(); i++) {
+                diff(path + '[' + i + ']', oldElements.next(), newElements.next(), changedPaths);
+            }
+        } else {
+            changedPaths.add(path);
+        }
+    }
+
+    /**
+     * The outcome of reloading a configuration.
+     */
+    public static class Result {
+        private final Set<String> changedPaths;
+        private final Set<String> restartRequiredPaths;
+        private final Set<String> failedPaths;
+
+        Result(Set<String> changedPaths, Set<String> restartRequiredPaths, Set<String> failedPaths) {
+            this.changedPaths = Collections.unmodifiableSet(changedPaths);
+            this.restartRequiredPaths = Collections.unmodifiableSet(restartRequiredPaths);
+            this.failedPaths = Collections.unmodifiableSet(failedPaths);
+        }
+
+        /**
+         * @return the paths of the changed properties
+         */
+        public Set<String> getChangedPaths() {
+            return changedPaths;
+        }
+
+        /**
+         * @return the paths of the changed properties which have been applied
+         */
+        public Set<String> getAppliedPaths() {
+            final Set<String> applied = new TreeSet<>(changedPaths);
+            applied.removeAll(restartRequiredPaths);
+            applied.removeAll(failedPaths);
+            return applied;
+        }
+
+        /**
+         * @return the paths of the changed properties which could have been applied, but haven't because a
+         * component failed to apply them, or because an earlier component failed
+         */
+        public Set<String> getFailedPaths() {
+            return failedPaths;
+        }
+
+        /**
+         * @return the paths of the changed properties which are only applied once the application is restarted
+         */
+        public Set<String> getRestartRequiredPaths() {
+            return restartRequiredPaths;
+        }
+
+        @Override
+        public String toString() {
+            return "applied " + getAppliedPaths() + ", failed " + failedPaths + ", restart required for "
+                + restartRequiredPaths;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.dropwizard.reload;
+
+import io.dropwizard.Configuration;
+import io.dropwizard.health.DefaultHealthFactory;
+import io.dropwizard.health.HealthFactory;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Applies the check and downtime intervals of the health checks of a {@link DefaultHealthFactory}. The other
+ * settings of the health checks can't be changed without a restart.
+ */
+class HealthCheckSchedulesReconfigurable implements Reconfigurable<Configuration> {
+    // The initial delay defaults to the check interval, and no longer matters once the health checks have started
+    private static final Pattern INTERVAL = Pattern.compile(
+        "health\\.healthChecks\\[\\d+]\\.schedule\\.(checkInterval|downtimeInterval|initialDelay)");
+
+    private final DefaultHealthFactory healthFactory;
+
+    /**
+     * @param healthFactory the health configuration the health checks have been scheduled with
+     */
+    HealthCheckSchedulesReconfigurable(DefaultHealthFactory healthFactory) {
+        this.healthFactory = healthFactory;
+    }
+
+    @Override
+    public boolean isReconfigurable(String path) {
+        return INTERVAL.matcher(path).matches();
+    }
+
+    @Override
+    public void reconfigure(Configuration configuration, Set<String> changedPaths) {
+        final Optional<HealthFactory> reloaded = configuration.getHealthFactory();
+        if (reloaded.isPresent() && reloaded.get() instanceof DefaultHealthFactory) {
+            healthFactory.reschedule(((DefaultHealthFactory) reloaded.get()).getHealthCheckConfigurations());
+        }
+    }
+}
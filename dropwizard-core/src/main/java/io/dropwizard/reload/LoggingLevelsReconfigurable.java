@@ -0,0 +1,38 @@
+package io.dropwizard.reload;
+
+import io.dropwizard.Configuration;
+import io.dropwizard.logging.DefaultLoggingFactory;
+import io.dropwizard.logging.LoggingFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Applies the levels of the root logger and of the configured loggers of a {@link DefaultLoggingFactory}. Their
+ * appenders can't be changed without a restart.
+ */
+class LoggingLevelsReconfigurable implements Reconfigurable<Configuration> {
+    private static final String LOGGERS = "logging.loggers.";
+
+    private Set<String> loggers;
+
+    LoggingLevelsReconfigurable(DefaultLoggingFactory loggingFactory) {
+        this.loggers = new HashSet<>(loggingFactory.getLoggers().keySet());
+    }
+
+    @Override
+    public boolean isReconfigurable(String path) {
+        return path.equals("logging.level")
+            || (path.startsWith(LOGGERS) && !path.contains(".appenders") && !path.endsWith(".additive"));
+    }
+
+    @Override
+    public void reconfigure(Configuration configuration, Set<String> changedPaths) {
+        final LoggingFactory loggingFactory = configuration.getLoggingFactory();
+        if (loggingFactory instanceof DefaultLoggingFactory) {
+            final DefaultLoggingFactory defaultLoggingFactory = (DefaultLoggingFactory) loggingFactory;
+            defaultLoggingFactory.configureLevels(loggers);
+            loggers = new HashSet<>(defaultLoggingFactory.getLoggers().keySet());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.dropwizard.reload;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.Configuration;
+import io.dropwizard.metrics.MetricsFactory;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Applies the frequencies of the metrics reporters. The reporters themselves can't be changed without a restart.
+ */
+class MetricsFrequencyReconfigurable implements Reconfigurable<Configuration> {
+    private static final Pattern REPORTER_FREQUENCY = Pattern.compile("metrics\\.reporters\\[\\d+]\\.frequency");
+
+    private final MetricsFactory metricsFactory;
+    private final MetricRegistry metricRegistry;
+
+    /**
+     * @param metricsFactory the metrics configuration the reporters have been configured with
+     * @param metricRegistry the metric registry the reporters report
+     */
+    MetricsFrequencyReconfigurable(MetricsFactory metricsFactory, MetricRegistry metricRegistry) {
+        this.metricsFactory = metricsFactory;
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Override
+    public boolean isReconfigurable(String path) {
+        return path.equals("metrics.frequency") || REPORTER_FREQUENCY.matcher(path).matches();
+    }
+
+    @Override
+    public void reconfigure(Configuration configuration, Set<String> changedPaths) {
+        metricsFactory.reschedule(configuration.getMetricsFactory(), metricRegistry);
+    }
+}
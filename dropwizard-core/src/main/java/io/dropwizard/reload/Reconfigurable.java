@@ -0,0 +1,33 @@
+package io.dropwizard.reload;
+
+import io.dropwizard.Configuration;
+
+import java.util.Set;
+
+/**
+ * A component which can apply changes of the configuration of the application while it's running, without
+ * restarting it.
+ *
+ * @param <T> the type of the configuration
+ * @see ConfigurationReloader
+ * @since 2.1.2
+ */
+public interface Reconfigurable<T extends Configuration> {
+    /**
+     * Returns whether a changed property of the configuration can be applied by this component.
+     *
+     * @param path the path of the property, e.g. {@code logging.level} or
+     *             {@code server.applicationConnectors[0].port}
+     * @return whether the property can be applied by this component
+     */
+    boolean isReconfigurable(String path);
+
+    /**
+     * Applies a new configuration.
+     *
+     * @param configuration the new configuration
+     * @param changedPaths  the paths of the changed properties which can be applied by this component
+     * @throws Exception if the configuration can't be applied
+     */
+    void reconfigure(T configuration, Set<String> changedPaths) throws Exception;
+}
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.jersey.filter.AllowedMethodsFilter;
+import io.dropwizard.jersey.jackson.JacksonBinaryFormat;
 import io.dropwizard.jersey.jackson.JacksonFeature;
 import io.dropwizard.jersey.setup.JerseyEnvironment;
 import io.dropwizard.jersey.validation.HibernateValidationBinder;
@@ -50,6 +51,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
@@ -218,6 +220,15 @@ import java.util.stream.Collectors;
  *           Whether or not to dump jetty diagnostics before stop.
  *         </td>
  *     </tr>
+ *     <tr>
+ *         <td>{@code jacksonBinaryFormats}</td>
+ *         <td>(none)</td>
+ *         <td>
+ *           The {@link JacksonBinaryFormat binary formats} (e.g. {@code SMILE} or {@code CBOR}) which the JAX-RS
+ *           resources should negotiate in addition to JSON. If any are enabled, the time spent reading and writing
+ *           entities and their sizes are recorded for each media type.
+ *         </td>
+ *     </tr>
  * </table>
  *
  * @see DefaultServerFactory
@@ -292,6 +303,9 @@ public abstract class AbstractServerFactory implements ServerFactory {
 
     private boolean dumpBeforeStop = false;
 
+    @NotNull
+    private Set<JacksonBinaryFormat> jacksonBinaryFormats = Collections.emptySet();
+
     @JsonIgnore
     @ValidationMethod(message = "must have a smaller minThreads than maxThreads")
     public boolean isThreadPoolSizedCorrectly() {
@@ -550,6 +564,22 @@ public abstract class AbstractServerFactory implements ServerFactory {
         this.dumpBeforeStop = dumpBeforeStop;
     }
 
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public Set<JacksonBinaryFormat> getJacksonBinaryFormats() {
+        return jacksonBinaryFormats;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public void setJacksonBinaryFormats(Set<JacksonBinaryFormat> jacksonBinaryFormats) {
+        this.jacksonBinaryFormats = jacksonBinaryFormats;
+    }
+
     protected Handler createAdminServlet(Server server,
                                          MutableServletContextHandler handler,
                                          MetricRegistry metrics,
@@ -594,7 +624,12 @@ public abstract class AbstractServerFactory implements ServerFactory {
         serverPush.addFilter(handler);
         if (jerseyContainer != null) {
             jerseyRootPath.ifPresent(jersey::setUrlPattern);
-            jersey.register(new JacksonFeature(objectMapper));
+            if (jacksonBinaryFormats.isEmpty()) {
+                jersey.register(new JacksonFeature(objectMapper));
+            } else {
+                jersey.register(new JacksonFeature(objectMapper, jacksonBinaryFormats, metricRegistry,
+                    MetricRegistry.name(JacksonFeature.class, "server")));
+            }
             jersey.register(new HibernateValidationBinder(validator));
             if (registerDefaultExceptionMappers == null || registerDefaultExceptionMappers) {
                 jersey.register(new ExceptionMapperBinder(detailedJsonProcessingExceptionMapper));
@@ -27,7 +27,15 @@ import javax.annotation.Nullable;
 import javax.validation.ValidatorFactory;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Objects.requireNonNull;
 
@@ -41,6 +49,7 @@ public class Bootstrap<T extends Configuration> {
     private final Application<T> application;
     private final List<ConfiguredBundle<? super T>> configuredBundles;
     private final List<Command> commands;
+    private final StartupTimeline startupTimeline;
 
     private ObjectMapper objectMapper;
     private MetricRegistry metricRegistry;
@@ -49,9 +58,12 @@ public class Bootstrap<T extends Configuration> {
     private ConfigurationSourceProvider configurationSourceProvider;
     private ClassLoader classLoader;
     private ConfigurationFactoryFactory<T> configurationFactoryFactory;
+    @Nullable
+    private String configurationPath;
     private ValidatorFactory validatorFactory;
 
     private boolean metricsAreRegistered;
+    private boolean concurrentBundles;
     private HealthCheckRegistry healthCheckRegistry;
 
     /**
@@ -60,11 +72,16 @@ public class Bootstrap<T extends Configuration> {
      * @param application a Dropwizard {@link Application}
      */
     public Bootstrap(Application<T> application) {
+        this.startupTimeline = new StartupTimeline();
         this.application = application;
-        this.objectMapper = Jackson.newObjectMapper();
+        try (StartupTimeline.Phase ignored = startupTimeline.start("object mapper")) {
+            this.objectMapper = Jackson.newObjectMapper();
+        }
         this.configuredBundles = new ArrayList<>();
         this.commands = new ArrayList<>();
-        this.validatorFactory = Validators.newValidatorFactory();
+        try (StartupTimeline.Phase ignored = startupTimeline.start("validator factory")) {
+            this.validatorFactory = Validators.newValidatorFactory();
+        }
         this.metricRegistry = new MetricRegistry();
         this.configurationSourceProvider = new FileConfigurationSourceProvider();
         this.classLoader = Thread.currentThread().getContextClassLoader();
@@ -147,7 +164,9 @@ public class Bootstrap<T extends Configuration> {
      * @param bundle a {@link ConfiguredBundle}
      */
     public void addBundle(ConfiguredBundle<? super T> bundle) {
-        bundle.initialize(this);
+        try (StartupTimeline.Phase ignored = startupTimeline.start("initialize " + bundle.getClass().getName())) {
+            bundle.initialize(this);
+        }
         configuredBundles.add(bundle);
     }
 
@@ -189,17 +208,145 @@ public class Bootstrap<T extends Configuration> {
 
     /**
      * Runs the bootstrap's bundles with the given configuration and environment.
+     * <p>
+     * The bundles are prepared, and then run, in the order they have been added. When they are run concurrently
+     * (see {@link #setConcurrentBundles(boolean)}), only their preparation is concurrent.
      *
      * @param configuration the parsed configuration
      * @param environment   the application environment
      * @throws Exception if a bundle throws an exception
      */
     public void run(T configuration, Environment environment) throws Exception {
+        prepare(configuration, environment);
+        // The environment isn't thread-safe, and the order of some registrations matters, e.g. of servlet filters
         for (ConfiguredBundle<? super T> bundle : configuredBundles) {
-            bundle.run(configuration, environment);
+            try (StartupTimeline.Phase ignored = startupTimeline.start("run " + bundle.getClass().getName())) {
+                bundle.run(configuration, environment);
+            }
+        }
+    }
+
+    private void prepare(T configuration, Environment environment) throws Exception {
+        if (!concurrentBundles || configuredBundles.size() < 2) {
+            for (ConfiguredBundle<? super T> bundle : configuredBundles) {
+                prepare(bundle, configuration, environment);
+            }
+            return;
+        }
+
+        // Bundles mostly wait on I/O while they're prepared, e.g. to connect to databases, so they aren't limited to
+        // the number of processors
+        final AtomicInteger threads = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(configuredBundles.size(), r -> {
+            final Thread thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("bundles-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<CompletableFuture<Void>> preparations = new ArrayList<>();
+            for (ConfiguredBundle<? super T> bundle : configuredBundles) {
+                final CompletableFuture<?>[] dependencies = getDependencies(bundle, preparations);
+                preparations.add(CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+                    try {
+                        prepare(bundle, configuration, environment);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor));
+            }
+            // Waits for all the bundles, so that none of them is still being prepared if one of them failed
+            CompletableFuture.allOf(preparations.toArray(new CompletableFuture<?>[0]))
+                .handle((result, e) -> result)
+                .join();
+            rethrowFailures(preparations);
+        } finally {
+            executor.shutdown();
         }
     }
 
+    /**
+     * Rethrows the first failure of the bundles, in the order they have been added, with the other failures
+     * suppressed. The bundles whose dependencies failed fail with the same exception, which is only reported once.
+     */
+    private static void rethrowFailures(List<CompletableFuture<Void>> preparations) throws Exception {
+        Throwable failure = null;
+        for (CompletableFuture<Void> preparation : preparations) {
+            try {
+                preparation.join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause() == null ? e : e.getCause();
+                if (failure == null) {
+                    failure = cause;
+                } else if (cause != failure && !Arrays.asList(failure.getSuppressed()).contains(cause)) {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure instanceof Exception) {
+            throw (Exception) failure;
+        } else if (failure != null) {
+            throw new Exception(failure);
+        }
+    }
+
+    private CompletableFuture<?>[] getDependencies(ConfiguredBundle<? super T> bundle,
+                                                   List<CompletableFuture<Void>> preparations) {
+        final Optional<Set<Class<?>>> dependencies = bundle.getDependencies();
+        if (!dependencies.isPresent()) {
+            return preparations.toArray(new CompletableFuture<?>[0]);
+        }
+        final List<CompletableFuture<Void>> dependencyPreparations = new ArrayList<>();
+        for (int i = 0; i < preparations.size(); i++) {
+            final ConfiguredBundle<? super T> previous = configuredBundles.get(i);
+            if (dependencies.get().stream().anyMatch(type -> type.isInstance(previous))) {
+                dependencyPreparations.add(preparations.get(i));
+            }
+        }
+        return dependencyPreparations.toArray(new CompletableFuture<?>[0]);
+    }
+
+    private void prepare(ConfiguredBundle<? super T> bundle, T configuration, Environment environment)
+        throws Exception {
+        try (StartupTimeline.Phase ignored = startupTimeline.start("prepare " + bundle.getClass().getName())) {
+            bundle.prepare(configuration, environment);
+        }
+    }
+
+    /**
+     * Returns whether the bundles which declare their dependencies are prepared concurrently.
+     *
+     * @since 2.1.2
+     */
+    public boolean isConcurrentBundles() {
+        return concurrentBundles;
+    }
+
+    /**
+     * Sets whether the bundles which declare their dependencies with {@link ConfiguredBundle#getDependencies()}
+     * are prepared concurrently with {@link ConfiguredBundle#prepare(Object, Environment)}, once the bundles they
+     * depend on have been prepared. The other bundles are still prepared once all the bundles added before them have
+     * been prepared. The bundles are then run one after the other, in the order they have been added. Disabled by
+     * default.
+     *
+     * @param concurrentBundles whether to prepare bundles concurrently
+     * @since 2.1.2
+     */
+    public void setConcurrentBundles(boolean concurrentBundles) {
+        this.concurrentBundles = concurrentBundles;
+    }
+
+    /**
+     * Returns the timeline of the startup of the application.
+     *
+     * @since 2.1.2
+     */
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
     /**
      * Returns the application's commands.
      */
@@ -242,6 +389,27 @@ public class Bootstrap<T extends Configuration> {
         this.configurationFactoryFactory = configurationFactoryFactory;
     }
 
+    /**
+     * Returns the path of the configuration of the application, as passed to its command, or {@code null}
+     * if the default configuration is used or the configuration hasn't been parsed yet.
+     *
+     * @since 2.1.2
+     */
+    @Nullable
+    public String getConfigurationPath() {
+        return configurationPath;
+    }
+
+    /**
+     * Sets the path of the configuration of the application.
+     *
+     * @param configurationPath the path of the configuration, or {@code null} for the default configuration
+     * @since 2.1.2
+     */
+    public void setConfigurationPath(@Nullable String configurationPath) {
+        this.configurationPath = configurationPath;
+    }
+
     /**
      * returns the health check registry
      */
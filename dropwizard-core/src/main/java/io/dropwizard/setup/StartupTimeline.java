@@ -0,0 +1,129 @@
+package io.dropwizard.setup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Records the phases of the startup of an application, e.g. parsing its configuration, initializing and running its
+ * bundles and starting its server, so that the time spent in each of them can be reported:
+ *
+ * <pre>{@code
+ * try (StartupTimeline.Phase ignored = bootstrap.getStartupTimeline().start("warm-caches")) {
+ *     warmCaches();
+ * }
+ * }</pre>
+ * <p>
+ * Phases may be recorded concurrently, and may overlap.
+ *
+ * @since 2.1.2
+ */
+public class StartupTimeline {
+    private final long startedAt = System.nanoTime();
+    private final List<Phase> phases = new ArrayList<>();
+
+    /**
+     * Starts recording a phase, which ends once the returned {@link Phase} is closed.
+     *
+     * @param name the name of the phase
+     * @return the phase
+     */
+    public Phase start(String name) {
+        return new Phase(requireNonNull(name), Thread.currentThread().getName(), System.nanoTime() - startedAt);
+    }
+
+    /**
+     * @return the ended phases, in the order they have been started
+     */
+    public synchronized List<Phase> getPhases() {
+        final List<Phase> sorted = new ArrayList<>(phases);
+        sorted.sort(Comparator.comparingLong(Phase::getStartedAt));
+        return sorted;
+    }
+
+    /**
+     * Returns the ended phases as a human-readable report, with the time at which they started and how long
+     * they took.
+     *
+     * @return the report
+     */
+    public String report() {
+        final List<Phase> sorted = getPhases();
+        final long total = sorted.stream()
+            .mapToLong(phase -> phase.getStartedAt() + phase.getDuration())
+            .max()
+            .orElse(0L);
+        final StringBuilder report = new StringBuilder(String.format("Started in %d ms%n", toMillis(total)));
+        for (Phase phase : sorted) {
+            report.append(String.format("    %7d ms %7d ms  %s (%s)%n",
+                toMillis(phase.getStartedAt()), toMillis(phase.getDuration()), phase.getName(), phase.getThread()));
+        }
+        return report.toString();
+    }
+
+    private synchronized void end(Phase phase) {
+        phases.add(phase);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * A phase of the startup of an application.
+     */
+    public class Phase implements AutoCloseable {
+        private final String name;
+        private final String thread;
+        private final long startedAt;
+        private long duration = -1;
+
+        private Phase(String name, String thread, long startedAt) {
+            this.name = name;
+            this.thread = thread;
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * @return the name of the phase
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the name of the thread which started the phase
+         */
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * @return the time at which the phase started, in nanoseconds since the timeline was created
+         */
+        public long getStartedAt() {
+            return startedAt;
+        }
+
+        /**
+         * @return how long the phase took in nanoseconds, or {@code -1} if it hasn't ended yet
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * Ends the phase. Ending a phase more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (duration < 0) {
+                duration = System.nanoTime() - StartupTimeline.this.startedAt - startedAt;
+                end(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.dropwizard.setup;
+
+import io.dropwizard.servlets.tasks.Task;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints the phases of the startup of the application and how long they took.
+ *
+ * @since 2.1.2
+ */
+public class StartupTimelineTask extends Task {
+    private final StartupTimeline timeline;
+
+    public StartupTimelineTask(StartupTimeline timeline) {
+        super("startup-timeline");
+        this.timeline = timeline;
+    }
+
+    @Override
+    public void execute(Map<String, List<String>> parameters, PrintWriter output) {
+        output.print(timeline.report());
+    }
+}
@@ -0,0 +1,212 @@
+package io.dropwizard.reload;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.dropwizard.Configuration;
+import io.dropwizard.health.DefaultHealthFactory;
+import io.dropwizard.health.HealthCheckConfiguration;
+import io.dropwizard.health.Schedule;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.logging.DefaultLoggingFactory;
+import io.dropwizard.server.DefaultServerFactory;
+import io.dropwizard.util.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ConfigurationReloaderTest {
+    private final ObjectMapper mapper = Jackson.newObjectMapper();
+    private final Configuration configuration = new Configuration();
+    private Configuration nextConfiguration = new Configuration();
+    private final ConfigurationReloader<Configuration> reloader =
+        new ConfigurationReloader<>(configuration, mapper, () -> nextConfiguration);
+
+    private final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final Level rootLevel = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).getLevel();
+
+    @AfterEach
+    void resetLoggers() {
+        loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(rootLevel);
+        loggerContext.getLogger("com.example.app").setLevel(null);
+    }
+
+    @Test
+    void findsTheChangedProperties() throws Exception {
+        final JsonNode oldTree = mapper.readTree("{\"a\": 1, \"b\": {\"c\": [1, 2], \"d\": [1]}, \"e\": \"x\"}");
+        final JsonNode newTree = mapper.readTree("{\"a\": 1, \"b\": {\"c\": [1, 3], \"d\": [1, 2]}, \"f\": \"x\"}");
+
+        final Set<String> changedPaths = new TreeSet<>();
+        ConfigurationReloader.diff("", oldTree, newTree, changedPaths);
+
+        assertThat(changedPaths).containsExactly("b.c[1]", "b.d", "e", "f");
+    }
+
+    @Test
+    void appliesTheChangedPropertiesToReconfigurableComponents() throws Exception {
+        final List<Set<String>> reconfigurations = new ArrayList<>();
+        reloader.register(new Reconfigurable<Configuration>() {
+            @Override
+            public boolean isReconfigurable(String path) {
+                return path.startsWith("logging.");
+            }
+
+            @Override
+            public void reconfigure(Configuration configuration, Set<String> changedPaths) {
+                assertThat(configuration).isSameAs(nextConfiguration);
+                reconfigurations.add(changedPaths);
+            }
+        });
+        ((DefaultLoggingFactory) nextConfiguration.getLoggingFactory()).setLevel("DEBUG");
+        nextConfiguration.getMetricsFactory().setFrequency(Duration.minutes(5));
+
+        final ConfigurationReloader.Result result = reloader.reload();
+
+        assertThat(result.getChangedPaths()).containsExactly("logging.level", "metrics.frequency");
+        assertThat(result.getAppliedPaths()).containsExactly("logging.level");
+        assertThat(result.getRestartRequiredPaths()).containsExactly("metrics.frequency");
+        assertThat(reconfigurations).containsExactly(Collections.singleton("logging.level"));
+        assertThat(reloader.getConfiguration()).isSameAs(nextConfiguration);
+
+        // The changed properties are only reported once
+        assertThat(reloader.reload().getChangedPaths()).isEmpty();
+        assertThat(reconfigurations).hasSize(1);
+    }
+
+    @Test
+    void keepsTheConfigurationIfItCantBeApplied() {
+        final List<Set<String>> reconfigurations = new ArrayList<>();
+        reloader.register(new Reconfigurable<Configuration>() {
+            @Override
+            public boolean isReconfigurable(String path) {
+                return path.startsWith("logging.");
+            }
+
+            @Override
+            public void reconfigure(Configuration configuration, Set<String> changedPaths) {
+                reconfigurations.add(changedPaths);
+            }
+        });
+        final IllegalStateException failure = new IllegalStateException("Nope");
+        reloader.register(new Reconfigurable<Configuration>() {
+            @Override
+            public boolean isReconfigurable(String path) {
+                return path.startsWith("metrics.");
+            }
+
+            @Override
+            public void reconfigure(Configuration configuration, Set<String> changedPaths) {
+                throw failure;
+            }
+        });
+        reloader.register(new Reconfigurable<Configuration>() {
+            @Override
+            public boolean isReconfigurable(String path) {
+                return path.startsWith("server.");
+            }
+
+            @Override
+            public void reconfigure(Configuration configuration, Set<String> changedPaths) {
+                reconfigurations.add(changedPaths);
+            }
+        });
+        ((DefaultLoggingFactory) nextConfiguration.getLoggingFactory()).setLevel("DEBUG");
+        nextConfiguration.getMetricsFactory().setFrequency(Duration.minutes(5));
+        ((DefaultServerFactory) nextConfiguration.getServerFactory()).setMaxThreads(42);
+
+        assertThatExceptionOfType(ConfigurationReloadException.class)
+            .isThrownBy(reloader::reload)
+            .withCause(failure)
+            .satisfies(e -> {
+                assertThat(e.getResult().getAppliedPaths()).containsExactly("logging.level");
+                assertThat(e.getResult().getFailedPaths()).containsExactly("metrics.frequency", "server.maxThreads");
+                assertThat(e.getResult().getRestartRequiredPaths()).isEmpty();
+            });
+        assertThat(reconfigurations).containsExactly(Collections.singleton("logging.level"));
+        assertThat(reloader.getConfiguration()).isSameAs(configuration);
+    }
+
+    @Test
+    void appliesTheLevelsOfLoggers() throws Exception {
+        reloader.register(new LoggingLevelsReconfigurable((DefaultLoggingFactory) configuration.getLoggingFactory()));
+        ((DefaultLoggingFactory) nextConfiguration.getLoggingFactory())
+            .setLoggers(Collections.singletonMap("com.example.app", new TextNode("TRACE")));
+
+        final StringWriter output = new StringWriter();
+        new ConfigurationReloadTask(reloader).execute(Collections.emptyMap(), new PrintWriter(output));
+
+        assertThat(loggerContext.getLogger("com.example.app").getLevel())
+            .isEqualTo(Level.TRACE);
+        assertThat(output.toString()).isEqualTo(String.format(
+            "Applied: [logging.loggers.com.example.app]%nRestart required: []%n"));
+    }
+
+    @Test
+    void requiresARestartForTheAppendersOfLoggers() throws Exception {
+        ((DefaultLoggingFactory) configuration.getLoggingFactory())
+            .setLoggers(Collections.singletonMap("com.example.app", new TextNode("INFO")));
+        final ConfigurationReloader<Configuration> loggersReloader =
+            new ConfigurationReloader<>(configuration, mapper, () -> nextConfiguration);
+        loggersReloader.register(new LoggingLevelsReconfigurable((DefaultLoggingFactory) configuration.getLoggingFactory()));
+        final JsonNode logger = mapper.readTree("{\"level\": \"TRACE\", \"appenders\": [{\"type\": \"console\"}]}");
+        ((DefaultLoggingFactory) nextConfiguration.getLoggingFactory())
+            .setLoggers(Collections.singletonMap("com.example.app", logger));
+
+        final ConfigurationReloader.Result result = loggersReloader.reload();
+
+        assertThat(result.getAppliedPaths()).containsExactly("logging.loggers.com.example.app.level");
+        assertThat(result.getRestartRequiredPaths()).containsExactly("logging.loggers.com.example.app.appenders");
+        assertThat(loggerContext.getLogger("com.example.app").getLevel()).isEqualTo(Level.TRACE);
+    }
+
+    @Test
+    void appliesTheFrequenciesOfMetricsReporters() throws Exception {
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        reloader.register(new MetricsFrequencyReconfigurable(configuration.getMetricsFactory(), metricRegistry));
+        nextConfiguration.getMetricsFactory().setFrequency(Duration.seconds(10));
+
+        final ConfigurationReloader.Result result = reloader.reload();
+
+        assertThat(result.getAppliedPaths()).containsExactly("metrics.frequency");
+        assertThat(result.getRestartRequiredPaths()).isEmpty();
+    }
+
+    @Test
+    void appliesTheIntervalsOfHealthChecks() throws Exception {
+        final DefaultHealthFactory healthFactory = new DefaultHealthFactory();
+        healthFactory.setHealthCheckConfigurations(Collections.singletonList(new HealthCheckConfiguration()));
+        configuration.setHealthFactory(healthFactory);
+        final ConfigurationReloader<Configuration> healthReloader =
+            new ConfigurationReloader<>(configuration, mapper, () -> nextConfiguration);
+        healthReloader.register(new HealthCheckSchedulesReconfigurable(healthFactory));
+        final Schedule schedule = new Schedule();
+        schedule.setCheckInterval(Duration.seconds(1));
+        schedule.setFailureAttempts(10);
+        final HealthCheckConfiguration healthCheck = new HealthCheckConfiguration();
+        healthCheck.setSchedule(schedule);
+        final DefaultHealthFactory nextHealthFactory = new DefaultHealthFactory();
+        nextHealthFactory.setHealthCheckConfigurations(Collections.singletonList(healthCheck));
+        nextConfiguration.setHealthFactory(nextHealthFactory);
+
+        final ConfigurationReloader.Result result = healthReloader.reload();
+
+        assertThat(result.getAppliedPaths()).containsExactly("health.healthChecks[0].schedule.checkInterval",
+            "health.healthChecks[0].schedule.initialDelay");
+        assertThat(result.getRestartRequiredPaths())
+            .containsExactly("health.healthChecks[0].schedule.failureAttempts");
+    }
+}
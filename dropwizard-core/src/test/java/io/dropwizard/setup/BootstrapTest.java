@@ -7,6 +7,7 @@ import com.codahale.metrics.health.HealthCheckRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.Application;
 import io.dropwizard.Configuration;
+import io.dropwizard.ConfiguredBundle;
 import io.dropwizard.configuration.DefaultConfigurationFactoryFactory;
 import io.dropwizard.configuration.FileConfigurationSourceProvider;
 import io.dropwizard.jackson.Jackson;
@@ -16,8 +17,20 @@ import org.junit.jupiter.api.Test;
 
 import javax.validation.Validation;
 import javax.validation.ValidatorFactory;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 
 class BootstrapTest {
     private final Application<Configuration> application = new Application<Configuration>() {
@@ -127,4 +140,146 @@ class BootstrapTest {
         assertThat(bootstrap.getHealthCheckRegistry()).isSameAs(healthCheckRegistry);
     }
 
+    @Test
+    void preparesIndependentBundlesConcurrently() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final List<String> runs = new CopyOnWriteArrayList<>();
+        bootstrap.setConcurrentBundles(true);
+        bootstrap.addBundle(new IndependentBundle("first", latch, runs));
+        bootstrap.addBundle(new IndependentBundle("second", latch, runs));
+        bootstrap.addBundle(new ConfiguredBundle<Configuration>() {
+            @Override
+            public void prepare(Configuration configuration, Environment environment) {
+                runs.add("prepare last");
+            }
+
+            @Override
+            public void run(Configuration configuration, Environment environment) {
+                runs.add("run last");
+            }
+        });
+
+        bootstrap.run(new Configuration(), new Environment("test"));
+
+        assertThat(runs).containsExactlyInAnyOrder("prepare first", "prepare second", "prepare last",
+            "run first", "run second", "run last");
+        // The environment is only changed by one bundle at a time, in the order they have been added
+        assertThat(runs.subList(2, runs.size()))
+            .containsExactly("prepare last", "run first", "run second", "run last");
+    }
+
+    @Test
+    void rethrowsTheExceptionsOfConcurrentBundles() {
+        final List<String> runs = new CopyOnWriteArrayList<>();
+        bootstrap.setConcurrentBundles(true);
+        bootstrap.addBundle(new IndependentBundle("first", new CountDownLatch(0), runs) {
+            @Override
+            public void prepare(Configuration configuration, Environment environment) throws Exception {
+                throw new IOException("Nope");
+            }
+        });
+        bootstrap.addBundle(new IndependentBundle("second", new CountDownLatch(0), runs) {
+            @Override
+            public Optional<Set<Class<?>>> getDependencies() {
+                return Optional.of(Collections.singleton(IndependentBundle.class));
+            }
+        });
+
+        assertThatIOException()
+            .isThrownBy(() -> bootstrap.run(new Configuration(), new Environment("test")))
+            .withMessage("Nope")
+            .satisfies(e -> assertThat(e.getSuppressed()).isEmpty());
+        assertThat(runs).isEmpty();
+    }
+
+    @Test
+    void waitsForAllTheConcurrentBundlesBeforeRethrowingTheirExceptions() {
+        final List<String> runs = new CopyOnWriteArrayList<>();
+        final CountDownLatch failed = new CountDownLatch(1);
+        final IllegalStateException otherFailure = new IllegalStateException("Nope again");
+        bootstrap.setConcurrentBundles(true);
+        bootstrap.addBundle(new IndependentBundle("first", new CountDownLatch(0), runs) {
+            @Override
+            public void prepare(Configuration configuration, Environment environment) throws Exception {
+                failed.countDown();
+                throw new IOException("Nope");
+            }
+        });
+        bootstrap.addBundle(new IndependentBundle("second", new CountDownLatch(0), runs) {
+            @Override
+            public void prepare(Configuration configuration, Environment environment) throws Exception {
+                // Still being prepared once the first bundle has failed
+                failed.await(10, TimeUnit.SECONDS);
+                Thread.sleep(100);
+                super.prepare(configuration, environment);
+            }
+        });
+        bootstrap.addBundle(new IndependentBundle("third", new CountDownLatch(0), runs) {
+            @Override
+            public void prepare(Configuration configuration, Environment environment) throws Exception {
+                failed.await(10, TimeUnit.SECONDS);
+                throw otherFailure;
+            }
+        });
+
+        assertThatIOException()
+            .isThrownBy(() -> bootstrap.run(new Configuration(), new Environment("test")))
+            .withMessage("Nope")
+            .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(otherFailure));
+        assertThat(runs).containsExactly("prepare second");
+    }
+
+    @Test
+    void recordsTheStartupTimeline() throws Exception {
+        final ConfiguredBundle<Configuration> bundle = new IndependentBundle("first", new CountDownLatch(0),
+            new CopyOnWriteArrayList<>());
+        bootstrap.addBundle(bundle);
+        bootstrap.run(new Configuration(), new Environment("test"));
+
+        assertThat(bootstrap.getStartupTimeline().getPhases().stream()
+            .map(StartupTimeline.Phase::getName)
+            .collect(Collectors.toList()))
+            .containsExactly("object mapper", "validator factory",
+                "initialize " + IndependentBundle.class.getName(), "prepare " + IndependentBundle.class.getName(),
+                "run " + IndependentBundle.class.getName());
+
+        final StringWriter output = new StringWriter();
+        new StartupTimelineTask(bootstrap.getStartupTimeline()).execute(Collections.emptyMap(),
+            new PrintWriter(output));
+        assertThat(output.toString())
+            .startsWith("Started in ")
+            .contains("run " + IndependentBundle.class.getName() + " (" + Thread.currentThread().getName() + ")");
+    }
+
+    private static class IndependentBundle implements ConfiguredBundle<Configuration> {
+        private final String name;
+        private final CountDownLatch latch;
+        private final List<String> runs;
+
+        IndependentBundle(String name, CountDownLatch latch, List<String> runs) {
+            this.name = name;
+            this.latch = latch;
+            this.runs = runs;
+        }
+
+        @Override
+        public void prepare(Configuration configuration, Environment environment) throws Exception {
+            // Only returns once all the bundles sharing the latch are being prepared
+            latch.countDown();
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException(name + " hasn't been prepared concurrently");
+            }
+            runs.add("prepare " + name);
+        }
+
+        @Override
+        public void run(Configuration configuration, Environment environment) {
+            runs.add("run " + name);
+        }
+
+        @Override
+        public Optional<Set<Class<?>>> getDependencies() {
+            return Optional.of(Collections.emptySet());
+        }
+    }
 }
@@ -0,0 +1,191 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.Timer;
+import io.dropwizard.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opens the initial connections of a pool concurrently, instead of one after another.
+ * <p>
+ * The connections are borrowed from the pool at the same time, which forces the pool to open a new connection for
+ * each of them, running its initialization query. The connections are held until all of them have been borrowed, as
+ * the pool would otherwise hand out a returned connection instead of opening a new one. Warming up completes as soon
+ * as the required number of connections is ready, the remaining connections are opened in the background. It fails
+ * if they couldn't be opened before the timeout.
+ * <p>
+ * This only speeds up pools which open connections on the threads borrowing them, like the Tomcat JDBC pool.
+ * HikariCP opens all its connections on a single background thread.
+ *
+ * @since 2.1.2
+ */
+public class ConnectionWarmUp {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionWarmUp.class);
+
+    private final int connections;
+    private final int threads;
+    private final Duration timeout;
+    private final int requiredConnections;
+    private final boolean failOnError;
+
+    /**
+     * @param connections     the number of connections to open
+     * @param threads         the maximum number of connections opened at the same time
+     * @param timeout         the time after which warming up fails
+     * @param readyPercentage the percentage of the connections which must be ready before warming up completes
+     * @param failOnError     whether a failure to warm up fails starting the pool, instead of being logged
+     */
+    public ConnectionWarmUp(int connections, int threads, Duration timeout, int readyPercentage,
+                            boolean failOnError) {
+        this.connections = connections;
+        this.threads = Math.max(1, Math.min(threads, connections));
+        this.timeout = timeout;
+        this.requiredConnections = (int) Math.ceil(connections * Math.max(0, Math.min(100, readyPercentage)) / 100.0);
+        this.failOnError = failOnError;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public int getRequiredConnections() {
+        return requiredConnections;
+    }
+
+    /**
+     * Opens the connections of the given pool, and records the time until enough of them were ready.
+     *
+     * @param dataSource the pooled data source
+     * @param poolName   the name of the pool
+     * @param timer      the timer recording how long warming up took
+     * @throws SQLException if not enough connections could be opened before the timeout
+     */
+    public void warmUp(DataSource dataSource, String poolName, Timer timer) throws SQLException {
+        if (connections <= 0) {
+            return;
+        }
+
+        final long startTime = System.nanoTime();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "warm-up-" + poolName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        final WarmUpProgress progress = new WarmUpProgress();
+        for (int i = 0; i < connections; i++) {
+            executor.execute(() -> progress.open(dataSource));
+        }
+        executor.shutdown();
+
+        try {
+            progress.ready.get(timeout.toNanoseconds(), TimeUnit.NANOSECONDS);
+            final long elapsed = System.nanoTime() - startTime;
+            timer.update(elapsed, TimeUnit.NANOSECONDS);
+            LOGGER.info("Warmed up {} of {} connections of pool {} in {} ms", progress.opened.get(), connections,
+                poolName, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.done(executor.shutdownNow().size());
+            failed(poolName, progress, e);
+        } catch (TimeoutException | ExecutionException e) {
+            // The connections which are still being opened are returned once they're done
+            progress.done(executor.shutdownNow().size());
+            failed(poolName, progress, e instanceof ExecutionException ? e.getCause() : e);
+        }
+    }
+
+    private void failed(String poolName, WarmUpProgress progress, Throwable cause) throws SQLException {
+        if (failOnError) {
+            throw new SQLException(String.format("Only %d of %d connections of pool %s could be opened within %s",
+                progress.opened.get(), requiredConnections, poolName, timeout), cause);
+        }
+        LOGGER.warn("Only {} of {} connections of pool {} could be opened within {}",
+            progress.opened.get(), requiredConnections, poolName, timeout, cause);
+    }
+
+    /**
+     * Tracks the connections being opened, and returns them to the pool once all of them have been borrowed.
+     */
+    private class WarmUpProgress {
+        private final CompletableFuture<Void> ready = new CompletableFuture<>();
+        private final List<Connection> borrowed = new ArrayList<>();
+        private final AtomicInteger opened = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger pending = new AtomicInteger(connections);
+        private boolean released;
+
+        WarmUpProgress() {
+            if (requiredConnections == 0) {
+                ready.complete(null);
+            }
+        }
+
+        void open(DataSource dataSource) {
+            try {
+                hold(dataSource.getConnection());
+                if (opened.incrementAndGet() >= requiredConnections) {
+                    ready.complete(null);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (failed.incrementAndGet() > connections - requiredConnections) {
+                    ready.completeExceptionally(e);
+                }
+            } finally {
+                if (pending.decrementAndGet() == 0) {
+                    // All borrows have completed, so the pool can no longer hand out a held connection instead
+                    release();
+                }
+            }
+        }
+
+        /**
+         * Called when warming up has been given up, with the number of connections which won't be borrowed.
+         */
+        void done(int tasks) {
+            if (tasks > 0 && pending.addAndGet(-tasks) == 0) {
+                release();
+            }
+        }
+
+        private void hold(Connection connection) {
+            synchronized (borrowed) {
+                if (!released) {
+                    borrowed.add(connection);
+                    return;
+                }
+            }
+            close(connection);
+        }
+
+        private void release() {
+            final List<Connection> returned;
+            synchronized (borrowed) {
+                released = true;
+                returned = new ArrayList<>(borrowed);
+                borrowed.clear();
+            }
+            returned.forEach(ConnectionWarmUp::close);
+        }
+    }
+
+    private static void close(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Unable to return a warmed up connection", e);
+        }
+    }
+}
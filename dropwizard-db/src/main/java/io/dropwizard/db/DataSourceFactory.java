@@ -3,6 +3,7 @@ package io.dropwizard.db;
 import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.zaxxer.hikari.HikariConfig;
 import io.dropwizard.util.Duration;
 import io.dropwizard.validation.MinDuration;
 import io.dropwizard.validation.ValidationMethod;
@@ -137,6 +138,19 @@ import java.util.concurrent.TimeUnit;
  *         </td>
  *     </tr>
  *     <tr>
+ *         <td>{@code poolImplementation}</td>
+ *         <td>{@code tomcat}</td>
+ *         <td>
+ *             The connection pool backing the data source, either {@code tomcat} (Tomcat JDBC) or {@code hikari}
+ *             (HikariCP). HikariCP uses the overlapping settings ({@code url}, {@code driverClass}, {@code user},
+ *             {@code password}, {@code properties}, the connection defaults, {@code minSize}, {@code maxSize},
+ *             {@code initializationQuery}, {@code maxConnectionAge}, {@code maxWaitForConnection},
+ *             {@code minIdleTime}, {@code validationQuery}, {@code validationQueryTimeout},
+ *             {@code removeAbandonedTimeout} as its leak detection threshold if {@code logAbandonedConnections}
+ *             is set, and {@code ignoreExceptionOnPreLoad}) and ignores the others.
+ *         </td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code useFairQueue}</td>
  *         <td>{@code true}</td>
  *         <td>
@@ -181,6 +195,14 @@ import java.util.concurrent.TimeUnit;
  *         </td>
  *     </tr>
  *     <tr>
+ *         <td>{@code leakDetectionThreshold}</td>
+ *         <td>none</td>
+ *         <td>
+ *             If set, connections which are held for longer than this are logged as possibly leaked, together
+ *             with the stack trace of the code which borrowed them. Must be at least two seconds.
+ *         </td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code logValidationErrors}</td>
  *         <td>{@code false}</td>
  *         <td>
@@ -306,12 +328,63 @@ import java.util.concurrent.TimeUnit;
  *             Set to false if you want to fail the initialization of the pool by throwing exception.
  *         </td>
  *     </tr>
+ *     <tr>
+ *         <td>{@code warmUpThreads}</td>
+ *         <td>0</td>
+ *         <td>
+ *             The number of threads opening the initial connections of the pool concurrently when it's
+ *             started. If {@code 0}, the initial connections are opened one after another. Only supported by
+ *             the {@code tomcat} pool, as HikariCP opens its connections on a single background thread.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code warmUpTimeout}</td>
+ *         <td>30 seconds</td>
+ *         <td>
+ *             The time after which warming up the pool concurrently fails, or only logs a warning if
+ *             {@code ignoreExceptionOnPreLoad} is set.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code warmUpReadyPercentage}</td>
+ *         <td>100</td>
+ *         <td>
+ *             The percentage of the initial connections which must be open before the pool is started, when
+ *             they are opened concurrently. The remaining connections are opened in the background.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code statementCacheSize}</td>
+ *         <td>0</td>
+ *         <td>
+ *             The maximum number of prepared statements cached per connection, for both connection pools.
+ *             If {@code 0}, statements aren't cached.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code statementCacheMaxSqlLength}</td>
+ *         <td>2048</td>
+ *         <td>
+ *             The maximum length of the SQL of a cached prepared statement. Longer statements are prepared
+ *             every time.
+ *         </td>
+ *     </tr>
  * </table>
  */
 public class DataSourceFactory implements PooledDataSourceFactory {
 
     private static final String DEFAULT_VALIDATION_QUERY = "/* Health Check */ SELECT 1";
 
+    /**
+     * The connection pool implementations.
+     *
+     * @since 2.1.2
+     */
+    public enum PoolImplementation {
+        TOMCAT,
+        HIKARI
+    }
+
     @SuppressWarnings("UnusedDeclaration")
     public enum TransactionIsolation {
         NONE(Connection.TRANSACTION_NONE),
@@ -369,6 +442,9 @@ public class DataSourceFactory implements PooledDataSourceFactory {
     @NotNull
     private TransactionIsolation defaultTransactionIsolation = TransactionIsolation.DEFAULT;
 
+    @NotNull
+    private PoolImplementation poolImplementation = PoolImplementation.TOMCAT;
+
     private boolean useFairQueue = true;
 
     @Min(0)
@@ -387,6 +463,11 @@ public class DataSourceFactory implements PooledDataSourceFactory {
 
     private boolean logValidationErrors = false;
 
+    // HikariCP disables leak detection below two seconds
+    @MinDuration(value = 2, unit = TimeUnit.SECONDS)
+    @Nullable
+    private Duration leakDetectionThreshold;
+
     @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
     @Nullable
     private Duration maxConnectionAge;
@@ -435,6 +516,23 @@ public class DataSourceFactory implements PooledDataSourceFactory {
 
     private boolean ignoreExceptionOnPreLoad = false;
 
+    @Min(0)
+    private int warmUpThreads = 0;
+
+    @NotNull
+    @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+    private Duration warmUpTimeout = Duration.seconds(30);
+
+    @Min(0)
+    @Max(100)
+    private int warmUpReadyPercentage = 100;
+
+    @Min(0)
+    private int statementCacheSize = 0;
+
+    @Min(1)
+    private int statementCacheMaxSqlLength = 2048;
+
     @JsonProperty
     @Override
     public boolean isAutoCommentsEnabled() {
@@ -682,6 +780,16 @@ public class DataSourceFactory implements PooledDataSourceFactory {
         this.defaultTransactionIsolation = isolation;
     }
 
+    @JsonProperty
+    public PoolImplementation getPoolImplementation() {
+        return poolImplementation;
+    }
+
+    @JsonProperty
+    public void setPoolImplementation(PoolImplementation poolImplementation) {
+        this.poolImplementation = poolImplementation;
+    }
+
     @JsonProperty
     public boolean getUseFairQueue() {
         return useFairQueue;
@@ -723,6 +831,16 @@ public class DataSourceFactory implements PooledDataSourceFactory {
         this.logAbandonedConnections = log;
     }
 
+    @JsonProperty
+    public Optional<Duration> getLeakDetectionThreshold() {
+        return Optional.ofNullable(leakDetectionThreshold);
+    }
+
+    @JsonProperty
+    public void setLeakDetectionThreshold(@Nullable Duration leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+    }
+
     @JsonProperty
     public boolean getLogValidationErrors() {
         return logValidationErrors;
@@ -874,6 +992,86 @@ public class DataSourceFactory implements PooledDataSourceFactory {
         this.ignoreExceptionOnPreLoad = ignoreExceptionOnPreLoad;
     }
 
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public int getWarmUpThreads() {
+        return warmUpThreads;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public void setWarmUpThreads(int warmUpThreads) {
+        this.warmUpThreads = warmUpThreads;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public Duration getWarmUpTimeout() {
+        return warmUpTimeout;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public void setWarmUpTimeout(Duration warmUpTimeout) {
+        this.warmUpTimeout = warmUpTimeout;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public int getWarmUpReadyPercentage() {
+        return warmUpReadyPercentage;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public void setWarmUpReadyPercentage(int warmUpReadyPercentage) {
+        this.warmUpReadyPercentage = warmUpReadyPercentage;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public int getStatementCacheMaxSqlLength() {
+        return statementCacheMaxSqlLength;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    @JsonProperty
+    public void setStatementCacheMaxSqlLength(int statementCacheMaxSqlLength) {
+        this.statementCacheMaxSqlLength = statementCacheMaxSqlLength;
+    }
+
     @Override
     public void asSingleConnectionPool() {
         minSize = 1;
@@ -883,6 +1081,24 @@ public class DataSourceFactory implements PooledDataSourceFactory {
 
     @Override
     public ManagedDataSource build(MetricRegistry metricRegistry, String name) {
+        switch (poolImplementation) {
+            case HIKARI:
+                return buildHikari(metricRegistry, name);
+            case TOMCAT:
+            default:
+                return buildTomcat(metricRegistry, name);
+        }
+    }
+
+    /**
+     * Builds a data source backed by a Tomcat JDBC connection pool.
+     *
+     * @param metricRegistry the application metric registry
+     * @param name           name of the connection pool
+     * @return a new JDBC data source as {@code ManagedDataSource}
+     * @since 2.1.2
+     */
+    protected ManagedDataSource buildTomcat(MetricRegistry metricRegistry, String name) {
         final Properties dbProperties = new Properties();
         properties.forEach(dbProperties::setProperty);
 
@@ -899,7 +1115,8 @@ public class DataSourceFactory implements PooledDataSourceFactory {
         poolConfig.setDriverClassName(driverClass);
         poolConfig.setFairQueue(useFairQueue);
         poolConfig.setIgnoreExceptionOnPreLoad(ignoreExceptionOnPreLoad);
-        poolConfig.setInitialSize(initialSize);
+        // The initial connections are opened by the warm-up, if they are opened concurrently
+        poolConfig.setInitialSize(warmUpThreads > 0 ? 0 : initialSize);
         poolConfig.setInitSQL(initializationQuery);
         poolConfig.setLogAbandoned(logAbandonedConnections);
         poolConfig.setLogValidationErrors(logValidationErrors);
@@ -928,6 +1145,84 @@ public class DataSourceFactory implements PooledDataSourceFactory {
         getValidationQueryTimeout().map(x -> (int) x.toSeconds()).ifPresent(poolConfig::setValidationQueryTimeout);
         validatorClassName.ifPresent(poolConfig::setValidatorClassName);
         jdbcInterceptors.ifPresent(poolConfig::setJdbcInterceptors);
-        return new ManagedPooledDataSource(poolConfig, metricRegistry);
+        if (statementCacheSize > 0) {
+            poolConfig.setDataSource(buildStatementCache(metricRegistry, name, dbProperties));
+        }
+        return new ManagedPooledDataSource(poolConfig, metricRegistry, leakDetectionThreshold, buildWarmUp());
+    }
+
+    /**
+     * Builds a data source backed by a HikariCP connection pool, using the settings which it supports.
+     *
+     * @param metricRegistry the application metric registry
+     * @param name           name of the connection pool
+     * @return a new JDBC data source as {@code ManagedDataSource}
+     * @since 2.1.2
+     */
+    protected ManagedDataSource buildHikari(MetricRegistry metricRegistry, String name) {
+        final Properties dbProperties = new Properties();
+        properties.forEach(dbProperties::setProperty);
+
+        final HikariConfig poolConfig = new HikariConfig();
+        poolConfig.setDataSourceProperties(dbProperties);
+        if (autoCommitByDefault != null) {
+            poolConfig.setAutoCommit(autoCommitByDefault);
+        }
+        poolConfig.setCatalog(defaultCatalog);
+        if (readOnlyByDefault != null) {
+            poolConfig.setReadOnly(readOnlyByDefault);
+        }
+        if (defaultTransactionIsolation != TransactionIsolation.DEFAULT) {
+            poolConfig.setTransactionIsolation(String.valueOf(defaultTransactionIsolation.get()));
+        }
+        if (driverClass != null) {
+            poolConfig.setDriverClassName(driverClass);
+        }
+        poolConfig.setInitializationFailTimeout(ignoreExceptionOnPreLoad ? -1 : 1);
+        poolConfig.setConnectionInitSql(initializationQuery);
+        if (leakDetectionThreshold != null) {
+            poolConfig.setLeakDetectionThreshold(leakDetectionThreshold.toMilliseconds());
+        } else if (logAbandonedConnections) {
+            poolConfig.setLeakDetectionThreshold(removeAbandonedTimeout.toMilliseconds());
+        }
+        poolConfig.setMaximumPoolSize(maxSize);
+        poolConfig.setMinimumIdle(minSize);
+
+        getMaxConnectionAge().map(Duration::toMilliseconds).ifPresent(poolConfig::setMaxLifetime);
+        poolConfig.setConnectionTimeout(maxWaitForConnection.toMilliseconds());
+        poolConfig.setIdleTimeout(minIdleTime.toMilliseconds());
+        poolConfig.setPoolName(name);
+        poolConfig.setJdbcUrl(url);
+        poolConfig.setUsername(user);
+        poolConfig.setPassword(user != null && password == null ? "" : password);
+
+        validationQuery.ifPresent(poolConfig::setConnectionTestQuery);
+        getValidationQueryTimeout().map(Duration::toMilliseconds).ifPresent(poolConfig::setValidationTimeout);
+        if (statementCacheSize > 0) {
+            poolConfig.setDataSource(buildStatementCache(metricRegistry, name, dbProperties));
+        }
+        // HikariCP opens its connections on a single thread, so they can't be warmed up concurrently
+        return new ManagedHikariDataSource(poolConfig, metricRegistry);
+    }
+
+    /**
+     * Builds a data source opening the physical connections of the pool with the JDBC driver, and caching their
+     * prepared statements.
+     */
+    private StatementCachingDataSource buildStatementCache(MetricRegistry metricRegistry, String name,
+                                                           Properties dbProperties) {
+        final DriverManagerDataSource driverDataSource = new DriverManagerDataSource(url, driverClass, dbProperties,
+            user, user != null && password == null ? "" : password);
+        return new StatementCachingDataSource(driverDataSource, statementCacheSize, statementCacheMaxSqlLength,
+            metricRegistry, name);
+    }
+
+    @Nullable
+    private ConnectionWarmUp buildWarmUp() {
+        if (warmUpThreads <= 0) {
+            return null;
+        }
+        return new ConnectionWarmUp(Math.min(initialSize, maxSize), warmUpThreads, warmUpTimeout,
+            warmUpReadyPercentage, !ignoreExceptionOnPreLoad);
     }
 }
@@ -0,0 +1,119 @@
+package io.dropwizard.db;
+
+import javax.annotation.Nullable;
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+
+/**
+ * A {@link DataSource} opening its connections with a JDBC driver, which is either the given driver class or the
+ * driver {@link DriverManager} finds for the URL.
+ */
+class DriverManagerDataSource implements DataSource {
+    private final String url;
+    @Nullable
+    private final Driver driver;
+    private final Properties properties;
+
+    /**
+     * @param url         the JDBC URL of the database
+     * @param driverClass the class name of the JDBC driver, or {@code null} to look it up with {@link DriverManager}
+     * @param properties  the connection properties
+     * @param user        the user to connect as, if any
+     * @param password    the password of the user, if any
+     */
+    DriverManagerDataSource(String url, @Nullable String driverClass, Properties properties, @Nullable String user,
+                            @Nullable String password) {
+        this.url = url;
+        this.driver = driverClass == null ? null : loadDriver(driverClass);
+        this.properties = new Properties();
+        this.properties.putAll(properties);
+        if (user != null) {
+            this.properties.setProperty("user", user);
+        }
+        if (password != null) {
+            this.properties.setProperty("password", password);
+        }
+    }
+
+    private static Driver loadDriver(String driverClass) {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            return (Driver) Class.forName(driverClass, true,
+                classLoader == null ? DriverManagerDataSource.class.getClassLoader() : classLoader)
+                .getDeclaredConstructor()
+                .newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("Unable to load the JDBC driver " + driverClass, e);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(properties);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        final Properties credentials = new Properties();
+        credentials.putAll(properties);
+        credentials.setProperty("user", username);
+        credentials.setProperty("password", password);
+        return connect(credentials);
+    }
+
+    private Connection connect(Properties info) throws SQLException {
+        final Driver driver = this.driver;
+        if (driver == null) {
+            return DriverManager.getConnection(url, info);
+        }
+        final Connection connection = driver.connect(url, info);
+        if (connection == null) {
+            throw new SQLException("The JDBC driver " + driver.getClass().getName() + " doesn't accept " + url);
+        }
+        return connection;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return DriverManager.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        DriverManager.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return DriverManager.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException(getClass().getName() + " is not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+}
@@ -0,0 +1,200 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import javax.annotation.Nullable;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+import java.util.logging.Logger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link ManagedDataSource} which is backed by a HikariCP pooled {@link javax.sql.DataSource}.
+ * <p>
+ * The pool is created when the data source is started, or when the first connection is requested. Besides the
+ * state of the pool, it records how long callers wait to borrow a connection, how long they hold it, and how long
+ * it takes to open a new connection. Leaked connections are reported by the pool's leak detection.
+ */
+public class ManagedHikariDataSource implements ManagedDataSource {
+    private final HikariConfig config;
+    private final MetricRegistry metricRegistry;
+    private final ConnectionCounter counter;
+
+    @Nullable
+    private volatile HikariDataSource dataSource;
+
+    /**
+     * Create a new data source with the given connection pool configuration.
+     *
+     * @param config the connection pool configuration
+     */
+    public ManagedHikariDataSource(HikariConfig config, MetricRegistry metricRegistry) {
+        this.config = config;
+        this.metricRegistry = metricRegistry;
+        this.counter = new ConnectionCounter(
+            metricRegistry.timer(name(getClass(), config.getPoolName(), "borrowWait")),
+            metricRegistry.timer(name(getClass(), config.getPoolName(), "holdTime")),
+            metricRegistry.timer(name(getClass(), config.getPoolName(), "creationTime")));
+        config.setMetricsTrackerFactory(counter);
+    }
+
+    private HikariDataSource dataSource() {
+        HikariDataSource result = dataSource;
+        if (result == null) {
+            synchronized (this) {
+                result = dataSource;
+                if (result == null) {
+                    result = new HikariDataSource(config);
+                    dataSource = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void start() throws Exception {
+        final HikariDataSource hikariDataSource = dataSource();
+        final String poolName = requireNonNull(hikariDataSource.getPoolName());
+
+        metricRegistry.register(name(getClass(), poolName, "active"),
+            poolGauge(hikariDataSource, HikariPoolMXBean::getActiveConnections));
+
+        metricRegistry.register(name(getClass(), poolName, "idle"),
+            poolGauge(hikariDataSource, HikariPoolMXBean::getIdleConnections));
+
+        metricRegistry.register(name(getClass(), poolName, "waiting"),
+            poolGauge(hikariDataSource, HikariPoolMXBean::getThreadsAwaitingConnection));
+
+        metricRegistry.register(name(getClass(), poolName, "size"),
+            poolGauge(hikariDataSource, HikariPoolMXBean::getTotalConnections));
+
+        metricRegistry.register(name(getClass(), poolName, "created"),
+            (Gauge<Long>) counter.created::sum);
+
+        metricRegistry.register(name(getClass(), poolName, "borrowed"),
+            (Gauge<Long>) counter.borrowed::sum);
+
+        metricRegistry.register(name(getClass(), poolName, "returned"),
+            (Gauge<Long>) counter.returned::sum);
+    }
+
+    private static Gauge<Integer> poolGauge(HikariDataSource dataSource, ToIntFunction<HikariPoolMXBean> value) {
+        return () -> {
+            final HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : value.applyAsInt(pool);
+        };
+    }
+
+    @Override
+    public void stop() throws Exception {
+        final HikariDataSource hikariDataSource = dataSource;
+        if (hikariDataSource != null) {
+            hikariDataSource.close();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return dataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return dataSource().getConnection(username, password);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource().getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        dataSource().setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        dataSource().setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource().getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("Doesn't use java.util.logging");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return dataSource().unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || dataSource().isWrapperFor(iface);
+    }
+
+    /**
+     * Counts and times the connection events reported by the pool.
+     */
+    private static class ConnectionCounter implements MetricsTrackerFactory, IMetricsTracker {
+        private final LongAdder created = new LongAdder();
+        private final LongAdder borrowed = new LongAdder();
+        private final LongAdder returned = new LongAdder();
+        private final Timer borrowWait;
+        private final Timer holdTime;
+        private final Timer creationTime;
+
+        ConnectionCounter(Timer borrowWait, Timer holdTime, Timer creationTime) {
+            this.borrowWait = borrowWait;
+            this.holdTime = holdTime;
+            this.creationTime = creationTime;
+        }
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            return this;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            created.increment();
+            creationTime.update(connectionCreatedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            borrowed.increment();
+            borrowWait.update(elapsedAcquiredNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            returned.increment();
+            holdTime.update(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
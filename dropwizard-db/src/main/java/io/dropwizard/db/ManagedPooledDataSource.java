@@ -1,21 +1,59 @@
 package io.dropwizard.db;
 
 import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.util.Duration;
 import org.apache.tomcat.jdbc.pool.ConnectionPool;
 import org.apache.tomcat.jdbc.pool.DataSourceProxy;
 import org.apache.tomcat.jdbc.pool.PoolConfiguration;
+import org.apache.tomcat.jdbc.pool.PooledConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
-import java.util.logging.Logger;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.codahale.metrics.MetricRegistry.name;
 
 /**
  * A {@link ManagedDataSource} which is backed by a Tomcat pooled {@link javax.sql.DataSource}.
+ * <p>
+ * Besides the state of the pool, it records how long callers wait to borrow a connection, how long they hold it,
+ * and how long it takes to open a new connection. If a leak detection threshold is set, the connections which are
+ * held for longer are looked for periodically, and logged together with the stack trace of the caller which
+ * borrowed them.
  */
 public class ManagedPooledDataSource extends DataSourceProxy implements ManagedDataSource {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManagedPooledDataSource.class);
+
     private final MetricRegistry metricRegistry;
+    private final Timer borrowWait;
+    private final Timer holdTime;
+    private final Timer creationTime;
+    private final Timer warmUpTime;
+    private final Meter leaks;
+    private final long leakDetectionThresholdNanos;
+    private final Set<InstrumentedPooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+
+    @Nullable
+    private final ConnectionWarmUp warmUp;
+
+    @Nullable
+    private ScheduledExecutorService leakDetector;
+
+    @Nullable
+    private ScheduledFuture<?> leakDetection;
 
     /**
      * Create a new data source with the given connection pool configuration.
@@ -23,15 +61,79 @@ public class ManagedPooledDataSource extends DataSourceProxy implements ManagedD
      * @param config the connection pool configuration
      */
     public ManagedPooledDataSource(PoolConfiguration config, MetricRegistry metricRegistry) {
+        this(config, metricRegistry, null);
+    }
+
+    /**
+     * Create a new data source with the given connection pool configuration.
+     *
+     * @param config                 the connection pool configuration
+     * @param metricRegistry         the application metric registry
+     * @param leakDetectionThreshold the time after which a borrowed connection is suspected to have leaked, if any
+     * @since 2.1.2
+     */
+    public ManagedPooledDataSource(PoolConfiguration config, MetricRegistry metricRegistry,
+                                   @Nullable Duration leakDetectionThreshold) {
+        this(config, metricRegistry, leakDetectionThreshold, null);
+    }
+
+    /**
+     * Create a new data source with the given connection pool configuration.
+     *
+     * @param config                 the connection pool configuration
+     * @param metricRegistry         the application metric registry
+     * @param leakDetectionThreshold the time after which a borrowed connection is suspected to have leaked, if any
+     * @param warmUp                 opens the initial connections of the pool concurrently when it's started, if
+     *                               set; the initial size of the pool configuration should be zero
+     * @since 2.1.2
+     */
+    public ManagedPooledDataSource(PoolConfiguration config, MetricRegistry metricRegistry,
+                                   @Nullable Duration leakDetectionThreshold, @Nullable ConnectionWarmUp warmUp) {
         super(config);
         this.metricRegistry = metricRegistry;
+        this.borrowWait = metricRegistry.timer(name(getClass(), config.getName(), "borrowWait"));
+        this.holdTime = metricRegistry.timer(name(getClass(), config.getName(), "holdTime"));
+        this.creationTime = metricRegistry.timer(name(getClass(), config.getName(), "creationTime"));
+        this.warmUpTime = metricRegistry.timer(name(getClass(), config.getName(), "warmUpTime"));
+        this.leaks = metricRegistry.meter(name(getClass(), config.getName(), "leaks"));
+        this.leakDetectionThresholdNanos = leakDetectionThreshold == null ? 0 : leakDetectionThreshold.toNanoseconds();
+        this.warmUp = warmUp;
     }
 
     @Override
-    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
         throw new SQLFeatureNotSupportedException("Doesn't use java.util.logging");
     }
 
+    @Override
+    public ConnectionPool createPool() throws SQLException {
+        ConnectionPool connectionPool = pool;
+        if (connectionPool == null) {
+            synchronized (this) {
+                connectionPool = pool;
+                if (connectionPool == null) {
+                    connectionPool = new InstrumentedConnectionPool(getPoolProperties());
+                    pool = connectionPool;
+                }
+            }
+        }
+        return connectionPool;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        try (Timer.Context ignored = borrowWait.time()) {
+            return super.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        try (Timer.Context ignored = borrowWait.time()) {
+            return super.getConnection(username, password);
+        }
+    }
+
     @Override
     public void start() throws Exception {
         final ConnectionPool connectionPool = createPool();
@@ -67,10 +169,144 @@ public class ManagedPooledDataSource extends DataSourceProxy implements ManagedD
 
         metricRegistry.register(name(getClass(), connectionPool.getName(), "removeAbandoned"),
             (Gauge<Long>) connectionPool::getRemoveAbandonedCount);
+
+        if (leakDetectionThresholdNanos > 0) {
+            // Connections which are never returned must be found without waiting for them
+            final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, connectionPool.getName() + "-leak-detector");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long period = Math.max(leakDetectionThresholdNanos / 2, TimeUnit.MILLISECONDS.toNanos(100));
+            leakDetection = executor.scheduleWithFixedDelay(this::detectLeaks, period, period, TimeUnit.NANOSECONDS);
+            leakDetector = executor;
+        }
+
+        if (warmUp != null) {
+            warmUp.warmUp(this, connectionPool.getName(), warmUpTime);
+        }
     }
 
     @Override
     public void stop() throws Exception {
+        final ScheduledFuture<?> detection = leakDetection;
+        if (detection != null) {
+            detection.cancel(false);
+            leakDetection = null;
+        }
+        final ScheduledExecutorService executor = leakDetector;
+        if (executor != null) {
+            executor.shutdown();
+            leakDetector = null;
+        }
         close();
     }
+
+    private void detectLeaks() {
+        final long now = System.nanoTime();
+        for (InstrumentedPooledConnection connection : borrowed) {
+            connection.detectLeak(now);
+        }
+    }
+
+    /**
+     * A connection pool which times opening connections and tracks how long they are borrowed.
+     * <p>
+     * It's an inner class, because the pool opens its initial connections from its constructor.
+     */
+    private class InstrumentedConnectionPool extends ConnectionPool {
+        InstrumentedConnectionPool(PoolConfiguration properties) throws SQLException {
+            super(properties);
+        }
+
+        @Override
+        protected PooledConnection create(boolean incrementCounter) {
+            // Keeps the size of the pool up to date, the connection itself is replaced before it's opened
+            final PooledConnection con = super.create(incrementCounter);
+            return new InstrumentedPooledConnection(con.getPoolProperties(), this);
+        }
+
+        @Override
+        protected Connection setupConnection(PooledConnection con) throws SQLException {
+            if (con instanceof InstrumentedPooledConnection) {
+                ((InstrumentedPooledConnection) con).borrowed();
+            }
+            return super.setupConnection(con);
+        }
+
+        @Override
+        protected void returnConnection(PooledConnection con) {
+            if (con instanceof InstrumentedPooledConnection) {
+                ((InstrumentedPooledConnection) con).returned();
+            }
+            super.returnConnection(con);
+        }
+    }
+
+    private class InstrumentedPooledConnection extends PooledConnection {
+        private final AtomicBoolean reported = new AtomicBoolean();
+        private volatile long borrowedAt;
+
+        @Nullable
+        private volatile Throwable borrowedBy;
+
+        InstrumentedPooledConnection(PoolConfiguration properties, ConnectionPool parent) {
+            super(properties, parent);
+        }
+
+        @Override
+        public void connect() throws SQLException {
+            try (Timer.Context ignored = creationTime.time()) {
+                super.connect();
+            }
+        }
+
+        void borrowed() {
+            borrowedAt = System.nanoTime();
+            if (leakDetectionThresholdNanos > 0) {
+                reported.set(false);
+                borrowedBy = new Throwable("Connection borrowed here");
+                borrowed.add(this);
+            }
+        }
+
+        void detectLeak(long now) {
+            final long startedAt = borrowedAt;
+            final Throwable stackTrace = borrowedBy;
+            if (startedAt != 0 && stackTrace != null && now - startedAt > leakDetectionThresholdNanos
+                && reported.compareAndSet(false, true)) {
+                leaks.mark();
+                LOGGER.warn("Connection of pool {} has been held for {} ms, possibly leaked",
+                    ManagedPooledDataSource.this.getName(), TimeUnit.NANOSECONDS.toMillis(now - startedAt),
+                    stackTrace);
+            }
+        }
+
+        void returned() {
+            final long startedAt = borrowedAt;
+            if (startedAt == 0) {
+                // The pool borrows its initial connections without handing them out
+                return;
+            }
+            borrowedAt = 0;
+            borrowed.remove(this);
+
+            final long heldNanos = System.nanoTime() - startedAt;
+            holdTime.update(heldNanos, TimeUnit.NANOSECONDS);
+
+            final Throwable stackTrace = borrowedBy;
+            borrowedBy = null;
+            if (stackTrace == null || heldNanos <= leakDetectionThresholdNanos) {
+                return;
+            }
+            if (reported.compareAndSet(false, true)) {
+                leaks.mark();
+                LOGGER.warn("Connection of pool {} was held for {} ms, possibly leaked",
+                    ManagedPooledDataSource.this.getName(), TimeUnit.NANOSECONDS.toMillis(heldNanos), stackTrace);
+            } else {
+                LOGGER.info("Connection of pool {} reported as possibly leaked was returned after {} ms",
+                    ManagedPooledDataSource.this.getName(), TimeUnit.NANOSECONDS.toMillis(heldNanos));
+            }
+        }
+    }
 }
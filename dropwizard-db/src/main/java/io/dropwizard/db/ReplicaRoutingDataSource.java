@@ -0,0 +1,517 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.util.Duration;
+import org.apache.tomcat.jdbc.pool.PoolExhaustedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A {@link ManagedDataSource} which routes connections to a primary database, and read-only work to a set of
+ * replicas.
+ * <p>
+ * Connections are taken from the primary, unless they are requested from the {@link #readOnly()} view. Read-only
+ * connections are taken from the healthy replica with the fewest connections in use, or from a replica chosen at
+ * random with a probability inversely proportional to the latency of its validation query. If no replica is healthy,
+ * they are taken from the primary.
+ * <p>
+ * The replicas are checked periodically with their validation query. Replicas which fail the check, or can't be
+ * connected to, are ejected until they pass the check again. A replica whose pool is exhausted is skipped, but not
+ * ejected.
+ *
+ * @since 2.1.2
+ */
+public class ReplicaRoutingDataSource implements ManagedDataSource {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    /**
+     * The weight of a new latency sample in the moving average of a replica's latency.
+     */
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    /**
+     * The strategy used to select a replica for read-only work.
+     */
+    public enum ReplicaSelection {
+        /**
+         * Select the replica with the fewest connections in use.
+         */
+        LEAST_ACTIVE,
+
+        /**
+         * Select a replica at random, favouring replicas which have responded faster.
+         */
+        LATENCY_WEIGHTED
+    }
+
+    private final String name;
+    private final ManagedDataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaSelection replicaSelection;
+    private final Duration checkInterval;
+    private final Meter primaryFallbacks;
+    private final DataSource readOnlyView = new ReadOnlyDataSource();
+
+    @Nullable
+    private ScheduledExecutorService healthChecker;
+
+    @Nullable
+    private ScheduledFuture<?> healthChecks;
+
+    /**
+     * @param metricRegistry   the application metric registry
+     * @param name             the name of the data source
+     * @param primary          the data source of the primary database
+     * @param replicas         the data sources of the replicas
+     * @param replicaSelection the strategy used to select a replica
+     * @param checkInterval    the interval at which the replicas are checked
+     */
+    public ReplicaRoutingDataSource(MetricRegistry metricRegistry, String name, ManagedDataSource primary,
+                                    List<Replica> replicas, ReplicaSelection replicaSelection,
+                                    Duration checkInterval) {
+        this.name = name;
+        this.primary = primary;
+        this.replicas = Collections.unmodifiableList(new ArrayList<>(replicas));
+        this.replicaSelection = replicaSelection;
+        this.checkInterval = checkInterval;
+        this.primaryFallbacks = metricRegistry.meter(name(getClass(), name, "primaryFallbacks"));
+
+        for (Replica replica : this.replicas) {
+            metricRegistry.register(name(getClass(), name, replica.name, "active"),
+                (Gauge<Integer>) replica.active::get);
+            metricRegistry.register(name(getClass(), name, replica.name, "healthy"),
+                (Gauge<Integer>) () -> replica.healthy ? 1 : 0);
+            metricRegistry.register(name(getClass(), name, replica.name, "latency"),
+                (Gauge<Double>) () -> replica.latencyNanos / TimeUnit.MILLISECONDS.toNanos(1));
+            metricRegistry.register(name(getClass(), name, replica.name, "selected"), replica.selected);
+            metricRegistry.register(name(getClass(), name, replica.name, "ejections"), replica.ejections);
+        }
+    }
+
+    /**
+     * Returns a view of this data source which always hands out connections to the replicas.
+     *
+     * @return a read-only view of this data source
+     */
+    public DataSource readOnly() {
+        return readOnlyView;
+    }
+
+    /**
+     * @return the data source of the primary database
+     */
+    public ManagedDataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * @return the replicas of the primary database
+     */
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void start() throws Exception {
+        primary.start();
+        for (Replica replica : replicas) {
+            replica.dataSource.start();
+        }
+
+        if (!replicas.isEmpty()) {
+            final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "replica-health-check-" + name);
+                thread.setDaemon(true);
+                return thread;
+            });
+            healthChecks = executor.scheduleWithFixedDelay(this::checkReplicas, 0, checkInterval.toMilliseconds(),
+                TimeUnit.MILLISECONDS);
+            healthChecker = executor;
+        }
+    }
+
+    @Override
+    public void stop() throws Exception {
+        final ScheduledFuture<?> checks = healthChecks;
+        if (checks != null) {
+            checks.cancel(true);
+            healthChecks = null;
+        }
+        final ScheduledExecutorService executor = healthChecker;
+        if (executor != null) {
+            executor.shutdownNow();
+            healthChecker = null;
+        }
+        for (Replica replica : replicas) {
+            replica.dataSource.stop();
+        }
+        primary.stop();
+    }
+
+    /**
+     * Checks all replicas, ejecting the ones which fail the check and restoring the ones which pass it.
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try {
+                replica.recordLatency(replica.validate());
+                if (!replica.healthy) {
+                    LOGGER.info("Replica {} of {} passed its health check again", replica.name, name);
+                    replica.healthy = true;
+                }
+            } catch (SQLException e) {
+                if (isPoolExhausted(e)) {
+                    LOGGER.debug("Skipped the health check of replica {} of {}, its pool is exhausted", replica.name,
+                        name, e);
+                } else {
+                    eject(replica, e);
+                }
+            } catch (RuntimeException e) {
+                eject(replica, e);
+            }
+        }
+    }
+
+    /**
+     * @return whether the exception reports that the database couldn't be connected to, with an SQLState of class
+     * {@code 08}
+     */
+    static boolean isConnectionFailure(SQLException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                final String state = ((SQLException) cause).getSQLState();
+                if (state != null && state.startsWith("08")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the exception reports that no connection was available in time, rather than a failure of the
+     * database
+     */
+    static boolean isPoolExhausted(SQLException e) {
+        return e instanceof PoolExhaustedException
+            || e instanceof SQLTransientConnectionException && !isConnectionFailure(e);
+    }
+
+    private void eject(Replica replica, Exception cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            replica.ejections.mark();
+            LOGGER.warn("Ejecting replica {} of {}", replica.name, name, cause);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private Connection getReadOnlyConnection() throws SQLException {
+        final List<Replica> skipped = new ArrayList<>();
+        SQLException failure = null;
+        Replica replica;
+        while ((replica = selectReplica(skipped)) != null) {
+            try {
+                final Connection connection = replica.dataSource.getConnection();
+                replica.selected.mark();
+                return replica.track(connection);
+            } catch (SQLException e) {
+                if (isConnectionFailure(e)) {
+                    eject(replica, e);
+                } else {
+                    // The pool is exhausted, or the borrow failed otherwise: leave it to the health check
+                    skipped.add(replica);
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        primaryFallbacks.mark();
+        return primary.getConnection();
+    }
+
+    @Nullable
+    private Replica selectReplica(List<Replica> skipped) {
+        final List<Replica> healthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.healthy && !skipped.contains(replica)) {
+                healthy.add(replica);
+            }
+        }
+        if (healthy.size() <= 1) {
+            return healthy.isEmpty() ? null : healthy.get(0);
+        }
+
+        switch (replicaSelection) {
+            case LATENCY_WEIGHTED:
+                return selectByLatency(healthy);
+            case LEAST_ACTIVE:
+            default:
+                return selectLeastActive(healthy);
+        }
+    }
+
+    private static Replica selectLeastActive(List<Replica> healthy) {
+        // Start at a random replica, so that ties are spread evenly
+        final int offset = ThreadLocalRandom.current().nextInt(healthy.size());
+        Replica selected = healthy.get(offset);
+        for (int i = 1; i < healthy.size(); i++) {
+            final Replica replica = healthy.get((offset + i) % healthy.size());
+            if (replica.active.get() < selected.active.get()) {
+                selected = replica;
+            }
+        }
+        return selected;
+    }
+
+    private static Replica selectByLatency(List<Replica> healthy) {
+        final double[] weights = new double[healthy.size()];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1.0 / Math.max(1.0, healthy.get(i).latencyNanos);
+            total += weights[i];
+        }
+
+        double point = ThreadLocalRandom.current().nextDouble(total);
+        for (int i = 0; i < weights.length; i++) {
+            point -= weights[i];
+            if (point < 0) {
+                return healthy.get(i);
+            }
+        }
+        return healthy.get(weights.length - 1);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("Doesn't use java.util.logging");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    /**
+     * A replica of the primary database.
+     */
+    public static class Replica {
+        private final String name;
+        private final ManagedDataSource dataSource;
+        private final Optional<String> validationQuery;
+        private final int validationQueryTimeoutSeconds;
+        private final AtomicInteger active = new AtomicInteger();
+        private final Meter selected = new Meter();
+        private final Meter ejections = new Meter();
+
+        private volatile boolean healthy = true;
+
+        // Starts out equal for all replicas, until they have been measured
+        private volatile double latencyNanos = TimeUnit.MILLISECONDS.toNanos(1);
+
+        /**
+         * @param name                   the name of the replica
+         * @param dataSource             the data source of the replica
+         * @param validationQuery        the query used to check the replica, if any
+         * @param validationQueryTimeout the timeout of the check, if any
+         */
+        public Replica(String name, ManagedDataSource dataSource, Optional<String> validationQuery,
+                       Optional<Duration> validationQueryTimeout) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.validationQuery = validationQuery;
+            this.validationQueryTimeoutSeconds = validationQueryTimeout
+                .map(timeout -> (int) Math.max(1, timeout.toSeconds()))
+                .orElse(0);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public ManagedDataSource getDataSource() {
+            return dataSource;
+        }
+
+        /**
+         * @return whether the replica is currently used for read-only work
+         */
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        /**
+         * @return the number of connections to the replica which are currently in use
+         */
+        public int getActive() {
+            return active.get();
+        }
+
+        /**
+         * Checks the replica with a connection from its pool.
+         *
+         * @return the round-trip time of the check in nanoseconds, excluding the time spent waiting for the pool
+         */
+        long validate() throws SQLException {
+            try (Connection connection = dataSource.getConnection()) {
+                final long startTime = System.nanoTime();
+                if (validationQuery.isPresent()) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.setQueryTimeout(validationQueryTimeoutSeconds);
+                        statement.execute(validationQuery.get());
+                    }
+                } else if (!connection.isValid(validationQueryTimeoutSeconds)) {
+                    throw new SQLException("Connection is not valid");
+                }
+                return System.nanoTime() - startTime;
+            }
+        }
+
+        // Only the health check thread updates the average
+        @SuppressWarnings("NonAtomicVolatileUpdate")
+        void recordLatency(long nanos) {
+            latencyNanos += LATENCY_SMOOTHING * (nanos - latencyNanos);
+        }
+
+        Connection track(Connection connection) {
+            active.incrementAndGet();
+            final AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+                        return proxy == args[0];
+                    } else if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0
+                        && closed.compareAndSet(false, true)) {
+                        active.decrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+    }
+
+    /**
+     * A view of the data source which always hands out connections to the replicas.
+     */
+    private class ReadOnlyDataSource implements DataSource {
+        @Override
+        public Connection getConnection() throws SQLException {
+            return getReadOnlyConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException("Replicas are accessed with the credentials they are configured with");
+        }
+
+        @Override
+        public PrintWriter getLogWriter() throws SQLException {
+            return ReplicaRoutingDataSource.this.getLogWriter();
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) throws SQLException {
+            ReplicaRoutingDataSource.this.setLogWriter(out);
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) throws SQLException {
+            ReplicaRoutingDataSource.this.setLoginTimeout(seconds);
+        }
+
+        @Override
+        public int getLoginTimeout() throws SQLException {
+            return ReplicaRoutingDataSource.this.getLoginTimeout();
+        }
+
+        @Override
+        public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            return ReplicaRoutingDataSource.this.getParentLogger();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            return ReplicaRoutingDataSource.this.unwrap(iface);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) throws SQLException {
+            return ReplicaRoutingDataSource.this.isWrapperFor(iface);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+import javax.annotation.Nullable;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A factory for a {@link ReplicaRoutingDataSource}, which routes connections to a primary database, and read-only
+ * work to its replicas.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code primary}</td>
+ *         <td><b>REQUIRED</b></td>
+ *         <td>The {@link DataSourceFactory} of the primary database.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code replicas}</td>
+ *         <td>(empty)</td>
+ *         <td>The {@link DataSourceFactory data source factories} of the replicas.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code replicaSelection}</td>
+ *         <td>{@code LEAST_ACTIVE}</td>
+ *         <td>
+ *             How a replica is selected for read-only work. Either {@code LEAST_ACTIVE}, to select the replica with
+ *             the fewest connections in use, or {@code LATENCY_WEIGHTED}, to favour the replicas which respond
+ *             faster.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code replicaCheckInterval}</td>
+ *         <td>5 seconds</td>
+ *         <td>
+ *             The interval at which the replicas are checked with their validation query. Replicas which fail the
+ *             check are not used until they pass it again.
+ *         </td>
+ *     </tr>
+ * </table>
+ * <p/>
+ * Everything else, such as the properties for ORM tools and the validation query of health checks, is taken from
+ * the primary.
+ *
+ * @since 2.1.2
+ */
+public class ReplicatedDataSourceFactory implements PooledDataSourceFactory {
+    @Valid
+    @NotNull
+    private DataSourceFactory primary = new DataSourceFactory();
+
+    @Valid
+    @NotNull
+    private List<DataSourceFactory> replicas = new ArrayList<>();
+
+    @NotNull
+    private ReplicaRoutingDataSource.ReplicaSelection replicaSelection =
+        ReplicaRoutingDataSource.ReplicaSelection.LEAST_ACTIVE;
+
+    @NotNull
+    @MinDuration(value = 100, unit = TimeUnit.MILLISECONDS)
+    private Duration replicaCheckInterval = Duration.seconds(5);
+
+    @JsonProperty
+    public DataSourceFactory getPrimary() {
+        return primary;
+    }
+
+    @JsonProperty
+    public void setPrimary(DataSourceFactory primary) {
+        this.primary = primary;
+    }
+
+    @JsonProperty
+    public List<DataSourceFactory> getReplicas() {
+        return replicas;
+    }
+
+    @JsonProperty
+    public void setReplicas(List<DataSourceFactory> replicas) {
+        this.replicas = replicas;
+    }
+
+    @JsonProperty
+    public ReplicaRoutingDataSource.ReplicaSelection getReplicaSelection() {
+        return replicaSelection;
+    }
+
+    @JsonProperty
+    public void setReplicaSelection(ReplicaRoutingDataSource.ReplicaSelection replicaSelection) {
+        this.replicaSelection = replicaSelection;
+    }
+
+    @JsonProperty
+    public Duration getReplicaCheckInterval() {
+        return replicaCheckInterval;
+    }
+
+    @JsonProperty
+    public void setReplicaCheckInterval(Duration replicaCheckInterval) {
+        this.replicaCheckInterval = replicaCheckInterval;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isAutoCommentsEnabled() {
+        return primary.isAutoCommentsEnabled();
+    }
+
+    @Override
+    @JsonIgnore
+    public Map<String, String> getProperties() {
+        return primary.getProperties();
+    }
+
+    @Override
+    @JsonIgnore
+    public Optional<Duration> getValidationQueryTimeout() {
+        return primary.getValidationQueryTimeout();
+    }
+
+    /**
+     * @deprecated Use {@link #getValidationQueryTimeout()}
+     */
+    @Override
+    @Deprecated
+    @JsonIgnore
+    public Optional<Duration> getHealthCheckValidationTimeout() {
+        return getValidationQueryTimeout();
+    }
+
+    @Override
+    @JsonIgnore
+    public Optional<String> getValidationQuery() {
+        return primary.getValidationQuery();
+    }
+
+    /**
+     * @deprecated Use {@link #getValidationQuery()}
+     */
+    @Override
+    @Deprecated
+    @JsonIgnore
+    public String getHealthCheckValidationQuery() {
+        return primary.getHealthCheckValidationQuery();
+    }
+
+    @Override
+    @Nullable
+    @JsonIgnore
+    public String getDriverClass() {
+        return primary.getDriverClass();
+    }
+
+    @Override
+    @JsonIgnore
+    public String getUrl() {
+        return primary.getUrl();
+    }
+
+    /**
+     * Configures the primary as a single connection pool, and drops the replicas, which aren't needed by tools
+     * such as database migrations.
+     */
+    @Override
+    public void asSingleConnectionPool() {
+        primary.asSingleConnectionPool();
+        replicas = new ArrayList<>();
+    }
+
+    @Override
+    public ManagedDataSource build(MetricRegistry metricRegistry, String name) {
+        final ManagedDataSource primaryDataSource = primary.build(metricRegistry, name);
+        final List<ReplicaRoutingDataSource.Replica> replicaDataSources = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            final DataSourceFactory replica = replicas.get(i);
+            final String replicaName = "replica-" + i;
+            replicaDataSources.add(new ReplicaRoutingDataSource.Replica(replicaName,
+                replica.build(metricRegistry, name + "-" + replicaName),
+                replica.getValidationQuery(), replica.getValidationQueryTimeout()));
+        }
+        return new ReplicaRoutingDataSource(metricRegistry, name, primaryDataSource, replicaDataSources,
+            replicaSelection, replicaCheckInterval);
+    }
+}
@@ -0,0 +1,372 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A {@link DataSource} which caches the prepared statements of each of its connections.
+ * <p>
+ * It wraps the data source a connection pool opens its physical connections with, so that the statements outlive
+ * the borrowing of a connection. A statement prepared with the same SQL as a statement which has been closed is
+ * taken from the cache, instead of being prepared again, if it has been prepared with the same options. Each
+ * connection caches at most the given number of statements, evicting the least recently used ones, and only
+ * statements whose SQL is not longer than the given limit. The cached statements are closed with their connection.
+ * <p>
+ * When a statement is returned to the cache, its result sets are closed, its batch and parameters are cleared, and
+ * the settings changed with {@code setMaxRows}, {@code setLargeMaxRows}, {@code setMaxFieldSize},
+ * {@code setFetchSize}, {@code setFetchDirection} and {@code setQueryTimeout} are restored. Statements whose other
+ * settings have been changed, e.g. with {@code setEscapeProcessing} or {@code closeOnCompletion}, are closed instead.
+ * <p>
+ * The number of cache hits, misses and evictions, and the number of cached statements, are reported as metrics.
+ *
+ * @since 2.1.2
+ */
+public class StatementCachingDataSource implements DataSource {
+    /**
+     * The setters of statement settings which are restored when a statement is returned to the cache, with the
+     * getters of their initial values.
+     */
+    private static final Map<String, Method> RESETTABLE_SETTINGS = resettableSettings();
+
+    /**
+     * The methods changing the settings of a statement which can't be restored, so that the statement isn't cached.
+     */
+    private static final Set<String> UNRESETTABLE_SETTINGS = new HashSet<>(Arrays.asList(
+        "setEscapeProcessing", "setCursorName", "setPoolable", "closeOnCompletion"));
+
+    private final DataSource dataSource;
+    private final int maxStatements;
+    private final int maxSqlLength;
+    private final Meter hits;
+    private final Meter misses;
+    private final Meter evictions;
+    private final AtomicInteger cached = new AtomicInteger();
+
+    /**
+     * @param dataSource     the data source opening the physical connections
+     * @param maxStatements  the maximum number of statements cached per connection
+     * @param maxSqlLength   the maximum length of the SQL of a cached statement
+     * @param metricRegistry the application metric registry
+     * @param poolName       the name of the connection pool
+     */
+    public StatementCachingDataSource(DataSource dataSource, int maxStatements, int maxSqlLength,
+                                      MetricRegistry metricRegistry, String poolName) {
+        this.dataSource = dataSource;
+        this.maxStatements = maxStatements;
+        this.maxSqlLength = maxSqlLength;
+        this.hits = metricRegistry.meter(name(getClass(), poolName, "hits"));
+        this.misses = metricRegistry.meter(name(getClass(), poolName, "misses"));
+        this.evictions = metricRegistry.meter(name(getClass(), poolName, "evictions"));
+        metricRegistry.gauge(name(getClass(), poolName, "cached"), () -> (Gauge<Integer>) cached::get);
+    }
+
+    private static Map<String, Method> resettableSettings() {
+        final Map<String, Method> settings = new HashMap<>();
+        for (String setting : Arrays.asList("MaxRows", "LargeMaxRows", "MaxFieldSize", "FetchSize", "FetchDirection",
+            "QueryTimeout")) {
+            try {
+                settings.put("set" + setting, Statement.class.getMethod("get" + setting));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return settings;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return new CachingConnection(dataSource.getConnection()).proxy;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return new CachingConnection(dataSource.getConnection(username, password)).proxy;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        dataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return dataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return dataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || dataSource.isWrapperFor(iface);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // The statement is discarded anyway
+        }
+    }
+
+    /**
+     * The SQL of a statement, and the other arguments it has been prepared with.
+     */
+    private static final class StatementKey {
+        private final Object[] arguments;
+
+        StatementKey(Object[] arguments) {
+            this.arguments = arguments;
+        }
+
+        String getSql() {
+            return (String) arguments[0];
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StatementKey && Arrays.deepEquals(arguments, ((StatementKey) o).arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.deepHashCode(arguments);
+        }
+    }
+
+    /**
+     * A physical connection with its cache of idle statements, keyed by their SQL and options.
+     */
+    private class CachingConnection {
+        private final Connection connection;
+        private final Connection proxy;
+        private final LinkedHashMap<StatementKey, PreparedStatement> idle = new LinkedHashMap<>(16, 0.75f, true);
+
+        CachingConnection(Connection connection) {
+            this.connection = connection;
+            this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+                        return proxy == args[0];
+                    } else if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    } else if ("prepareStatement".equals(method.getName())) {
+                        return prepareStatement(method, args);
+                    } else if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        closeIdleStatements();
+                    }
+                    return invoke(connection, method, args);
+                });
+        }
+
+        private PreparedStatement prepareStatement(Method method, Object[] args) throws Throwable {
+            final StatementKey key = new StatementKey(args.clone());
+            if (key.getSql().length() > maxSqlLength) {
+                return (PreparedStatement) invoke(connection, method, args);
+            }
+
+            PreparedStatement statement;
+            synchronized (idle) {
+                statement = idle.remove(key);
+            }
+            if (statement != null) {
+                cached.decrementAndGet();
+            }
+            if (statement != null && !statement.isClosed()) {
+                hits.mark();
+            } else {
+                misses.mark();
+                statement = (PreparedStatement) invoke(connection, method, args);
+            }
+            return new CachedStatement(this, key, statement).proxy;
+        }
+
+        void release(StatementKey key, PreparedStatement statement) {
+            final List<PreparedStatement> evicted = new ArrayList<>();
+            synchronized (idle) {
+                if (idle.containsKey(key)) {
+                    // The same SQL was prepared twice at the same time, only one of the statements is kept
+                    evicted.add(statement);
+                } else {
+                    idle.put(key, statement);
+                    cached.incrementAndGet();
+                    final Iterator<PreparedStatement> eldest = idle.values().iterator();
+                    while (idle.size() > maxStatements && eldest.hasNext()) {
+                        evicted.add(eldest.next());
+                        eldest.remove();
+                        cached.decrementAndGet();
+                        evictions.mark();
+                    }
+                }
+            }
+            evicted.forEach(StatementCachingDataSource::closeQuietly);
+        }
+
+        private void closeIdleStatements() {
+            final List<PreparedStatement> statements;
+            synchronized (idle) {
+                statements = new ArrayList<>(idle.values());
+                cached.addAndGet(-idle.size());
+                idle.clear();
+            }
+            statements.forEach(StatementCachingDataSource::closeQuietly);
+        }
+    }
+
+    /**
+     * A statement handed out by the cache, which is reset and returned to it when it's closed.
+     * <p>
+     * The settings changed with a setter in {@link #RESETTABLE_SETTINGS} are restored to the values they had when the
+     * statement was prepared. Statements whose other settings have been changed are closed instead of being cached.
+     * The result sets of the statement are closed, and its batch is cleared.
+     */
+    private static class CachedStatement {
+        private final PreparedStatement proxy;
+        private final PreparedStatement statement;
+        private final Map<Method, Object> changedSettings = new HashMap<>();
+        private final List<ResultSet> resultSets = new ArrayList<>();
+        private boolean reusable = true;
+        private boolean closed;
+
+        CachedStatement(CachingConnection connection, StatementKey key, PreparedStatement statement) {
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            if (!closed) {
+                                closed = true;
+                                if (reset()) {
+                                    connection.release(key, statement);
+                                } else {
+                                    closeQuietly(statement);
+                                }
+                            }
+                            return null;
+                        case "isClosed":
+                            return closed || statement.isClosed();
+                        case "getConnection":
+                            return connection.proxy;
+                        default:
+                            if (closed) {
+                                throw new SQLException("Statement is closed");
+                            }
+                            recordSetting(method);
+                            final Object result = invoke(statement, method, args);
+                            return result instanceof ResultSet ? wrap((ResultSet) result) : result;
+                    }
+                });
+        }
+
+        private void recordSetting(Method method) throws Throwable {
+            final Method getter = RESETTABLE_SETTINGS.get(method.getName());
+            if (getter != null) {
+                if (!changedSettings.containsKey(method)) {
+                    changedSettings.put(method, invoke(statement, getter, new Object[0]));
+                }
+            } else if (UNRESETTABLE_SETTINGS.contains(method.getName())) {
+                reusable = false;
+            }
+        }
+
+        /**
+         * The result set is handed out with the proxy of the statement, which must be closed instead.
+         */
+        private ResultSet wrap(ResultSet resultSet) {
+            resultSets.add(resultSet);
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (resultSetProxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return resultSetProxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(resultSetProxy);
+                        case "getStatement":
+                            return proxy;
+                        default:
+                            return invoke(resultSet, method, args);
+                    }
+                });
+        }
+
+        /**
+         * @return whether the statement may be handed out again
+         */
+        private boolean reset() {
+            if (!reusable) {
+                return false;
+            }
+            try {
+                for (ResultSet resultSet : resultSets) {
+                    resultSet.close();
+                }
+                statement.clearBatch();
+                statement.clearParameters();
+                statement.clearWarnings();
+                for (Map.Entry<Method, Object> setting : changedSettings.entrySet()) {
+                    setting.getKey().invoke(statement, setting.getValue());
+                }
+                return true;
+            } catch (SQLException | ReflectiveOperationException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.Timer;
+import io.dropwizard.util.Duration;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectionWarmUpTest {
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final Timer timer = new Timer();
+
+    @Test
+    void opensAllConnectionsBeforeReturningThem() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        new ConnectionWarmUp(6, 3, Duration.seconds(5), 100, true).warmUp(dataSource, "test", timer);
+
+        verify(dataSource, times(6)).getConnection();
+        verify(connection, timeout(1000).times(6)).close();
+        assertThat(timer.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void completesOnceEnoughConnectionsAreReady() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() > 2) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return connection;
+        });
+
+        new ConnectionWarmUp(4, 4, Duration.seconds(5), 50, true).warmUp(dataSource, "test", timer);
+
+        assertThat(timer.getCount()).isEqualTo(1);
+        release.countDown();
+        verify(connection, timeout(1000).times(4)).close();
+    }
+
+    @Test
+    void holdsConnectionsUntilAllOfThemHaveBeenOpened() throws Exception {
+        final Connection slowConnection = mock(Connection.class);
+        final CountDownLatch allRequested = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            allRequested.countDown();
+            if (calls.incrementAndGet() == 1) {
+                allRequested.await(5, TimeUnit.SECONDS);
+                return connection;
+            }
+            release.await(5, TimeUnit.SECONDS);
+            return slowConnection;
+        });
+
+        new ConnectionWarmUp(2, 2, Duration.seconds(5), 50, true).warmUp(dataSource, "test", timer);
+
+        // Returning the first connection while the other one is still being borrowed would let the pool hand it out
+        verify(connection, after(100).never()).close();
+        release.countDown();
+        verify(connection, timeout(1000)).close();
+        verify(slowConnection, timeout(1000)).close();
+    }
+
+    @Test
+    void holdsConnectionsWhileOthersStillHaveToBeRequested() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        new ConnectionWarmUp(3, 1, Duration.seconds(5), 100, true).warmUp(dataSource, "test", timer);
+
+        verify(connection, timeout(1000).times(3)).close();
+        // Returning the first connection earlier would have let the pool hand it out to the next request
+        final InOrder inOrder = inOrder(dataSource, connection);
+        inOrder.verify(dataSource, times(3)).getConnection();
+        inOrder.verify(connection, times(3)).close();
+    }
+
+    @Test
+    void failsIfTooManyConnectionsCannotBeOpened() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection).thenThrow(new SQLException("Unreachable"));
+
+        final ConnectionWarmUp warmUp = new ConnectionWarmUp(4, 1, Duration.seconds(5), 50, true);
+
+        assertThatExceptionOfType(SQLException.class)
+            .isThrownBy(() -> warmUp.warmUp(dataSource, "test", timer))
+            .withMessage("Only 1 of 2 connections of pool test could be opened within 5 seconds");
+        verify(connection, timeout(1000)).close();
+    }
+
+    @Test
+    void failsAfterTheTimeout() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return connection;
+        });
+
+        final ConnectionWarmUp warmUp = new ConnectionWarmUp(2, 2, Duration.milliseconds(50), 100, true);
+
+        assertThatExceptionOfType(SQLException.class)
+            .isThrownBy(() -> warmUp.warmUp(dataSource, "test", timer))
+            .withMessageContaining("could be opened within 50 milliseconds");
+        assertThat(timer.getCount()).isZero();
+    }
+}
@@ -2,6 +2,7 @@ package io.dropwizard.db;
 
 import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
+import com.zaxxer.hikari.HikariDataSource;
 import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
 import io.dropwizard.configuration.YamlConfigurationFactory;
 import io.dropwizard.jackson.Jackson;
@@ -20,6 +21,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
 
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
@@ -167,4 +169,198 @@ class DataSourceFactoryTest {
                 "io.dropwizard.db.ManagedPooledDataSource.test.removeAbandoned");
     }
 
+    @Test
+    void connectionTimingsRecorded() throws Exception {
+        factory.setLeakDetectionThreshold(Duration.seconds(2));
+        try (Connection connection = dataSource().getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+
+        assertThat(metricRegistry.timer("io.dropwizard.db.ManagedPooledDataSource.test.borrowWait").getCount())
+            .isEqualTo(1);
+        assertThat(metricRegistry.timer("io.dropwizard.db.ManagedPooledDataSource.test.holdTime").getCount())
+            .isEqualTo(1);
+        assertThat(metricRegistry.timer("io.dropwizard.db.ManagedPooledDataSource.test.creationTime").getCount())
+            .isEqualTo(factory.getInitialSize());
+    }
+
+    @Test
+    void hikariConnectionTimingsRecorded() throws Exception {
+        factory.setPoolImplementation(DataSourceFactory.PoolImplementation.HIKARI);
+        try (Connection connection = dataSource().getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+
+        assertThat(metricRegistry.timer("io.dropwizard.db.ManagedHikariDataSource.test.borrowWait").getCount())
+            .isEqualTo(1);
+        assertThat(metricRegistry.timer("io.dropwizard.db.ManagedHikariDataSource.test.holdTime").getCount())
+            .isEqualTo(1);
+        // HikariCP opens most connections in the background
+        assertThat(metricRegistry.getTimers())
+            .containsKey("io.dropwizard.db.ManagedHikariDataSource.test.creationTime");
+    }
+
+    @Test
+    void warmsUpTheInitialConnectionsConcurrently() throws Exception {
+        factory.setInitialSize(8);
+        factory.setWarmUpThreads(4);
+        final ManagedDataSource dataSource = dataSource();
+
+        assertThat(requireNonNull(metricRegistry.getGauges().get("io.dropwizard.db.ManagedPooledDataSource.test.size"))
+            .getValue()).isEqualTo(8);
+        assertThat(metricRegistry.timer("io.dropwizard.db.ManagedPooledDataSource.test.warmUpTime").getCount())
+            .isEqualTo(1);
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+    }
+
+    @Test
+    void opensANewConnectionForEachWarmUpTask() throws Exception {
+        factory.setInitialSize(12);
+        factory.setMaxSize(12);
+        factory.setWarmUpThreads(3);
+        final ManagedDataSource dataSource = dataSource();
+
+        // Each of the tasks, which outnumber the threads, has to open its own physical connection
+        assertThat(((ManagedPooledDataSource) dataSource).getPool().getSize()).isEqualTo(12);
+        assertThat(((ManagedPooledDataSource) dataSource).getPool().getIdle()).isEqualTo(12);
+    }
+
+    @Test
+    void doesNotWarmUpHikariPools() throws Exception {
+        factory.setPoolImplementation(DataSourceFactory.PoolImplementation.HIKARI);
+        factory.setInitialSize(4);
+        factory.setWarmUpThreads(4);
+        try (Connection connection = dataSource().getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+
+        assertThat(metricRegistry.getTimers())
+            .doesNotContainKey("io.dropwizard.db.ManagedHikariDataSource.test.warmUpTime");
+    }
+
+    @Test
+    void failsToStartIfTheWarmUpFails() {
+        factory.setUrl("jdbc:h2:mem:DbTest;IFEXISTS=TRUE");
+        factory.setWarmUpThreads(2);
+        final ManagedDataSource dataSource = factory.build(metricRegistry, "test");
+
+        assertThatExceptionOfType(SQLException.class)
+            .isThrownBy(dataSource::start)
+            .withMessageContaining("connections of pool test could be opened");
+    }
+
+    @Test
+    void ignoresAFailedWarmUpIfConfigured() {
+        factory.setUrl("jdbc:h2:mem:DbTest;IFEXISTS=TRUE");
+        factory.setWarmUpThreads(2);
+        factory.setIgnoreExceptionOnPreLoad(true);
+        final ManagedDataSource dataSource = factory.build(metricRegistry, "test");
+
+        assertThatNoException().isThrownBy(dataSource::start);
+    }
+
+    @Test
+    void cachesPreparedStatementsAcrossBorrows() throws Exception {
+        assertCachesPreparedStatements();
+    }
+
+    @Test
+    void cachesPreparedStatementsOfAHikariPool() throws Exception {
+        factory.setPoolImplementation(DataSourceFactory.PoolImplementation.HIKARI);
+        assertCachesPreparedStatements();
+    }
+
+    private void assertCachesPreparedStatements() throws Exception {
+        factory.setInitialSize(1);
+        factory.setMinSize(1);
+        factory.setMaxSize(1);
+        factory.setStatementCacheSize(10);
+        final ManagedDataSource dataSource = dataSource();
+
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("SELECT ?")) {
+                statement.setInt(1, i);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertThat(resultSet.next()).isTrue();
+                    assertThat(resultSet.getInt(1)).isEqualTo(i);
+                }
+            }
+        }
+
+        assertThat(metricRegistry.meter("io.dropwizard.db.StatementCachingDataSource.test.misses").getCount())
+            .isEqualTo(1);
+        assertThat(metricRegistry.meter("io.dropwizard.db.StatementCachingDataSource.test.hits").getCount())
+            .isEqualTo(2);
+    }
+
+    private Object hikariGauge(String name) {
+        return requireNonNull(metricRegistry.getGauges().get("io.dropwizard.db.ManagedHikariDataSource.test." + name))
+            .getValue();
+    }
+
+    @Test
+    void buildsAHikariConnectionPoolToTheDatabase() throws Exception {
+        factory.setPoolImplementation(DataSourceFactory.PoolImplementation.HIKARI);
+
+        try (Connection connection = dataSource().getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("select 1")) {
+                try (ResultSet set = statement.executeQuery()) {
+                    assertThat(set.next()).isTrue();
+                    assertThat(set.getInt(1)).isEqualTo(1);
+                }
+            }
+        }
+        assertThat(dataSource).isInstanceOf(ManagedHikariDataSource.class);
+    }
+
+    @Test
+    void mapsTheOverlappingSettingsToHikari() throws Exception {
+        factory.setPoolImplementation(DataSourceFactory.PoolImplementation.HIKARI);
+        factory.setMinSize(2);
+        factory.setMaxSize(4);
+        factory.setMaxWaitForConnection(Duration.seconds(2));
+        factory.setMaxConnectionAge(Duration.minutes(10));
+        factory.setInitializationQuery("SET SCHEMA PUBLIC");
+        factory.setDefaultTransactionIsolation(DataSourceFactory.TransactionIsolation.READ_COMMITTED);
+        factory.setReadOnlyByDefault(true);
+
+        final HikariDataSource hikari = dataSource().unwrap(HikariDataSource.class);
+        assertThat(hikari.getPoolName()).isEqualTo("test");
+        assertThat(hikari.getMinimumIdle()).isEqualTo(2);
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(4);
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(2000);
+        assertThat(hikari.getMaxLifetime()).isEqualTo(600_000);
+        assertThat(hikari.getConnectionInitSql()).isEqualTo("SET SCHEMA PUBLIC");
+        assertThat(hikari.getConnectionTestQuery()).isEqualTo("SELECT 1");
+        assertThat(hikari.isReadOnly()).isTrue();
+        try (Connection connection = hikari.getConnection()) {
+            assertThat(connection.getTransactionIsolation()).isEqualTo(Connection.TRANSACTION_READ_COMMITTED);
+        }
+    }
+
+    @Test
+    void hikariMetricsRecorded() throws Exception {
+        factory.setPoolImplementation(DataSourceFactory.PoolImplementation.HIKARI);
+        try (Connection ignored = dataSource().getConnection()) {
+            assertThat(hikariGauge("active"))
+                .isEqualTo(1);
+        }
+
+        assertThat(metricRegistry.getGauges(MetricFilter.startsWith("io.dropwizard.db.ManagedHikariDataSource.test.")))
+            .containsOnlyKeys(
+                "io.dropwizard.db.ManagedHikariDataSource.test.active",
+                "io.dropwizard.db.ManagedHikariDataSource.test.idle",
+                "io.dropwizard.db.ManagedHikariDataSource.test.waiting",
+                "io.dropwizard.db.ManagedHikariDataSource.test.size",
+                "io.dropwizard.db.ManagedHikariDataSource.test.created",
+                "io.dropwizard.db.ManagedHikariDataSource.test.borrowed",
+                "io.dropwizard.db.ManagedHikariDataSource.test.returned");
+        assertThat(hikariGauge("borrowed"))
+            .isEqualTo(1L);
+        assertThat(hikariGauge("returned"))
+            .isEqualTo(1L);
+    }
 }
@@ -1,11 +1,16 @@
 package io.dropwizard.db;
 
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.util.Duration;
 import org.apache.tomcat.jdbc.pool.PoolProperties;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 class ManagedPooledDataSourceTest {
@@ -18,4 +23,50 @@ class ManagedPooledDataSourceTest {
         assertThatExceptionOfType(SQLFeatureNotSupportedException.class)
             .isThrownBy(dataSource::getParentLogger);
     }
+
+    @Test
+    void recordsConnectionsHeldForLongerThanTheLeakDetectionThreshold() throws Exception {
+        config.setName("leaky");
+        config.setUrl("jdbc:h2:mem:ManagedPooledDataSourceTest-" + System.currentTimeMillis());
+        config.setInitialSize(1);
+        final ManagedPooledDataSource leakyDataSource =
+            new ManagedPooledDataSource(config, metricRegistry, Duration.milliseconds(1));
+        leakyDataSource.start();
+        try {
+            try (Connection ignored = leakyDataSource.getConnection()) {
+                Thread.sleep(5);
+            }
+        } finally {
+            leakyDataSource.stop();
+        }
+
+        assertThat(metricRegistry.timer("io.dropwizard.db.ManagedPooledDataSource.leaky.holdTime").getSnapshot()
+            .getMax()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(metricRegistry.meter("io.dropwizard.db.ManagedPooledDataSource.leaky.leaks").getCount())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void detectsLeakedConnectionsWhileTheyAreHeld() throws Exception {
+        config.setName("held");
+        config.setUrl("jdbc:h2:mem:ManagedPooledDataSourceTest-held-" + System.currentTimeMillis());
+        config.setInitialSize(1);
+        final ManagedPooledDataSource leakyDataSource =
+            new ManagedPooledDataSource(config, metricRegistry, Duration.milliseconds(1));
+        final Meter leaks = metricRegistry.meter("io.dropwizard.db.ManagedPooledDataSource.held.leaks");
+        leakyDataSource.start();
+        try {
+            try (Connection ignored = leakyDataSource.getConnection()) {
+                final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (leaks.getCount() == 0 && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertThat(leaks.getCount()).isEqualTo(1);
+            }
+            // A connection is reported only once
+            assertThat(leaks.getCount()).isEqualTo(1);
+        } finally {
+            leakyDataSource.stop();
+        }
+    }
 }
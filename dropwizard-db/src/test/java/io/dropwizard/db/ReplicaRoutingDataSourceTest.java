@@ -0,0 +1,200 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.util.Duration;
+import org.apache.tomcat.jdbc.pool.PoolExhaustedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final ReplicatedDataSourceFactory factory = new ReplicatedDataSourceFactory();
+
+    @Nullable
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        factory.setPrimary(database("primary"));
+        factory.setReplicas(Arrays.asList(database("replica-0"), database("replica-1")));
+        // The replicas are checked explicitly by the tests
+        factory.setReplicaCheckInterval(Duration.hours(1));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dataSource != null) {
+            dataSource.stop();
+        }
+    }
+
+    private static DataSourceFactory database(String name) {
+        final DataSourceFactory database = new DataSourceFactory();
+        database.setUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        database.setUser("sa");
+        database.setDriverClass("org.h2.Driver");
+        // Fails once the marker has been deleted
+        database.setValidationQuery("SELECT 1 / (SELECT COUNT(*) FROM marker)");
+        database.setInitializationQuery("CREATE TABLE IF NOT EXISTS marker AS SELECT '" + name + "' AS name");
+        database.setInitialSize(1);
+        database.setMinSize(1);
+        return database;
+    }
+
+    private ReplicaRoutingDataSource dataSource() throws Exception {
+        final ReplicaRoutingDataSource result = (ReplicaRoutingDataSource) factory.build(metricRegistry, "test");
+        dataSource = result;
+        result.start();
+        result.checkReplicas();
+        return result;
+    }
+
+    private static String database(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM marker")) {
+            assertThat(resultSet.next()).isTrue();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static String query(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return database(connection);
+        }
+    }
+
+    private long count(String name) {
+        return metricRegistry.meter(MetricRegistry.name(ReplicaRoutingDataSource.class, "test", name)).getCount();
+    }
+
+    private Object gauge(String name) {
+        return requireNonNull(metricRegistry.getGauges()
+            .get(MetricRegistry.name(ReplicaRoutingDataSource.class, "test", name))).getValue();
+    }
+
+    @Test
+    void routesToThePrimaryByDefault() throws Exception {
+        assertThat(query(dataSource())).isEqualTo("primary");
+    }
+
+    @Test
+    void routesReadOnlyWorkToTheReplicas() throws Exception {
+        final ReplicaRoutingDataSource dataSource = dataSource();
+
+        assertThat(query(dataSource.readOnly())).startsWith("replica-");
+        assertThat(query(dataSource)).isEqualTo("primary");
+    }
+
+    @Test
+    void selectsTheReplicaWithTheFewestActiveConnections() throws Exception {
+        final DataSource readOnly = dataSource().readOnly();
+
+        try (Connection first = readOnly.getConnection(); Connection second = readOnly.getConnection()) {
+            final Set<String> databases = new HashSet<>(Arrays.asList(database(first), database(second)));
+            assertThat(databases).containsOnly("replica-0", "replica-1");
+            assertThat(gauge("replica-0.active")).isEqualTo(1);
+            assertThat(gauge("replica-1.active")).isEqualTo(1);
+        }
+        assertThat(gauge("replica-0.active")).isEqualTo(0);
+        assertThat(gauge("replica-1.active")).isEqualTo(0);
+    }
+
+    @Test
+    void selectsReplicasWeightedByLatency() throws Exception {
+        factory.setReplicaSelection(ReplicaRoutingDataSource.ReplicaSelection.LATENCY_WEIGHTED);
+        final DataSource readOnly = dataSource().readOnly();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(query(readOnly)).startsWith("replica-");
+        }
+        assertThat(count("replica-0.selected") + count("replica-1.selected")).isEqualTo(10);
+        assertThat((Double) gauge("replica-0.latency")).isPositive();
+    }
+
+    @Test
+    void ejectsReplicasWhichFailTheirHealthCheck() throws Exception {
+        final ReplicaRoutingDataSource dataSource = dataSource();
+        final ManagedDataSource replica = dataSource.getReplicas().get(0).getDataSource();
+        try (Connection connection = replica.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM marker");
+        }
+
+        dataSource.checkReplicas();
+        assertThat(dataSource.getReplicas().get(0).isHealthy()).isFalse();
+        assertThat(gauge("replica-0.healthy")).isEqualTo(0);
+        assertThat(count("replica-0.ejections")).isEqualTo(1);
+        for (int i = 0; i < 5; i++) {
+            assertThat(query(dataSource.readOnly())).isEqualTo("replica-1");
+        }
+
+        try (Connection connection = replica.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO marker VALUES ('replica-0')");
+        }
+        dataSource.checkReplicas();
+        assertThat(dataSource.getReplicas().get(0).isHealthy()).isTrue();
+    }
+
+    @Test
+    void skipsReplicasWithAnExhaustedPoolWithoutEjectingThem() throws Exception {
+        final DataSourceFactory busy = factory.getReplicas().get(0);
+        busy.setMaxSize(1);
+        busy.setMaxWaitForConnection(Duration.milliseconds(10));
+        final ReplicaRoutingDataSource dataSource = dataSource();
+        final ManagedDataSource replica = dataSource.getReplicas().get(0).getDataSource();
+
+        try (Connection connection = replica.getConnection()) {
+            for (int i = 0; i < 5; i++) {
+                assertThat(query(dataSource.readOnly())).isEqualTo("replica-1");
+            }
+            dataSource.checkReplicas();
+            assertThat(dataSource.getReplicas().get(0).isHealthy()).isTrue();
+            assertThat(count("replica-0.ejections")).isZero();
+        }
+        assertThat(count("primaryFallbacks")).isZero();
+    }
+
+    @Test
+    void tellsConnectionFailuresFromExhaustedPools() {
+        assertThat(ReplicaRoutingDataSource.isConnectionFailure(new SQLException("Refused", "08001"))).isTrue();
+        assertThat(ReplicaRoutingDataSource.isConnectionFailure(
+            new SQLException("Failed", new SQLException("Broken", "08S01")))).isTrue();
+        assertThat(ReplicaRoutingDataSource.isConnectionFailure(new PoolExhaustedException("Pool empty"))).isFalse();
+        assertThat(ReplicaRoutingDataSource.isPoolExhausted(new PoolExhaustedException("Pool empty"))).isTrue();
+        assertThat(ReplicaRoutingDataSource.isPoolExhausted(
+            new SQLTransientConnectionException("Connection is not available, request timed out"))).isTrue();
+        assertThat(ReplicaRoutingDataSource.isPoolExhausted(new SQLException("Refused", "08001"))).isFalse();
+    }
+
+    @Test
+    void fallsBackToThePrimaryWithoutHealthyReplicas() throws Exception {
+        factory.getReplicas().forEach(replica -> replica.setValidationQuery("SELECT * FROM missing"));
+        final ReplicaRoutingDataSource dataSource = dataSource();
+
+        assertThat(query(dataSource.readOnly())).isEqualTo("primary");
+        assertThat(count("primaryFallbacks")).isEqualTo(1);
+    }
+
+    @Test
+    void dropsTheReplicasForASingleConnectionPool() {
+        factory.asSingleConnectionPool();
+
+        assertThat(factory.getReplicas()).isEmpty();
+        assertThat(factory.getPrimary().getMaxSize()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,195 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.MetricRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class StatementCachingDataSourceTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private StatementCachingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        final JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:statement-cache-" + UUID.randomUUID());
+        h2.setUser("sa");
+        dataSource = new StatementCachingDataSource(h2, 2, 40, metricRegistry, "test");
+    }
+
+    private long meter(String name) {
+        return metricRegistry.meter(MetricRegistry.name(StatementCachingDataSource.class, "test", name)).getCount();
+    }
+
+    private Object cached() {
+        return requireNonNull(metricRegistry.getGauges()
+            .get(MetricRegistry.name(StatementCachingDataSource.class, "test", "cached"))).getValue();
+    }
+
+    private static int query(Connection connection, String sql, int value) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, value);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertThat(resultSet.next()).isTrue();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
+    @Test
+    void reusesClosedStatements() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(query(connection, "SELECT ?", 1)).isEqualTo(1);
+            assertThat(query(connection, "SELECT ?", 2)).isEqualTo(2);
+            assertThat(query(connection, "SELECT ?", 3)).isEqualTo(3);
+            assertThat(cached()).isEqualTo(1);
+        }
+
+        assertThat(meter("misses")).isEqualTo(1);
+        assertThat(meter("hits")).isEqualTo(2);
+        assertThat(cached()).isEqualTo(0);
+    }
+
+    @Test
+    void handsOutClosedStatementsOnlyOnce() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            final PreparedStatement statement = connection.prepareStatement("SELECT ?");
+            statement.close();
+
+            assertThat(statement.isClosed()).isTrue();
+            assertThat(statement.getConnection()).isSameAs(connection);
+            assertThatExceptionOfType(SQLException.class).isThrownBy(() -> statement.setInt(1, 1));
+            try (PreparedStatement first = connection.prepareStatement("SELECT ?");
+                 PreparedStatement second = connection.prepareStatement("SELECT ?")) {
+                assertThat(first).isNotSameAs(second);
+                assertThat(first.isClosed()).isFalse();
+                assertThat(second.isClosed()).isFalse();
+            }
+        }
+        assertThat(meter("hits")).isEqualTo(1);
+        assertThat(meter("misses")).isEqualTo(2);
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedStatements() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            query(connection, "SELECT ?", 1);
+            query(connection, "SELECT ? + 1", 1);
+            query(connection, "SELECT ?", 1);
+            query(connection, "SELECT ? + 2", 1);
+            assertThat(meter("evictions")).isEqualTo(1);
+
+            query(connection, "SELECT ?", 1);
+            assertThat(meter("hits")).isEqualTo(2);
+            query(connection, "SELECT ? + 1", 1);
+            assertThat(meter("misses")).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void doesNotCacheLongStatements() throws Exception {
+        final String sql = "SELECT ? AS a_rather_long_column_name_indeed";
+        try (Connection connection = dataSource.getConnection()) {
+            query(connection, sql, 1);
+            query(connection, sql, 1);
+        }
+        assertThat(meter("hits")).isZero();
+        assertThat(meter("misses")).isZero();
+    }
+
+    @Test
+    void clearsTheBatchOfCachedStatements() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE t (id INT)");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO t VALUES (?)")) {
+                statement.setInt(1, 1);
+                statement.addBatch();
+            }
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO t VALUES (?)")) {
+                assertThat(statement.executeBatch()).isEmpty();
+            }
+        }
+        assertThat(meter("hits")).isEqualTo(1);
+    }
+
+    @Test
+    void restoresTheMaxRowsOfCachedStatements() throws Exception {
+        final String sql = "SELECT X FROM SYSTEM_RANGE(1, ?)";
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setMaxRows(1);
+                statement.setInt(1, 3);
+                assertThat(count(statement.executeQuery())).isEqualTo(1);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                assertThat(statement.getMaxRows()).isZero();
+                statement.setInt(1, 3);
+                assertThat(count(statement.executeQuery())).isEqualTo(3);
+            }
+        }
+        assertThat(meter("hits")).isEqualTo(1);
+    }
+
+    @Test
+    void closesStatementsWhoseSettingsCannotBeRestored() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT ?")) {
+                statement.setEscapeProcessing(false);
+            }
+            assertThat(cached()).isEqualTo(0);
+            query(connection, "SELECT ?", 1);
+        }
+        assertThat(meter("hits")).isZero();
+        assertThat(meter("misses")).isEqualTo(2);
+    }
+
+    @Test
+    void closesTheResultSetsOfCachedStatements() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            final ResultSet resultSet;
+            try (PreparedStatement statement = connection.prepareStatement("SELECT ?")) {
+                statement.setInt(1, 1);
+                resultSet = statement.executeQuery();
+                assertThat(resultSet.getStatement()).isSameAs(statement);
+                assertThat(statement.getResultSet().getStatement()).isSameAs(statement);
+            }
+            assertThat(resultSet.isClosed()).isTrue();
+            assertThat(query(connection, "SELECT ?", 2)).isEqualTo(2);
+        }
+        assertThat(meter("hits")).isEqualTo(1);
+    }
+
+    @Test
+    void cachesStatementsPreparedWithOtherOptionsSeparately() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("SELECT ?", Statement.RETURN_GENERATED_KEYS).close();
+            assertThat(query(connection, "SELECT ?", 1)).isEqualTo(1);
+            connection.prepareStatement("SELECT ?", Statement.RETURN_GENERATED_KEYS).close();
+        }
+        assertThat(meter("misses")).isEqualTo(2);
+        assertThat(meter("hits")).isEqualTo(1);
+    }
+
+    private static int count(ResultSet resultSet) throws SQLException {
+        int rows = 0;
+        try (ResultSet ignored = resultSet) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
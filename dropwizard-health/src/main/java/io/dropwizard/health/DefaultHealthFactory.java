@@ -16,6 +16,7 @@ import io.dropwizard.jersey.setup.JerseyEnvironment;
 import io.dropwizard.jetty.setup.ServletEnvironment;
 import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.util.Duration;
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
@@ -69,6 +70,9 @@ public class DefaultHealthFactory implements HealthFactory {
     @JsonProperty("responder")
     private HealthResponderFactory healthResponderFactory = new ServletHealthResponderFactory();
 
+    @Nullable
+    private volatile HealthCheckManager healthCheckManager;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -174,6 +178,7 @@ public class DefaultHealthFactory implements HealthFactory {
         final HealthCheckManager healthCheckManager = new HealthCheckManager(healthCheckConfigs, scheduler, metrics,
                 shutdownWaitPeriod, initialOverallState, health.healthStateListeners());
         healthCheckManager.initializeAppHealth();
+        this.healthCheckManager = healthCheckManager;
 
         // setup response provider and responder to respond to health check requests
         final HealthResponseProvider responseProvider = healthResponseProviderFactory.build(healthCheckManager,
@@ -199,6 +204,20 @@ public class DefaultHealthFactory implements HealthFactory {
         LOGGER.debug("Configured ongoing health check monitoring for healthChecks: {}", getHealthChecks());
     }
 
+    /**
+     * Applies the check and downtime intervals of the given health check configurations to the health checks
+     * scheduled by {@link #configure}, matched by their name. Other changes of the health checks require a restart.
+     *
+     * @param healthCheckConfigurations the health check configurations with the new intervals
+     * @since 2.1.2
+     */
+    public void reschedule(final List<HealthCheckConfiguration> healthCheckConfigurations) {
+        final HealthCheckManager manager = healthCheckManager;
+        if (manager != null) {
+            manager.reschedule(healthCheckConfigurations);
+        }
+    }
+
     private ScheduledExecutorService createScheduledExecutorForHealthChecks(
             final int numberOfScheduledHealthChecks,
             final MetricRegistry metrics,
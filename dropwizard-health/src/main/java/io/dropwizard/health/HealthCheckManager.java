@@ -105,6 +105,37 @@ class HealthCheckManager implements HealthCheckRegistryListener, HealthStatusChe
         scheduler.scheduleInitial(check);
     }
 
+    /**
+     * Applies the check and downtime intervals of the given configurations to the scheduled health checks with the
+     * same names, and schedules their next check with the new interval.
+     */
+    void reschedule(final List<HealthCheckConfiguration> newConfigs) {
+        for (HealthCheckConfiguration config : newConfigs) {
+            final ScheduledHealthCheck check = checks.get(config.getName());
+            if (check == null) {
+                continue;
+            }
+            final Schedule current = check.getSchedule();
+            final Schedule updated = config.getSchedule();
+            if (current.getCheckInterval().equals(updated.getCheckInterval())
+                && current.getDowntimeInterval().equals(updated.getDowntimeInterval())) {
+                continue;
+            }
+
+            // The number of attempts is tracked by the state of the check, which keeps its settings
+            final Schedule schedule = new Schedule();
+            schedule.setInitialDelay(current.getInitialDelay());
+            schedule.setCheckInterval(updated.getCheckInterval());
+            schedule.setDowntimeInterval(updated.getDowntimeInterval());
+            schedule.setFailureAttempts(current.getFailureAttempts());
+            schedule.setSuccessAttempts(current.getSuccessAttempts());
+            check.setSchedule(schedule);
+            scheduler.schedule(check, check.isHealthy());
+            LOGGER.info("Rescheduled health check: name={}, checkInterval={}, downtimeInterval={}",
+                check.getName(), schedule.getCheckInterval(), schedule.getDowntimeInterval());
+        }
+    }
+
     @Override
     public void onHealthCheckRemoved(final String name, final HealthCheck healthCheck) {
         scheduler.unschedule(name);
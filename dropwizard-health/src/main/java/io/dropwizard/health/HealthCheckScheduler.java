@@ -20,7 +20,7 @@ class HealthCheckScheduler {
         this.executorService = executorService;
     }
 
-    void scheduleInitial(final ScheduledHealthCheck check) {
+    synchronized void scheduleInitial(final ScheduledHealthCheck check) {
         final Duration interval;
         if (check.isHealthy()) {
             interval = check.getSchedule().getCheckInterval();
@@ -31,7 +31,7 @@ class HealthCheckScheduler {
         schedule(check, check.getSchedule().getInitialDelay(), interval);
     }
 
-    public void schedule(final ScheduledHealthCheck check, final boolean healthy) {
+    public synchronized void schedule(final ScheduledHealthCheck check, final boolean healthy) {
         unschedule(check.getName());
 
         final Duration interval;
@@ -51,7 +51,7 @@ class HealthCheckScheduler {
         LOGGER.debug("Scheduled check: check={}", check);
     }
 
-    public void unschedule(final String name) {
+    public synchronized void unschedule(final String name) {
         final ScheduledFuture<?> taskFuture = futures.get(name);
         if (taskFuture != null) {
             taskFuture.cancel(true);
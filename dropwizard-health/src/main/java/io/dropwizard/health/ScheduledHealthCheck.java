@@ -14,7 +14,7 @@ class ScheduledHealthCheck implements Runnable {
     private final HealthCheckType type;
     private final boolean critical;
     private final HealthCheck healthCheck;
-    private final Schedule schedule;
+    private volatile Schedule schedule;
     private final State state;
     private final Counter healthyCheckCounter;
     private final Counter unhealthyCheckCounter;
@@ -54,6 +54,10 @@ class ScheduledHealthCheck implements Runnable {
         return schedule;
     }
 
+    void setSchedule(final Schedule schedule) {
+        this.schedule = Objects.requireNonNull(schedule);
+    }
+
     public boolean isHealthy() {
         return state.getHealthy().get();
     }
@@ -27,6 +27,7 @@ import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -401,6 +402,34 @@ class HealthCheckManagerTest {
         assertThat(afterCount - beforeCount).isGreaterThanOrEqualTo(expectedCount);
     }
 
+    @Test
+    void shouldRescheduleHealthCheckWithNewIntervals() {
+        // given
+        final HealthCheckConfiguration config = new HealthCheckConfiguration();
+        config.setName(NAME);
+        config.setSchedule(new Schedule());
+        final HealthCheckManager manager = new HealthCheckManager(singletonList(config), scheduler,
+            new MetricRegistry(), SHUTDOWN_WAIT, true, Collections.emptyList());
+        manager.onHealthCheckAdded(NAME, mock(HealthCheck.class));
+        final Schedule schedule = new Schedule();
+        schedule.setCheckInterval(Duration.seconds(1));
+        schedule.setFailureAttempts(10);
+        final HealthCheckConfiguration reloaded = new HealthCheckConfiguration();
+        reloaded.setName(NAME);
+        reloaded.setSchedule(schedule);
+
+        // when
+        manager.reschedule(singletonList(reloaded));
+        manager.reschedule(singletonList(reloaded));
+
+        // then
+        final ArgumentCaptor<ScheduledHealthCheck> checkCaptor = ArgumentCaptor.forClass(ScheduledHealthCheck.class);
+        verify(scheduler).schedule(checkCaptor.capture(), eq(true));
+        assertThat(checkCaptor.getValue().getSchedule())
+            .satisfies(value -> assertThat(value.getCheckInterval()).isEqualTo(Duration.seconds(1)))
+            .satisfies(value -> assertThat(value.getFailureAttempts()).isEqualTo(3));
+    }
+
     private void verifyCheckWasScheduled(HealthCheckScheduler scheduler, boolean critical) {
         ArgumentCaptor<ScheduledHealthCheck> checkCaptor = ArgumentCaptor.forClass(ScheduledHealthCheck.class);
         verify(scheduler).scheduleInitial(checkCaptor.capture());
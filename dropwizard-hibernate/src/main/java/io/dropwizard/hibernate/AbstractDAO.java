@@ -4,13 +4,21 @@ import io.dropwizard.util.Generics;
 import org.hibernate.Criteria;
 import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.query.Query;
 import org.hibernate.query.internal.AbstractProducedQuery;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.criteria.CriteriaQuery;
 
@@ -22,6 +30,8 @@ import static java.util.Objects.requireNonNull;
  * @param <E> the class which this DAO manages
  */
 public class AbstractDAO<E> {
+    private static final int DEFAULT_FLUSH_INTERVAL = 50;
+
     private final SessionFactory sessionFactory;
     private final Class<?> entityClass;
 
@@ -184,6 +194,112 @@ public class AbstractDAO<E> {
         return requireNonNull(query).list();
     }
 
+    /**
+     * Get the results of a query as a forward-only cursor, fetching {@code fetchSize} rows at a time from the
+     * database. The results are read-only.
+     * <p/>
+     * The cursor must be closed once it's been read, and before the transaction of the session ends.
+     *
+     * @param query     the query to run
+     * @param fetchSize the number of rows fetched from the database at a time
+     * @return a cursor over the matched query results
+     * @see Query#scroll(ScrollMode)
+     * @since 2.1.2
+     */
+    protected ScrollableResults scroll(Query<E> query, int fetchSize) throws HibernateException {
+        return requireNonNull(query)
+            .setFetchSize(fetchSize)
+            .setReadOnly(true)
+            .scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    /**
+     * Get the results of a query as a stream, fetching {@code fetchSize} rows at a time from the database. Each
+     * result is detached from the session as soon as it's been consumed, so that the session doesn't hold on to
+     * all of them.
+     * <p/>
+     * The stream must be closed once it's been consumed, and before the transaction of the session ends. With
+     * {@link UnitOfWork}, this means within the resource method; see
+     * {@link #streamStateless(Function, int)} for streaming results while a response is written.
+     *
+     * @param query     the query to run
+     * @param fetchSize the number of rows fetched from the database at a time
+     * @return a stream of the matched query results
+     * @since 2.1.2
+     */
+    protected Stream<E> stream(Query<E> query, int fetchSize) throws HibernateException {
+        final Session session = currentSession();
+        final ScrollableResults results = scroll(query, fetchSize);
+        return StreamSupport.stream(new ScrollableResultsSpliterator<E>(results, entity -> {
+            if (entity != null) {
+                session.detach(entity);
+            }
+        }), false).onClose(results::close);
+    }
+
+    /**
+     * Get the results of a query as a stream, fetching {@code fetchSize} rows at a time from the database. The
+     * query is run in a new, read-only {@link StatelessSession} with its own transaction, so that the results
+     * aren't held by any session, and so that they can be streamed after the current session has been closed,
+     * e.g. while a {@link javax.ws.rs.core.StreamingOutput} writes a response.
+     * <p/>
+     * The results are detached entities, whose lazy associations can't be loaded. The stream must be closed once
+     * it's been consumed, which closes the stateless session.
+     *
+     * @param query     creates the query to run in the stateless session
+     * @param fetchSize the number of rows fetched from the database at a time
+     * @return a stream of the matched query results
+     * @since 2.1.2
+     */
+    protected Stream<E> streamStateless(Function<StatelessSession, Query<E>> query, int fetchSize)
+        throws HibernateException {
+        final StatelessSession session = sessionFactory.openStatelessSession();
+        try {
+            final Transaction transaction = session.beginTransaction();
+            final ScrollableResults results = requireNonNull(query.apply(session))
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY);
+            return StreamSupport.stream(new ScrollableResultsSpliterator<E>(results, entity -> { }), false)
+                .onClose(() -> {
+                    try {
+                        results.close();
+                    } finally {
+                        closeStateless(session, transaction);
+                    }
+                });
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the results of a HQL query as a stream, in a new, read-only {@link StatelessSession}.
+     *
+     * @param queryString the HQL query
+     * @param fetchSize   the number of rows fetched from the database at a time
+     * @return a stream of the matched query results
+     * @see #streamStateless(Function, int)
+     * @since 2.1.2
+     */
+    @SuppressWarnings("unchecked")
+    protected Stream<E> streamStateless(String queryString, int fetchSize) throws HibernateException {
+        requireNonNull(queryString);
+        return streamStateless(session -> session.createQuery(queryString, (Class<E>) entityClass), fetchSize);
+    }
+
+    private static void closeStateless(StatelessSession session, Transaction transaction) {
+        try {
+            // Nothing was written, so there's nothing to commit
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+        } finally {
+            session.close();
+        }
+    }
+
     /**
      * Return the persistent instance of {@code <E>} with the given identifier, or {@code null} if
      * there is no such persistent instance. (If the instance, or a proxy for the instance, is
@@ -215,6 +331,58 @@ public class AbstractDAO<E> {
         return entity;
     }
 
+    /**
+     * Either save or update each of the given instances, like {@link #persist(Object)}, flushing and clearing the
+     * session after every JDBC batch, so that the statements are sent in batches and the session doesn't hold
+     * on to every instance. The batch size is the {@code hibernate.jdbc.batch_size} of the session factory, or
+     * {@value #DEFAULT_FLUSH_INTERVAL} if it isn't set.
+     * <p/>
+     * Clearing the session detaches all of its instances, including those which were loaded before.
+     *
+     * @param entities transient or detached instances containing new or updated state
+     * @return the number of instances
+     * @throws HibernateException
+     * @see #persistAll(Iterable, int)
+     * @since 2.1.2
+     */
+    protected int persistAll(Iterable<E> entities) throws HibernateException {
+        final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+        final int jdbcBatchSize = options == null ? 0 : options.getJdbcBatchSize();
+        return persistAll(entities, jdbcBatchSize > 0 ? jdbcBatchSize : DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Either save or update each of the given instances, like {@link #persist(Object)}, flushing and clearing the
+     * session after every {@code flushInterval} instances, and after the last one.
+     * <p/>
+     * Clearing the session detaches all of its instances, including those which were loaded before.
+     *
+     * @param entities      transient or detached instances containing new or updated state
+     * @param flushInterval the number of instances between flushes, usually the JDBC batch size
+     * @return the number of instances
+     * @throws HibernateException
+     * @since 2.1.2
+     */
+    protected int persistAll(Iterable<E> entities, int flushInterval) throws HibernateException {
+        if (flushInterval < 1) {
+            throw new IllegalArgumentException("The flush interval must be positive: " + flushInterval);
+        }
+        final Session session = currentSession();
+        int count = 0;
+        for (E entity : requireNonNull(entities)) {
+            session.saveOrUpdate(requireNonNull(entity));
+            if (++count % flushInterval == 0) {
+                session.flush();
+                session.clear();
+            }
+        }
+        if (count % flushInterval != 0) {
+            session.flush();
+            session.clear();
+        }
+        return count;
+    }
+
     /**
      * Force initialization of a proxy or persistent collection.
      * <p/>
@@ -0,0 +1,157 @@
+package io.dropwizard.hibernate;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.caffeine.MetricsStatsCounter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A Hibernate region factory which stores each cache region in a Caffeine cache.
+ * <p>
+ * The hits, misses and evictions of each region, and the number of its entries, are reported as metrics.
+ *
+ * @see SecondLevelCacheFactory
+ * @since 2.1.2
+ */
+public class CaffeineRegionFactory extends RegionFactoryTemplate {
+    private final SecondLevelCacheFactory configuration;
+    private final MetricRegistry metricRegistry;
+    private final String name;
+    private final Map<String, Cache<Object, Object>> caches = new ConcurrentHashMap<>();
+
+    public CaffeineRegionFactory(SecondLevelCacheFactory configuration, MetricRegistry metricRegistry, String name) {
+        this.configuration = configuration;
+        this.metricRegistry = metricRegistry;
+        this.name = name;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, @SuppressWarnings("rawtypes") Map configValues) {
+        // The caches are created with their regions
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        caches.values().forEach(Cache::invalidateAll);
+        caches.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        final String regionName = regionConfig.getRegionName();
+        return new CaffeineStorageAccess(cache(regionName, configuration.getRegions().get(regionName)));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(cache(regionName, configuration.getRegions().get(regionName)));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        // Dropping timestamps would make cached query results look up to date, so they're only bounded on request
+        final SecondLevelCacheFactory.Region region = configuration.getRegions().get(regionName);
+        return new CaffeineStorageAccess(cache(regionName,
+            region == null ? SecondLevelCacheFactory.Region.unbounded() : region));
+    }
+
+    /**
+     * Returns the cache of a region.
+     *
+     * @param regionName the name of the region
+     * @return the cache of the region, or {@code null} if it hasn't been built
+     */
+    @Nullable
+    Cache<Object, Object> getCache(String regionName) {
+        return caches.get(regionName);
+    }
+
+    private Cache<Object, Object> cache(String regionName, @Nullable SecondLevelCacheFactory.Region region) {
+        return caches.computeIfAbsent(regionName, key -> {
+            final String metricName = name(getClass(), name, regionName);
+            final Cache<Object, Object> cache = (region == null ? configuration.getDefaultRegion() : region)
+                .configure(Caffeine.newBuilder())
+                .recordStats(() -> new MetricsStatsCounter(metricRegistry, metricName))
+                .build();
+            metricRegistry.gauge(name(metricName, "size"), () -> (Gauge<Long>) () -> {
+                final Cache<Object, Object> current = caches.get(regionName);
+                return current == null ? 0L : current.estimatedSize();
+            });
+            return cache;
+        });
+    }
+
+    /**
+     * Stores the entries of a region in a Caffeine cache.
+     */
+    private static class CaffeineStorageAccess implements DomainDataStorageAccess {
+        private final Cache<Object, Object> cache;
+
+        CaffeineStorageAccess(Cache<Object, Object> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        @Nullable
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public void putIntoCache(Object key, @Nullable Object value, SharedSessionContractImplementor session) {
+            if (value == null) {
+                cache.invalidate(key);
+            } else {
+                cache.put(key, value);
+            }
+        }
+
+        @Override
+        public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void clearCache(SharedSessionContractImplementor session) {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return cache.asMap().containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void release() {
+            cache.invalidateAll();
+        }
+    }
+}
@@ -14,7 +14,11 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Objects.requireNonNull;
 
@@ -24,10 +28,20 @@ public abstract class HibernateBundle<T> implements ConfiguredBundle<T>, Databas
     @Nullable
     protected SessionFactory sessionFactory;
     protected boolean lazyLoadingEnabled = true;
+    protected HibernateStatisticsFactory statistics = new HibernateStatisticsFactory();
+    protected int jdbcBatchSize = 0;
+
+    @Nullable
+    protected SecondLevelCacheFactory secondLevelCache;
 
     protected final List<Class<?>> entities;
     protected final SessionFactoryFactory sessionFactoryFactory;
 
+    /**
+     * The session factories built while the bundle was prepared, by name, until the bundle runs.
+     */
+    private final Map<String, SessionFactoryManager> preparedSessionFactories = new HashMap<>();
+
     protected HibernateBundle(Class<?> entity, Class<?>... entities) {
         final List<Class<?>> entityClasses = new ArrayList<>();
         entityClasses.add(entity);
@@ -67,11 +81,52 @@ public abstract class HibernateBundle<T> implements ConfiguredBundle<T>, Databas
         return DEFAULT_NAME;
     }
 
+    /**
+     * Override to configure how Hibernate statistics are collected from the configuration. The default is the
+     * {@link #getStatistics() statistics} of the bundle, which are sampled.
+     *
+     * @since 2.1.2
+     */
+    protected HibernateStatisticsFactory statistics(T configuration) {
+        return statistics;
+    }
+
+    /**
+     * Override to enable the second-level cache and query cache with the settings from the configuration. The
+     * default is no cache.
+     *
+     * @since 2.1.2
+     */
+    @Nullable
+    protected SecondLevelCacheFactory secondLevelCache(T configuration) {
+        return null;
+    }
+
+    /**
+     * The bundle doesn't depend on other bundles, so that its session factory can be built concurrently with them.
+     */
+    @Override
+    public Optional<Set<Class<?>>> getDependencies() {
+        return Optional.of(Collections.emptySet());
+    }
+
+    /**
+     * Builds the session factory, which reads the mappings of the entities and connects to the database, before the
+     * bundles are run.
+     */
+    @Override
+    public void prepare(T configuration, Environment environment) throws Exception {
+        this.statistics = statistics(configuration);
+        this.secondLevelCache = secondLevelCache(configuration);
+        prepareSessionFactory(environment, getDataSourceFactory(configuration), name());
+    }
+
     @Override
     public void run(T configuration, Environment environment) throws Exception {
+        this.statistics = statistics(configuration);
+        this.secondLevelCache = secondLevelCache(configuration);
         final PooledDataSourceFactory dbConfig = getDataSourceFactory(configuration);
-        this.sessionFactory = requireNonNull(sessionFactoryFactory.build(this, environment, dbConfig,
-            entities, name()));
+        this.sessionFactory = buildSessionFactory(environment, dbConfig, name());
         registerUnitOfWorkListenerIfAbsent(environment).registerSessionFactory(name(), sessionFactory);
         environment.healthChecks().register(name(),
                                             new SessionFactoryHealthCheck(
@@ -81,6 +136,32 @@ public abstract class HibernateBundle<T> implements ConfiguredBundle<T>, Databas
                                                     dbConfig.getValidationQuery()));
     }
 
+    /**
+     * Builds a session factory while the bundle is prepared, without adding it to the environment.
+     *
+     * @since 2.1.2
+     */
+    protected void prepareSessionFactory(Environment environment, PooledDataSourceFactory dbConfig, String name) {
+        preparedSessionFactories.put(name,
+            sessionFactoryFactory.buildManager(this, environment.metrics(), dbConfig, entities, name));
+    }
+
+    /**
+     * Adds the session factory prepared with the given name to the lifecycle of the environment, or builds it if the
+     * bundle hasn't been prepared.
+     *
+     * @since 2.1.2
+     */
+    protected SessionFactory buildSessionFactory(Environment environment, PooledDataSourceFactory dbConfig,
+                                                 String name) {
+        final SessionFactoryManager prepared = preparedSessionFactories.remove(name);
+        if (prepared == null) {
+            return requireNonNull(sessionFactoryFactory.build(this, environment, dbConfig, entities, name));
+        }
+        environment.lifecycle().manage(prepared);
+        return prepared.getSessionFactory();
+    }
+
     protected UnitOfWorkApplicationListener registerUnitOfWorkListenerIfAbsent(Environment environment) {
         for (Object singleton : environment.jersey().getResourceConfig().getSingletons()) {
             if (singleton instanceof UnitOfWorkApplicationListener) {
@@ -100,6 +181,48 @@ public abstract class HibernateBundle<T> implements ConfiguredBundle<T>, Databas
         this.lazyLoadingEnabled = lazyLoadingEnabled;
     }
 
+    /**
+     * @since 2.1.2
+     */
+    public HibernateStatisticsFactory getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    public void setStatistics(HibernateStatisticsFactory statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * @return the number of statements sent to the database in a JDBC batch, or {@code 0} if it's left to
+     * Hibernate, which doesn't batch statements unless {@code hibernate.jdbc.batch_size} is set
+     * @since 2.1.2
+     */
+    public int getJdbcBatchSize() {
+        return jdbcBatchSize;
+    }
+
+    /**
+     * Sets the number of inserts, updates and deletes sent to the database in a JDBC batch. The
+     * {@code hibernate.jdbc.batch_size} property of the database configuration takes precedence.
+     *
+     * @since 2.1.2
+     */
+    public void setJdbcBatchSize(int jdbcBatchSize) {
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    /**
+     * @return the settings of the second-level cache, or {@code null} if it's disabled
+     * @since 2.1.2
+     */
+    @Nullable
+    public SecondLevelCacheFactory getSecondLevelCache() {
+        return secondLevelCache;
+    }
+
     public SessionFactory getSessionFactory() {
         return requireNonNull(sessionFactory);
     }
@@ -0,0 +1,111 @@
+package io.dropwizard.hibernate;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import io.dropwizard.validation.ValidationMethod;
+import org.hibernate.SessionFactory;
+
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A factory for the {@link HibernateStatisticsMetrics} of a session factory.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code mode}</td>
+ *         <td>SAMPLED</td>
+ *         <td>How statistics are collected, either {@code OFF}, {@code SAMPLED} or {@code FULL}.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code interval}</td>
+ *         <td>1 minute</td>
+ *         <td>
+ *             The interval at which new queries and cache regions are looked up, and at which statistics are
+ *             sampled.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code sampleWindow}</td>
+ *         <td>10 seconds</td>
+ *         <td>How long statistics are collected at the start of each interval, in {@code SAMPLED} mode.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1.2
+ */
+public class HibernateStatisticsFactory {
+    @NotNull
+    private StatisticsMode mode = StatisticsMode.SAMPLED;
+
+    @NotNull
+    @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+    private Duration interval = Duration.minutes(1);
+
+    @NotNull
+    @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+    private Duration sampleWindow = Duration.seconds(10);
+
+    @JsonProperty
+    public StatisticsMode getMode() {
+        return mode;
+    }
+
+    @JsonProperty
+    public void setMode(StatisticsMode mode) {
+        this.mode = mode;
+    }
+
+    @JsonProperty
+    public Duration getInterval() {
+        return interval;
+    }
+
+    @JsonProperty
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    @JsonProperty
+    public Duration getSampleWindow() {
+        return sampleWindow;
+    }
+
+    @JsonProperty
+    public void setSampleWindow(Duration sampleWindow) {
+        this.sampleWindow = sampleWindow;
+    }
+
+    @JsonIgnore
+    @ValidationMethod(message = ".sampleWindow must be shorter than interval")
+    public boolean isSampleWindowShorterThanInterval() {
+        return mode != StatisticsMode.SAMPLED || sampleWindow.toNanoseconds() < interval.toNanoseconds();
+    }
+
+    /**
+     * Builds the metrics of a session factory.
+     *
+     * @param metricRegistry the application metric registry
+     * @param name           the name of the session factory
+     * @param sessionFactory the session factory
+     * @return the metrics, or {@code null} if statistics are {@link StatisticsMode#OFF off}
+     */
+    @Nullable
+    public HibernateStatisticsMetrics build(MetricRegistry metricRegistry, String name,
+                                            SessionFactory sessionFactory) {
+        if (mode == StatisticsMode.OFF) {
+            return null;
+        }
+        return new HibernateStatisticsMetrics(metricRegistry, name, sessionFactory, mode, interval, sampleWindow);
+    }
+}
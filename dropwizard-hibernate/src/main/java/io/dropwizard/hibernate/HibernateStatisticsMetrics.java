@@ -0,0 +1,306 @@
+package io.dropwizard.hibernate;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.RatioGauge;
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.util.Duration;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Publishes the {@link Statistics} of a {@link SessionFactory} as metrics.
+ * <p>
+ * Besides the totals of the session factory, such as its sessions, transactions and flushes, the metrics cover the
+ * loads, fetches, inserts, updates and deletes of each entity, the execution count, rows and times of each query,
+ * and the hits, misses and hit ratio of the second-level cache and of each of its regions. The queries and cache
+ * regions only become known while the application runs, so they're looked up at regular intervals, and at most
+ * {@value #MAX_QUERIES} queries are published. The metrics of a query are named after a hash of the query, and its
+ * HQL or SQL is published by the {@code queries.<hash>.query} gauge.
+ * <p>
+ * In {@link StatisticsMode#SAMPLED} mode, statistics are only collected during a window at the start of each
+ * interval.
+ *
+ * @since 2.1.2
+ */
+public class HibernateStatisticsMetrics implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HibernateStatisticsMetrics.class);
+
+    static final int MAX_QUERIES = 100;
+
+    private final MetricRegistry metricRegistry;
+    private final String name;
+    private final Statistics statistics;
+    private final StatisticsMode mode;
+    private final Duration interval;
+    private final Duration sampleWindow;
+    private final Set<String> queries = new HashSet<>();
+    private final Set<String> regions = new HashSet<>();
+
+    @Nullable
+    private ScheduledExecutorService executor;
+
+    @Nullable
+    private volatile ScheduledFuture<?> refreshes;
+
+    @Nullable
+    private volatile ScheduledFuture<?> sampleEnd;
+
+    /**
+     * @param metricRegistry the application metric registry
+     * @param name           the name of the session factory
+     * @param sessionFactory the session factory
+     * @param mode           how statistics are collected, either {@link StatisticsMode#SAMPLED} or
+     *                       {@link StatisticsMode#FULL}
+     * @param interval       the interval at which new queries and cache regions are looked up, and at which
+     *                       statistics are sampled
+     * @param sampleWindow   how long statistics are collected at the start of each interval, when they're sampled
+     */
+    public HibernateStatisticsMetrics(MetricRegistry metricRegistry, String name, SessionFactory sessionFactory,
+                                      StatisticsMode mode, Duration interval, Duration sampleWindow) {
+        this.metricRegistry = metricRegistry;
+        this.name = name;
+        this.statistics = sessionFactory.getStatistics();
+        this.mode = mode;
+        this.interval = interval;
+        this.sampleWindow = sampleWindow;
+        registerTotals();
+        for (String entityName : statistics.getEntityNames()) {
+            registerEntity(entityName);
+        }
+    }
+
+    public StatisticsMode getMode() {
+        return mode;
+    }
+
+    @Override
+    public void start() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "hibernate-statistics-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor = scheduler;
+        final long period = interval.toMilliseconds();
+        if (mode == StatisticsMode.SAMPLED) {
+            refreshes = scheduler.scheduleAtFixedRate(logFailures("start a sample", () -> {
+                startSample();
+                sampleEnd = scheduler.schedule(logFailures("end a sample", this::endSample),
+                    sampleWindow.toMilliseconds(), TimeUnit.MILLISECONDS);
+            }), 0, period, TimeUnit.MILLISECONDS);
+        } else {
+            statistics.setStatisticsEnabled(true);
+            refreshes = scheduler.scheduleAtFixedRate(logFailures("refresh", this::refresh),
+                period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void stop() throws Exception {
+        final ScheduledFuture<?> refreshes = this.refreshes;
+        if (refreshes != null) {
+            refreshes.cancel(false);
+            this.refreshes = null;
+        }
+        final ScheduledFuture<?> sampleEnd = this.sampleEnd;
+        if (sampleEnd != null) {
+            sampleEnd.cancel(false);
+            this.sampleEnd = null;
+        }
+        final ScheduledExecutorService executor = this.executor;
+        if (executor != null) {
+            executor.shutdownNow();
+            this.executor = null;
+        }
+        if (mode == StatisticsMode.SAMPLED) {
+            // The end of the current sample won't run anymore
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    /**
+     * Logs the failures of a scheduled task, which would otherwise cancel its later executions silently.
+     */
+    private Runnable logFailures(String action, Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Unable to {} of the Hibernate statistics of {}", action, name, e);
+            }
+        };
+    }
+
+    /**
+     * Starts collecting statistics for a sample.
+     */
+    void startSample() {
+        statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * Stops collecting statistics for a sample, and publishes the queries and cache regions it found.
+     */
+    void endSample() {
+        statistics.setStatisticsEnabled(false);
+        refresh();
+    }
+
+    /**
+     * Registers the metrics of the queries and cache regions which have been found since the last refresh.
+     */
+    void refresh() {
+        for (String query : statistics.getQueries()) {
+            if (queries.size() >= MAX_QUERIES) {
+                break;
+            }
+            if (queries.add(query)) {
+                registerQuery(query);
+            }
+        }
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            if (regions.add(region)) {
+                registerRegion(region);
+            }
+        }
+    }
+
+    private void registerTotals() {
+        gauge(name(getClass(), name, "sessionsOpened"), Statistics::getSessionOpenCount);
+        gauge(name(getClass(), name, "sessionsClosed"), Statistics::getSessionCloseCount);
+        gauge(name(getClass(), name, "transactions"), Statistics::getTransactionCount);
+        gauge(name(getClass(), name, "successfulTransactions"), Statistics::getSuccessfulTransactionCount);
+        gauge(name(getClass(), name, "optimisticFailures"), Statistics::getOptimisticFailureCount);
+        gauge(name(getClass(), name, "flushes"), Statistics::getFlushCount);
+        gauge(name(getClass(), name, "connections"), Statistics::getConnectCount);
+        gauge(name(getClass(), name, "preparedStatements"), Statistics::getPrepareStatementCount);
+        gauge(name(getClass(), name, "entities", "loads"), Statistics::getEntityLoadCount);
+        gauge(name(getClass(), name, "entities", "fetches"), Statistics::getEntityFetchCount);
+        gauge(name(getClass(), name, "entities", "inserts"), Statistics::getEntityInsertCount);
+        gauge(name(getClass(), name, "entities", "updates"), Statistics::getEntityUpdateCount);
+        gauge(name(getClass(), name, "entities", "deletes"), Statistics::getEntityDeleteCount);
+        gauge(name(getClass(), name, "queries", "executions"), Statistics::getQueryExecutionCount);
+        gauge(name(getClass(), name, "queries", "maxTime"), Statistics::getQueryExecutionMaxTime);
+        gauge(name(getClass(), name, "secondLevelCache", "hits"), Statistics::getSecondLevelCacheHitCount);
+        gauge(name(getClass(), name, "secondLevelCache", "misses"), Statistics::getSecondLevelCacheMissCount);
+        gauge(name(getClass(), name, "secondLevelCache", "puts"), Statistics::getSecondLevelCachePutCount);
+        ratio(name(getClass(), name, "secondLevelCache", "hitRatio"),
+            Statistics::getSecondLevelCacheHitCount, Statistics::getSecondLevelCacheMissCount);
+        gauge(name(getClass(), name, "queryCache", "hits"), Statistics::getQueryCacheHitCount);
+        gauge(name(getClass(), name, "queryCache", "misses"), Statistics::getQueryCacheMissCount);
+        gauge(name(getClass(), name, "queryCache", "puts"), Statistics::getQueryCachePutCount);
+        ratio(name(getClass(), name, "queryCache", "hitRatio"),
+            Statistics::getQueryCacheHitCount, Statistics::getQueryCacheMissCount);
+    }
+
+    private void registerEntity(String entityName) {
+        gauge(name(getClass(), name, "entities", entityName, "loads"),
+            s -> entity(s, entityName).getLoadCount());
+        gauge(name(getClass(), name, "entities", entityName, "fetches"),
+            s -> entity(s, entityName).getFetchCount());
+        gauge(name(getClass(), name, "entities", entityName, "inserts"),
+            s -> entity(s, entityName).getInsertCount());
+        gauge(name(getClass(), name, "entities", entityName, "updates"),
+            s -> entity(s, entityName).getUpdateCount());
+        gauge(name(getClass(), name, "entities", entityName, "deletes"),
+            s -> entity(s, entityName).getDeleteCount());
+        gauge(name(getClass(), name, "entities", entityName, "optimisticFailures"),
+            s -> entity(s, entityName).getOptimisticFailureCount());
+    }
+
+    private void registerQuery(String query) {
+        final String id = queryId(query);
+        metricRegistry.gauge(name(getClass(), name, "queries", id, "query"), () -> () -> query);
+        gauge(name(getClass(), name, "queries", id, "executions"),
+            s -> query(s, query).getExecutionCount());
+        gauge(name(getClass(), name, "queries", id, "rows"),
+            s -> query(s, query).getExecutionRowCount());
+        gauge(name(getClass(), name, "queries", id, "averageTime"),
+            s -> query(s, query).getExecutionAvgTime());
+        gauge(name(getClass(), name, "queries", id, "maxTime"),
+            s -> query(s, query).getExecutionMaxTime());
+    }
+
+    /**
+     * Returns the identifier of a query in the names of its metrics, as the HQL or SQL of a query may contain any
+     * character, and may be arbitrarily long.
+     *
+     * @param query the HQL or SQL of the query
+     * @return the first 16 hexadecimal digits of the SHA-256 hash of the query
+     */
+    static String queryId(String query) {
+        final byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+        final StringBuilder id = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            id.append(String.format("%02x", hash[i]));
+        }
+        return id.toString();
+    }
+
+    private void registerRegion(String region) {
+        gauge(name(getClass(), name, "secondLevelCache", region, "hits"),
+            s -> region(s, region, CacheRegionStatistics::getHitCount));
+        gauge(name(getClass(), name, "secondLevelCache", region, "misses"),
+            s -> region(s, region, CacheRegionStatistics::getMissCount));
+        gauge(name(getClass(), name, "secondLevelCache", region, "puts"),
+            s -> region(s, region, CacheRegionStatistics::getPutCount));
+        ratio(name(getClass(), name, "secondLevelCache", region, "hitRatio"),
+            s -> region(s, region, CacheRegionStatistics::getHitCount),
+            s -> region(s, region, CacheRegionStatistics::getMissCount));
+    }
+
+    private static EntityStatistics entity(Statistics statistics, String entityName) {
+        return statistics.getEntityStatistics(entityName);
+    }
+
+    private static QueryStatistics query(Statistics statistics, String query) {
+        return statistics.getQueryStatistics(query);
+    }
+
+    private static long region(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> count) {
+        // The statistics of a region are gone once its cache has been evicted
+        final CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+    }
+
+    private void gauge(String metricName, ToLongFunction<Statistics> value) {
+        metricRegistry.gauge(metricName, () -> (Gauge<Long>) () -> value.applyAsLong(statistics));
+    }
+
+    private void ratio(String metricName, ToLongFunction<Statistics> hits, ToLongFunction<Statistics> misses) {
+        metricRegistry.gauge(metricName, () -> new RatioGauge() {
+            @Override
+            protected Ratio getRatio() {
+                final long hitCount = hits.applyAsLong(statistics);
+                return Ratio.of(hitCount, (double) hitCount + misses.applyAsLong(statistics));
+            }
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package io.dropwizard.hibernate;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.service.StandardServiceInitiators;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import java.sql.PreparedStatement;
+import java.util.Map;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A Hibernate batch builder which records the number of rows of each JDBC batch built by the default batch builder.
+ */
+class InstrumentedBatchBuilder implements BatchBuilder {
+    private final BatchBuilder batchBuilder;
+    private final int jdbcBatchSize;
+    private final Histogram batchSizes;
+
+    InstrumentedBatchBuilder(BatchBuilder batchBuilder, int jdbcBatchSize, MetricRegistry metricRegistry,
+                             String name) {
+        this.batchBuilder = batchBuilder;
+        this.jdbcBatchSize = jdbcBatchSize;
+        this.batchSizes = metricRegistry.histogram(name(getClass(), name, "batchSize"));
+    }
+
+    @Override
+    public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
+        // Sessions may override the batch size of the session factory
+        final Integer sessionBatchSize = jdbcCoordinator.getJdbcSessionOwner().getJdbcBatchSize();
+        final int batchSize = sessionBatchSize == null ? jdbcBatchSize : sessionBatchSize;
+        final Batch batch = batchBuilder.buildBatch(key, jdbcCoordinator);
+        return batchSize > 1 ? new InstrumentedBatch(batch, batchSize) : batch;
+    }
+
+    /**
+     * Initiates the default batch builder of Hibernate, and instruments it when statements are batched.
+     */
+    static class Initiator implements StandardServiceInitiator<BatchBuilder> {
+        private final StandardServiceInitiator<BatchBuilder> defaultInitiator = defaultInitiator();
+        private final MetricRegistry metricRegistry;
+        private final String name;
+
+        Initiator(MetricRegistry metricRegistry, String name) {
+            this.metricRegistry = metricRegistry;
+            this.name = name;
+        }
+
+        @Override
+        public Class<BatchBuilder> getServiceInitiated() {
+            return BatchBuilder.class;
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public BatchBuilder initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+            final BatchBuilder batchBuilder = defaultInitiator.initiateService(configurationValues, registry);
+            // The batch size can be set by the properties, or by the bundle when it configures Hibernate
+            final Object batchSize = configurationValues.get(AvailableSettings.STATEMENT_BATCH_SIZE);
+            final int jdbcBatchSize = batchSize == null ? 0 : Integer.parseInt(batchSize.toString().trim());
+            return jdbcBatchSize > 1 ? new InstrumentedBatchBuilder(batchBuilder, jdbcBatchSize, metricRegistry, name)
+                : batchBuilder;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static StandardServiceInitiator<BatchBuilder> defaultInitiator() {
+            for (StandardServiceInitiator<?> initiator : StandardServiceInitiators.LIST) {
+                if (initiator.getServiceInitiated() == BatchBuilder.class) {
+                    return (StandardServiceInitiator<BatchBuilder>) initiator;
+                }
+            }
+            throw new IllegalStateException("Hibernate has no batch builder");
+        }
+    }
+
+    /**
+     * Counts the rows added to a batch, until it's executed, either explicitly or because it's full.
+     * <p>
+     * Batch observers can't be used for this, since Hibernate drops them when it releases a batch, and then
+     * keeps using the batch.
+     */
+    private class InstrumentedBatch implements Batch {
+        private final Batch batch;
+        private final int statementsPerRow;
+        private final int batchSize;
+        private int statements;
+
+        InstrumentedBatch(Batch batch, int batchSize) {
+            this.batch = batch;
+            this.statementsPerRow = Math.max(1, batch.getKey().getBatchedStatementCount());
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public BatchKey getKey() {
+            return batch.getKey();
+        }
+
+        @Override
+        public void addObserver(BatchObserver observer) {
+            batch.addObserver(observer);
+        }
+
+        @Override
+        public PreparedStatement getBatchStatement(String sql, boolean callable) {
+            return batch.getBatchStatement(sql, callable);
+        }
+
+        @Override
+        public void addToBatch() {
+            batch.addToBatch();
+            // A full batch is executed as soon as its last statement is added
+            if (++statements == batchSize * statementsPerRow) {
+                recordRows();
+            }
+        }
+
+        @Override
+        public void execute() {
+            batch.execute();
+            recordRows();
+        }
+
+        @Override
+        public void release() {
+            batch.release();
+            statements = 0;
+        }
+
+        private void recordRows() {
+            final int rows = statements / statementsPerRow;
+            if (rows > 0) {
+                batchSizes.update(rows);
+            }
+            statements = 0;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.dropwizard.hibernate;
+
+import org.hibernate.ScrollableResults;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Iterates over the rows of a {@link ScrollableResults}, one at a time, handing each row over to a callback once it
+ * has been consumed.
+ *
+ * @param <T> the type of the rows
+ */
+class ScrollableResultsSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+    private final ScrollableResults results;
+    private final Consumer<T> onConsumed;
+
+    /**
+     * @param results    the results to iterate over, positioned before their first row
+     * @param onConsumed called with each row once it has been consumed
+     */
+    ScrollableResultsSpliterator(ScrollableResults results, Consumer<T> onConsumed) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.results = results;
+        this.onConsumed = onConsumed;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!results.next()) {
+            return false;
+        }
+        final T row = (T) results.get(0);
+        action.accept(row);
+        onConsumed.accept(row);
+        return true;
+    }
+}
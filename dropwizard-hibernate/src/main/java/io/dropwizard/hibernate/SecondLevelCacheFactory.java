@@ -0,0 +1,177 @@
+package io.dropwizard.hibernate;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+import javax.annotation.Nullable;
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A factory for the Hibernate second-level cache and query cache, backed by Caffeine caches.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code queryCache}</td>
+ *         <td>false</td>
+ *         <td>Whether the results of cacheable queries are cached.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code defaultRegion}</td>
+ *         <td>(10000 entries, no expiry)</td>
+ *         <td>The settings of the regions which aren't configured in {@code regions}.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code regions}</td>
+ *         <td>(empty)</td>
+ *         <td>
+ *             The settings of each region, by region name. The region of an entity is named after its class, unless
+ *             it's named by its {@code @Cache} annotation. The region of the query cache is named
+ *             {@code default-query-results-region}.
+ *         </td>
+ *     </tr>
+ * </table>
+ * <p/>
+ * The timestamps region, which tracks when the tables of cached queries were last updated, is neither bounded nor
+ * expired, unless it's configured in {@code regions} as {@code default-update-timestamps-region}.
+ *
+ * @see CaffeineRegionFactory
+ * @since 2.1.2
+ */
+public class SecondLevelCacheFactory {
+    private boolean queryCache = false;
+
+    @Valid
+    @NotNull
+    private Region defaultRegion = new Region();
+
+    @Valid
+    @NotNull
+    private Map<String, Region> regions = new HashMap<>();
+
+    @JsonProperty
+    public boolean isQueryCache() {
+        return queryCache;
+    }
+
+    @JsonProperty
+    public void setQueryCache(boolean queryCache) {
+        this.queryCache = queryCache;
+    }
+
+    @JsonProperty
+    public Region getDefaultRegion() {
+        return defaultRegion;
+    }
+
+    @JsonProperty
+    public void setDefaultRegion(Region defaultRegion) {
+        this.defaultRegion = defaultRegion;
+    }
+
+    @JsonProperty
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    @JsonProperty
+    public void setRegions(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    /**
+     * Builds the region factory of a session factory.
+     *
+     * @param metricRegistry the application metric registry
+     * @param name           the name of the session factory
+     * @return the region factory
+     */
+    public CaffeineRegionFactory build(MetricRegistry metricRegistry, String name) {
+        return new CaffeineRegionFactory(this, metricRegistry, name);
+    }
+
+    /**
+     * The size and expiry of a cache region.
+     */
+    public static class Region {
+        static Region unbounded() {
+            final Region region = new Region();
+            region.setMaximumSize(null);
+            return region;
+        }
+
+        @Min(0)
+        @Nullable
+        private Long maximumSize = 10_000L;
+
+        @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+        @Nullable
+        private Duration expireAfterWrite;
+
+        @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+        @Nullable
+        private Duration expireAfterAccess;
+
+        /**
+         * @return the maximum number of entries of the region, or {@code null} if it's unbounded
+         */
+        @JsonProperty
+        @Nullable
+        public Long getMaximumSize() {
+            return maximumSize;
+        }
+
+        @JsonProperty
+        public void setMaximumSize(@Nullable Long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        @JsonProperty
+        @Nullable
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        @JsonProperty
+        public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        @JsonProperty
+        @Nullable
+        public Duration getExpireAfterAccess() {
+            return expireAfterAccess;
+        }
+
+        @JsonProperty
+        public void setExpireAfterAccess(@Nullable Duration expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+        }
+
+        Caffeine<Object, Object> configure(Caffeine<Object, Object> builder) {
+            if (maximumSize != null) {
+                builder.maximumSize(maximumSize);
+            }
+            if (expireAfterWrite != null) {
+                builder.expireAfterWrite(expireAfterWrite.getQuantity(), expireAfterWrite.getUnit());
+            }
+            if (expireAfterAccess != null) {
+                builder.expireAfterAccess(expireAfterAccess.getQuantity(), expireAfterAccess.getUnit());
+            }
+            return builder;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.dropwizard.hibernate;
 
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.db.ManagedDataSource;
 import io.dropwizard.db.PooledDataSourceFactory;
 import io.dropwizard.setup.Environment;
@@ -7,6 +8,7 @@ import org.hibernate.SessionFactory;
 import org.hibernate.boot.registry.BootstrapServiceRegistry;
 import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.engine.jdbc.connections.internal.DatasourceConnectionProviderImpl;
@@ -15,6 +17,7 @@ import org.hibernate.service.ServiceRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 import java.util.List;
 import java.util.Map;
@@ -38,7 +41,7 @@ public class SessionFactoryFactory {
                                 List<Class<?>> entities,
                                 String name) {
         final ManagedDataSource dataSource = dbConfig.build(environment.metrics(), name);
-        return build(bundle, environment, dbConfig, dataSource, entities);
+        return build(bundle, environment, dbConfig, dataSource, entities, name);
     }
 
     public SessionFactory build(HibernateBundle<?> bundle,
@@ -46,16 +49,70 @@ public class SessionFactoryFactory {
                                 PooledDataSourceFactory dbConfig,
                                 ManagedDataSource dataSource,
                                 List<Class<?>> entities) {
+        return build(bundle, environment, dbConfig, dataSource, entities, DEFAULT_NAME);
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    public SessionFactory build(HibernateBundle<?> bundle,
+                                Environment environment,
+                                PooledDataSourceFactory dbConfig,
+                                ManagedDataSource dataSource,
+                                List<Class<?>> entities,
+                                String name) {
+        final SessionFactoryManager managedFactory = buildManager(bundle, environment.metrics(), dbConfig, dataSource,
+            entities, name);
+        environment.lifecycle().manage(managedFactory);
+        return managedFactory.getSessionFactory();
+    }
+
+    /**
+     * Builds a session factory without adding it to the lifecycle of the environment, e.g. while a bundle is
+     * prepared.
+     *
+     * @return the managed object which starts and stops the session factory and its data source
+     * @since 2.1.2
+     */
+    public SessionFactoryManager buildManager(HibernateBundle<?> bundle,
+                                              MetricRegistry metricRegistry,
+                                              PooledDataSourceFactory dbConfig,
+                                              List<Class<?>> entities,
+                                              String name) {
+        final ManagedDataSource dataSource = dbConfig.build(metricRegistry, name);
+        return buildManager(bundle, metricRegistry, dbConfig, dataSource, entities, name);
+    }
+
+    /**
+     * Builds a session factory on the given data source without adding it to the lifecycle of the environment.
+     *
+     * @return the managed object which starts and stops the session factory and its data source
+     * @since 2.1.2
+     */
+    public SessionFactoryManager buildManager(HibernateBundle<?> bundle,
+                                              MetricRegistry metricRegistry,
+                                              PooledDataSourceFactory dbConfig,
+                                              ManagedDataSource dataSource,
+                                              List<Class<?>> entities,
+                                              String name) {
+        final HibernateStatisticsFactory statistics = statistics(bundle);
         final ConnectionProvider provider = buildConnectionProvider(dataSource,
             dbConfig.getProperties());
+        final SecondLevelCacheFactory secondLevelCache = bundle.getSecondLevelCache();
+        final RegionFactory regionFactory = secondLevelCache == null ? null :
+            secondLevelCache.build(metricRegistry, name);
         final SessionFactory factory = buildSessionFactory(bundle,
             dbConfig,
             provider,
+            regionFactory,
+            secondLevelCache != null && secondLevelCache.isQueryCache(),
             dbConfig.getProperties(),
-            entities);
-        final SessionFactoryManager managedFactory = new SessionFactoryManager(factory, dataSource);
-        environment.lifecycle().manage(managedFactory);
-        return factory;
+            entities,
+            statistics.getMode(),
+            metricRegistry,
+            name);
+        final HibernateStatisticsMetrics statisticsMetrics = statistics.build(metricRegistry, name, factory);
+        return new SessionFactoryManager(factory, dataSource, statisticsMetrics);
     }
 
     private ConnectionProvider buildConnectionProvider(DataSource dataSource,
@@ -69,8 +126,13 @@ public class SessionFactoryFactory {
     private SessionFactory buildSessionFactory(HibernateBundle<?> bundle,
                                                PooledDataSourceFactory dbConfig,
                                                ConnectionProvider connectionProvider,
+                                               @Nullable RegionFactory regionFactory,
+                                               boolean queryCache,
                                                Map<String, String> properties,
-                                               List<Class<?>> entities) {
+                                               List<Class<?>> entities,
+                                               StatisticsMode statisticsMode,
+                                               MetricRegistry metricRegistry,
+                                               String name) {
 
         final BootstrapServiceRegistry bootstrapServiceRegistry =
             configureBootstrapServiceRegistryBuilder(new BootstrapServiceRegistryBuilder()).build();
@@ -79,12 +141,20 @@ public class SessionFactoryFactory {
         configuration.setProperty(AvailableSettings.CURRENT_SESSION_CONTEXT_CLASS, "managed");
         configuration.setProperty(AvailableSettings.USE_SQL_COMMENTS, Boolean.toString(dbConfig.isAutoCommentsEnabled()));
         configuration.setProperty(AvailableSettings.USE_GET_GENERATED_KEYS, "true");
-        configuration.setProperty(AvailableSettings.GENERATE_STATISTICS, "true");
+        configuration.setProperty(AvailableSettings.GENERATE_STATISTICS,
+            Boolean.toString(statisticsMode == StatisticsMode.FULL));
         configuration.setProperty(AvailableSettings.USE_REFLECTION_OPTIMIZER, "true");
         configuration.setProperty(AvailableSettings.ORDER_UPDATES, "true");
         configuration.setProperty(AvailableSettings.ORDER_INSERTS, "true");
         configuration.setProperty(AvailableSettings.USE_NEW_ID_GENERATOR_MAPPINGS, "true");
         configuration.setProperty("jadira.usertype.autoRegisterUserTypes", "true");
+        if (regionFactory != null) {
+            configuration.setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+            configuration.setProperty(AvailableSettings.USE_QUERY_CACHE, Boolean.toString(queryCache));
+        }
+        if (bundle.getJdbcBatchSize() > 0) {
+            configuration.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString(bundle.getJdbcBatchSize()));
+        }
         for (Map.Entry<String, String> property : properties.entrySet()) {
             configuration.setProperty(property.getKey(), property.getValue());
         }
@@ -92,16 +162,26 @@ public class SessionFactoryFactory {
         addAnnotatedClasses(configuration, entities);
         bundle.configure(configuration);
 
-        final ServiceRegistry registry = new StandardServiceRegistryBuilder(bootstrapServiceRegistry)
+        final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder(bootstrapServiceRegistry)
             .addService(ConnectionProvider.class, connectionProvider)
-            .applySettings(configuration.getProperties())
-            .build();
+            .applySettings(configuration.getProperties());
+        if (regionFactory != null) {
+            registryBuilder.addService(RegionFactory.class, regionFactory);
+        }
+        registryBuilder.addInitiator(new InstrumentedBatchBuilder.Initiator(metricRegistry, name));
+        final ServiceRegistry registry = registryBuilder.build();
 
         configure(configuration, registry);
 
         return configuration.buildSessionFactory(registry);
     }
 
+    private static HibernateStatisticsFactory statistics(HibernateBundle<?> bundle) {
+        // Bundles which don't configure statistics sample them
+        final HibernateStatisticsFactory statistics = bundle.getStatistics();
+        return statistics == null ? new HibernateStatisticsFactory() : statistics;
+    }
+
     protected void configure(Configuration configuration, ServiceRegistry registry) {
         // Default implementation is a no-op
     }
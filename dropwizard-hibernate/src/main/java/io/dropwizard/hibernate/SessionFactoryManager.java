@@ -4,26 +4,62 @@ import io.dropwizard.db.ManagedDataSource;
 import io.dropwizard.lifecycle.Managed;
 import org.hibernate.SessionFactory;
 
+import javax.annotation.Nullable;
+
 public class SessionFactoryManager implements Managed {
     private final SessionFactory factory;
     private final ManagedDataSource dataSource;
 
+    @Nullable
+    private final HibernateStatisticsMetrics statisticsMetrics;
+
     public SessionFactoryManager(SessionFactory factory, ManagedDataSource dataSource) {
+        this(factory, dataSource, null);
+    }
+
+    /**
+     * @param factory           the session factory
+     * @param dataSource        the data source of the session factory
+     * @param statisticsMetrics the metrics of the statistics of the session factory, or {@code null} if they're
+     *                          not published
+     * @since 2.1.2
+     */
+    public SessionFactoryManager(SessionFactory factory, ManagedDataSource dataSource,
+                                 @Nullable HibernateStatisticsMetrics statisticsMetrics) {
         this.factory = factory;
         this.dataSource = dataSource;
+        this.statisticsMetrics = statisticsMetrics;
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    public SessionFactory getSessionFactory() {
+        return factory;
     }
 
     ManagedDataSource getDataSource() {
         return dataSource;
     }
 
+    @Nullable
+    HibernateStatisticsMetrics getStatisticsMetrics() {
+        return statisticsMetrics;
+    }
+
     @Override
     public void start() throws Exception {
         dataSource.start();
+        if (statisticsMetrics != null) {
+            statisticsMetrics.start();
+        }
     }
 
     @Override
     public void stop() throws Exception {
+        if (statisticsMetrics != null) {
+            statisticsMetrics.stop();
+        }
         factory.close();
         dataSource.stop();
     }
@@ -0,0 +1,24 @@
+package io.dropwizard.hibernate;
+
+/**
+ * How Hibernate collects statistics, which are published as metrics by {@link HibernateStatisticsMetrics}.
+ *
+ * @since 2.1.2
+ */
+public enum StatisticsMode {
+    /**
+     * No statistics are collected or published.
+     */
+    OFF,
+
+    /**
+     * Statistics are collected for a short window at regular intervals, which reduces their overhead. The published
+     * counts only cover the sampled windows.
+     */
+    SAMPLED,
+
+    /**
+     * Statistics are collected all the time.
+     */
+    FULL
+}
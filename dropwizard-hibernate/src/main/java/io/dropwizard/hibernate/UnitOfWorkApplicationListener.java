@@ -1,6 +1,7 @@
 package io.dropwizard.hibernate;
 
 import org.glassfish.jersey.server.internal.process.MappableException;
+import org.glassfish.jersey.server.model.Resource;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.ApplicationEvent;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
@@ -8,9 +9,9 @@ import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
 import org.hibernate.SessionFactory;
 
+import javax.annotation.Nullable;
 import javax.ws.rs.ext.Provider;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -28,7 +29,9 @@ import java.util.concurrent.ConcurrentMap;
 @Provider
 public class UnitOfWorkApplicationListener implements ApplicationEventListener {
 
-    private final ConcurrentMap<ResourceMethod, Collection<UnitOfWork>> methodMap = new ConcurrentHashMap<>();
+    private static final UnitOfWorkAspect[] NO_ASPECTS = new UnitOfWorkAspect[0];
+
+    private final ConcurrentMap<ResourceMethod, UnitOfWorkPlan> methodMap = new ConcurrentHashMap<>();
     private final Map<String, SessionFactory> sessionFactories = new HashMap<>();
 
     public UnitOfWorkApplicationListener() {
@@ -59,11 +62,11 @@ public class UnitOfWorkApplicationListener implements ApplicationEventListener {
     }
 
     private static class UnitOfWorkEventListener implements RequestEventListener {
-        private final ConcurrentMap<ResourceMethod, Collection<UnitOfWork>> methodMap;
-        private final ConcurrentMap<String, UnitOfWorkAspect> unitOfWorkAspects = new ConcurrentHashMap<>();
+        private final ConcurrentMap<ResourceMethod, UnitOfWorkPlan> methodMap;
         private final Map<String, SessionFactory> sessionFactories;
+        private UnitOfWorkAspect[] unitOfWorkAspects = NO_ASPECTS;
 
-        UnitOfWorkEventListener(ConcurrentMap<ResourceMethod, Collection<UnitOfWork>> methodMap,
+        UnitOfWorkEventListener(ConcurrentMap<ResourceMethod, UnitOfWorkPlan> methodMap,
                                 Map<String, SessionFactory> sessionFactories) {
             this.methodMap = methodMap;
             this.sessionFactories = sessionFactories;
@@ -73,45 +76,87 @@ public class UnitOfWorkApplicationListener implements ApplicationEventListener {
         public void onEvent(RequestEvent event) {
             final RequestEvent.Type eventType = event.getType();
             if (eventType == RequestEvent.Type.RESOURCE_METHOD_START) {
-                methodMap
-                    .computeIfAbsent(event.getUriInfo().getMatchedResourceMethod(), UnitOfWorkEventListener::registerUnitOfWorkAnnotations)
-                    .forEach(unitOfWork ->
-                        unitOfWorkAspects
-                            .computeIfAbsent(unitOfWork.value(), hibernateName -> new UnitOfWorkAspect(sessionFactories))
-                            .beforeStart(unitOfWork)
-                );
+                final ResourceMethod method = event.getUriInfo().getMatchedResourceMethod();
+                UnitOfWorkPlan plan = methodMap.get(method);
+                if (plan == null) {
+                    // Methods of sub-resources are only known once they have been located
+                    plan = methodMap.computeIfAbsent(method, m -> plan(m, sessionFactories));
+                }
+                if (plan.isEmpty()) {
+                    return;
+                }
+                final UnitOfWorkAspect[] aspects = new UnitOfWorkAspect[plan.size()];
+                for (int i = 0; i < aspects.length; i++) {
+                    final UnitOfWorkAspect aspect = new UnitOfWorkAspect(sessionFactories);
+                    try {
+                        aspect.beforeStart(plan.get(i));
+                    } catch (RuntimeException e) {
+                        // Only the units of work which have started are rolled back and finished by the later events
+                        unitOfWorkAspects = Arrays.copyOf(aspects, i);
+                        finishQuietly(aspect, e);
+                        throw e;
+                    }
+                    aspects[i] = aspect;
+                }
+                unitOfWorkAspects = aspects;
             } else if (eventType == RequestEvent.Type.RESP_FILTERS_START) {
                 try {
-                    unitOfWorkAspects
-                        .values()
-                        .forEach(UnitOfWorkAspect::afterEnd);
+                    for (UnitOfWorkAspect aspect : unitOfWorkAspects) {
+                        aspect.afterEnd();
+                    }
                 } catch (Exception e) {
                     throw new MappableException(e);
                 }
             } else if (eventType == RequestEvent.Type.ON_EXCEPTION) {
-                unitOfWorkAspects
-                        .values()
-                        .forEach(UnitOfWorkAspect::onError);
+                for (UnitOfWorkAspect aspect : unitOfWorkAspects) {
+                    aspect.onError();
+                }
             } else if (eventType == RequestEvent.Type.FINISHED) {
-                unitOfWorkAspects
-                        .values()
-                        .forEach(UnitOfWorkAspect::onFinish);
+                for (UnitOfWorkAspect aspect : unitOfWorkAspects) {
+                    aspect.onFinish();
+                }
             }
         }
 
-        private static Collection<UnitOfWork> registerUnitOfWorkAnnotations(ResourceMethod method) {
-            Map<String, UnitOfWork> unitOfWorkMap = new HashMap<>();
-            Arrays.stream(method.getInvocable().getHandlingMethod().getAnnotationsByType(UnitOfWork.class))
-                .forEach(unitOfWork -> unitOfWorkMap.put(unitOfWork.value(), unitOfWork));
-            Arrays.stream(method.getInvocable().getDefinitionMethod().getAnnotationsByType(UnitOfWork.class))
-                .forEach(unitOfWork -> unitOfWorkMap.put(unitOfWork.value(), unitOfWork));
-            return unitOfWorkMap.values();
+        /**
+         * Closes the session a unit of work may have opened before it failed to start.
+         */
+        private static void finishQuietly(UnitOfWorkAspect aspect, RuntimeException failure) {
+            try {
+                aspect.onFinish();
+            } catch (RuntimeException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    @Nullable
+    UnitOfWorkPlan getPlan(ResourceMethod method) {
+        return methodMap.get(method);
+    }
+
+    private static UnitOfWorkPlan plan(ResourceMethod method, Map<String, SessionFactory> sessionFactories) {
+        return UnitOfWorkPlan.of(method.getInvocable().getHandlingMethod(),
+            method.getInvocable().getDefinitionMethod(), sessionFactories);
+    }
+
+    private void planResource(Resource resource) {
+        for (ResourceMethod method : resource.getAllMethods()) {
+            methodMap.computeIfAbsent(method, m -> plan(m, sessionFactories));
+        }
+        for (Resource childResource : resource.getChildResources()) {
+            planResource(childResource);
         }
     }
 
     @Override
     public void onEvent(ApplicationEvent event) {
-        // Nothing to do
+        if (event.getType() == ApplicationEvent.Type.INITIALIZATION_APP_FINISHED) {
+            // The units of work of the resource methods are resolved once, instead of on every request
+            for (Resource resource : event.getResourceModel().getResources()) {
+                planResource(resource);
+            }
+        }
     }
 
     @Override
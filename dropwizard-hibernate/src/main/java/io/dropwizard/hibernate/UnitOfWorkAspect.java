@@ -1,13 +1,22 @@
 package io.dropwizard.hibernate;
 
+import io.dropwizard.db.ReplicaRoutingDataSource;
 import io.dropwizard.hibernate.dual.DualSessionFactory;
 
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.context.internal.ManagedSessionContext;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.exception.JDBCConnectionException;
+import org.hibernate.service.ServiceRegistry;
+
+import javax.sql.DataSource;
 
 import javax.annotation.Nullable;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Map;
 
 import static java.util.Objects.requireNonNull;
@@ -59,22 +68,27 @@ public class UnitOfWorkAspect {
     // do we manage the transaction or did we join an existing one?
     private boolean transactionStarted;
 
+    // the connection to a replica the session was opened with, if it's read-only and the database is replicated
+    @Nullable
+    private Connection replicaConnection;
+
     public void beforeStart(@Nullable UnitOfWork unitOfWork) {
         if (unitOfWork == null) {
             return;
         }
-        this.unitOfWork = unitOfWork;
+        start(unitOfWork, resolveSessionFactory(sessionFactories, unitOfWork.value()), null);
+    }
 
-        sessionFactory = sessionFactories.get(unitOfWork.value());
-        if (sessionFactory == null) {
-            // If the user didn't specify the name of a session factory,
-            // and we have only one registered, we can assume that it's the right one.
-            if (unitOfWork.value().equals(HibernateBundle.DEFAULT_NAME) && sessionFactories.size() == 1) {
-                sessionFactory = sessionFactories.values().iterator().next();
-            } else {
-                throw new IllegalArgumentException("Unregistered Hibernate bundle: '" + unitOfWork.value() + "'");
-            }
-        }
+    /**
+     * Starts a unit of work whose session factory has been resolved ahead of time.
+     */
+    void beforeStart(UnitOfWorkPlan.Step step) {
+        start(step.getUnitOfWork(), step.getSessionFactory(), step);
+    }
+
+    private void start(UnitOfWork unitOfWork, SessionFactory sessionFactory, @Nullable UnitOfWorkPlan.Step step) {
+        this.unitOfWork = unitOfWork;
+        this.sessionFactory = sessionFactory;
 
         if (sessionFactory instanceof DualSessionFactory) {
             ((DualSessionFactory) sessionFactory).prepare(unitOfWork.readOnly());
@@ -91,7 +105,7 @@ public class UnitOfWorkAspect {
             validateSession();
         } else {
             sessionCreated = true;
-            session = sessionFactory.openSession();
+            session = openSession(unitOfWork, sessionFactory, step);
             try {
                 configureSession();
                 ManagedSessionContext.bind(session);
@@ -99,12 +113,57 @@ public class UnitOfWorkAspect {
                 session.close();
                 session = null;
                 ManagedSessionContext.unbind(sessionFactory);
+                closeReplicaConnection();
                 throw th;
             }
         }
         beginTransaction(unitOfWork, session);
     }
 
+    /**
+     * Opens a session, with a connection to a replica if the unit of work is read-only and the database is
+     * replicated. The connection belongs to the unit of work rather than to the current thread, so that it may be
+     * finished on another thread, e.g. by an asynchronous resource.
+     */
+    private Session openSession(UnitOfWork unitOfWork, SessionFactory sessionFactory,
+                                @Nullable UnitOfWorkPlan.Step step) {
+        if (!unitOfWork.readOnly()) {
+            return sessionFactory.openSession();
+        }
+        final ReplicaRoutingDataSource routingDataSource = step == null ? routingDataSource(sessionFactory)
+            : step.getRoutingDataSource();
+        if (routingDataSource == null) {
+            return sessionFactory.openSession();
+        }
+
+        final Connection connection;
+        try {
+            connection = routingDataSource.readOnly().getConnection();
+        } catch (SQLException e) {
+            throw new JDBCConnectionException("Unable to acquire a connection to a replica", e);
+        }
+        replicaConnection = connection;
+        try {
+            return sessionFactory.withOptions().connection(connection).openSession();
+        } catch (RuntimeException e) {
+            closeReplicaConnection();
+            throw e;
+        }
+    }
+
+    private void closeReplicaConnection() {
+        final Connection connection = replicaConnection;
+        if (connection == null) {
+            return;
+        }
+        replicaConnection = null;
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new JDBCConnectionException("Unable to release the connection to a replica", e);
+        }
+    }
+
     public void afterEnd() {
         if (unitOfWork == null || session == null) {
             return;
@@ -142,7 +201,43 @@ public class UnitOfWorkAspect {
             if(sessionCreated) {
                 ManagedSessionContext.unbind(sessionFactory);
             }
+            // Sessions don't close the connections they have been opened with
+            closeReplicaConnection();
+        }
+    }
+
+    /**
+     * Finds the session factory of a unit of work. If the unit of work doesn't name one, and only one is
+     * registered, it's assumed to be the right one.
+     */
+    @Nullable
+    static SessionFactory findSessionFactory(Map<String, SessionFactory> sessionFactories, String name) {
+        final SessionFactory sessionFactory = sessionFactories.get(name);
+        if (sessionFactory == null && name.equals(HibernateBundle.DEFAULT_NAME) && sessionFactories.size() == 1) {
+            return sessionFactories.values().iterator().next();
+        }
+        return sessionFactory;
+    }
+
+    static SessionFactory resolveSessionFactory(Map<String, SessionFactory> sessionFactories, String name) {
+        final SessionFactory sessionFactory = findSessionFactory(sessionFactories, name);
+        if (sessionFactory == null) {
+            throw new IllegalArgumentException("Unregistered Hibernate bundle: '" + name + "'");
+        }
+        return sessionFactory;
+    }
+
+    @Nullable
+    static ReplicaRoutingDataSource routingDataSource(SessionFactory sessionFactory) {
+        final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+        final ServiceRegistry serviceRegistry = options == null ? null : options.getServiceRegistry();
+        final ConnectionProvider connectionProvider = serviceRegistry == null ? null
+            : serviceRegistry.getService(ConnectionProvider.class);
+        if (connectionProvider == null || !connectionProvider.isUnwrappableAs(DataSource.class)) {
+            return null;
         }
+        final DataSource dataSource = connectionProvider.unwrap(DataSource.class);
+        return dataSource instanceof ReplicaRoutingDataSource ? (ReplicaRoutingDataSource) dataSource : null;
     }
 
     protected void configureSession() {
@@ -0,0 +1,114 @@
+package io.dropwizard.hibernate;
+
+import io.dropwizard.db.ReplicaRoutingDataSource;
+import org.hibernate.SessionFactory;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The units of work of a method, with their session factories resolved ahead of time, so that running them
+ * doesn't need to look anything up.
+ */
+final class UnitOfWorkPlan {
+    static final UnitOfWorkPlan EMPTY = new UnitOfWorkPlan(new Step[0]);
+
+    private final Step[] steps;
+
+    private UnitOfWorkPlan(Step[] steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * Builds the plan of a method from its {@link UnitOfWork} annotations, those of its definition taking
+     * precedence over those of its implementation. There's at most one unit of work per session factory.
+     *
+     * @param handlingMethod   the method implementing the resource method
+     * @param definitionMethod the method defining the resource method
+     * @param sessionFactories the session factories, by bundle name
+     * @return the plan of the method
+     */
+    static UnitOfWorkPlan of(Method handlingMethod, Method definitionMethod,
+                             Map<String, SessionFactory> sessionFactories) {
+        final Map<String, UnitOfWork> unitsOfWork = new LinkedHashMap<>();
+        for (UnitOfWork unitOfWork : handlingMethod.getAnnotationsByType(UnitOfWork.class)) {
+            unitsOfWork.put(unitOfWork.value(), unitOfWork);
+        }
+        for (UnitOfWork unitOfWork : definitionMethod.getAnnotationsByType(UnitOfWork.class)) {
+            unitsOfWork.put(unitOfWork.value(), unitOfWork);
+        }
+        if (unitsOfWork.isEmpty()) {
+            return EMPTY;
+        }
+        return new UnitOfWorkPlan(unitsOfWork.values().stream()
+            .map(unitOfWork -> new Step(unitOfWork, sessionFactories))
+            .toArray(Step[]::new));
+    }
+
+    boolean isEmpty() {
+        return steps.length == 0;
+    }
+
+    int size() {
+        return steps.length;
+    }
+
+    Step get(int index) {
+        return steps[index];
+    }
+
+    @Override
+    public String toString() {
+        return "UnitOfWorkPlan" + Arrays.toString(steps);
+    }
+
+    /**
+     * A unit of work with its resolved session factory.
+     */
+    static final class Step {
+        private final UnitOfWork unitOfWork;
+        private final Map<String, SessionFactory> sessionFactories;
+        @Nullable
+        private final SessionFactory sessionFactory;
+        @Nullable
+        private final ReplicaRoutingDataSource routingDataSource;
+
+        Step(UnitOfWork unitOfWork, Map<String, SessionFactory> sessionFactories) {
+            this.unitOfWork = unitOfWork;
+            this.sessionFactories = sessionFactories;
+            this.sessionFactory = UnitOfWorkAspect.findSessionFactory(sessionFactories, unitOfWork.value());
+            this.routingDataSource = sessionFactory == null ? null
+                : UnitOfWorkAspect.routingDataSource(sessionFactory);
+        }
+
+        UnitOfWork getUnitOfWork() {
+            return unitOfWork;
+        }
+
+        /**
+         * @return the session factory of the unit of work
+         * @throws IllegalArgumentException if no session factory is registered under its name
+         */
+        SessionFactory getSessionFactory() {
+            if (sessionFactory != null) {
+                return sessionFactory;
+            }
+            // The session factory may have been registered after the plan was built
+            return UnitOfWorkAspect.resolveSessionFactory(sessionFactories, unitOfWork.value());
+        }
+
+        @Nullable
+        ReplicaRoutingDataSource getRoutingDataSource() {
+            return sessionFactory == null ? UnitOfWorkAspect.routingDataSource(getSessionFactory())
+                : routingDataSource;
+        }
+
+        @Override
+        public String toString() {
+            return unitOfWork.toString();
+        }
+    }
+}
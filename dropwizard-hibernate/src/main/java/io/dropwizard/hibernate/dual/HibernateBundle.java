@@ -1,7 +1,5 @@
 package io.dropwizard.hibernate.dual;
 
-import static java.util.Objects.requireNonNull;
-
 import io.dropwizard.db.PooledDataSourceFactory;
 import io.dropwizard.hibernate.SessionFactoryFactory;
 import io.dropwizard.hibernate.SessionFactoryHealthCheck;
@@ -28,17 +26,25 @@ public abstract class HibernateBundle<T> extends io.dropwizard.hibernate.Hiberna
 
     abstract public PooledDataSourceFactory getReadSourceFactory(T configuration);
 
+    @Override
+    public void prepare(T configuration, Environment environment) throws Exception {
+        this.statistics = statistics(configuration);
+        this.secondLevelCache = secondLevelCache(configuration);
+        prepareSessionFactory(environment, getDataSourceFactory(configuration), name() + PRIMARY);
+        prepareSessionFactory(environment, getReadSourceFactory(configuration), name() + READER);
+    }
+
     @Override
     public void run(T configuration, Environment environment) throws Exception {
+        this.statistics = statistics(configuration);
+        this.secondLevelCache = secondLevelCache(configuration);
         final String name = name();
         final String primaryName = name + PRIMARY;
         final String readerName = name + READER;
         final PooledDataSourceFactory primaryConfig = getDataSourceFactory(configuration);
-        final SessionFactory primary = requireNonNull(sessionFactoryFactory.build(this, environment, primaryConfig,
-            entities, primaryName));
+        final SessionFactory primary = buildSessionFactory(environment, primaryConfig, primaryName);
         final PooledDataSourceFactory readerConfig = getReadSourceFactory(configuration);
-        final SessionFactory reader = requireNonNull(sessionFactoryFactory.build(this, environment, readerConfig,
-            entities, readerName));
+        final SessionFactory reader = buildSessionFactory(environment, readerConfig, readerName);
 
         final DualSessionFactory factory = new DualSessionFactory(primary, reader);
         registerUnitOfWorkListenerIfAbsent(environment).registerSessionFactory(name, factory);
@@ -3,13 +3,19 @@ package io.dropwizard.hibernate;
 import org.hibernate.Criteria;
 import org.hibernate.HibernateException;
 import org.hibernate.NonUniqueResultException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.Query;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -17,12 +23,16 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -78,6 +88,16 @@ class AbstractDAOTest {
             return super.list(query);
         }
 
+        @Override
+        public Stream<String> stream(Query<String> query, int fetchSize) throws HibernateException {
+            return super.stream(query, fetchSize);
+        }
+
+        @Override
+        public Stream<String> streamStateless(String queryString, int fetchSize) throws HibernateException {
+            return super.streamStateless(queryString, fetchSize);
+        }
+
         @Override
         public String get(Serializable id) {
             return super.get(id);
@@ -88,6 +108,16 @@ class AbstractDAOTest {
             return super.persist(entity);
         }
 
+        @Override
+        public int persistAll(Iterable<String> entities) throws HibernateException {
+            return super.persistAll(entities);
+        }
+
+        @Override
+        public int persistAll(Iterable<String> entities, int flushInterval) throws HibernateException {
+            return super.persistAll(entities, flushInterval);
+        }
+
         @Override
         public <T> T initialize(T proxy) {
             return super.initialize(proxy);
@@ -227,6 +257,69 @@ class AbstractDAOTest {
                 .containsOnly("woo");
     }
 
+    @Test
+    void streamsQueryResults() throws Exception {
+        final ScrollableResults results = mock(ScrollableResults.class);
+        when(query.setFetchSize(100)).thenReturn(query);
+        when(query.setReadOnly(true)).thenReturn(query);
+        when(query.scroll(ScrollMode.FORWARD_ONLY)).thenReturn(results);
+        when(results.next()).thenReturn(true, true, false);
+        when(results.get(0)).thenReturn("a", "b");
+
+        try (Stream<String> stream = dao.stream(query, 100)) {
+            assertThat(stream.iterator())
+                .toIterable()
+                .containsExactly("a", "b");
+        }
+
+        verify(query).setFetchSize(100);
+        verify(query).setReadOnly(true);
+        verify(session).detach("a");
+        verify(session).detach("b");
+        verify(results).close();
+    }
+
+    @Test
+    void streamsQueryResultsInAStatelessSession() throws Exception {
+        final StatelessSession statelessSession = mock(StatelessSession.class);
+        final Transaction transaction = mock(Transaction.class);
+        final ScrollableResults results = mock(ScrollableResults.class);
+        when(factory.openStatelessSession()).thenReturn(statelessSession);
+        when(statelessSession.beginTransaction()).thenReturn(transaction);
+        when(transaction.isActive()).thenReturn(true);
+        when(statelessSession.createQuery("from String", String.class)).thenReturn(query);
+        when(query.setFetchSize(100)).thenReturn(query);
+        when(query.setReadOnly(true)).thenReturn(query);
+        when(query.scroll(ScrollMode.FORWARD_ONLY)).thenReturn(results);
+        when(results.next()).thenReturn(true, false);
+        when(results.get(0)).thenReturn("a");
+
+        try (Stream<String> stream = dao.streamStateless("from String", 100)) {
+            assertThat(stream.iterator())
+                .toIterable()
+                .containsExactly("a");
+            verify(statelessSession, never()).close();
+        }
+
+        final InOrder inOrder = inOrder(results, transaction, statelessSession);
+        inOrder.verify(results).close();
+        inOrder.verify(transaction).rollback();
+        inOrder.verify(statelessSession).close();
+    }
+
+    @Test
+    void closesTheStatelessSessionIfTheQueryFails() throws Exception {
+        final StatelessSession statelessSession = mock(StatelessSession.class);
+        when(factory.openStatelessSession()).thenReturn(statelessSession);
+        when(statelessSession.createQuery("from String", String.class))
+            .thenThrow(new HibernateException("invalid query"));
+
+        assertThatExceptionOfType(HibernateException.class)
+            .isThrownBy(() -> dao.streamStateless("from String", 100));
+
+        verify(statelessSession).close();
+    }
+
     @Test
     void getsEntitiesById() throws Exception {
         when(session.get(String.class, 200)).thenReturn("woo!");
@@ -245,6 +338,55 @@ class AbstractDAOTest {
         verify(session).saveOrUpdate("woo");
     }
 
+    @Test
+    void persistsEntitiesInBatches() throws Exception {
+        assertThat(dao.persistAll(Arrays.asList("a", "b", "c", "d", "e"), 2))
+                .isEqualTo(5);
+
+        final InOrder inOrder = inOrder(session);
+        inOrder.verify(session).saveOrUpdate("a");
+        inOrder.verify(session).saveOrUpdate("b");
+        inOrder.verify(session).flush();
+        inOrder.verify(session).clear();
+        inOrder.verify(session).saveOrUpdate("c");
+        inOrder.verify(session).saveOrUpdate("d");
+        inOrder.verify(session).flush();
+        inOrder.verify(session).clear();
+        inOrder.verify(session).saveOrUpdate("e");
+        inOrder.verify(session).flush();
+        inOrder.verify(session).clear();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void persistsEntitiesInBatchesOfTheJdbcBatchSize() throws Exception {
+        final SessionFactoryOptions options = mock(SessionFactoryOptions.class);
+        when(options.getJdbcBatchSize()).thenReturn(3);
+        when(factory.getSessionFactoryOptions()).thenReturn(options);
+
+        assertThat(dao.persistAll(Arrays.asList("a", "b", "c", "d", "e", "f")))
+                .isEqualTo(6);
+
+        verify(session, times(6)).saveOrUpdate(anyString());
+        verify(session, times(2)).flush();
+        verify(session, times(2)).clear();
+    }
+
+    @Test
+    void doesNotFlushWithoutEntities() throws Exception {
+        assertThat(dao.persistAll(Collections.emptyList()))
+                .isZero();
+
+        verify(session, never()).flush();
+        verify(session, never()).clear();
+    }
+
+    @Test
+    void rejectsNonPositiveFlushIntervals() throws Exception {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> dao.persistAll(Collections.singletonList("a"), 0));
+    }
+
     @Test
     void initializesProxies() throws Exception {
         final LazyInitializer initializer = mock(LazyInitializer.class);
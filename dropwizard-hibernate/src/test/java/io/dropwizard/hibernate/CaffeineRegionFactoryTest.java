@@ -0,0 +1,177 @@
+package io.dropwizard.hibernate;
+
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
+import io.dropwizard.configuration.YamlConfigurationFactory;
+import io.dropwizard.db.DataSourceFactory;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jersey.validation.Validators;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import io.dropwizard.logging.BootstrapLogging;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.util.Duration;
+import io.dropwizard.util.Maps;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CaffeineRegionFactoryTest {
+    static {
+        BootstrapLogging.bootstrap();
+    }
+
+    private final HibernateBundle<?> bundle = mock(HibernateBundle.class);
+    private final LifecycleEnvironment lifecycle = mock(LifecycleEnvironment.class);
+    private final Environment environment = mock(Environment.class);
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final SecondLevelCacheFactory secondLevelCache = new SecondLevelCacheFactory();
+    private final DataSourceFactory config = new DataSourceFactory();
+
+    @Nullable
+    private SessionFactoryManager manager;
+    @Nullable
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        when(environment.metrics()).thenReturn(metricRegistry);
+        when(environment.lifecycle()).thenReturn(lifecycle);
+        when(bundle.getSecondLevelCache()).thenReturn(secondLevelCache);
+
+        config.setUrl("jdbc:h2:mem:second-level-cache-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.setUser("sa");
+        config.setDriverClass("org.h2.Driver");
+        config.setProperties(Maps.of(
+            "hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+            "hibernate.hbm2ddl.auto", "create",
+            "javax.persistence.sharedCache.mode", "ALL"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (manager != null) {
+            manager.stop();
+        }
+    }
+
+    private SessionFactory build() throws Exception {
+        sessionFactory = new SessionFactoryFactory()
+            .build(bundle, environment, config, Collections.singletonList(Person.class));
+        final ArgumentCaptor<SessionFactoryManager> managed = ArgumentCaptor.forClass(SessionFactoryManager.class);
+        verify(lifecycle).manage(managed.capture());
+        manager = managed.getValue();
+        manager.start();
+        return sessionFactory;
+    }
+
+    private void insert(String... names) {
+        try (Session session = requireNonNull(sessionFactory).openSession()) {
+            final Transaction transaction = session.beginTransaction();
+            for (String name : names) {
+                final Person person = new Person();
+                person.setName(name);
+                session.persist(person);
+            }
+            transaction.commit();
+        }
+    }
+
+    private long count(String region, String name) {
+        return metricRegistry.counter(MetricRegistry.name(CaffeineRegionFactory.class, "hibernate", region, name))
+            .getCount();
+    }
+
+    private Cache<Object, Object> cache(String region) {
+        final CaffeineRegionFactory regionFactory = (CaffeineRegionFactory) requireNonNull(sessionFactory)
+            .getSessionFactoryOptions().getServiceRegistry().getService(
+                org.hibernate.cache.spi.RegionFactory.class);
+        return requireNonNull(requireNonNull(regionFactory).getCache(region));
+    }
+
+    @Test
+    void servesEntityLookupsFromTheCache() throws Exception {
+        final SessionFactory sessionFactory = build();
+        insert("Coda");
+
+        for (int i = 0; i < 3; i++) {
+            try (Session session = sessionFactory.openSession()) {
+                assertThat(session.get(Person.class, "Coda")).isNotNull();
+            }
+        }
+
+        assertThat(count(Person.class.getName(), "hits")).isEqualTo(3);
+        assertThat(sessionFactory.getStatistics().getPrepareStatementCount()).isEqualTo(1);
+        assertThat(requireNonNull(metricRegistry.getGauges()
+            .get(MetricRegistry.name(CaffeineRegionFactory.class, "hibernate", Person.class.getName(), "size")))
+            .getValue()).isEqualTo(1L);
+    }
+
+    @Test
+    void boundsTheSizeOfEachRegion() throws Exception {
+        final SecondLevelCacheFactory.Region region = new SecondLevelCacheFactory.Region();
+        region.setMaximumSize(1L);
+        secondLevelCache.setRegions(Collections.singletonMap(Person.class.getName(), region));
+        build();
+
+        insert("Coda", "Lindsay", "Ryan");
+        final Cache<Object, Object> cache = cache(Person.class.getName());
+        cache.cleanUp();
+
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+        assertThat(metricRegistry.histogram(MetricRegistry.name(CaffeineRegionFactory.class, "hibernate",
+            Person.class.getName(), "evictions", "SIZE")).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void cachesQueryResultsWhenTheQueryCacheIsEnabled() throws Exception {
+        secondLevelCache.setQueryCache(true);
+        final SessionFactory sessionFactory = build();
+        insert("Coda");
+
+        for (int i = 0; i < 2; i++) {
+            try (Session session = sessionFactory.openSession()) {
+                assertThat(session.createQuery("FROM Person", Person.class).setCacheable(true).list()).hasSize(1);
+            }
+        }
+
+        assertThat(sessionFactory.getStatistics().getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(count("default-query-results-region", "hits")).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheQueryResultsByDefault() throws Exception {
+        final SessionFactory sessionFactory = build();
+
+        assertThat(sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()).isFalse();
+        assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isTrue();
+    }
+
+    @Test
+    void parsesTheRegionsFromYaml() throws Exception {
+        final SecondLevelCacheFactory factory = new YamlConfigurationFactory<>(SecondLevelCacheFactory.class,
+            Validators.newValidator(), Jackson.newObjectMapper(), "dw")
+            .build(new ResourceConfigurationSourceProvider(), "yaml/second-level-cache.yml");
+
+        assertThat(factory.isQueryCache()).isTrue();
+        assertThat(factory.getDefaultRegion().getMaximumSize()).isEqualTo(500L);
+        assertThat(factory.getDefaultRegion().getExpireAfterWrite()).isEqualTo(Duration.minutes(10));
+        final SecondLevelCacheFactory.Region region = requireNonNull(factory.getRegions().get(Person.class.getName()));
+        assertThat(region.getMaximumSize()).isEqualTo(100L);
+        assertThat(region.getExpireAfterAccess()).isEqualTo(Duration.minutes(1));
+    }
+}
@@ -1,13 +1,17 @@
 package io.dropwizard.hibernate;
 
+import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.health.HealthCheckRegistry;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
 import io.dropwizard.Configuration;
 import io.dropwizard.db.DataSourceFactory;
+import io.dropwizard.db.ManagedDataSource;
 import io.dropwizard.jersey.DropwizardResourceConfig;
 import io.dropwizard.jersey.setup.JerseyEnvironment;
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 import org.hibernate.SessionFactory;
@@ -24,6 +28,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -135,4 +140,23 @@ class HibernateBundleTest {
 
         assertThat(bundle.getSessionFactory()).isEqualTo(sessionFactory);
     }
+
+    @Test
+    void buildsTheSessionFactoryWhileItIsPrepared() throws Exception {
+        final MetricRegistry metrics = new MetricRegistry();
+        final LifecycleEnvironment lifecycle = mock(LifecycleEnvironment.class);
+        final SessionFactoryManager manager = new SessionFactoryManager(sessionFactory, mock(ManagedDataSource.class));
+        when(environment.metrics()).thenReturn(metrics);
+        when(environment.lifecycle()).thenReturn(lifecycle);
+        when(factory.buildManager(bundle, metrics, dbConfig, entities, "hibernate")).thenReturn(manager);
+
+        assertThat(bundle.getDependencies()).hasValue(Collections.emptySet());
+        bundle.prepare(configuration, environment);
+        verify(lifecycle, never()).manage(any(Managed.class));
+
+        bundle.run(configuration, environment);
+        verify(lifecycle).manage(manager);
+        verify(factory, never()).build(any(), any(Environment.class), any(), anyList(), any());
+        assertThat(bundle.getSessionFactory()).isEqualTo(sessionFactory);
+    }
 }
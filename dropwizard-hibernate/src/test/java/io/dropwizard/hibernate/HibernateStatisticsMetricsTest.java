@@ -0,0 +1,141 @@
+package io.dropwizard.hibernate;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.db.DataSourceFactory;
+import io.dropwizard.db.ManagedDataSource;
+import io.dropwizard.logging.BootstrapLogging;
+import io.dropwizard.util.Duration;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HibernateStatisticsMetricsTest {
+    static {
+        BootstrapLogging.bootstrap();
+    }
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private ManagedDataSource dataSource;
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final DataSourceFactory dataSourceFactory = new DataSourceFactory();
+        dataSourceFactory.setUrl("jdbc:h2:mem:statistics-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSourceFactory.setUser("sa");
+        dataSourceFactory.setDriverClass("org.h2.Driver");
+        dataSource = dataSourceFactory.build(metricRegistry, "statistics");
+        dataSource.start();
+
+        final Configuration configuration = new Configuration();
+        configuration.setProperty(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect");
+        configuration.setProperty(AvailableSettings.HBM2DDL_AUTO, "create");
+        configuration.addAnnotatedClass(Person.class);
+        sessionFactory = configuration.buildSessionFactory(new StandardServiceRegistryBuilder()
+            .applySettings(configuration.getProperties())
+            .applySetting(AvailableSettings.DATASOURCE, dataSource)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        sessionFactory.close();
+        dataSource.stop();
+    }
+
+    private HibernateStatisticsMetrics metrics(StatisticsMode mode) {
+        return new HibernateStatisticsMetrics(metricRegistry, "test", sessionFactory, mode,
+            Duration.hours(1), Duration.seconds(10));
+    }
+
+    private Object gauge(String... names) {
+        return requireNonNull(metricRegistry.getGauges()
+            .get(MetricRegistry.name(MetricRegistry.name(HibernateStatisticsMetrics.class, "test"), names)))
+            .getValue();
+    }
+
+    private void insertAndQuery(String name) {
+        try (Session session = sessionFactory.openSession()) {
+            final Transaction transaction = session.beginTransaction();
+            final Person person = new Person();
+            person.setName(name);
+            session.persist(person);
+            transaction.commit();
+
+            session.createQuery("FROM Person", Person.class).list();
+        }
+    }
+
+    @Test
+    void publishesTheTotalsAndTheStatisticsOfEachEntity() throws Exception {
+        final HibernateStatisticsMetrics metrics = metrics(StatisticsMode.FULL);
+        metrics.start();
+        try {
+            insertAndQuery("Coda");
+
+            assertThat(gauge("flushes")).isEqualTo(1L);
+            assertThat(gauge("transactions")).isEqualTo(1L);
+            assertThat(gauge("entities", "inserts")).isEqualTo(1L);
+            assertThat(gauge("entities", Person.class.getName(), "inserts")).isEqualTo(1L);
+            assertThat(gauge("queries", "executions")).isEqualTo(1L);
+            assertThat(gauge("secondLevelCache", "hitRatio")).isEqualTo(Double.NaN);
+        } finally {
+            metrics.stop();
+        }
+    }
+
+    @Test
+    void publishesTheStatisticsOfEachQueryOnceItHasRun() throws Exception {
+        final HibernateStatisticsMetrics metrics = metrics(StatisticsMode.FULL);
+        metrics.start();
+        try {
+            insertAndQuery("Coda");
+            metrics.refresh();
+
+            assertThat(gauge("queries", HibernateStatisticsMetrics.queryId("FROM Person"), "executions")).isEqualTo(1L);
+            assertThat(gauge("queries", HibernateStatisticsMetrics.queryId("FROM Person"), "rows")).isEqualTo(1L);
+            assertThat((Long) gauge("queries", HibernateStatisticsMetrics.queryId("FROM Person"), "maxTime"))
+                .isNotNegative();
+            assertThat(gauge("queries", HibernateStatisticsMetrics.queryId("FROM Person"), "query"))
+                .isEqualTo("FROM Person");
+        } finally {
+            metrics.stop();
+        }
+    }
+
+    @Test
+    void onlyCollectsStatisticsDuringASample() {
+        final HibernateStatisticsMetrics metrics = metrics(StatisticsMode.SAMPLED);
+
+        insertAndQuery("Coda");
+        assertThat(gauge("entities", "inserts")).isEqualTo(0L);
+
+        metrics.startSample();
+        insertAndQuery("Lindsay");
+        metrics.endSample();
+        insertAndQuery("Ryan");
+
+        assertThat(sessionFactory.getStatistics().isStatisticsEnabled()).isFalse();
+        assertThat(gauge("entities", "inserts")).isEqualTo(1L);
+        assertThat(gauge("queries", HibernateStatisticsMetrics.queryId("FROM Person"), "executions")).isEqualTo(1L);
+    }
+
+    @Test
+    void namesTheMetricsOfQueriesAfterAHash() {
+        assertThat(HibernateStatisticsMetrics.queryId("SELECT p FROM Person p WHERE p.name = 'a.b'"))
+            .matches("[0-9a-f]{16}")
+            .isEqualTo(HibernateStatisticsMetrics.queryId("SELECT p FROM Person p WHERE p.name = 'a.b'"))
+            .isNotEqualTo(HibernateStatisticsMetrics.queryId("FROM Person"));
+    }
+}
@@ -35,8 +35,14 @@ import javax.ws.rs.core.Application;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -61,6 +67,10 @@ class JerseyIntegrationTest extends JerseyTest {
         public Person persist(Person entity) {
             return super.persist(entity);
         }
+
+        public Stream<Person> streamAll() {
+            return streamStateless("from Person order by name", 10);
+        }
     }
 
     @Path("/people/{name}")
@@ -85,6 +95,31 @@ class JerseyIntegrationTest extends JerseyTest {
         }
     }
 
+    @Path("/export/people")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class PeopleExportResource {
+        private final PersonDAO dao;
+
+        public PeopleExportResource(PersonDAO dao) {
+            this.dao = dao;
+        }
+
+        @GET
+        @UnitOfWork(readOnly = true)
+        public StreamingOutput export() {
+            return output -> {
+                final Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+                try (Stream<Person> people = dao.streamAll()) {
+                    final Iterator<Person> iterator = people.iterator();
+                    while (iterator.hasNext()) {
+                        writer.write(iterator.next().getName() + "\n");
+                    }
+                }
+                writer.flush();
+            };
+        }
+    }
+
     @Nullable
     private SessionFactory sessionFactory;
 
@@ -142,6 +177,7 @@ class JerseyIntegrationTest extends JerseyTest {
         final DropwizardResourceConfig config = DropwizardResourceConfig.forTesting();
         config.register(new UnitOfWorkApplicationListener("hr-db", sessionFactory));
         config.register(new PersonResource(new PersonDAO(sessionFactory)));
+        config.register(new PeopleExportResource(new PersonDAO(sessionFactory)));
         config.register(new PersistenceExceptionMapper());
         config.register(new JacksonFeature(Jackson.newObjectMapper()));
         config.register(new DataExceptionMapper());
@@ -200,6 +236,16 @@ class JerseyIntegrationTest extends JerseyTest {
                 .isEqualTo(person.getBirthday());
     }
 
+    @Test
+    void streamsDataWhileWritingTheResponse() {
+        final Person person = new Person();
+        person.setName("Hank");
+        person.setEmail("hank@example.com");
+        target("/people/Hank").request().put(Entity.entity(person, MediaType.APPLICATION_JSON));
+
+        assertThat(target("/export/people").request(MediaType.TEXT_PLAIN).get(String.class))
+                .isEqualTo("Coda\nHank\n");
+    }
 
     @Test
     void testSqlExceptionIsHandled() {
@@ -0,0 +1,155 @@
+package io.dropwizard.hibernate;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.db.DataSourceFactory;
+import io.dropwizard.db.ReplicaRoutingDataSource;
+import io.dropwizard.db.ReplicatedDataSourceFactory;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import io.dropwizard.logging.BootstrapLogging;
+import io.dropwizard.setup.Environment;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingUnitOfWorkTest {
+    static {
+        BootstrapLogging.bootstrap();
+    }
+
+    private final LifecycleEnvironment lifecycle = mock(LifecycleEnvironment.class);
+    private ReplicaRoutingDataSource dataSource;
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final Environment environment = mock(Environment.class);
+        when(environment.lifecycle()).thenReturn(lifecycle);
+        when(environment.metrics()).thenReturn(new MetricRegistry());
+
+        final ReplicatedDataSourceFactory dataSourceFactory = new ReplicatedDataSourceFactory();
+        dataSourceFactory.setPrimary(database("primary"));
+        dataSourceFactory.setReplicas(Collections.singletonList(database("replica")));
+
+        sessionFactory = new SessionFactoryFactory()
+            .build(mock(HibernateBundle.class), environment, dataSourceFactory, Collections.emptyList());
+
+        final ArgumentCaptor<SessionFactoryManager> managed = ArgumentCaptor.forClass(SessionFactoryManager.class);
+        verify(lifecycle).manage(managed.capture());
+        dataSource = (ReplicaRoutingDataSource) managed.getValue().getDataSource();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        sessionFactory.close();
+        dataSource.stop();
+    }
+
+    private static DataSourceFactory database(String name) {
+        final DataSourceFactory database = new DataSourceFactory();
+        database.setUrl("jdbc:h2:mem:unit-of-work-" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        database.setUser("sa");
+        database.setDriverClass("org.h2.Driver");
+        database.setValidationQuery("SELECT 1");
+        database.setInitializationQuery("CREATE TABLE IF NOT EXISTS marker AS SELECT '" + name + "' AS name");
+        database.setProperties(Collections.singletonMap("hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+        database.setInitialSize(1);
+        database.setMinSize(1);
+        return database;
+    }
+
+    private static UnitOfWork unitOfWork(String method) throws Exception {
+        return Example.class.getDeclaredMethod(method).getAnnotation(UnitOfWork.class);
+    }
+
+    private static String query(Session session) {
+        return String.valueOf(session.createNativeQuery("SELECT name FROM marker").getSingleResult());
+    }
+
+    private String queryInUnitOfWork(String method) throws Exception {
+        final UnitOfWorkAspect aspect = new UnitOfWorkAspect(Collections.singletonMap("default", sessionFactory));
+        try {
+            aspect.beforeStart(unitOfWork(method));
+            final String result = query(sessionFactory.getCurrentSession());
+            aspect.afterEnd();
+            return result;
+        } finally {
+            aspect.onFinish();
+        }
+    }
+
+    @Test
+    void routesReadOnlyUnitsOfWorkToTheReplicas() throws Exception {
+        assertThat(queryInUnitOfWork("readOnly")).isEqualTo("replica");
+        assertThat(dataSource.getReplicas().get(0).getActive()).isZero();
+    }
+
+    @Test
+    void routesAsynchronousUnitsOfWorkWithoutRoutingTheirThreads() throws Exception {
+        // An asynchronous resource starts its unit of work on a container thread, and finishes it on another one
+        final UnitOfWorkAspect aspect = new UnitOfWorkAspect(Collections.singletonMap("default", sessionFactory));
+        final ExecutorService containerThread = Executors.newSingleThreadExecutor();
+        final ExecutorService resumingThread = Executors.newSingleThreadExecutor();
+        try {
+            containerThread.submit(() -> {
+                aspect.beforeStart(unitOfWork("readOnly"));
+                return null;
+            }).get(10, TimeUnit.SECONDS);
+            final String result = resumingThread.submit(() -> {
+                try {
+                    final String name = query(aspect.getSession());
+                    aspect.afterEnd();
+                    return name;
+                } finally {
+                    aspect.onFinish();
+                }
+            }).get(10, TimeUnit.SECONDS);
+
+            assertThat(result).isEqualTo("replica");
+            assertThat(dataSource.getReplicas().get(0).getActive()).isZero();
+            // The container thread goes on to serve other requests, which must not be routed to the replicas
+            assertThat(containerThread.submit(() -> {
+                try (Connection connection = dataSource.getConnection();
+                     Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery("SELECT name FROM marker")) {
+                    assertThat(resultSet.next()).isTrue();
+                    return resultSet.getString(1);
+                }
+            }).get(10, TimeUnit.SECONDS)).isEqualTo("primary");
+        } finally {
+            containerThread.shutdownNow();
+            resumingThread.shutdownNow();
+        }
+    }
+
+    @Test
+    void routesOtherUnitsOfWorkToThePrimary() throws Exception {
+        assertThat(queryInUnitOfWork("readWrite")).isEqualTo("primary");
+    }
+
+    private static class Example {
+        @UnitOfWork(readOnly = true)
+        public void readOnly() {
+        }
+
+        @UnitOfWork
+        public void readWrite() {
+        }
+    }
+}
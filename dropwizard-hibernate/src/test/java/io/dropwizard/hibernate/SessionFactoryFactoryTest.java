@@ -1,5 +1,6 @@
 package io.dropwizard.hibernate;
 
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.db.DataSourceFactory;
 import io.dropwizard.db.ManagedPooledDataSource;
@@ -134,6 +135,93 @@ class SessionFactoryFactoryTest {
         }
     }
 
+    @Test
+    void samplesStatisticsByDefault() {
+        build();
+
+        assertThat(requireNonNull(sessionFactory).getStatistics().isStatisticsEnabled()).isFalse();
+        assertThat(managedStatistics()).satisfies(statistics ->
+            assertThat(requireNonNull(statistics).getMode()).isEqualTo(StatisticsMode.SAMPLED));
+        assertThat(metricRegistry.getGauges()).containsKey(
+            MetricRegistry.name(HibernateStatisticsMetrics.class, "hibernate", "flushes"));
+    }
+
+    @Test
+    void collectsAllStatisticsWhenTheyAreFull() {
+        when(bundle.getStatistics()).thenReturn(statistics(StatisticsMode.FULL));
+        build();
+
+        assertThat(requireNonNull(sessionFactory).getStatistics().isStatisticsEnabled()).isTrue();
+        assertThat(managedStatistics()).satisfies(statistics ->
+            assertThat(requireNonNull(statistics).getMode()).isEqualTo(StatisticsMode.FULL));
+    }
+
+    @Test
+    void doesNotCollectStatisticsWhenTheyAreOff() {
+        when(bundle.getStatistics()).thenReturn(statistics(StatisticsMode.OFF));
+        build();
+
+        assertThat(requireNonNull(sessionFactory).getStatistics().isStatisticsEnabled()).isFalse();
+        assertThat(managedStatistics()).isNull();
+        assertThat(metricRegistry.getNames())
+            .noneMatch(name -> name.startsWith(HibernateStatisticsMetrics.class.getName()));
+    }
+
+    @Test
+    void collectsStatisticsOnlyWhileSamplingThem() {
+        when(bundle.getStatistics()).thenReturn(statistics(StatisticsMode.SAMPLED));
+        build();
+
+        assertThat(requireNonNull(sessionFactory).getStatistics().isStatisticsEnabled()).isFalse();
+        assertThat(managedStatistics()).satisfies(statistics ->
+            assertThat(requireNonNull(statistics).getMode()).isEqualTo(StatisticsMode.SAMPLED));
+    }
+
+    @Test
+    void recordsTheSizesOfJdbcBatches() {
+        when(bundle.getJdbcBatchSize()).thenReturn(2);
+        build();
+
+        assertThat(requireNonNull(sessionFactory).getSessionFactoryOptions().getJdbcBatchSize()).isEqualTo(2);
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.createNativeQuery("DROP TABLE people IF EXISTS").executeUpdate();
+            session.createNativeQuery("CREATE TABLE people (name varchar(100) primary key, email varchar(100), birthday timestamp(0))").executeUpdate();
+            for (int i = 0; i < 5; i++) {
+                final Person person = new Person();
+                person.setName("person-" + i);
+                session.save(person);
+            }
+            transaction.commit();
+        }
+
+        final Histogram batchSizes = requireNonNull(metricRegistry.getHistograms()
+            .get(MetricRegistry.name(InstrumentedBatchBuilder.class, "hibernate", "batchSize")));
+        assertThat(batchSizes.getCount()).isEqualTo(3);
+        assertThat(batchSizes.getSnapshot().getValues()).containsExactly(1, 2, 2);
+    }
+
+    @Test
+    void doesNotRecordJdbcBatchesByDefault() {
+        build();
+
+        assertThat(metricRegistry.getNames())
+            .noneMatch(name -> name.startsWith(InstrumentedBatchBuilder.class.getName()));
+    }
+
+    private static HibernateStatisticsFactory statistics(StatisticsMode mode) {
+        final HibernateStatisticsFactory statistics = new HibernateStatisticsFactory();
+        statistics.setMode(mode);
+        return statistics;
+    }
+
+    @Nullable
+    private HibernateStatisticsMetrics managedStatistics() {
+        final ArgumentCaptor<SessionFactoryManager> sessionFactoryManager = ArgumentCaptor.forClass(SessionFactoryManager.class);
+        verify(lifecycleEnvironment).manage(sessionFactoryManager.capture());
+        return sessionFactoryManager.getValue().getStatisticsMetrics();
+    }
+
     @Test
     void configureRunsBeforeSessionFactoryCreation() {
         final SessionFactoryFactory customFactory = new SessionFactoryFactory() {
@@ -2,10 +2,14 @@ package io.dropwizard.hibernate;
 
 import org.glassfish.jersey.server.ExtendedUriInfo;
 import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
@@ -16,7 +20,9 @@ import org.mockito.InOrder;
 
 import java.lang.reflect.Method;
 
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.hibernate.resource.transaction.spi.TransactionStatus.ACTIVE;
 import static org.hibernate.resource.transaction.spi.TransactionStatus.NOT_ACTIVE;
@@ -240,6 +246,61 @@ class UnitOfWorkApplicationListenerTest {
             .withMessage("Unregistered Hibernate bundle: 'warehouse'");
     }
 
+    @Test
+    void finishesTheStartedUnitsOfWorkIfAnotherOneFailsToStart() throws Exception {
+        prepareResourceMethod("methodWithUnitsOfWorkOnBothDatabases");
+        final HibernateException failure = new HibernateException("Unable to begin a transaction");
+        when(analyticsSession.beginTransaction()).thenThrow(failure);
+        when(analyticsSession.getTransaction()).thenReturn(null);
+
+        final RequestEventListener requestListener = listener.onRequest(requestStartEvent);
+        assertThatExceptionOfType(HibernateException.class)
+            .isThrownBy(() -> requestListener.onEvent(requestMethodStartEvent))
+            .isSameAs(failure);
+        requestListener.onEvent(requestMethodExceptionEvent);
+        requestListener.onEvent(responseFinishedEvent);
+
+        verify(transaction).rollback();
+        verify(session).close();
+        verify(analyticsSession).close();
+        assertThat(ManagedSessionContext.hasBind(sessionFactory)).isFalse();
+        assertThat(ManagedSessionContext.hasBind(analyticsSessionFactory)).isFalse();
+    }
+
+    @Test
+    void resolvesTheUnitsOfWorkOfTheResourceMethodsOnInitialization() throws Exception {
+        final Resource.Builder resourceBuilder = Resource.builder("mock");
+        resourceBuilder.addMethod("GET")
+            .handledBy(new MockResource(), MockResource.class.getMethod("methodWithUnitOfWorkOnAnalyticsDatabase"));
+        final Resource resource = resourceBuilder.build();
+        final ApplicationEvent initializationFinished = mock(ApplicationEvent.class);
+        when(initializationFinished.getType()).thenReturn(ApplicationEvent.Type.INITIALIZATION_APP_FINISHED);
+        when(initializationFinished.getResourceModel())
+            .thenReturn(new ResourceModel.Builder(false).addResource(resource).build());
+
+        listener.onEvent(initializationFinished);
+
+        final ResourceMethod analytics = resource.getAllMethods().get(0);
+        final UnitOfWorkPlan plan = requireNonNull(listener.getPlan(analytics));
+        assertThat(plan.size()).isEqualTo(1);
+        assertThat(plan.get(0).getSessionFactory()).isSameAs(analyticsSessionFactory);
+
+        when(uriInfo.getMatchedResourceMethod()).thenReturn(analytics);
+        execute();
+
+        verify(analyticsSession).close();
+    }
+
+    @Test
+    void doesNotPlanAnythingForMethodsWithoutUnitsOfWork() throws Exception {
+        prepareResourceMethod("methodWithoutUnitOfWork");
+
+        execute();
+
+        assertThat(requireNonNull(listener.getPlan(uriInfo.getMatchedResourceMethod())).isEmpty()).isTrue();
+        verifyNoInteractions(sessionFactory, analyticsSessionFactory);
+    }
+
     private void prepareResourceMethod(String resourceMethodName) throws NoSuchMethodException {
         final Method handlingMethod = MockResource.class.getMethod(resourceMethodName);
         Method definitionMethod = handlingMethod;
@@ -320,10 +381,20 @@ class UnitOfWorkApplicationListenerTest {
 
         }
 
+        @UnitOfWork
+        @UnitOfWork("analytics")
+        public void methodWithUnitsOfWorkOnBothDatabases() {
+
+        }
+
         @UnitOfWork("warehouse")
         public void methodWithUnitOfWorkOnNotRegisteredDatabase() {
 
         }
+
+        public void methodWithoutUnitOfWork() {
+
+        }
     }
 
     public interface MockResourceInterface {
@@ -1,5 +1,11 @@
 package io.dropwizard.jackson;
 
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.SubtypeResolver;
 import com.fasterxml.jackson.databind.jsontype.impl.StdSubtypeResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,36 +18,105 @@ import java.io.InputStreamReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 
 /**
  * A subtype resolver which discovers subtypes via
  * {@code META-INF/services/io.dropwizard.jackson.Discoverable}.
+ * <p>
+ * The subtypes are only discovered once a polymorphic type is first resolved. Unless this class is extended, the
+ * discovered subtypes of a root class are shared by all the resolvers, so that they're only discovered once.
  */
 public class DiscoverableSubtypeResolver extends StdSubtypeResolver {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(DiscoverableSubtypeResolver.class);
+    private static final ClassValue<List<Class<?>>> DISCOVERED_SUBTYPES = new ClassValue<List<Class<?>>>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> rootKlass) {
+            return Collections.unmodifiableList(new DiscoverableSubtypeResolver(rootKlass).discoverSubtypes());
+        }
+    };
 
-    private final List<Class<?>> discoveredSubtypes;
+    private final Class<?> rootKlass;
+    @Nullable
+    private volatile List<Class<?>> discoveredSubtypes;
 
     public DiscoverableSubtypeResolver() {
         this(Discoverable.class);
     }
 
     public DiscoverableSubtypeResolver(Class<?> rootKlass) {
+        this.rootKlass = rootKlass;
+    }
+
+    public List<Class<?>> getDiscoveredSubtypes() {
+        final List<Class<?>> subtypes = discoveredSubtypes;
+        if (subtypes != null) {
+            return subtypes;
+        }
+        synchronized (this) {
+            final List<Class<?>> discovered = discoveredSubtypes;
+            if (discovered != null) {
+                return discovered;
+            }
+            final List<Class<?>> subtypesToRegister = getClass() == DiscoverableSubtypeResolver.class
+                ? DISCOVERED_SUBTYPES.get(rootKlass) : discoverSubtypes();
+            // The discovered subtypes are registered before the subtypes registered explicitly
+            final List<NamedType> registeredSubtypes = new ArrayList<>();
+            if (_registeredSubtypes != null) {
+                registeredSubtypes.addAll(_registeredSubtypes);
+                _registeredSubtypes.clear();
+            }
+            for (Class<?> subtype : subtypesToRegister) {
+                super.registerSubtypes(subtype);
+            }
+            super.registerSubtypes(registeredSubtypes.toArray(new NamedType[0]));
+            discoveredSubtypes = subtypesToRegister;
+            return subtypesToRegister;
+        }
+    }
+
+    private List<Class<?>> discoverSubtypes() {
         final List<Class<?>> subtypes = new ArrayList<>();
         for (Class<?> klass : discoverServices(rootKlass)) {
-            for (Class<?> subtype : discoverServices(klass)) {
-                subtypes.add(subtype);
-                registerSubtypes(subtype);
-            }
+            subtypes.addAll(discoverServices(klass));
         }
-        this.discoveredSubtypes = subtypes;
+        return subtypes;
     }
 
-    public List<Class<?>> getDiscoveredSubtypes() {
-        return discoveredSubtypes;
+    @Override
+    public SubtypeResolver copy() {
+        getDiscoveredSubtypes();
+        return super.copy();
+    }
+
+    @Override
+    public Collection<NamedType> collectAndResolveSubtypesByClass(MapperConfig<?> config, AnnotatedMember property,
+                                                                  JavaType baseType) {
+        getDiscoveredSubtypes();
+        return super.collectAndResolveSubtypesByClass(config, property, baseType);
+    }
+
+    @Override
+    public Collection<NamedType> collectAndResolveSubtypesByClass(MapperConfig<?> config, AnnotatedClass type) {
+        getDiscoveredSubtypes();
+        return super.collectAndResolveSubtypesByClass(config, type);
+    }
+
+    @Override
+    public Collection<NamedType> collectAndResolveSubtypesByTypeId(MapperConfig<?> config, AnnotatedMember property,
+                                                                   JavaType baseType) {
+        getDiscoveredSubtypes();
+        return super.collectAndResolveSubtypesByTypeId(config, property, baseType);
+    }
+
+    @Override
+    public Collection<NamedType> collectAndResolveSubtypesByTypeId(MapperConfig<?> config, AnnotatedClass baseType) {
+        getDiscoveredSubtypes();
+        return super.collectAndResolveSubtypesByTypeId(config, baseType);
     }
 
     protected ClassLoader getClassLoader() {
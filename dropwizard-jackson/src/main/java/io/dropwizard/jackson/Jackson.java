@@ -12,7 +12,10 @@ import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 
 import javax.annotation.Nullable;
 
-import java.util.List;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
 
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 
@@ -20,6 +23,13 @@ import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKN
  * A utility class for Jackson.
  */
 public class Jackson {
+    /**
+     * The class name of the Afterburner module registered with {@link java.util.ServiceLoader}, by class loader,
+     * so that the class path is only scanned once per class loader.
+     */
+    private static final Map<ClassLoader, Optional<String>> AFTERBURNER_MODULES =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
     private Jackson() { /* singleton */ }
 
     /**
@@ -59,19 +69,11 @@ public class Jackson {
     }
 
     private static ObjectMapper configure(ObjectMapper mapper) {
-        final List<Module> modules = ObjectMapper.findModules();
-
         mapper.registerModule(new GuavaModule());
         mapper.registerModule(new GuavaExtrasModule());
         mapper.registerModule(new CaffeineModule());
         mapper.registerModule(new JodaModule());
-
-        final Module acceleratorModule = modules.stream()
-                .filter(module -> "AfterburnerModule" .equals(module.getModuleName()))
-                .findFirst()
-                .orElse(new BlackbirdModule());
-
-        mapper.registerModule(acceleratorModule);
+        mapper.registerModule(newAcceleratorModule());
         mapper.registerModule(new FuzzyEnumModule());
         mapper.registerModule(new ParameterNamesModule());
         mapper.registerModule(new Jdk8Module());
@@ -82,4 +84,30 @@ public class Jackson {
 
         return mapper;
     }
+
+    /**
+     * Returns a new Afterburner module if one is registered with {@link java.util.ServiceLoader} like
+     * {@link ObjectMapper#findModules()} does, or a new Blackbird module otherwise.
+     */
+    private static Module newAcceleratorModule() {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final ClassLoader classLoader = contextClassLoader == null
+            ? ClassLoader.getSystemClassLoader() : contextClassLoader;
+        final Optional<String> afterburnerModule = AFTERBURNER_MODULES.computeIfAbsent(classLoader,
+            loader -> ObjectMapper.findModules(loader).stream()
+                .filter(module -> "AfterburnerModule".equals(module.getModuleName()))
+                .findFirst()
+                .map(module -> module.getClass().getName()));
+        if (!afterburnerModule.isPresent()) {
+            return new BlackbirdModule();
+        }
+        try {
+            return Class.forName(afterburnerModule.get(), true, classLoader)
+                .asSubclass(Module.class)
+                .getDeclaredConstructor()
+                .newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create " + afterburnerModule.get(), e);
+        }
+    }
 }
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class DiscoverableSubtypeResolverTest {
@@ -23,4 +26,39 @@ class DiscoverableSubtypeResolverTest {
         assertThat(mapper.readValue("{\"type\":\"b\"}", ExampleSPI.class))
                 .isInstanceOf(ImplB.class);
     }
+
+    @Test
+    void discoversSubtypesOnceResolvingAPolymorphicType() throws Exception {
+        final AtomicInteger discoveries = new AtomicInteger();
+        final DiscoverableSubtypeResolver countingResolver = new DiscoverableSubtypeResolver(ExampleTag.class) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected List<Class<?>> discoverServices(Class<?> klass) {
+                discoveries.incrementAndGet();
+                return super.discoverServices(klass);
+            }
+        };
+        final ObjectMapper countingMapper = new ObjectMapper().setSubtypeResolver(countingResolver);
+        assertThat(discoveries).hasValue(0);
+
+        assertThat(countingMapper.readValue("{\"type\":\"a\"}", ExampleSPI.class))
+                .isInstanceOf(ImplA.class);
+        assertThat(countingMapper.readValue("{\"type\":\"b\"}", ExampleSPI.class))
+                .isInstanceOf(ImplB.class);
+        assertThat(discoveries).hasValue(2);
+    }
+
+    @Test
+    void sharesTheDiscoveredSubtypes() {
+        assertThat(resolver.getDiscoveredSubtypes())
+                .containsExactlyInAnyOrder(ImplA.class, ImplB.class)
+                .isSameAs(new DiscoverableSubtypeResolver(ExampleTag.class).getDiscoveredSubtypes());
+    }
+
+    @Test
+    void copiesTheDiscoveredSubtypes() throws Exception {
+        assertThat(mapper.copy().readValue("{\"type\":\"a\"}", ExampleSPI.class))
+                .isInstanceOf(ImplA.class);
+    }
 }
@@ -0,0 +1,148 @@
+package io.dropwizard.jdbi3;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.db.PooledDataSourceFactory;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.PreparedBatch;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes many rows with a single statement, by binding them to a {@link PreparedBatch} which is executed every
+ * {@code batchSize} rows, instead of executing the statement once per row:
+ *
+ * <pre>{@code
+ * final JdbiBatchWriter writer = jdbiFactory.buildBatchWriter(environment, jdbi, "people",
+ *     "INSERT INTO people (name, email) VALUES (:name, :email)", 1000);
+ * writer.write(people, PreparedBatch::bindBean);
+ * }</pre>
+ * <p>
+ * The sizes of the executed batches are recorded by the {@code JdbiBatchWriter.<name>.batchSize} histogram, the
+ * rows written by the {@code JdbiBatchWriter.<name>.rows} meter, and the executions of batches by the
+ * {@code JdbiBatchWriter.<name>.batches} timer.
+ * <p>
+ * Most JDBC drivers still send a batch as one statement per row. Some of them can rewrite batched inserts into
+ * multi-row statements, see {@link #enableBatchRewriting(PooledDataSourceFactory)}.
+ *
+ * @since 2.1.2
+ */
+public class JdbiBatchWriter {
+    /**
+     * The default number of rows of each batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private final Jdbi jdbi;
+    private final String sql;
+    private final int batchSize;
+    private final Histogram batchSizes;
+    private final Meter rows;
+    private final Timer batches;
+
+    /**
+     * @param jdbi      the {@link Jdbi} instance to write with
+     * @param sql       the statement which writes a row
+     * @param batchSize the maximum number of rows of each batch
+     * @param metrics   the registry of the metrics of the writer
+     * @param name      the name of the writer
+     */
+    public JdbiBatchWriter(Jdbi jdbi, String sql, int batchSize, MetricRegistry metrics, String name) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive, was " + batchSize);
+        }
+        this.jdbi = requireNonNull(jdbi);
+        this.sql = requireNonNull(sql);
+        this.batchSize = batchSize;
+        this.batchSizes = metrics.histogram(name(getClass(), name, "batchSize"));
+        this.rows = metrics.meter(name(getClass(), name, "rows"));
+        this.batches = metrics.timer(name(getClass(), name, "batches"));
+    }
+
+    /**
+     * Sets the connection property which lets the JDBC driver of a data source rewrite batched inserts into
+     * multi-row inserts, if the driver is known to support it. Properties which are already set aren't
+     * overridden. This must be called before the data source is built.
+     * <p>
+     * The PostgreSQL driver is configured with {@code reWriteBatchedInserts}, and the MySQL and MariaDB drivers
+     * with {@code rewriteBatchedStatements}. With rewriting, drivers may no longer report the number of rows
+     * updated by each statement of a batch.
+     *
+     * @param configuration the configuration of the data source
+     * @return whether the driver of the data source supports rewriting batched inserts
+     */
+    public static boolean enableBatchRewriting(PooledDataSourceFactory configuration) {
+        final Map<String, String> properties = configuration.getProperties();
+        final String driverClass = configuration.getDriverClass();
+        if (driverClass == null) {
+            return false;
+        }
+        switch (driverClass) {
+            case "org.postgresql.Driver":
+                properties.putIfAbsent("reWriteBatchedInserts", "true");
+                return true;
+            case "com.mysql.jdbc.Driver":
+            case "com.mysql.cj.jdbc.Driver":
+            case "org.mariadb.jdbc.Driver":
+                properties.putIfAbsent("rewriteBatchedStatements", "true");
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Writes rows in a new transaction.
+     *
+     * @param rows   the rows to write
+     * @param binder binds the values of a row to the batch, e.g. {@code PreparedBatch::bindBean}
+     * @param <T>    the type of the rows
+     * @return the number of rows written
+     */
+    public <T> long write(Iterable<T> rows, BiConsumer<PreparedBatch, ? super T> binder) {
+        return jdbi.inTransaction(handle -> write(handle, rows, binder));
+    }
+
+    /**
+     * Writes rows with an existing handle, within its current transaction if any.
+     *
+     * @param handle the handle to write with
+     * @param rows   the rows to write
+     * @param binder binds the values of a row to the batch, e.g. {@code PreparedBatch::bindBean}
+     * @param <T>    the type of the rows
+     * @return the number of rows written
+     */
+    public <T> long write(Handle handle, Iterable<T> rows, BiConsumer<PreparedBatch, ? super T> binder) {
+        long written = 0;
+        try (PreparedBatch batch = handle.prepareBatch(sql)) {
+            for (T row : rows) {
+                binder.accept(batch, row);
+                batch.add();
+                if (batch.size() == batchSize) {
+                    written += execute(batch);
+                }
+            }
+            if (batch.size() > 0) {
+                written += execute(batch);
+            }
+        }
+        return written;
+    }
+
+    private int execute(PreparedBatch batch) {
+        final int size = batch.size();
+        try (Timer.Context ignored = batches.time()) {
+            batch.execute();
+        }
+        batchSizes.update(size);
+        rows.mark(size);
+        return size;
+    }
+}
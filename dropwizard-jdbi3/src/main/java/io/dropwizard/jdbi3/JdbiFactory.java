@@ -1,11 +1,14 @@
 package io.dropwizard.jdbi3;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.caffeine.MetricsStatsCounter;
 import com.codahale.metrics.jdbi3.InstrumentedSqlLogger;
 import com.codahale.metrics.jdbi3.strategies.SmartNameStrategy;
 import com.codahale.metrics.jdbi3.strategies.StatementNameStrategy;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.dropwizard.db.ManagedDataSource;
 import io.dropwizard.db.PooledDataSourceFactory;
+import io.dropwizard.db.ReplicaRoutingDataSource;
 import io.dropwizard.setup.Environment;
 import io.dropwizard.util.Duration;
 import org.jdbi.v3.core.Jdbi;
@@ -15,10 +18,14 @@ import org.jdbi.v3.guava.GuavaPlugin;
 import org.jdbi.v3.jodatime2.JodaTimePlugin;
 import org.jdbi.v3.sqlobject.SqlObjectPlugin;
 
+import javax.annotation.Nullable;
 import java.util.Optional;
 
 public class JdbiFactory {
     private final StatementNameStrategy nameStrategy;
+    @Nullable
+    private Duration slowStatementThreshold;
+    private int slowStatementsCapacity = SlowStatements.DEFAULT_CAPACITY;
 
     public JdbiFactory() {
         this(new SmartNameStrategy());
@@ -28,6 +35,48 @@ public class JdbiFactory {
         this.nameStrategy = nameStrategy;
     }
 
+    /**
+     * @return the latency above which statements are captured as slow statements, or {@code null}
+     * if the statistics of SQL objects aren't recorded
+     * @since 2.1.2
+     */
+    @Nullable
+    public Duration getSlowStatementThreshold() {
+        return slowStatementThreshold;
+    }
+
+    /**
+     * Records the latency and the row counts of the methods of SQL objects, and captures the statements
+     * which run slower than the given threshold, for the {@link Jdbi} instances built afterwards. The
+     * slow statements are listed by the {@code <name>-slow-statements} admin task. The timers of
+     * {@link #buildSQLLogger(MetricRegistry, StatementNameStrategy)} then aren't recorded, as they
+     * would time the same statements twice.
+     *
+     * @param slowStatementThreshold the latency above which statements are captured as slow statements,
+     *                               or {@code null} to not record the statistics of SQL objects
+     * @see SqlObjectStatisticsPlugin
+     * @since 2.1.2
+     */
+    public void setSlowStatementThreshold(@Nullable Duration slowStatementThreshold) {
+        this.slowStatementThreshold = slowStatementThreshold;
+    }
+
+    /**
+     * @return the number of slow statements which are kept for each {@link Jdbi} instance
+     * @since 2.1.2
+     */
+    public int getSlowStatementsCapacity() {
+        return slowStatementsCapacity;
+    }
+
+    /**
+     * @param slowStatementsCapacity the number of slow statements which are kept for each {@link Jdbi} instance
+     * @since 2.1.2
+     */
+    public void setSlowStatementsCapacity(int slowStatementsCapacity) {
+        this.slowStatementsCapacity = slowStatementsCapacity;
+    }
+
     /**
      * Build a fully configured {@link Jdbi} instance managed by the DropWizard lifecycle
      * with the configured health check; this method should not be overridden
@@ -80,17 +129,94 @@ public class JdbiFactory {
             jdbi,
             validationQuery));
 
-        // Setup the SQL logger
-        jdbi.setSqlLogger(buildSQLLogger(environment.metrics(), nameStrategy));
+        setUp(environment, configuration, jdbi, name);
+
+        return jdbi;
+    }
+
+    /**
+     * Build a fully configured {@link Jdbi} instance which reads from the replicas of a
+     * {@link ReplicaRoutingDataSource}, such as the one built by a
+     * {@link io.dropwizard.db.ReplicatedDataSourceFactory}. The data source isn't managed
+     * by this method, build the {@link Jdbi} instance of the primary with
+     * {@link #build(Environment, PooledDataSourceFactory, ManagedDataSource, String)} first.
+     *
+     * @param environment
+     * @param configuration
+     * @param dataSource
+     * @return A fully configured {@link Jdbi} object using the replicas of the data source
+     * @since 2.1.2
+     */
+    public Jdbi buildReadOnly(Environment environment,
+                              PooledDataSourceFactory configuration,
+                              ReplicaRoutingDataSource dataSource) {
+        final Jdbi jdbi = Jdbi.create(dataSource.readOnly());
+        setUp(environment, configuration, jdbi, null);
+        return jdbi;
+    }
+
+    private void setUp(Environment environment, PooledDataSourceFactory configuration, Jdbi jdbi,
+                       @Nullable String name) {
+        final Duration threshold = slowStatementThreshold;
+        if (name == null || threshold == null) {
+            // Setup the SQL logger, the statistics of SQL objects time the statements themselves
+            jdbi.setSqlLogger(buildSQLLogger(environment.metrics(), nameStrategy));
+        }
 
         if (configuration.isAutoCommentsEnabled()) {
             final TemplateEngine original = jdbi.getConfig(SqlStatements.class).getTemplateEngine();
-            jdbi.setTemplateEngine(new NamePrependingTemplateEngine(original));
+            if (name == null) {
+                jdbi.setTemplateEngine(new NamePrependingTemplateEngine(original));
+            } else {
+                // The hits, misses and evictions of the cache of rendered statements are reported as metrics
+                final MetricRegistry metrics = environment.metrics();
+                final String metricName = MetricRegistry.name(NamePrependingTemplateEngine.class, name, "statements");
+                jdbi.setTemplateEngine(new NamePrependingTemplateEngine(original,
+                    NamePrependingTemplateEngine.isDeterministic(original),
+                    Caffeine.newBuilder()
+                        .maximumSize(NamePrependingTemplateEngine.DEFAULT_MAXIMUM_CACHE_SIZE)
+                        .recordStats(() -> new MetricsStatsCounter(metrics, metricName))));
+            }
         }
 
         configure(jdbi);
 
-        return jdbi;
+        if (name != null && threshold != null) {
+            final SlowStatements slowStatements = new SlowStatements(slowStatementsCapacity);
+            jdbi.installPlugin(new SqlObjectStatisticsPlugin(environment.metrics(), name, slowStatements, threshold));
+            environment.admin().addTask(new SlowStatementsTask(name + "-slow-statements", slowStatements));
+        }
+    }
+
+    /**
+     * Build a {@link JdbiBatchWriter} which writes rows in batches of
+     * {@link JdbiBatchWriter#DEFAULT_BATCH_SIZE} rows.
+     *
+     * @param environment the environment, whose metrics registry records the batches
+     * @param jdbi        the {@link Jdbi} instance to write with
+     * @param name        the name of the writer
+     * @param sql         the statement which writes a row
+     * @return a writer of rows in batches
+     * @since 2.1.2
+     */
+    public JdbiBatchWriter buildBatchWriter(Environment environment, Jdbi jdbi, String name, String sql) {
+        return buildBatchWriter(environment, jdbi, name, sql, JdbiBatchWriter.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Build a {@link JdbiBatchWriter} which writes rows in batches of the given size.
+     *
+     * @param environment the environment, whose metrics registry records the batches
+     * @param jdbi        the {@link Jdbi} instance to write with
+     * @param name        the name of the writer
+     * @param sql         the statement which writes a row
+     * @param batchSize   the maximum number of rows of each batch
+     * @return a writer of rows in batches
+     * @since 2.1.2
+     */
+    public JdbiBatchWriter buildBatchWriter(Environment environment, Jdbi jdbi, String name, String sql,
+                                            int batchSize) {
+        return new JdbiBatchWriter(jdbi, sql, batchSize, environment.metrics(), name);
     }
 
     /**
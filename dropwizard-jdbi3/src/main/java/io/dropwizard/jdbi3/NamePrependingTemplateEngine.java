@@ -1,44 +1,148 @@
 package io.dropwizard.jdbi3;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.NoTemplateEngine;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.TemplateEngine;
 
+import java.lang.reflect.Method;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 /**
  * Jdbi {@link TemplateEngine} that prepends the SQLObject's type and method name in front of every
  * statement sent to the database.
+ * <p>
+ * The comment of each SQLObject method is only built once. If the original engine is deterministic, i.e. it renders
+ * a template the same way regardless of the statement context, as {@link NoTemplateEngine} does, the rendered
+ * statements are cached by template and SQLObject method.
  */
 public class NamePrependingTemplateEngine implements TemplateEngine {
+    /**
+     * The default maximum number of rendered statements which are cached.
+     *
+     * @since 2.1.2
+     */
+    public static final long DEFAULT_MAXIMUM_CACHE_SIZE = 1_000;
+
+    private static final ClassValue<ConcurrentMap<Method, String>> COMMENTS =
+        new ClassValue<ConcurrentMap<Method, String>>() {
+            @Override
+            protected ConcurrentMap<Method, String> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     private final TemplateEngine originalEngine;
+    private final boolean deterministic;
+    private final Cache<RenderedStatement, String> statements;
 
     /**
      * @param originalEngine    The original {@link TemplateEngine} to use to create the actual statements
      */
     public NamePrependingTemplateEngine(TemplateEngine originalEngine) {
+        this(originalEngine, isDeterministic(originalEngine),
+            Caffeine.newBuilder().maximumSize(DEFAULT_MAXIMUM_CACHE_SIZE));
+    }
+
+    /**
+     * @param originalEngine The original {@link TemplateEngine} to use to create the actual statements
+     * @param deterministic  Whether the original engine renders each template the same way regardless of the
+     *                       statement context, so that the rendered statements can be cached
+     * @param cache          The builder of the cache of rendered statements, which should be bounded
+     * @since 2.1.2
+     */
+    public NamePrependingTemplateEngine(TemplateEngine originalEngine,
+                                        boolean deterministic,
+                                        Caffeine<Object, Object> cache) {
         this.originalEngine = Objects.requireNonNull(originalEngine, "'originalEngine' cannot be null'");
+        this.deterministic = deterministic;
+        this.statements = cache.build();
+    }
+
+    /**
+     * Returns whether a template engine is known to render each template the same way regardless of the statement
+     * context.
+     */
+    static boolean isDeterministic(TemplateEngine engine) {
+        return engine instanceof NoTemplateEngine;
     }
 
     @Override
     public String render(String template, StatementContext ctx) {
         final ExtensionMethod extensionMethod = ctx.getExtensionMethod();
-        final String originalResult = originalEngine.render(template, ctx);
-
         if (extensionMethod == null) {
-            return originalResult;
+            return originalEngine.render(template, ctx);
+        }
+
+        if (deterministic) {
+            return Objects.requireNonNull(statements.get(
+                new RenderedStatement(template, extensionMethod.getType(), extensionMethod.getMethod()),
+                key -> comment(extensionMethod).concat(originalEngine.render(template, ctx))));
+        }
+        return comment(extensionMethod).concat(originalEngine.render(template, ctx));
+    }
+
+    @Override
+    public Optional<Function<StatementContext, String>> parse(String template, ConfigRegistry config) {
+        if (deterministic) {
+            return Optional.of(ctx -> render(template, ctx));
+        }
+        // Keep the parsed templates of the original engine, so that they're cached by Jdbi
+        return originalEngine.parse(template, config).map(renderer -> ctx -> {
+            final ExtensionMethod extensionMethod = ctx.getExtensionMethod();
+            final String originalResult = renderer.apply(ctx);
+            return extensionMethod == null ? originalResult : comment(extensionMethod).concat(originalResult);
+        });
+    }
+
+    private static String comment(ExtensionMethod extensionMethod) {
+        return COMMENTS.get(extensionMethod.getType())
+            .computeIfAbsent(extensionMethod.getMethod(), method -> {
+                final StringBuilder comment = new StringBuilder("/* ");
+                final String className = extensionMethod.getType().getSimpleName();
+                if (!className.isEmpty()) {
+                    comment.append(className).append('.');
+                }
+                return comment.append(method.getName()).append(" */ ").toString();
+            });
+    }
+
+    /**
+     * The key of a rendered statement: its template, and the SQLObject method which runs it.
+     */
+    private static final class RenderedStatement {
+        private final String template;
+        private final Class<?> type;
+        private final Method method;
+
+        RenderedStatement(String template, Class<?> type, Method method) {
+            this.template = template;
+            this.type = type;
+            this.method = method;
         }
 
-        final StringBuilder query = new StringBuilder(originalResult.length() + 100);
-        query.append("/* ");
-        final String className = extensionMethod.getType().getSimpleName();
-        if (!className.isEmpty()) {
-            query.append(className).append('.');
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RenderedStatement)) {
+                return false;
+            }
+            final RenderedStatement that = (RenderedStatement) o;
+            return template.equals(that.template) && type.equals(that.type) && method.equals(that.method);
         }
-        query.append(extensionMethod.getMethod().getName());
-        query.append(" */ ");
-        query.append(originalResult);
 
-        return query.toString();
+        @Override
+        public int hashCode() {
+            return Objects.hash(template, type, method);
+        }
     }
 }
@@ -0,0 +1,123 @@
+package io.dropwizard.jdbi3;
+
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded buffer of the most recent statements which ran slower than a threshold. Once it's full, the oldest
+ * statements are overwritten.
+ *
+ * @since 2.1.2
+ */
+public class SlowStatements {
+    /**
+     * The default number of statements which are kept.
+     */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private final SlowStatement[] statements;
+    private int next;
+    private int size;
+
+    public SlowStatements() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of statements which are kept
+     */
+    public SlowStatements(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive, was " + capacity);
+        }
+        this.statements = new SlowStatement[capacity];
+    }
+
+    /**
+     * Adds a statement, overwriting the oldest statement if the buffer is full.
+     *
+     * @param statement the slow statement
+     */
+    public synchronized void add(SlowStatement statement) {
+        statements[next] = statement;
+        next = (next + 1) % statements.length;
+        size = Math.min(size + 1, statements.length);
+    }
+
+    /**
+     * @return the statements, most recent first
+     */
+    public synchronized List<SlowStatement> getStatements() {
+        final List<SlowStatement> result = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            result.add(statements[(next - i + statements.length) % statements.length]);
+        }
+        return result;
+    }
+
+    /**
+     * Removes all statements.
+     */
+    public synchronized void clear() {
+        Arrays.fill(statements, null);
+        next = 0;
+        size = 0;
+    }
+
+    /**
+     * A statement which ran slower than the threshold. Only the number of its bound parameters is kept, not their
+     * values.
+     */
+    public static class SlowStatement {
+        private final Instant executedAt;
+        private final long elapsedNanos;
+        @Nullable
+        private final String sqlObjectMethod;
+        private final String sql;
+        private final int parameterCount;
+
+        public SlowStatement(Instant executedAt, long elapsedNanos, @Nullable String sqlObjectMethod, String sql,
+                             int parameterCount) {
+            this.executedAt = executedAt;
+            this.elapsedNanos = elapsedNanos;
+            this.sqlObjectMethod = sqlObjectMethod;
+            this.sql = sql;
+            this.parameterCount = parameterCount;
+        }
+
+        public Instant getExecutedAt() {
+            return executedAt;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * @return the type and name of the SQL object method which ran the statement, if any
+         */
+        @Nullable
+        public String getSqlObjectMethod() {
+            return sqlObjectMethod;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getParameterCount() {
+            return parameterCount;
+        }
+
+        @Override
+        public String toString() {
+            return executedAt + " " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms "
+                + (sqlObjectMethod == null ? "" : sqlObjectMethod + " ")
+                + "(" + parameterCount + " parameters): " + sql;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.dropwizard.jdbi3;
+
+import io.dropwizard.servlets.tasks.Task;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lists the most recent slow statements of a {@link org.jdbi.v3.core.Jdbi} instance, most recent first. They're
+ * removed afterwards if the {@code clear} parameter is passed.
+ *
+ * @since 2.1.2
+ */
+public class SlowStatementsTask extends Task {
+    private final SlowStatements slowStatements;
+
+    /**
+     * @param name           the name of the task
+     * @param slowStatements the slow statements to list
+     */
+    public SlowStatementsTask(String name, SlowStatements slowStatements) {
+        super(name);
+        this.slowStatements = slowStatements;
+    }
+
+    @Override
+    public void execute(Map<String, List<String>> parameters, PrintWriter output) {
+        for (SlowStatements.SlowStatement statement : slowStatements.getStatements()) {
+            output.println(statement);
+        }
+        if (parameters.containsKey("clear")) {
+            slowStatements.clear();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package io.dropwizard.jdbi3;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.LockFreeExponentiallyDecayingReservoir;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.util.Duration;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.sqlobject.Handler;
+import org.jdbi.v3.sqlobject.HandlerDecorators;
+import org.jdbi.v3.sqlobject.SqlOperation;
+import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A Jdbi plugin which records statistics about SQL objects:
+ * <ul>
+ *     <li>the latency of each SQL object method, as {@code <type>.<name>.<method>.latency} timers;</li>
+ *     <li>the number of rows returned or updated by each SQL object method, as
+ *     {@code <type>.<name>.<method>.rows} histograms, when it can be told from the result of the method without
+ *     consuming it;</li>
+ *     <li>the statements which ran slower than a threshold, in a bounded {@link SlowStatements} buffer, and as the
+ *     {@code SqlObjectStatisticsPlugin.<name>.slow-statements} meter.</li>
+ * </ul>
+ * The metrics of each method are looked up once, when its SQL object type is first attached.
+ *
+ * @since 2.1.2
+ */
+public class SqlObjectStatisticsPlugin implements JdbiPlugin {
+    private final MetricRegistry metrics;
+    private final String name;
+    private final SlowStatements slowStatements;
+    private final long slowStatementThresholdNanos;
+
+    /**
+     * @param metrics                the registry of the metrics
+     * @param name                   the name of the {@link Jdbi} instance
+     * @param slowStatements         the buffer of slow statements
+     * @param slowStatementThreshold the latency above which statements are captured as slow statements
+     */
+    public SqlObjectStatisticsPlugin(MetricRegistry metrics, String name, SlowStatements slowStatements,
+                                     Duration slowStatementThreshold) {
+        this.metrics = metrics;
+        this.name = name;
+        this.slowStatements = slowStatements;
+        this.slowStatementThresholdNanos = slowStatementThreshold.toNanoseconds();
+    }
+
+    @Override
+    public void customizeJdbi(Jdbi jdbi) throws SQLException {
+        jdbi.getConfig(HandlerDecorators.class).register(this::decorateHandler);
+        jdbi.setSqlLogger(new SlowStatementLogger(jdbi.getConfig(SqlStatements.class).getSqlLogger(),
+            metrics.meter(name(getClass(), name, "slow-statements"))));
+    }
+
+    private Handler decorateHandler(Handler handler, Class<?> sqlObjectType, Method method) {
+        if (!isSqlOperation(method)) {
+            return handler;
+        }
+
+        final Timer latency = metrics.timer(name(sqlObjectType, name, method.getName(), "latency"),
+            () -> new Timer(LockFreeExponentiallyDecayingReservoir.builder().build()));
+        final ToLongFunction<Object> rowCounter = rowCounter(method);
+        if (rowCounter == null) {
+            return (target, args, handleSupplier) -> {
+                final long start = System.nanoTime();
+                try {
+                    return handler.invoke(target, args, handleSupplier);
+                } finally {
+                    latency.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            };
+        }
+
+        final Histogram rows = metrics.histogram(name(sqlObjectType, name, method.getName(), "rows"),
+            () -> new Histogram(LockFreeExponentiallyDecayingReservoir.builder().build()));
+        return (target, args, handleSupplier) -> {
+            final long start = System.nanoTime();
+            try {
+                final Object result = handler.invoke(target, args, handleSupplier);
+                rows.update(result == null ? 0 : rowCounter.applyAsLong(result));
+                return result;
+            } finally {
+                latency.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private static boolean isSqlOperation(Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            if (annotation.annotationType().isAnnotationPresent(SqlOperation.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns how to count the rows of the results of a method, or {@code null} if they can't be counted without
+     * consuming them, as with streams and iterators.
+     */
+    @Nullable
+    static ToLongFunction<Object> rowCounter(Method method) {
+        final Class<?> returnType = method.getReturnType();
+        if (method.isAnnotationPresent(SqlQuery.class) || method.isAnnotationPresent(GetGeneratedKeys.class)) {
+            if (Collection.class.isAssignableFrom(returnType)) {
+                return result -> ((Collection<?>) result).size();
+            } else if (Map.class.isAssignableFrom(returnType)) {
+                return result -> ((Map<?, ?>) result).size();
+            } else if (returnType.isArray()) {
+                return Array::getLength;
+            } else if (returnType == Optional.class) {
+                return result -> ((Optional<?>) result).isPresent() ? 1 : 0;
+            } else if (returnType == void.class || Iterable.class.isAssignableFrom(returnType)
+                || AutoCloseable.class.isAssignableFrom(returnType)
+                || Iterator.class.isAssignableFrom(returnType)) {
+                // Lazily consumed results, such as iterators, streams and result iterables
+                return null;
+            }
+            return result -> 1;
+        }
+        if (method.isAnnotationPresent(SqlUpdate.class)
+            && (returnType == int.class || returnType == long.class
+            || returnType == Integer.class || returnType == Long.class)) {
+            return result -> ((Number) result).longValue();
+        }
+        if (method.isAnnotationPresent(SqlBatch.class) && returnType == int[].class) {
+            return result -> {
+                long rows = 0;
+                for (int updated : (int[]) result) {
+                    rows += Math.max(updated, 0);
+                }
+                return rows;
+            };
+        }
+        return null;
+    }
+
+    /**
+     * Captures the statements which run slower than the threshold, and delegates to the original logger.
+     */
+    private class SlowStatementLogger implements SqlLogger {
+        private final SqlLogger delegate;
+        private final Meter meter;
+
+        SlowStatementLogger(SqlLogger delegate, Meter meter) {
+            this.delegate = delegate;
+            this.meter = meter;
+        }
+
+        @Override
+        public void logBeforeExecution(StatementContext context) {
+            delegate.logBeforeExecution(context);
+        }
+
+        @Override
+        public void logAfterExecution(StatementContext context) {
+            delegate.logAfterExecution(context);
+            final long elapsedNanos = context.getElapsedTime(ChronoUnit.NANOS);
+            if (elapsedNanos >= slowStatementThresholdNanos) {
+                meter.mark();
+                final ExtensionMethod extensionMethod = context.getExtensionMethod();
+                slowStatements.add(new SlowStatements.SlowStatement(context.getExecutionMoment(), elapsedNanos,
+                    extensionMethod == null ? null
+                        : extensionMethod.getType().getSimpleName() + "." + extensionMethod.getMethod().getName(),
+                    context.getRenderedSql(),
+                    context.getParsedSql().getParameters().getParameterCount()));
+            }
+        }
+
+        @Override
+        public void logException(StatementContext context, SQLException ex) {
+            delegate.logException(context, ex);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.dropwizard.jdbi3;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.db.DataSourceFactory;
+import io.dropwizard.logging.BootstrapLogging;
+import io.dropwizard.setup.Environment;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class JdbiBatchWriterTest {
+    static {
+        BootstrapLogging.bootstrap();
+    }
+
+    private final Environment environment = new Environment("test");
+    private final MetricRegistry metricRegistry = environment.metrics();
+    private final JdbiFactory factory = new JdbiFactory();
+    private Jdbi jdbi;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final DataSourceFactory dataSourceFactory = new DataSourceFactory();
+        dataSourceFactory.setUrl("jdbc:h2:mem:jdbi3-batch-test");
+        dataSourceFactory.setUser("sa");
+        dataSourceFactory.setDriverClass("org.h2.Driver");
+        dataSourceFactory.asSingleConnectionPool();
+
+        jdbi = factory.build(environment, dataSourceFactory, "h2");
+        jdbi.useHandle(h -> h.execute("CREATE TABLE numbers (n int NOT NULL, square int NOT NULL)"));
+        for (LifeCycle lc : environment.lifecycle().getManagedObjects()) {
+            lc.start();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jdbi.useHandle(h -> h.execute("DROP TABLE numbers"));
+        for (LifeCycle lc : environment.lifecycle().getManagedObjects()) {
+            lc.stop();
+        }
+    }
+
+    @Test
+    void writesRowsInBatches() {
+        final JdbiBatchWriter writer = factory.buildBatchWriter(environment, jdbi, "numbers",
+            "INSERT INTO numbers (n, square) VALUES (:n, :square)", 4);
+        final List<Integer> numbers = IntStream.rangeClosed(1, 10).boxed().collect(Collectors.toList());
+
+        assertThat(writer.write(numbers, (batch, n) -> batch.bind("n", n).bind("square", n * n))).isEqualTo(10);
+
+        final List<Integer> squares = jdbi.withHandle(h -> h.createQuery("SELECT square FROM numbers ORDER BY n")
+            .mapTo(Integer.class)
+            .list());
+        assertThat(squares).containsExactly(1, 4, 9, 16, 25, 36, 49, 64, 81, 100);
+        assertThat(metricRegistry.histogram(MetricRegistry.name(JdbiBatchWriter.class, "numbers", "batchSize"))
+            .getSnapshot().getValues()).containsExactly(2, 4, 4);
+        assertThat(metricRegistry.meter(MetricRegistry.name(JdbiBatchWriter.class, "numbers", "rows")).getCount())
+            .isEqualTo(10);
+        assertThat(metricRegistry.timer(MetricRegistry.name(JdbiBatchWriter.class, "numbers", "batches")).getCount())
+            .isEqualTo(3);
+    }
+
+    @Test
+    void writesWithinTheTransactionOfAHandle() {
+        final JdbiBatchWriter writer = factory.buildBatchWriter(environment, jdbi, "numbers",
+            "INSERT INTO numbers (n, square) VALUES (:n, :square)");
+
+        jdbi.useHandle(h -> {
+            h.begin();
+            writer.write(h, IntStream.rangeClosed(1, 3).boxed().collect(Collectors.toList()),
+                (batch, n) -> batch.bind("n", n).bind("square", n * n));
+            h.rollback();
+        });
+
+        final int count = jdbi.withHandle(h -> h.createQuery("SELECT count(*) FROM numbers").mapTo(Integer.class).one());
+        assertThat(count).isZero();
+    }
+
+    @Test
+    void enablesTheRewritingOfBatchedInsertsOfKnownDrivers() {
+        final DataSourceFactory postgresql = new DataSourceFactory();
+        postgresql.setDriverClass("org.postgresql.Driver");
+        final DataSourceFactory mysql = new DataSourceFactory();
+        mysql.setDriverClass("com.mysql.cj.jdbc.Driver");
+        mysql.getProperties().put("rewriteBatchedStatements", "false");
+        final DataSourceFactory h2 = new DataSourceFactory();
+        h2.setDriverClass("org.h2.Driver");
+
+        assertThat(JdbiBatchWriter.enableBatchRewriting(postgresql)).isTrue();
+        assertThat(postgresql.getProperties()).containsEntry("reWriteBatchedInserts", "true");
+        assertThat(JdbiBatchWriter.enableBatchRewriting(mysql)).isTrue();
+        assertThat(mysql.getProperties()).containsEntry("rewriteBatchedStatements", "false");
+        assertThat(JdbiBatchWriter.enableBatchRewriting(h2)).isFalse();
+        assertThat(h2.getProperties()).isEmpty();
+    }
+
+    @Test
+    void rejectsEmptyBatches() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new JdbiBatchWriter(jdbi, "INSERT INTO numbers (n, square) VALUES (1, 1)", 0,
+                metricRegistry, "numbers"));
+    }
+}
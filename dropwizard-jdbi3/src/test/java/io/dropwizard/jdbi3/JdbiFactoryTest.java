@@ -6,12 +6,18 @@ import com.codahale.metrics.jdbi3.InstrumentedSqlLogger;
 import com.codahale.metrics.jdbi3.strategies.StatementNameStrategy;
 import io.dropwizard.db.ManagedDataSource;
 import io.dropwizard.db.PooledDataSourceFactory;
+import io.dropwizard.db.ReplicaRoutingDataSource;
 import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import io.dropwizard.setup.AdminEnvironment;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.util.Duration;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.statement.SqlStatements;
 import org.junit.jupiter.api.Test;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+
 import java.util.Optional;
 import java.util.UUID;
 
@@ -56,4 +62,59 @@ class JdbiFactoryTest {
         verify(jdbi).setTemplateEngine(any(NamePrependingTemplateEngine.class));
         verify(factory).configure(jdbi);
     }
+
+    @Test
+    void testBuildWithSqlObjectStatistics() {
+        final Environment environment = mock(Environment.class);
+        final MetricRegistry metrics = mock(MetricRegistry.class);
+        final LifecycleEnvironment lifecycle = mock(LifecycleEnvironment.class);
+        final HealthCheckRegistry healthChecks = mock(HealthCheckRegistry.class);
+        final AdminEnvironment admin = mock(AdminEnvironment.class);
+        final PooledDataSourceFactory configuration = mock(PooledDataSourceFactory.class);
+        final ManagedDataSource dataSource = mock(ManagedDataSource.class);
+        final Jdbi jdbi = mock(Jdbi.class);
+
+        when(environment.metrics()).thenReturn(metrics);
+        when(environment.lifecycle()).thenReturn(lifecycle);
+        when(environment.healthChecks()).thenReturn(healthChecks);
+        when(environment.admin()).thenReturn(admin);
+        when(configuration.build(metrics, "db")).thenReturn(dataSource);
+        when(configuration.getValidationQuery()).thenReturn(Optional.empty());
+
+        final JdbiFactory factory = spy(new JdbiFactory());
+        factory.setSlowStatementThreshold(Duration.milliseconds(500));
+        when(factory.newInstance(dataSource)).thenReturn(jdbi);
+
+        factory.build(environment, configuration, "db");
+
+        verify(jdbi).installPlugin(any(SqlObjectStatisticsPlugin.class));
+        verify(jdbi, never()).setSqlLogger(any(InstrumentedSqlLogger.class));
+        verify(admin).addTask(argThat(task -> task instanceof SlowStatementsTask
+            && task.getName().equals("db-slow-statements")));
+    }
+
+    @Test
+    void testBuildReadOnly() throws Exception {
+        final Environment environment = mock(Environment.class);
+        final MetricRegistry metrics = mock(MetricRegistry.class);
+        final PooledDataSourceFactory configuration = mock(PooledDataSourceFactory.class);
+        final ReplicaRoutingDataSource dataSource = mock(ReplicaRoutingDataSource.class);
+        final DataSource readOnly = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+
+        when(environment.metrics()).thenReturn(metrics);
+        when(configuration.isAutoCommentsEnabled()).thenReturn(true);
+        when(dataSource.readOnly()).thenReturn(readOnly);
+        when(readOnly.getConnection()).thenReturn(connection);
+
+        final JdbiFactory factory = spy(new JdbiFactory());
+        final Jdbi result = factory.buildReadOnly(environment, configuration, dataSource);
+
+        assertThat(result.open().getConnection()).isSameAs(connection);
+        verify(dataSource, never()).getConnection();
+        verify(factory).buildSQLLogger(same(metrics), any(StatementNameStrategy.class));
+        verify(factory).configure(result);
+        assertThat(result.getConfig(SqlStatements.class).getTemplateEngine())
+            .isInstanceOf(NamePrependingTemplateEngine.class);
+    }
 }
@@ -1,6 +1,10 @@
 package io.dropwizard.jdbi3;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.DefinedAttributeTemplateEngine;
+import org.jdbi.v3.core.statement.NoTemplateEngine;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.TemplateEngine;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +14,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class NamePrependingTemplateEngineTest {
@@ -18,6 +24,8 @@ class NamePrependingTemplateEngineTest {
 
     public interface MyDao {
         String myDbCall();
+
+        String myOtherDbCall();
     }
 
     private TemplateEngine original;
@@ -58,4 +66,49 @@ class NamePrependingTemplateEngineTest {
             " */ " +
             ORIGINAL_RENDERED);
     }
+
+    @Test
+    void testDoesNotCacheStatementsOfNonDeterministicEngines() throws NoSuchMethodException {
+        when(ctx.getExtensionMethod()).thenReturn(new ExtensionMethod(MyDao.class, MyDao.class.getMethod("myDbCall")));
+
+        sut.render(TEMPLATE, ctx);
+        sut.render(TEMPLATE, ctx);
+
+        verify(original, times(2)).render(TEMPLATE, ctx);
+    }
+
+    @Test
+    void testCachesStatementsOfDeterministicEngines() throws NoSuchMethodException {
+        final NamePrependingTemplateEngine engine = new NamePrependingTemplateEngine(original, true,
+            Caffeine.newBuilder().maximumSize(10));
+        when(ctx.getExtensionMethod()).thenReturn(new ExtensionMethod(MyDao.class, MyDao.class.getMethod("myDbCall")));
+
+        assertThat(engine.render(TEMPLATE, ctx)).isEqualTo("/* MyDao.myDbCall */ " + ORIGINAL_RENDERED);
+        assertThat(engine.render(TEMPLATE, ctx)).isEqualTo("/* MyDao.myDbCall */ " + ORIGINAL_RENDERED);
+        verify(original).render(TEMPLATE, ctx);
+
+        when(ctx.getExtensionMethod()).thenReturn(new ExtensionMethod(MyDao.class, MyDao.class.getMethod("myOtherDbCall")));
+        assertThat(engine.render(TEMPLATE, ctx)).isEqualTo("/* MyDao.myOtherDbCall */ " + ORIGINAL_RENDERED);
+    }
+
+    @Test
+    void testCachesStatementsOfEnginesWithoutTemplates() throws NoSuchMethodException {
+        final NamePrependingTemplateEngine engine = new NamePrependingTemplateEngine(new NoTemplateEngine());
+        when(ctx.getExtensionMethod()).thenReturn(new ExtensionMethod(MyDao.class, MyDao.class.getMethod("myDbCall")));
+
+        assertThat(engine.parse(TEMPLATE, new ConfigRegistry()))
+            .hasValueSatisfying(renderer -> assertThat(renderer.apply(ctx)).isEqualTo("/* MyDao.myDbCall */ " + TEMPLATE));
+        assertThat(engine.render(TEMPLATE, ctx)).isSameAs(engine.render(TEMPLATE, ctx));
+    }
+
+    @Test
+    void testPrependsNamesToParsedTemplates() throws NoSuchMethodException {
+        final NamePrependingTemplateEngine engine = new NamePrependingTemplateEngine(new DefinedAttributeTemplateEngine());
+        when(ctx.getExtensionMethod()).thenReturn(new ExtensionMethod(MyDao.class, MyDao.class.getMethod("myDbCall")));
+        when(ctx.getAttribute("table")).thenReturn("games");
+
+        assertThat(engine.parse("SELECT * FROM <table>", new ConfigRegistry()))
+            .hasValueSatisfying(renderer ->
+                assertThat(renderer.apply(ctx)).isEqualTo("/* MyDao.myDbCall */ SELECT * FROM games"));
+    }
 }
@@ -0,0 +1,119 @@
+package io.dropwizard.jdbi3;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.db.DataSourceFactory;
+import io.dropwizard.logging.BootstrapLogging;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.util.ByteStreams;
+import io.dropwizard.util.Duration;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SqlObjectStatisticsPluginTest {
+    static {
+        BootstrapLogging.bootstrap();
+    }
+
+    private final Environment environment = new Environment("test");
+    private final MetricRegistry metricRegistry = environment.metrics();
+    private final SlowStatements slowStatements = new SlowStatements(2);
+    private GameDao dao;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final DataSourceFactory dataSourceFactory = new DataSourceFactory();
+        dataSourceFactory.setUrl("jdbc:h2:mem:jdbi3-statistics-test");
+        dataSourceFactory.setUser("sa");
+        dataSourceFactory.setDriverClass("org.h2.Driver");
+        dataSourceFactory.asSingleConnectionPool();
+
+        final Jdbi jdbi = new JdbiFactory().build(environment, dataSourceFactory, "h2");
+        jdbi.useTransaction(h -> {
+            h.createScript(new String(ByteStreams.toByteArray(getClass().getResourceAsStream("/schema.sql")), StandardCharsets.UTF_8)).execute();
+            h.createScript(new String(ByteStreams.toByteArray(getClass().getResourceAsStream("/data.sql")), StandardCharsets.UTF_8)).execute();
+        });
+        // Capture every statement
+        jdbi.installPlugin(new SqlObjectStatisticsPlugin(metricRegistry, "h2", slowStatements, Duration.nanoseconds(0)));
+        dao = jdbi.onDemand(GameDao.class);
+        for (LifeCycle lc : environment.lifecycle().getManagedObjects()) {
+            lc.start();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (LifeCycle lc : environment.lifecycle().getManagedObjects()) {
+            lc.stop();
+        }
+    }
+
+    @Test
+    void recordsTheLatencyOfSqlObjectMethods() {
+        dao.findGameIds();
+        dao.findGameIds();
+
+        assertThat(metricRegistry.timer(MetricRegistry.name(GameDao.class, "h2", "findGameIds", "latency"))
+            .getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void recordsTheRowsReturnedBySqlObjectMethods() {
+        assertThat(dao.findGameIds()).hasSize(5);
+        assertThat(dao.findIdByTeamsAndDate("Vancouver Canucks", "NY Rangers", LocalDate.of(2016, 5, 14)))
+            .isEmpty();
+
+        assertThat(metricRegistry.histogram(MetricRegistry.name(GameDao.class, "h2", "findGameIds", "rows"))
+            .getSnapshot().getValues()).containsExactly(5);
+        assertThat(metricRegistry.histogram(
+            MetricRegistry.name(GameDao.class, "h2", "findIdByTeamsAndDate", "rows"))
+            .getSnapshot().getValues()).containsExactly(0);
+    }
+
+    @Test
+    void capturesTheMostRecentSlowStatementsWithoutTheirParameters() {
+        dao.findGameIds();
+        dao.findHomeTeamByGameId(Optional.of(4));
+        dao.findIdByTeamsAndDate("NY Rangers", "Vancouver Canucks", LocalDate.of(2016, 5, 14));
+
+        assertThat(slowStatements.getStatements())
+            .extracting(SlowStatements.SlowStatement::getSqlObjectMethod,
+                SlowStatements.SlowStatement::getParameterCount)
+            .containsExactly(
+                tuple("GameDao.findIdByTeamsAndDate", 2),
+                tuple("GameDao.findHomeTeamByGameId", 1));
+        assertThat(slowStatements.getStatements().get(0).getSql())
+            .contains("played_at = :played_at")
+            .doesNotContain("NY Rangers");
+        assertThat(metricRegistry.meter(MetricRegistry.name(SqlObjectStatisticsPlugin.class, "h2", "slow-statements"))
+            .getCount()).isEqualTo(3);
+    }
+
+    @Test
+    void listsAndClearsTheSlowStatements() throws Exception {
+        slowStatements.add(new SlowStatements.SlowStatement(Instant.EPOCH, 2_000_000, "GameDao.findGameIds",
+            "SELECT id FROM games ORDER BY id", 0));
+
+        final StringWriter output = new StringWriter();
+        new SlowStatementsTask("slow-statements", slowStatements)
+            .execute(Collections.singletonMap("clear", Collections.emptyList()), new PrintWriter(output));
+
+        assertThat(output.toString())
+            .isEqualTo(String.format("1970-01-01T00:00:00Z 2ms GameDao.findGameIds (0 parameters): " +
+                "SELECT id FROM games ORDER BY id%n"));
+        assertThat(slowStatements.getStatements()).isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package io.dropwizard.jersey.caching;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Buffers up to a limit, and passes everything through to the underlying stream once the limit is exceeded.
+ */
+class BoundedBufferOutputStream extends OutputStream {
+    private final OutputStream out;
+    private final int limit;
+
+    @Nullable
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    BoundedBufferOutputStream(OutputStream out, int limit) {
+        this.out = out;
+        this.limit = limit;
+    }
+
+    boolean isOverflowed() {
+        return buffer == null;
+    }
+
+    byte[] toByteArray() {
+        return buffer == null ? new byte[0] : buffer.toByteArray();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (buffer != null && buffer.size() + len > limit) {
+            buffer.writeTo(out);
+            buffer = null;
+        }
+        if (buffer == null) {
+            out.write(b, off, len);
+        } else {
+            buffer.write(b, off, len);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (buffer == null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The entity stream is owned by the container
+        flush();
+    }
+}
@@ -193,4 +193,15 @@ public @interface CacheControl {
      * @return the time unit of {@link #sharedMaxAge()}
      */
     TimeUnit sharedMaxAgeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * The names of the request headers which select the representation, sent in a {@code Vary} header.
+     * <p>
+     * If the response is cached in-process by the {@link ResponseCacheFeature}, the values of these headers
+     * are part of the cache key.
+     *
+     * @return the names of the request headers the response varies on
+     * @since 2.1.2
+     */
+    String[] vary() default {};
 }
@@ -30,6 +30,7 @@ public class CacheControlledResponseFeature implements DynamicFeature {
     private static class CacheControlledResponseFilter implements ContainerResponseFilter {
         private static final int ONE_YEAR_IN_SECONDS = (int) TimeUnit.DAYS.toSeconds(365);
         private String cacheResponseHeader;
+        private String varyHeader;
 
         CacheControlledResponseFilter(CacheControl control) {
             final javax.ws.rs.core.CacheControl cacheControl = new javax.ws.rs.core.CacheControl();
@@ -47,6 +48,7 @@ public class CacheControlledResponseFeature implements DynamicFeature {
             }
 
             cacheResponseHeader = cacheControl.toString();
+            varyHeader = String.join(", ", control.vary());
         }
 
         @Override
@@ -55,6 +57,9 @@ public class CacheControlledResponseFeature implements DynamicFeature {
             if (!cacheResponseHeader.isEmpty()) {
                 responseContext.getHeaders().add(HttpHeaders.CACHE_CONTROL, cacheResponseHeader);
             }
+            if (!varyHeader.isEmpty()) {
+                responseContext.getHeaders().add(HttpHeaders.VARY, varyHeader);
+            }
 
         }
 
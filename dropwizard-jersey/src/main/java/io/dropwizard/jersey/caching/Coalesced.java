@@ -0,0 +1,46 @@
+package io.dropwizard.jersey.caching;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An annotation which coalesces concurrent, identical {@code GET} requests to the annotated resource method, if
+ * the {@link RequestCoalescingFeature} is registered: only the first request is executed, and the others wait for
+ * it and receive a copy of its serialized response.
+ * <p>
+ * Requests are identical if their URI (including the query parameters), their {@code Accept} header and the
+ * headers listed in {@link #headers()} are equal. Responses which depend on the user must list the headers
+ * identifying the user, e.g. {@code Authorization}.
+ *
+ * @see RequestCoalescingFeature
+ * @since 2.1.2
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+    /**
+     * The request headers, in addition to {@code Accept}, which must be equal for requests to be coalesced.
+     *
+     * @return the names of the request headers
+     */
+    String[] headers() default {};
+
+    /**
+     * The maximum time a request waits for an identical request in flight, before it is executed itself.
+     *
+     * @return the maximum waiting time
+     */
+    long maxWait() default 5;
+
+    /**
+     * The time unit of {@link #maxWait()}.
+     *
+     * @return the time unit
+     */
+    TimeUnit maxWaitUnit() default TimeUnit.SECONDS;
+}
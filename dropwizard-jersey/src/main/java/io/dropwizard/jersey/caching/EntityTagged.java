@@ -0,0 +1,43 @@
+package io.dropwizard.jersey.caching;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation which adds a strong {@code ETag} header, derived from the serialized entity, to the successful
+ * {@code GET} responses of the annotated method (or of all methods of the annotated resource class). If the
+ * request's {@code If-None-Match} header matches the entity tag, the entity is replaced with a
+ * {@code 304 Not Modified} response.
+ * <p>
+ * Entities up to {@link #maxBufferSize()} bytes (64 KiB by default) are serialized once and buffered. Larger
+ * entities are not tagged, and a warning is logged the first time it happens for each resource method, unless
+ * {@link #hashLargeEntities()} is enabled. Entities which can only be read once (such as
+ * {@link java.io.InputStream}, {@link javax.ws.rs.core.StreamingOutput} or {@link java.util.stream.Stream}) are never
+ * tagged. Responses which already carry an {@code ETag} keep it.
+ *
+ * @see EntityTaggedResponseFeature
+ * @since 2.1.2
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EntityTagged {
+    /**
+     * The maximum number of bytes of the serialized entity which are buffered while computing the entity tag. Larger
+     * entities are not tagged.
+     *
+     * @return the maximum buffer size in bytes
+     */
+    int maxBufferSize() default 64 * 1024;
+
+    /**
+     * Whether entities larger than {@link #maxBufferSize()} are tagged as well, by serializing them an additional
+     * time into a hash without buffering them. Disabled by default.
+     *
+     * @return whether to serialize large entities twice in order to tag them
+     */
+    boolean hashLargeEntities() default false;
+}
@@ -0,0 +1,233 @@
+package io.dropwizard.jersey.caching;
+
+import io.dropwizard.jersey.jackson.StreamingJsonArray;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.glassfish.jersey.server.model.AnnotatedMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.BaseStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Adds strong {@code ETag} headers to the responses of resource methods annotated with {@link EntityTagged} and
+ * answers matching conditional {@code GET} requests with {@code 304 Not Modified}.
+ *
+ * @since 2.1.2
+ */
+@Provider
+public class EntityTaggedResponseFeature implements DynamicFeature {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityTaggedResponseFeature.class);
+
+    // Filters registered by a dynamic feature are not injected, so the feature looks up the writers for them
+    @Context
+    @Nullable
+    private javax.inject.Provider<MessageBodyWorkers> mbw;
+
+    @Override
+    public void configure(final ResourceInfo resourceInfo, final FeatureContext configuration) {
+        final AnnotatedMethod am = new AnnotatedMethod(resourceInfo.getResourceMethod());
+
+        EntityTagged tagged = am.getAnnotation(EntityTagged.class);
+        if (tagged == null) {
+            tagged = resourceInfo.getResourceClass().getAnnotation(EntityTagged.class);
+        }
+        if (tagged != null) {
+            configuration.register(new EntityTaggedResponseFilter(resourceInfo.getResourceMethod(),
+                tagged.maxBufferSize(), tagged.hashLargeEntities()));
+        }
+    }
+
+    private static boolean isSingleUse(@Nullable Object entity) {
+        return entity instanceof InputStream
+            || entity instanceof Reader
+            || entity instanceof StreamingOutput
+            || entity instanceof ChunkedOutput
+            || entity instanceof BaseStream
+            || entity instanceof Iterator
+            || entity instanceof StreamingJsonArray;
+    }
+
+    private class EntityTaggedResponseFilter implements ContainerResponseFilter {
+        private final Method method;
+        private final int maxBufferSize;
+        private final boolean hashLargeEntities;
+        private final AtomicBoolean loggedLargeEntity = new AtomicBoolean();
+
+        EntityTaggedResponseFilter(Method method, int maxBufferSize, boolean hashLargeEntities) {
+            this.method = method;
+            this.maxBufferSize = maxBufferSize;
+            this.hashLargeEntities = hashLargeEntities;
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        @Override
+        public void filter(ContainerRequestContext requestContext,
+                           ContainerResponseContext responseContext) throws IOException {
+            final String method = requestContext.getMethod();
+            if (!(HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method))
+                || responseContext.getStatus() != Response.Status.OK.getStatusCode()
+                || !responseContext.hasEntity()) {
+                return;
+            }
+
+            final Object existingTag = responseContext.getHeaders().getFirst(HttpHeaders.ETAG);
+            if (existingTag != null) {
+                notModifiedIfMatches(requestContext, responseContext, EntityTags.valueOf(existingTag));
+                return;
+            }
+
+            final Object entity = responseContext.getEntity();
+            if (isSingleUse(entity)) {
+                return;
+            }
+
+            final MediaType mediaType = responseContext.getMediaType();
+            final MessageBodyWriter writer = requireNonNull(mbw).get().getMessageBodyWriter(
+                responseContext.getEntityClass(), responseContext.getEntityType(),
+                responseContext.getEntityAnnotations(), mediaType);
+            if (writer == null) {
+                // Let Jersey report the missing writer
+                return;
+            }
+
+            // The writer may add headers, which must not be added if the entity isn't tagged
+            final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>(responseContext.getHeaders());
+            final BoundedOutputStream output = new BoundedOutputStream(maxBufferSize);
+            try {
+                writer.writeTo(entity, responseContext.getEntityClass(), responseContext.getEntityType(),
+                    responseContext.getEntityAnnotations(), mediaType, headers, output);
+            } catch (IOException | RuntimeException e) {
+                if (!output.isOverflowed()) {
+                    throw e;
+                }
+                if (!hashLargeEntities) {
+                    if (loggedLargeEntity.compareAndSet(false, true)) {
+                        LOGGER.warn("Not tagging the entities of {} which are larger than {} bytes", method,
+                            maxBufferSize);
+                    }
+                    return;
+                }
+
+                // Jersey serializes the entity again, including the headers added by the writer
+                final MessageDigest digest = EntityTags.newDigest();
+                writer.writeTo(entity, responseContext.getEntityClass(), responseContext.getEntityType(),
+                    responseContext.getEntityAnnotations(), mediaType,
+                    new MultivaluedHashMap<>(responseContext.getHeaders()),
+                    new DigestingOutputStream(digest));
+                final EntityTag entityTag = EntityTags.fromDigest(digest.digest());
+                responseContext.getHeaders().putSingle(HttpHeaders.ETAG, entityTag);
+                notModifiedIfMatches(requestContext, responseContext, entityTag);
+                return;
+            }
+
+            final byte[] buffered = output.toByteArray();
+            final EntityTag entityTag = EntityTags.of(buffered);
+            responseContext.getHeaders().putSingle(HttpHeaders.ETAG, entityTag);
+            if (notModifiedIfMatches(requestContext, responseContext, entityTag)) {
+                return;
+            }
+
+            responseContext.getHeaders().putAll(headers);
+            responseContext.setEntity(buffered, responseContext.getEntityAnnotations(), mediaType);
+        }
+
+        private boolean notModifiedIfMatches(ContainerRequestContext requestContext,
+                                             ContainerResponseContext responseContext,
+                                             EntityTag entityTag) {
+            if (!EntityTags.matches(requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH), entityTag)) {
+                return false;
+            }
+            responseContext.setStatusInfo(Response.Status.NOT_MODIFIED);
+            responseContext.setEntity(null);
+            responseContext.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+            return true;
+        }
+    }
+
+    /**
+     * Buffers everything written to it, and fails once a limit is exceeded.
+     */
+    private static class BoundedOutputStream extends ByteArrayOutputStream {
+        private final int limit;
+        private boolean overflowed;
+
+        BoundedOutputStream(int limit) {
+            this.limit = limit;
+        }
+
+        boolean isOverflowed() {
+            return overflowed;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            ensureCapacity(1);
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            ensureCapacity(len);
+            super.write(b, off, len);
+        }
+
+        private void ensureCapacity(int len) {
+            if (count + len > limit) {
+                overflowed = true;
+                throw new UncheckedIOException(new IOException("The entity is larger than " + limit + " bytes"));
+            }
+        }
+    }
+
+    /**
+     * Hashes everything written to it, without buffering it.
+     */
+    private static class DigestingOutputStream extends OutputStream {
+        private final MessageDigest digest;
+
+        DigestingOutputStream(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void write(int b) {
+            digest.update((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            digest.update(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.dropwizard.jersey.caching;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.core.EntityTag;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Helpers for strong entity tags derived from the serialized entity.
+ */
+final class EntityTags {
+    private static final String DIGEST_ALGORITHM = "MD5";
+    private static final Pattern COMMA = Pattern.compile(",");
+
+    private EntityTags() {
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support MD5
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static EntityTag fromDigest(byte[] digest) {
+        return new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(digest));
+    }
+
+    static EntityTag of(byte[] entity) {
+        return fromDigest(newDigest().digest(entity));
+    }
+
+    static EntityTag valueOf(Object header) {
+        return header instanceof EntityTag ? (EntityTag) header : EntityTag.valueOf(header.toString());
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against an entity tag, using the weak comparison function as
+     * required by RFC 7232.
+     *
+     * @param ifNoneMatch the value of the {@code If-None-Match} header, if any
+     * @param tag         the entity tag of the current representation
+     * @return {@code true} if the client's representation is current
+     */
+    static boolean matches(@Nullable String ifNoneMatch, EntityTag tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : COMMA.split(ifNoneMatch, -1)) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+                value = value.substring(1, value.length() - 1);
+            }
+            if (value.equals(tag.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,348 @@
+package io.dropwizard.jersey.caching;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.util.DataSize;
+import org.glassfish.jersey.server.model.AnnotatedMethod;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+import javax.annotation.Nullable;
+import javax.annotation.Priority;
+import javax.ws.rs.GET;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * An opt-in feature which coalesces concurrent, identical {@code GET} requests to resource methods annotated with
+ * {@link Coalesced}.
+ * <p>
+ * The first request is executed, while identical requests arriving before it has completed wait for its response
+ * and receive a copy of the serialized entity, its status and its headers. Requests which have waited longer than
+ * {@link Coalesced#maxWait()}, or whose leading response couldn't be shared (because it set a cookie, wasn't
+ * successful, failed or was larger than the maximum entry size), are executed themselves.
+ * <p>
+ * Waiting requests block their container threads, so at most {@link #DEFAULT_MAXIMUM_WAITING_REQUESTS} requests
+ * (or the configured maximum) wait at any time. Further identical requests are executed themselves.
+ * <p>
+ * The feature reports the number of executed, coalesced and timed out requests, of requests which couldn't wait
+ * because too many requests were waiting already, and the time spent waiting, as metrics:
+ *
+ * <pre>{@code
+ * environment.jersey().register(new RequestCoalescingFeature(environment.metrics()));
+ * }</pre>
+ *
+ * @since 2.1.2
+ */
+public class RequestCoalescingFeature implements DynamicFeature, ApplicationEventListener {
+    /**
+     * Responses larger than this are written to the leading client, but not shared.
+     */
+    public static final DataSize DEFAULT_MAXIMUM_ENTRY_SIZE = DataSize.mebibytes(1);
+
+    /**
+     * The maximum number of requests waiting for identical requests in flight at any time.
+     */
+    public static final int DEFAULT_MAXIMUM_WAITING_REQUESTS = 64;
+
+    private static final String LEADER_PROPERTY = RequestCoalescingFeature.class.getName() + ".leader";
+    private static final String FOLLOWER_PROPERTY = RequestCoalescingFeature.class.getName() + ".follower";
+
+    private final ConcurrentMap<String, InFlightRequest> inFlight = new ConcurrentHashMap<>();
+    private final int maximumEntryBytes;
+    private final Semaphore waiting;
+    private final Meter executed;
+    private final Meter coalesced;
+    private final Meter timeouts;
+    private final Meter overflows;
+    private final Timer waits;
+
+    /**
+     * Completes the requests whose leading request failed before its response was written, e.g. because it threw an
+     * unmapped exception or the client disconnected.
+     */
+    private final RequestEventListener finishedRequests = event -> {
+        if (event.getType() == RequestEvent.Type.FINISHED) {
+            final Object leader = event.getContainerRequest().getProperty(LEADER_PROPERTY);
+            if (leader instanceof InFlightRequest) {
+                complete((InFlightRequest) leader, null);
+            }
+        }
+    };
+
+    public RequestCoalescingFeature(MetricRegistry metricRegistry) {
+        this(metricRegistry, DEFAULT_MAXIMUM_ENTRY_SIZE);
+    }
+
+    /**
+     * @param metricRegistry   the application's registry of metrics
+     * @param maximumEntrySize the maximum size of a shared entity
+     */
+    public RequestCoalescingFeature(MetricRegistry metricRegistry, DataSize maximumEntrySize) {
+        this(metricRegistry, maximumEntrySize, DEFAULT_MAXIMUM_WAITING_REQUESTS);
+    }
+
+    /**
+     * @param metricRegistry         the application's registry of metrics
+     * @param maximumEntrySize       the maximum size of a shared entity
+     * @param maximumWaitingRequests the maximum number of requests waiting for identical requests at any time
+     */
+    public RequestCoalescingFeature(MetricRegistry metricRegistry, DataSize maximumEntrySize,
+                                    int maximumWaitingRequests) {
+        if (maximumWaitingRequests < 0) {
+            throw new IllegalArgumentException("maximumWaitingRequests must not be negative");
+        }
+        this.maximumEntryBytes = (int) Math.min(Integer.MAX_VALUE - 8, maximumEntrySize.toBytes());
+        this.waiting = new Semaphore(maximumWaitingRequests);
+        this.executed = metricRegistry.meter(name(RequestCoalescingFeature.class, "executed"));
+        this.coalesced = metricRegistry.meter(name(RequestCoalescingFeature.class, "coalesced"));
+        this.timeouts = metricRegistry.meter(name(RequestCoalescingFeature.class, "timeouts"));
+        this.overflows = metricRegistry.meter(name(RequestCoalescingFeature.class, "overflows"));
+        this.waits = metricRegistry.timer(name(RequestCoalescingFeature.class, "waits"));
+        metricRegistry.gauge(name(RequestCoalescingFeature.class, "in-flight"),
+            () -> (Gauge<Integer>) inFlight::size);
+        metricRegistry.gauge(name(RequestCoalescingFeature.class, "waiting"),
+            () -> (Gauge<Integer>) () -> maximumWaitingRequests - waiting.availablePermits());
+    }
+
+    @Override
+    public void configure(final ResourceInfo resourceInfo, final FeatureContext configuration) {
+        final AnnotatedMethod am = new AnnotatedMethod(resourceInfo.getResourceMethod());
+        final Coalesced coalescedAnnotation = am.getAnnotation(Coalesced.class);
+        if (coalescedAnnotation != null && am.isAnnotationPresent(GET.class)) {
+            configuration.register(new RequestCoalescingFilter(coalescedAnnotation));
+        }
+    }
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+        // Only the requests are of interest
+    }
+
+    @Override
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        return finishedRequests;
+    }
+
+    private void complete(InFlightRequest request, @Nullable CoalescedResponse response) {
+        // New requests must not join a request which has completed
+        inFlight.remove(request.key, request);
+        request.response.complete(response);
+    }
+
+    @Priority(Priorities.USER)
+    private class RequestCoalescingFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+        private final String[] headers;
+        private final long maxWaitNanos;
+
+        RequestCoalescingFilter(Coalesced coalesced) {
+            this.headers = coalesced.headers();
+            this.maxWaitNanos = coalesced.maxWaitUnit().toNanos(coalesced.maxWait());
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) throws IOException {
+            if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+                return;
+            }
+
+            final InFlightRequest request = new InFlightRequest(key(requestContext));
+            final InFlightRequest leader = inFlight.putIfAbsent(request.key, request);
+            if (leader == null) {
+                executed.mark();
+                requestContext.setProperty(LEADER_PROPERTY, request);
+                return;
+            }
+
+            if (!waiting.tryAcquire()) {
+                // Don't let waiting requests take up all the container threads
+                overflows.mark();
+                executed.mark();
+                return;
+            }
+            final CoalescedResponse response;
+            try {
+                response = await(leader);
+            } finally {
+                waiting.release();
+            }
+            if (response == null) {
+                executed.mark();
+                return;
+            }
+            coalesced.mark();
+            requestContext.setProperty(FOLLOWER_PROPERTY, response);
+            requestContext.abortWith(response.toResponse());
+        }
+
+        @Nullable
+        private CoalescedResponse await(InFlightRequest leader) {
+            try (Timer.Context ignored = waits.time()) {
+                return leader.response.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                timeouts.mark();
+                // Don't let a stuck request hold up identical requests any longer
+                inFlight.remove(leader.key, leader);
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext,
+                           ContainerResponseContext responseContext) throws IOException {
+            final Object follower = requestContext.getProperty(FOLLOWER_PROPERTY);
+            if (follower instanceof CoalescedResponse) {
+                ((CoalescedResponse) follower).copyHeadersTo(responseContext.getHeaders());
+                return;
+            }
+
+            final Object leader = requestContext.getProperty(LEADER_PROPERTY);
+            if (!(leader instanceof InFlightRequest)) {
+                return;
+            }
+
+            final InFlightRequest request = (InFlightRequest) leader;
+            request.status = responseContext.getStatus();
+            if (responseContext.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL
+                || responseContext.getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+                // Such responses may be transient or specific to the request, so the waiting requests execute themselves
+                requestContext.removeProperty(LEADER_PROPERTY);
+                complete(request, null);
+            } else if (!responseContext.hasEntity()) {
+                requestContext.removeProperty(LEADER_PROPERTY);
+                complete(request, new CoalescedResponse(request.status, null, responseContext.getHeaders(), null));
+            }
+        }
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            final Object follower = context.getProperty(FOLLOWER_PROPERTY);
+            if (follower instanceof CoalescedResponse) {
+                // Response filters may have added headers again after the request was aborted
+                ((CoalescedResponse) follower).copyHeadersTo(context.getHeaders());
+            }
+
+            final Object leader = context.getProperty(LEADER_PROPERTY);
+            if (!(leader instanceof InFlightRequest)) {
+                context.proceed();
+                return;
+            }
+
+            final InFlightRequest request = (InFlightRequest) leader;
+            CoalescedResponse response = null;
+            try {
+                final OutputStream entityStream = context.getOutputStream();
+                final BoundedBufferOutputStream buffer = new BoundedBufferOutputStream(entityStream, maximumEntryBytes);
+                context.setOutputStream(buffer);
+                context.proceed();
+                context.setOutputStream(entityStream);
+                if (!buffer.isOverflowed()) {
+                    final byte[] entity = buffer.toByteArray();
+                    entityStream.write(entity);
+                    response = new CoalescedResponse(request.status, context.getMediaType(), context.getHeaders(),
+                        entity);
+                }
+            } finally {
+                complete(request, response);
+            }
+        }
+
+        private String key(ContainerRequestContext request) {
+            final StringBuilder key = new StringBuilder(request.getUriInfo().getRequestUri().toString());
+            appendHeader(key, request, HttpHeaders.ACCEPT);
+            for (String header : headers) {
+                appendHeader(key, request, header);
+            }
+            return key.toString();
+        }
+
+        private void appendHeader(StringBuilder key, ContainerRequestContext request, String header) {
+            final String value = request.getHeaderString(header);
+            key.append('\n').append(header).append(':').append(value == null ? "" : value);
+        }
+    }
+
+    private static class InFlightRequest {
+        private final String key;
+        private final CompletableFuture<CoalescedResponse> response = new CompletableFuture<>();
+
+        // Written by the leading request, and published to the others by completing the response
+        private int status = Response.Status.OK.getStatusCode();
+
+        InFlightRequest(String key) {
+            this.key = key;
+        }
+    }
+
+    private static class CoalescedResponse {
+        private final int status;
+        @Nullable
+        private final MediaType mediaType;
+        private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        @Nullable
+        private final byte[] entity;
+
+        CoalescedResponse(int status, @Nullable MediaType mediaType, MultivaluedMap<String, Object> headers,
+                          @Nullable byte[] entity) {
+            this.status = status;
+            this.mediaType = mediaType;
+            this.entity = entity;
+            for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())) {
+                    this.headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+                }
+            }
+        }
+
+        Response toResponse() {
+            final Response.ResponseBuilder builder = Response.status(status);
+            if (entity != null) {
+                builder.entity(entity).type(mediaType);
+            }
+            return builder.build();
+        }
+
+        void copyHeadersTo(MultivaluedMap<String, Object> target) {
+            for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                target.put(header.getKey(), new ArrayList<>(header.getValue()));
+            }
+        }
+    }
+}
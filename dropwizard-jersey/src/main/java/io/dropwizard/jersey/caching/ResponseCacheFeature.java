@@ -0,0 +1,337 @@
+package io.dropwizard.jersey.caching;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.dropwizard.util.DataSize;
+import org.glassfish.jersey.server.model.AnnotatedMethod;
+
+import javax.annotation.Priority;
+import javax.ws.rs.GET;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * An opt-in, in-process cache for the responses of {@code GET} resource methods annotated with
+ * {@link CacheControl}.
+ * <p>
+ * Successful responses are stored as serialized bytes together with their status, their headers and a strong
+ * {@code ETag}, for as long as the
+ * annotation's {@code s-maxage} (or {@code max-age}) allows. Subsequent identical requests are answered from the
+ * cache without invoking the resource method, and with {@code 304 Not Modified} if their {@code If-None-Match}
+ * header matches. Requests are identical if their URI, their {@code Accept} header and the headers listed in
+ * {@link CacheControl#vary()} are equal; responses marked {@link CacheControl#isPrivate() private} are cached per
+ * user. Responses marked {@code no-cache} or {@code no-store} are never cached.
+ * <p>
+ * The cache is bounded by the total size of the stored entities and reports its hits, misses, evictions and
+ * size as metrics:
+ *
+ * <pre>{@code
+ * environment.jersey().register(new ResponseCacheFeature(environment.metrics(), DataSize.mebibytes(64)));
+ * }</pre>
+ *
+ * @since 2.1.2
+ */
+public class ResponseCacheFeature implements DynamicFeature {
+    /**
+     * Responses larger than this are written to the client, but not cached.
+     */
+    public static final DataSize DEFAULT_MAXIMUM_ENTRY_SIZE = DataSize.mebibytes(1);
+
+    private static final long ONE_YEAR_IN_SECONDS = TimeUnit.DAYS.toSeconds(365);
+    private static final String KEY_PROPERTY = ResponseCacheFeature.class.getName() + ".key";
+    private static final String CACHEABLE_PROPERTY = ResponseCacheFeature.class.getName() + ".cacheable";
+    private static final String HIT_PROPERTY = ResponseCacheFeature.class.getName() + ".hit";
+
+    /**
+     * Headers which describe a single transfer of a response, rather than the response itself.
+     */
+    private static final Set<String> UNCACHED_HEADERS = caseInsensitiveSet(HttpHeaders.CONTENT_LENGTH,
+        HttpHeaders.DATE, HttpHeaders.SET_COOKIE, "Connection", "Transfer-Encoding");
+
+    /**
+     * Headers which describe the entity, and aren't sent with {@code 304 Not Modified} responses.
+     */
+    private static final Set<String> ENTITY_HEADERS = caseInsensitiveSet(HttpHeaders.CONTENT_TYPE,
+        HttpHeaders.CONTENT_ENCODING, HttpHeaders.CONTENT_LANGUAGE, HttpHeaders.CONTENT_LOCATION);
+
+    private final Cache<String, CachedResponse> cache;
+    private final int maximumEntryBytes;
+    private final Meter hits;
+    private final Meter misses;
+    private final Meter notModified;
+    private final Meter evictions;
+
+    public ResponseCacheFeature(MetricRegistry metricRegistry, DataSize maximumSize) {
+        this(metricRegistry, maximumSize,
+            DataSize.bytes(Math.min(maximumSize.toBytes(), DEFAULT_MAXIMUM_ENTRY_SIZE.toBytes())));
+    }
+
+    /**
+     * @param metricRegistry   the application's registry of metrics
+     * @param maximumSize      the maximum total size of the cached entities
+     * @param maximumEntrySize the maximum size of a single cached entity
+     */
+    public ResponseCacheFeature(MetricRegistry metricRegistry, DataSize maximumSize, DataSize maximumEntrySize) {
+        this.maximumEntryBytes = (int) Math.min(Integer.MAX_VALUE - 8, maximumEntrySize.toBytes());
+        this.hits = metricRegistry.meter(name(ResponseCacheFeature.class, "hits"));
+        this.misses = metricRegistry.meter(name(ResponseCacheFeature.class, "misses"));
+        this.notModified = metricRegistry.meter(name(ResponseCacheFeature.class, "not-modified"));
+        this.evictions = metricRegistry.meter(name(ResponseCacheFeature.class, "evictions"));
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumSize.toBytes())
+            .weigher((String key, CachedResponse response) -> response.weight(key))
+            .expireAfter(new CachedResponseExpiry())
+            .removalListener((String key, CachedResponse response, RemovalCause cause) -> {
+                if (cause.wasEvicted()) {
+                    evictions.mark();
+                }
+            })
+            .build();
+        metricRegistry.gauge(name(ResponseCacheFeature.class, "entries"),
+            () -> (Gauge<Long>) cache::estimatedSize);
+        metricRegistry.gauge(name(ResponseCacheFeature.class, "bytes"),
+            () -> (Gauge<Long>) this::weightedSize);
+    }
+
+    private long weightedSize() {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+
+    @Override
+    public void configure(final ResourceInfo resourceInfo, final FeatureContext configuration) {
+        final AnnotatedMethod am = new AnnotatedMethod(resourceInfo.getResourceMethod());
+        final CacheControl cc = am.getAnnotation(CacheControl.class);
+        if (cc == null || !am.isAnnotationPresent(GET.class) || cc.noCache() || cc.noStore()) {
+            return;
+        }
+
+        final long timeToLiveSeconds = timeToLiveSeconds(cc);
+        if (timeToLiveSeconds > 0) {
+            configuration.register(new ResponseCachingFilter(cc, TimeUnit.SECONDS.toNanos(timeToLiveSeconds)));
+        }
+    }
+
+    private static Set<String> caseInsensitiveSet(String... values) {
+        final Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(Arrays.asList(values));
+        return set;
+    }
+
+    private static long timeToLiveSeconds(CacheControl control) {
+        if (control.immutable()) {
+            return ONE_YEAR_IN_SECONDS;
+        }
+        if (!control.isPrivate() && control.sharedMaxAge() >= 0) {
+            return control.sharedMaxAgeUnit().toSeconds(control.sharedMaxAge());
+        }
+        return control.maxAge() < 0 ? 0 : control.maxAgeUnit().toSeconds(control.maxAge());
+    }
+
+    @Priority(Priorities.USER)
+    private class ResponseCachingFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+        private final String[] vary;
+        private final boolean isPrivate;
+        private final long timeToLiveNanos;
+
+        ResponseCachingFilter(CacheControl control, long timeToLiveNanos) {
+            this.vary = control.vary();
+            this.isPrivate = control.isPrivate();
+            this.timeToLiveNanos = timeToLiveNanos;
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) throws IOException {
+            if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+                return;
+            }
+
+            final String key = key(requestContext);
+            final CachedResponse cached = cache.getIfPresent(key);
+            if (cached == null) {
+                misses.mark();
+                requestContext.setProperty(KEY_PROPERTY, key);
+                return;
+            }
+
+            hits.mark();
+            requestContext.setProperty(HIT_PROPERTY, cached);
+            if (EntityTags.matches(requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH), cached.entityTag)) {
+                notModified.mark();
+                requestContext.abortWith(Response.notModified(cached.entityTag).build());
+            } else {
+                requestContext.abortWith(Response.status(cached.status)
+                    .entity(cached.entity)
+                    .header(HttpHeaders.CONTENT_TYPE, cached.headers.getFirst(HttpHeaders.CONTENT_TYPE))
+                    .build());
+            }
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext,
+                           ContainerResponseContext responseContext) throws IOException {
+            final Object hit = requestContext.getProperty(HIT_PROPERTY);
+            if (hit != null) {
+                // Cached entities are sent with their headers by aroundWriteTo, once all the response filters have run
+                if (!responseContext.hasEntity()) {
+                    replayHeaders((CachedResponse) hit, responseContext.getHeaders(), false);
+                }
+                return;
+            }
+            if (requestContext.getProperty(KEY_PROPERTY) != null
+                && responseContext.getStatus() == Response.Status.OK.getStatusCode()
+                && responseContext.hasEntity()
+                && !responseContext.getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+                requestContext.setProperty(CACHEABLE_PROPERTY, responseContext.getStatus());
+            }
+        }
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            final Object hit = context.getProperty(HIT_PROPERTY);
+            if (hit != null) {
+                replayHeaders((CachedResponse) hit, context.getHeaders(), true);
+                context.proceed();
+                return;
+            }
+
+            final Object key = context.getProperty(KEY_PROPERTY);
+            if (key == null || context.getProperty(CACHEABLE_PROPERTY) == null) {
+                context.proceed();
+                return;
+            }
+
+            final OutputStream entityStream = context.getOutputStream();
+            final BoundedBufferOutputStream buffer = new BoundedBufferOutputStream(entityStream, maximumEntryBytes);
+            context.setOutputStream(buffer);
+            context.proceed();
+            context.setOutputStream(entityStream);
+            if (buffer.isOverflowed()) {
+                return;
+            }
+
+            final byte[] entity = buffer.toByteArray();
+            final Object existingTag = context.getHeaders().getFirst(HttpHeaders.ETAG);
+            final EntityTag entityTag = existingTag == null ? EntityTags.of(entity) : EntityTags.valueOf(existingTag);
+            context.getHeaders().putSingle(HttpHeaders.ETAG, entityTag);
+            entityStream.write(entity);
+            final Object status = context.getProperty(CACHEABLE_PROPERTY);
+            cache.put((String) key, new CachedResponse(entity, (Integer) status, cachedHeaders(context.getHeaders()),
+                entityTag, timeToLiveNanos));
+        }
+
+        private MultivaluedMap<String, Object> cachedHeaders(MultivaluedMap<String, Object> headers) {
+            final MultivaluedMap<String, Object> cachedHeaders = new MultivaluedHashMap<>();
+            for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                if (!UNCACHED_HEADERS.contains(header.getKey())) {
+                    cachedHeaders.put(header.getKey(), new ArrayList<>(header.getValue()));
+                }
+            }
+            return cachedHeaders;
+        }
+
+        /**
+         * Replaces the headers of a response with those of the cached response, so that the headers added by
+         * the resource method and the filters which ran when the response was cached are sent again.
+         */
+        private void replayHeaders(CachedResponse cached, MultivaluedMap<String, Object> headers,
+                                   boolean withEntity) {
+            headers.keySet().removeIf(header -> !UNCACHED_HEADERS.contains(header));
+            for (Map.Entry<String, List<Object>> header : cached.headers.entrySet()) {
+                if (withEntity || !ENTITY_HEADERS.contains(header.getKey())) {
+                    headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+                }
+            }
+        }
+
+        private String key(ContainerRequestContext request) {
+            final StringBuilder key = new StringBuilder(request.getUriInfo().getRequestUri().toString());
+            appendHeader(key, request, HttpHeaders.ACCEPT);
+            for (String header : vary) {
+                appendHeader(key, request, header);
+            }
+            if (isPrivate) {
+                final Principal principal = request.getSecurityContext().getUserPrincipal();
+                key.append('\n').append(principal == null ? "" : principal.getName());
+                appendHeader(key, request, HttpHeaders.AUTHORIZATION);
+                appendHeader(key, request, HttpHeaders.COOKIE);
+            }
+            return key.toString();
+        }
+
+        private void appendHeader(StringBuilder key, ContainerRequestContext request, String header) {
+            final String value = request.getHeaderString(header);
+            key.append('\n').append(header).append(':').append(value == null ? "" : value);
+        }
+    }
+
+    private static class CachedResponse {
+        private final byte[] entity;
+        private final int status;
+        private final MultivaluedMap<String, Object> headers;
+        private final EntityTag entityTag;
+        private final long timeToLiveNanos;
+
+        CachedResponse(byte[] entity, int status, MultivaluedMap<String, Object> headers, EntityTag entityTag,
+                       long timeToLiveNanos) {
+            this.entity = entity;
+            this.status = status;
+            this.headers = headers;
+            this.entityTag = entityTag;
+            this.timeToLiveNanos = timeToLiveNanos;
+        }
+
+        int weight(String key) {
+            return entity.length + key.length();
+        }
+    }
+
+    private static class CachedResponseExpiry implements Expiry<String, CachedResponse> {
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return value.timeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return value.timeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package io.dropwizard.jersey.jackson;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import javax.annotation.Nullable;
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Records the time spent in and the number of bytes handled by the Jackson providers, per media type.
+ * <p/>
+ * The interceptor runs after the entity coders, so the recorded sizes are those of the uncompressed entities.
+ */
+@Priority(Priorities.USER)
+class InstrumentedJacksonInterceptor implements ReaderInterceptor, WriterInterceptor {
+    private final FormatMetrics json;
+    private final List<FormatMetrics> binaryFormats = new ArrayList<>();
+
+    InstrumentedJacksonInterceptor(MetricRegistry metricRegistry, String name, Set<JacksonBinaryFormat> formats) {
+        this.json = new FormatMetrics(metricRegistry, name, "json", null);
+        for (JacksonBinaryFormat format : formats) {
+            binaryFormats.add(new FormatMetrics(metricRegistry, name, format.getMetricName(), format.getMediaType()));
+        }
+    }
+
+    @Override
+    public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
+        final FormatMetrics metrics = metricsFor(context.getMediaType());
+        if (metrics == null) {
+            return context.proceed();
+        }
+
+        final CountingInputStream input = new CountingInputStream(context.getInputStream());
+        context.setInputStream(input);
+        try (Timer.Context ignored = metrics.reads.time()) {
+            return context.proceed();
+        } finally {
+            metrics.readBytes.update(input.count);
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+        final FormatMetrics metrics = metricsFor(context.getMediaType());
+        if (metrics == null) {
+            context.proceed();
+            return;
+        }
+
+        final CountingOutputStream output = new CountingOutputStream(context.getOutputStream());
+        context.setOutputStream(output);
+        try (Timer.Context ignored = metrics.writes.time()) {
+            context.proceed();
+        } finally {
+            metrics.writeBytes.update(output.count);
+        }
+    }
+
+    @Nullable
+    private FormatMetrics metricsFor(@Nullable MediaType mediaType) {
+        if (mediaType == null) {
+            return null;
+        }
+
+        final String subtype = mediaType.getSubtype();
+        if ("json".equalsIgnoreCase(subtype) || subtype.toLowerCase(Locale.ROOT).endsWith("+json")) {
+            return json;
+        }
+        for (FormatMetrics metrics : binaryFormats) {
+            if (metrics.mediaType != null && metrics.mediaType.isCompatible(mediaType)) {
+                return metrics;
+            }
+        }
+        return null;
+    }
+
+    private static class FormatMetrics {
+        @Nullable
+        private final MediaType mediaType;
+        private final Timer reads;
+        private final Timer writes;
+        private final Histogram readBytes;
+        private final Histogram writeBytes;
+
+        FormatMetrics(MetricRegistry metricRegistry, String name, String format, @Nullable MediaType mediaType) {
+            this.mediaType = mediaType;
+            this.reads = metricRegistry.timer(name(name, format, "reads"));
+            this.writes = metricRegistry.timer(name(name, format, "writes"));
+            this.readBytes = metricRegistry.histogram(name(name, format, "read-bytes"));
+            this.writeBytes = metricRegistry.histogram(name(name, format, "write-bytes"));
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = in.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int n = in.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.jaxrs.cbor.CBORMediaTypes;
+import com.fasterxml.jackson.jaxrs.smile.SmileMediaTypes;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * The binary encodings which {@link JacksonFeature} can negotiate in addition to JSON.
+ *
+ * @since 2.1.2
+ */
+public enum JacksonBinaryFormat {
+    /**
+     * <a href="https://github.com/FasterXML/smile-format-specification">Smile</a>, served as
+     * {@code application/x-jackson-smile}.
+     */
+    SMILE(SmileMediaTypes.APPLICATION_JACKSON_SMILE, "smile") {
+        @Override
+        JsonFactory newFactory() {
+            return new SmileFactory();
+        }
+
+        @Override
+        Object newProvider(ObjectMapper mapper) {
+            return new JacksonSmileMessageBodyProvider(newObjectMapper(mapper));
+        }
+    },
+
+    /**
+     * <a href="https://tools.ietf.org/html/rfc8949">CBOR</a>, served as {@code application/cbor}.
+     */
+    CBOR(CBORMediaTypes.APPLICATION_JACKSON_CBOR, "cbor") {
+        @Override
+        JsonFactory newFactory() {
+            return new CBORFactory();
+        }
+
+        @Override
+        Object newProvider(ObjectMapper mapper) {
+            return new JacksonCborMessageBodyProvider(newObjectMapper(mapper));
+        }
+    };
+
+    // MediaType is mutable, so each caller gets its own instance
+    private final String mediaType;
+    private final String metricName;
+
+    JacksonBinaryFormat(String mediaType, String metricName) {
+        this.mediaType = mediaType;
+        this.metricName = metricName;
+    }
+
+    public MediaType getMediaType() {
+        return MediaType.valueOf(mediaType);
+    }
+
+    String getMetricName() {
+        return metricName;
+    }
+
+    abstract JsonFactory newFactory();
+
+    abstract Object newProvider(ObjectMapper mapper);
+
+    /**
+     * Creates an {@link ObjectMapper} which shares the configuration, registered modules, subtypes and
+     * injectable values of the given mapper, but reads and writes this binary format.
+     *
+     * @param mapper the configured JSON mapper
+     * @return a mapper for this binary format
+     */
+    public ObjectMapper newObjectMapper(ObjectMapper mapper) {
+        final ObjectMapper binaryMapper = new ObjectMapper(newFactory(),
+            ((DefaultSerializerProvider) mapper.getSerializerProvider()).copy(),
+            ((DefaultDeserializationContext) mapper.getDeserializationContext()).copy());
+        binaryMapper.setSerializerFactory(mapper.getSerializerFactory());
+        binaryMapper.setSubtypeResolver(mapper.getSubtypeResolver());
+        binaryMapper.setConfig(mapper.getSerializationConfig());
+        binaryMapper.setConfig(mapper.getDeserializationConfig());
+        binaryMapper.setInjectableValues(mapper.getInjectableValues());
+        return binaryMapper;
+    }
+}
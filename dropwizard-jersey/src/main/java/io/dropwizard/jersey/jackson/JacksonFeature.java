@@ -1,27 +1,75 @@
 package io.dropwizard.jersey.jackson;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import javax.annotation.Nullable;
 import javax.ws.rs.core.Feature;
 import javax.ws.rs.core.FeatureContext;
 import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.MessageBodyWriter;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * A binder that registers the Jackson JSON provider while allowing users to override.
+ * <p/>
+ * Optionally, providers for the {@link JacksonBinaryFormat binary formats} can be registered as well. They
+ * share the configuration and modules of the given {@link ObjectMapper}, so resources can negotiate
+ * {@code application/x-jackson-smile} or {@code application/cbor} without any changes. If a
+ * {@link MetricRegistry} is given, the time spent reading and writing entities and their sizes are recorded
+ * for each media type.
  *
  * @since 2.0
  */
 public class JacksonFeature implements Feature {
     private final ObjectMapper mapper;
+    private final Set<JacksonBinaryFormat> binaryFormats;
+
+    @Nullable
+    private final MetricRegistry metricRegistry;
+    private final String name;
 
     public JacksonFeature(ObjectMapper mapper) {
-        this.mapper = mapper;
+        this(mapper, Collections.emptySet());
+    }
+
+    /**
+     * @since 2.1.2
+     */
+    public JacksonFeature(ObjectMapper mapper, Set<JacksonBinaryFormat> binaryFormats) {
+        this(mapper, binaryFormats, null, JacksonFeature.class.getName());
+    }
+
+    /**
+     * @param mapper         the configured JSON mapper
+     * @param binaryFormats  the binary formats which should be supported in addition to JSON
+     * @param metricRegistry the registry for the per-media-type metrics, or {@code null} to disable them
+     * @param name           the prefix of the per-media-type metrics
+     * @since 2.1.2
+     */
+    public JacksonFeature(ObjectMapper mapper,
+                          Set<JacksonBinaryFormat> binaryFormats,
+                          @Nullable MetricRegistry metricRegistry,
+                          String name) {
+        this.mapper = requireNonNull(mapper);
+        this.binaryFormats = binaryFormats.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(binaryFormats);
+        this.metricRegistry = metricRegistry;
+        this.name = requireNonNull(name);
     }
 
     @Override
     public boolean configure(FeatureContext context) {
         context.register(new JacksonMessageBodyProvider(mapper), MessageBodyReader.class, MessageBodyWriter.class);
+        for (JacksonBinaryFormat format : binaryFormats) {
+            context.register(format.newProvider(mapper), MessageBodyReader.class, MessageBodyWriter.class);
+        }
+        if (metricRegistry != null) {
+            context.register(new InstrumentedJacksonInterceptor(metricRegistry, name, binaryFormats));
+        }
         return true;
     }
 }
@@ -0,0 +1,53 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.jaxrs.smile.JacksonJaxbSmileProvider;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.core.MediaType;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * A Jersey provider which enables using Jackson to parse request entities into objects and generate
+ * response entities from objects encoded as Smile.
+ * <p/>
+ * (Essentially, extends {@link JacksonJaxbSmileProvider} with support for {@link JsonIgnoreType}.)
+ *
+ * @see JacksonBinaryFormat#SMILE
+ * @since 2.1.2
+ */
+public class JacksonSmileMessageBodyProvider extends JacksonJaxbSmileProvider {
+    private final ObjectMapper mapper;
+
+    public JacksonSmileMessageBodyProvider(ObjectMapper mapper) {
+        this.mapper = mapper;
+        setMapper(mapper);
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type,
+                              @Nullable Type genericType,
+                              @Nullable Annotation[] annotations,
+                              @Nullable MediaType mediaType) {
+        return isProvidable(type) && super.isReadable(type, genericType, annotations, mediaType);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type,
+                               @Nullable Type genericType,
+                               @Nullable Annotation[] annotations,
+                               @Nullable MediaType mediaType) {
+        return isProvidable(type) && super.isWriteable(type, genericType, annotations, mediaType);
+    }
+
+    private boolean isProvidable(Class<?> type) {
+        final JsonIgnoreType ignore = type.getAnnotation(JsonIgnoreType.class);
+        return (ignore == null) || !ignore.value();
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return mapper;
+    }
+}
@@ -0,0 +1,93 @@
+package io.dropwizard.jersey.jackson;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A sequence of elements which is written to the client one element at a time by
+ * {@link StreamingJsonMessageBodyWriter}, either as a JSON array or as newline-delimited JSON.
+ * <p/>
+ * The underlying source is closed once the response has been written or the client has disconnected, which
+ * makes it possible to return e.g. the iterator of a JDBI {@code ResultIterable} from a resource method:
+ *
+ * <pre>{@code
+ * @GET
+ * @Produces({MediaType.APPLICATION_JSON, StreamingJsonMessageBodyWriter.APPLICATION_NDJSON})
+ * public StreamingJsonArray<Person> export() {
+ *     return StreamingJsonArray.of(handle.createQuery("SELECT * FROM people").mapTo(Person.class).iterator());
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the elements
+ * @since 2.1.2
+ */
+public final class StreamingJsonArray<T> implements AutoCloseable {
+    private final Iterator<? extends T> iterator;
+
+    @Nullable
+    private final AutoCloseable source;
+    private final int flushInterval;
+
+    private StreamingJsonArray(Iterator<? extends T> iterator, @Nullable AutoCloseable source, int flushInterval) {
+        this.iterator = requireNonNull(iterator);
+        this.source = source;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Creates a sequence backed by the given stream, which is closed once the sequence has been written.
+     */
+    public static <T> StreamingJsonArray<T> of(Stream<? extends T> stream) {
+        return new StreamingJsonArray<>(stream.iterator(), stream, 0);
+    }
+
+    /**
+     * Creates a sequence backed by the given iterator. If the iterator is {@link AutoCloseable}, it is closed
+     * once the sequence has been written.
+     */
+    public static <T> StreamingJsonArray<T> of(Iterator<? extends T> iterator) {
+        return new StreamingJsonArray<>(iterator, iterator instanceof AutoCloseable ? (AutoCloseable) iterator : null, 0);
+    }
+
+    /**
+     * Creates a sequence backed by the given iterator, closing the given source once the sequence has been
+     * written.
+     */
+    public static <T> StreamingJsonArray<T> of(Iterator<? extends T> iterator, AutoCloseable source) {
+        return new StreamingJsonArray<>(iterator, requireNonNull(source), 0);
+    }
+
+    /**
+     * Returns a copy of this sequence which flushes the response after every {@code elements} written elements,
+     * instead of using the interval configured in {@link StreamingJsonMessageBodyWriter}.
+     *
+     * @param elements the number of elements after which the response is flushed
+     */
+    public StreamingJsonArray<T> flushEvery(int elements) {
+        if (elements < 1) {
+            throw new IllegalArgumentException("Flush interval must be positive, but was " + elements);
+        }
+        return new StreamingJsonArray<>(iterator, source, elements);
+    }
+
+    Iterator<? extends T> iterator() {
+        return iterator;
+    }
+
+    /**
+     * @return the flush interval in elements, or {@code 0} if the writer's interval should be used
+     */
+    int getFlushInterval() {
+        return flushInterval;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (source != null) {
+            source.close();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * A Jersey provider which writes {@link Stream}, {@link Iterator} and {@link StreamingJsonArray} entities
+ * incrementally through a single {@link JsonGenerator}, so the elements never have to be held in memory all at
+ * once.
+ * <p/>
+ * For {@code application/json} the elements are written as a JSON array, for {@code application/x-ndjson} as
+ * newline-delimited JSON. The response is flushed to the client after every {@code flushInterval} elements, and
+ * the source of the elements is closed once the response has been written or the client has disconnected.
+ * <p/>
+ * This provider isn't registered by default:
+ *
+ * <pre>{@code
+ * environment.jersey().register(new StreamingJsonMessageBodyWriter(environment.getObjectMapper()));
+ * }</pre>
+ *
+ * @since 2.1.2
+ */
+@Provider
+@Produces({MediaType.APPLICATION_JSON, StreamingJsonMessageBodyWriter.APPLICATION_NDJSON})
+public class StreamingJsonMessageBodyWriter implements MessageBodyWriter<Object> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingJsonMessageBodyWriter.class);
+
+    /**
+     * The media type of newline-delimited JSON.
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    /**
+     * The media type of newline-delimited JSON.
+     */
+    public static final MediaType APPLICATION_NDJSON_TYPE = MediaType.valueOf(APPLICATION_NDJSON);
+
+    public static final int DEFAULT_FLUSH_INTERVAL = 100;
+
+    private final ObjectWriter writer;
+    private final int flushInterval;
+
+    public StreamingJsonMessageBodyWriter(ObjectMapper mapper) {
+        this(mapper, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * @param mapper        the mapper used to serialize the elements
+     * @param flushInterval the number of elements after which the response is flushed
+     */
+    public StreamingJsonMessageBodyWriter(ObjectMapper mapper, int flushInterval) {
+        if (flushInterval < 1) {
+            throw new IllegalArgumentException("Flush interval must be positive, but was " + flushInterval);
+        }
+        // Flushing is driven by the flush interval, and NDJSON lines are separated explicitly
+        this.writer = mapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("");
+        this.flushInterval = flushInterval;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type,
+                               @Nullable Type genericType,
+                               @Nullable Annotation[] annotations,
+                               @Nullable MediaType mediaType) {
+        return (StreamingJsonArray.class.isAssignableFrom(type)
+            || Stream.class.isAssignableFrom(type)
+            || Iterator.class.isAssignableFrom(type))
+            && (isNdjson(mediaType) || isJson(mediaType));
+    }
+
+    @Override
+    public void writeTo(Object entity,
+                        Class<?> type,
+                        Type genericType,
+                        Annotation[] annotations,
+                        MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        final StreamingJsonArray<?> array = toArray(entity);
+        try {
+            write(array, isNdjson(mediaType), entityStream);
+        } finally {
+            try {
+                array.close();
+            } catch (Exception e) {
+                LOGGER.warn("Unable to close the source of a streamed response", e);
+            }
+        }
+    }
+
+    private void write(StreamingJsonArray<?> array, boolean ndjson, OutputStream entityStream) throws IOException {
+        final int interval = array.getFlushInterval() > 0 ? array.getFlushInterval() : flushInterval;
+        try (JsonGenerator generator = writer.getFactory().createGenerator(entityStream)) {
+            // The container owns the entity stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+
+            final Iterator<?> iterator = array.iterator();
+            int unflushed = 0;
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+                if (++unflushed == interval) {
+                    generator.flush();
+                    unflushed = 0;
+                }
+            }
+
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    private static StreamingJsonArray<?> toArray(Object entity) {
+        if (entity instanceof StreamingJsonArray) {
+            return (StreamingJsonArray<?>) entity;
+        } else if (entity instanceof Stream) {
+            return StreamingJsonArray.of((Stream<?>) entity);
+        }
+        return StreamingJsonArray.of((Iterator<?>) entity);
+    }
+
+    private static boolean isNdjson(@Nullable MediaType mediaType) {
+        return mediaType != null && APPLICATION_NDJSON_TYPE.isCompatible(mediaType) && !mediaType.isWildcardSubtype();
+    }
+
+    private static boolean isJson(@Nullable MediaType mediaType) {
+        return mediaType != null && MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType);
+    }
+}
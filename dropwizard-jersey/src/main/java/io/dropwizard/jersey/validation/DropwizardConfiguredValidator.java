@@ -1,5 +1,7 @@
 package io.dropwizard.jersey.validation;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.dropwizard.validation.ConstraintViolations;
 import io.dropwizard.validation.Validated;
 import org.glassfish.jersey.server.internal.inject.ConfiguredValidator;
@@ -14,7 +16,12 @@ import javax.validation.Validator;
 import javax.validation.executable.ExecutableValidator;
 import javax.validation.groups.Default;
 import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.CascadableDescriptor;
+import javax.validation.metadata.ContainerDescriptor;
+import javax.validation.metadata.ElementDescriptor;
+import javax.validation.metadata.MethodDescriptor;
 import javax.ws.rs.WebApplicationException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -25,9 +32,15 @@ import static java.util.Objects.requireNonNull;
 
 public class DropwizardConfiguredValidator implements ConfiguredValidator {
     private static final Logger LOGGER = LoggerFactory.getLogger(DropwizardConfiguredValidator.class);
+    private static final Class<?>[] DEFAULT_GROUPS = {Default.class};
 
     private final Validator validator;
 
+    /**
+     * The validation plans of the invocables, which are compared by identity, and only kept while they're in use.
+     */
+    private final Cache<Invocable, ValidationPlan> plans = Caffeine.newBuilder().weakKeys().build();
+
     public DropwizardConfiguredValidator(Validator validator) {
         this.validator = requireNonNull(validator);
     }
@@ -35,20 +48,67 @@ public class DropwizardConfiguredValidator implements ConfiguredValidator {
     @Override
     public void validateResourceAndInputParams(Object resource, final Invocable invocable, Object[] objects)
             throws ConstraintViolationException {
-        final Class<?>[] groups = getGroup(invocable);
-        final Set<ConstraintViolation<Object>> violations = new HashSet<>();
-        final BeanDescriptor beanDescriptor = getConstraintsForClass(resource.getClass());
-
-        if (beanDescriptor.isBeanConstrained()) {
-            violations.addAll(validate(resource, groups));
+        final ValidationPlan plan = getPlan(resource, invocable);
+        final Set<ConstraintViolation<Object>> violations;
+        if (plan.beanConstrained) {
+            violations = new HashSet<>(validate(resource, plan.groups));
+            if (plan.parametersConstrained) {
+                violations.addAll(forExecutables().validateParameters(resource, invocable.getHandlingMethod(),
+                    objects, plan.groups));
+            }
+        } else if (plan.parametersConstrained) {
+            violations = forExecutables().validateParameters(resource, invocable.getHandlingMethod(), objects,
+                plan.groups);
+        } else {
+            // Nothing to validate
+            return;
         }
 
-        violations.addAll(forExecutables().validateParameters(resource, invocable.getHandlingMethod(), objects, groups));
         if (!violations.isEmpty()) {
             throw new JerseyViolationException(violations, invocable);
         }
     }
 
+    /**
+     * Returns the validation plan of an invocable, building it on first use.
+     */
+    private ValidationPlan getPlan(Object resource, Invocable invocable) {
+        final Class<?> resourceClass = resource.getClass();
+        final ValidationPlan plan = requireNonNull(plans.get(invocable, key -> plan(resourceClass, key)));
+        // The same invocable could be handled by instances of different classes
+        return plan.resourceClass == resourceClass ? plan : plan(resourceClass, invocable);
+    }
+
+    private ValidationPlan plan(Class<?> resourceClass, Invocable invocable) {
+        final Method method = invocable.getHandlingMethod();
+        final BeanDescriptor beanDescriptor = getConstraintsForClass(resourceClass);
+        final MethodDescriptor methodDescriptor =
+            beanDescriptor.getConstraintsForMethod(method.getName(), method.getParameterTypes());
+
+        final boolean parametersConstrained = methodDescriptor != null &&
+            (methodDescriptor.getCrossParameterDescriptor().hasConstraints() ||
+                methodDescriptor.getParameterDescriptors().stream()
+                    .anyMatch(DropwizardConfiguredValidator::isConstrained));
+        final boolean returnValueConstrained = methodDescriptor != null &&
+            isConstrained(methodDescriptor.getReturnValueDescriptor());
+
+        // If the Validated annotation is on a method, then validate the response with
+        // the specified constraint group.
+        final Validated validated = method.getAnnotation(Validated.class);
+        return new ValidationPlan(resourceClass, getGroup(invocable), beanDescriptor.isBeanConstrained(),
+            parametersConstrained, validated == null ? DEFAULT_GROUPS : validated.value(), returnValueConstrained);
+    }
+
+    /**
+     * Whether validating an element could raise a violation, because it's constrained, because it's validated in
+     * cascade, or because its container elements are.
+     */
+    private static <D extends ElementDescriptor & CascadableDescriptor & ContainerDescriptor> boolean isConstrained(
+        D descriptor) {
+        return descriptor.hasConstraints() || descriptor.isCascaded() ||
+            !descriptor.getConstrainedContainerElementTypes().isEmpty();
+    }
+
     /**
      * If the request entity is annotated with {@link Validated} then run
      * validations in the specified constraint group else validate with the
@@ -64,7 +124,7 @@ public class DropwizardConfiguredValidator implements ConfiguredValidator {
 
         switch (groups.size()) {
             // No parameters were annotated with Validated, so validate under the default group
-            case 0: return new Class<?>[] {Default.class};
+            case 0: return DEFAULT_GROUPS;
 
             // A single parameter was annotated with Validated, so use their group
             case 1: return groups.get(0);
@@ -90,17 +150,13 @@ public class DropwizardConfiguredValidator implements ConfiguredValidator {
     @Override
     public void validateResult(Object resource, Invocable invocable, Object returnValue)
             throws ConstraintViolationException {
-        // If the Validated annotation is on a method, then validate the response with
-        // the specified constraint group.
-        final Class<?>[] groups;
-        if (invocable.getHandlingMethod().isAnnotationPresent(Validated.class)) {
-            groups = invocable.getHandlingMethod().getAnnotation(Validated.class).value();
-        } else {
-            groups = new Class<?>[]{Default.class};
+        final ValidationPlan plan = getPlan(resource, invocable);
+        if (!plan.returnValueConstrained) {
+            return;
         }
 
         final Set<ConstraintViolation<Object>> violations =
-            forExecutables().validateReturnValue(resource, invocable.getHandlingMethod(), returnValue, groups);
+            forExecutables().validateReturnValue(resource, invocable.getHandlingMethod(), returnValue, plan.resultGroups);
         if (!violations.isEmpty()) {
             LOGGER.trace("Response validation failed: {}", ConstraintViolations.copyOf(violations));
             throw new JerseyViolationException(violations, invocable);
@@ -136,4 +192,27 @@ public class DropwizardConfiguredValidator implements ConfiguredValidator {
     public ExecutableValidator forExecutables() {
         return validator.forExecutables();
     }
+
+    /**
+     * What needs to be validated when an invocable is called, and with which groups.
+     */
+    private static final class ValidationPlan {
+        private final Class<?> resourceClass;
+        private final Class<?>[] groups;
+        private final boolean beanConstrained;
+        private final boolean parametersConstrained;
+        private final Class<?>[] resultGroups;
+        private final boolean returnValueConstrained;
+
+        private ValidationPlan(Class<?> resourceClass, Class<?>[] groups, boolean beanConstrained,
+                               boolean parametersConstrained, Class<?>[] resultGroups,
+                               boolean returnValueConstrained) {
+            this.resourceClass = resourceClass;
+            this.groups = groups;
+            this.beanConstrained = beanConstrained;
+            this.parametersConstrained = parametersConstrained;
+            this.resultGroups = resultGroups;
+            this.returnValueConstrained = returnValueConstrained;
+        }
+    }
 }
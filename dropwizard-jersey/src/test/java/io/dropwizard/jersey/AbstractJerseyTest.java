@@ -1,5 +1,6 @@
 package io.dropwizard.jersey;
 
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.logging.BootstrapLogging;
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.ClientProperties;
@@ -8,6 +9,8 @@ import org.glassfish.jersey.test.TestProperties;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 
+import javax.annotation.Nullable;
+
 /**
  * Extension of {@link JerseyTest} which provides commons features for tests of the `dropwizard-jersey` module.
  */
@@ -20,6 +23,10 @@ public abstract class AbstractJerseyTest extends JerseyTest {
         BootstrapLogging.bootstrap();
     }
 
+    // Created on demand, since JerseyTest calls configure() before the field initializers have run
+    @Nullable
+    private MetricRegistry metricRegistry;
+
     protected AbstractJerseyTest() {
         super();
         forceSet(TestProperties.CONTAINER_PORT, "0");
@@ -37,6 +44,18 @@ public abstract class AbstractJerseyTest extends JerseyTest {
         super.tearDown();
     }
 
+    /**
+     * @return the metric registry of the test, which the features registered in {@link #configure()} can use
+     */
+    protected MetricRegistry metricRegistry() {
+        MetricRegistry registry = metricRegistry;
+        if (registry == null) {
+            registry = new MetricRegistry();
+            metricRegistry = registry;
+        }
+        return registry;
+    }
+
     @Override
     protected void configureClient(ClientConfig config) {
         config.property(ClientProperties.CONNECT_TIMEOUT, DEFAULT_CONNECT_TIMEOUT_MS)
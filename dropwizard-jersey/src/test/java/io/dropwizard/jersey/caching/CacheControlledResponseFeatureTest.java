@@ -91,4 +91,12 @@ class CacheControlledResponseFeatureTest extends AbstractJerseyTest {
         assertThat(response.getHeaders().get(HttpHeaders.CACHE_CONTROL))
                 .containsOnly("no-transform, s-maxage=46800");
     }
+
+    @Test
+    void varyingResponsesHaveVaryHeaders() throws Exception {
+        final Response response = target("/caching/vary").request().get();
+
+        assertThat(response.getHeaders().get(HttpHeaders.VARY))
+                .containsOnly("Accept-Language, X-Tenant");
+    }
 }
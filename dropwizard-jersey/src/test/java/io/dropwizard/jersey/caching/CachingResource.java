@@ -71,4 +71,11 @@ public class CachingResource {
     public String showSharedMaxAge() {
         return "shared-max-age";
     }
+
+    @GET
+    @Path("/vary")
+    @CacheControl(maxAge = 1, vary = {"Accept-Language", "X-Tenant"})
+    public String showVary() {
+        return "vary";
+    }
 }
@@ -0,0 +1,210 @@
+package io.dropwizard.jersey.caching;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.jersey.jackson.JacksonFeature;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityTaggedResponseFeatureTest extends AbstractJerseyTest {
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting()
+            .register(new JacksonFeature(Jackson.newObjectMapper()))
+            .register(TaggedResource.class)
+            .register(UntaggedResource.class)
+            .register(HashedResource.class);
+    }
+
+    @Test
+    void tagsResponsesWithTheHashOfTheSerializedEntity() {
+        final Response response = target("/tagged/json").request().get();
+
+        assertThat(response.readEntity(String.class)).isEqualTo("{\"hello\":\"world\"}");
+        assertThat(response.getMediaType()).isEqualTo(MediaType.APPLICATION_JSON_TYPE);
+        assertThat(response.getEntityTag())
+            .isEqualTo(EntityTags.of("{\"hello\":\"world\"}".getBytes(StandardCharsets.UTF_8)));
+        assertThat(response.getEntityTag().isWeak()).isFalse();
+    }
+
+    @Test
+    void respondsWithNotModifiedForMatchingEntityTags() {
+        final EntityTag tag = target("/tagged/json").request().get().getEntityTag();
+        final Response response = target("/tagged/json").request()
+            .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + tag)
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getEntityTag()).isEqualTo(tag);
+        assertThat(response.hasEntity()).isFalse();
+    }
+
+    @Test
+    void respondsWithTheEntityForOtherEntityTags() {
+        final Response response = target("/tagged/json").request()
+            .header(HttpHeaders.IF_NONE_MATCH, "\"other\"")
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.readEntity(String.class)).isEqualTo("{\"hello\":\"world\"}");
+    }
+
+    @Test
+    void doesNotTagEntitiesLargerThanTheBuffer() {
+        final Response response = target("/tagged/large").request().get();
+
+        assertThat(response.readEntity(String.class)).hasSize(2048);
+        assertThat(response.getEntityTag()).isNull();
+    }
+
+    @Test
+    void stopsSerializingEntitiesOnceTheyAreLargerThanTheBuffer() {
+        Item.SERIALIZED.set(0);
+        final Response response = target("/tagged/large-json").request().get();
+
+        assertThat(response.readEntity(String.class)).startsWith("[{\"id\":0},");
+        assertThat(response.getEntityTag()).isNull();
+        // The aborted attempt to tag the entity serialized only a fraction of it
+        assertThat(Item.SERIALIZED.get()).isBetween(10_000, 15_000);
+    }
+
+    @Test
+    void tagsLargeEntitiesByHashingThemWhenEnabled() {
+        final Response response = target("/hashed/large").request().get();
+
+        final String entity = response.readEntity(String.class);
+        assertThat(entity).hasSize(2048);
+        assertThat(response.getEntityTag()).isEqualTo(EntityTags.of(entity.getBytes(StandardCharsets.UTF_8)));
+
+        final Response notModified = target("/hashed/large").request()
+            .header(HttpHeaders.IF_NONE_MATCH, response.getEntityTag().toString())
+            .get();
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.hasEntity()).isFalse();
+    }
+
+    @Test
+    void keepsExistingEntityTags() {
+        final Response response = target("/tagged/explicit").request().get();
+        assertThat(response.getEntityTag()).isEqualTo(new EntityTag("v1"));
+
+        assertThat(target("/tagged/explicit").request().header(HttpHeaders.IF_NONE_MATCH, "W/\"v1\"").get().getStatus())
+            .isEqualTo(304);
+    }
+
+    @Test
+    void doesNotTagSingleUseEntities() {
+        final Response response = target("/tagged/streaming").request().get();
+
+        assertThat(response.readEntity(String.class)).isEqualTo("streamed");
+        assertThat(response.getEntityTag()).isNull();
+    }
+
+    @Test
+    void onlyTagsAnnotatedResources() {
+        final Response response = target("/untagged").request().get();
+
+        assertThat(response.readEntity(String.class)).isEqualTo("untagged");
+        assertThat(response.getEntityTag()).isNull();
+    }
+
+    @Path("/tagged")
+    @EntityTagged(maxBufferSize = 1024)
+    public static class TaggedResource {
+        @GET
+        @Path("/json")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Map<String, String> showJson() {
+            return Collections.singletonMap("hello", "world");
+        }
+
+        @GET
+        @Path("/large")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String showLarge() {
+            final char[] entity = new char[2048];
+            Arrays.fill(entity, 'x');
+            return new String(entity);
+        }
+
+        @GET
+        @Path("/large-json")
+        @Produces(MediaType.APPLICATION_JSON)
+        public List<Item> showLargeJson() {
+            return IntStream.range(0, 10_000).mapToObj(Item::new).collect(Collectors.toList());
+        }
+
+        @GET
+        @Path("/explicit")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Response showExplicit() {
+            return Response.ok("explicit").tag("v1").build();
+        }
+
+        @GET
+        @Path("/streaming")
+        @Produces(MediaType.TEXT_PLAIN)
+        public StreamingOutput showStreaming() {
+            return output -> output.write("streamed".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Path("/hashed")
+    @EntityTagged(maxBufferSize = 1024, hashLargeEntities = true)
+    public static class HashedResource {
+        @GET
+        @Path("/large")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String showLarge() {
+            final char[] entity = new char[2048];
+            Arrays.fill(entity, 'y');
+            return new String(entity);
+        }
+    }
+
+    public static class Item {
+        static final AtomicInteger SERIALIZED = new AtomicInteger();
+
+        private final int id;
+
+        Item(int id) {
+            this.id = id;
+        }
+
+        @JsonProperty
+        public int getId() {
+            SERIALIZED.incrementAndGet();
+            return id;
+        }
+    }
+
+    @Path("/untagged")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class UntaggedResource {
+        @GET
+        public String show() {
+            return "untagged";
+        }
+    }
+}
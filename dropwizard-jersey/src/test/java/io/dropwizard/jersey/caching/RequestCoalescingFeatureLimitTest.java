@@ -0,0 +1,80 @@
+package io.dropwizard.jersey.caching;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.util.DataSize;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class RequestCoalescingFeatureLimitTest extends AbstractJerseyTest {
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+    private static final CountDownLatch BOTH_INVOKED = new CountDownLatch(2);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting()
+            .register(new RequestCoalescingFeature(metricRegistry(),
+                RequestCoalescingFeature.DEFAULT_MAXIMUM_ENTRY_SIZE, 0))
+            .register(CoalescedResource.class);
+    }
+
+    @AfterEach
+    void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void executesRequestsWhichCannotWaitThemselves() throws Exception {
+        final List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            responses.add(executor.submit(() -> target("/coalesced").request().get(String.class)));
+        }
+
+        for (Future<String> response : responses) {
+            assertThat(response.get(10, TimeUnit.SECONDS)).startsWith("coalesced-");
+        }
+        assertThat(INVOCATIONS).hasValue(2);
+        assertThat(metricRegistry().meter(MetricRegistry.name(RequestCoalescingFeature.class,
+            "overflows")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsNegativeLimits() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new RequestCoalescingFeature(new MetricRegistry(), DataSize.mebibytes(1), -1));
+    }
+
+    @Path("/coalesced")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class CoalescedResource {
+        @GET
+        @Coalesced
+        public String show() throws InterruptedException {
+            final int invocation = INVOCATIONS.incrementAndGet();
+            // Both requests are in flight at once, so the second one would wait if it could
+            BOTH_INVOKED.countDown();
+            BOTH_INVOKED.await(10, TimeUnit.SECONDS);
+            return "coalesced-" + invocation;
+        }
+    }
+}
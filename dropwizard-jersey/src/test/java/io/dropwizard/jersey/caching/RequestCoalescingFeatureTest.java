@@ -0,0 +1,228 @@
+package io.dropwizard.jersey.caching;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Priority;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.NewCookie;
+import javax.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescingFeatureTest extends AbstractJerseyTest {
+    // The test container only has two worker threads
+    private static final int CONCURRENT_REQUESTS = 2;
+    private static final AtomicInteger ARRIVALS = new AtomicInteger();
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+    private static volatile CountDownLatch release = new CountDownLatch(1);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting()
+            .register(new RequestCoalescingFeature(metricRegistry()))
+            .register(ArrivalCountingFilter.class)
+            .register(CoalescedResource.class);
+    }
+
+    @BeforeEach
+    void reset() {
+        ARRIVALS.set(0);
+        INVOCATIONS.set(0);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    private long meter(String name) {
+        return metricRegistry().meter(MetricRegistry.name(RequestCoalescingFeature.class, name))
+            .getCount();
+    }
+
+    private List<Future<Response>> sendConcurrently(String path) throws Exception {
+        final List<Future<Response>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(executor.submit(() -> target(path).request().get()));
+        }
+        while (ARRIVALS.get() < CONCURRENT_REQUESTS || INVOCATIONS.get() == 0) {
+            Thread.sleep(10);
+        }
+        // Give the last requests time to start waiting for the first one
+        Thread.sleep(100);
+        return responses;
+    }
+
+    @Test
+    void executesConcurrentIdenticalRequestsOnce() throws Exception {
+        final List<Future<Response>> responses = sendConcurrently("/coalesced/slow");
+        release.countDown();
+
+        for (Future<Response> future : responses) {
+            final Response response = future.get(10, TimeUnit.SECONDS);
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getMediaType()).isEqualTo(MediaType.TEXT_PLAIN_TYPE);
+            assertThat(response.getHeaderString("X-Invocation")).isEqualTo("1");
+            assertThat(response.getHeaders().get("X-Invocation")).hasSize(1);
+            assertThat(response.readEntity(String.class)).isEqualTo("slow-1");
+        }
+        assertThat(INVOCATIONS).hasValue(1);
+        assertThat(meter("executed")).isEqualTo(1);
+        assertThat(meter("coalesced")).isEqualTo(CONCURRENT_REQUESTS - 1);
+        assertThat(metricRegistry().getGauges())
+            .containsKey(MetricRegistry.name(RequestCoalescingFeature.class, "in-flight"));
+    }
+
+    @Test
+    void executesSequentialRequestsEachTime() {
+        release.countDown();
+
+        assertThat(target("/coalesced/slow").request().get(String.class)).isEqualTo("slow-1");
+        assertThat(target("/coalesced/slow").request().get(String.class)).isEqualTo("slow-2");
+        assertThat(meter("coalesced")).isZero();
+    }
+
+    @Test
+    void executesWaitingRequestsAfterTheMaximumWait() throws Exception {
+        final List<Future<Response>> responses = sendConcurrently("/coalesced/impatient");
+        release.countDown();
+
+        for (Future<Response> future : responses) {
+            assertThat(future.get(10, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        }
+        assertThat(INVOCATIONS.get()).isGreaterThan(1);
+        assertThat(meter("timeouts")).isPositive();
+    }
+
+    @Test
+    void doesNotShareResponsesWhichSetCookies() throws Exception {
+        final List<Future<Response>> responses = sendConcurrently("/coalesced/cookie");
+        release.countDown();
+
+        for (Future<Response> future : responses) {
+            assertThat(future.get(10, TimeUnit.SECONDS).getCookies()).containsKey("session");
+        }
+        assertThat(INVOCATIONS).hasValue(CONCURRENT_REQUESTS);
+        assertThat(meter("coalesced")).isZero();
+    }
+
+    @Test
+    void doesNotShareUnsuccessfulResponses() throws Exception {
+        final List<Future<Response>> responses = sendConcurrently("/coalesced/failing");
+        release.countDown();
+
+        final List<Integer> statuses = new ArrayList<>();
+        for (Future<Response> future : responses) {
+            statuses.add(future.get(10, TimeUnit.SECONDS).getStatus());
+        }
+        assertThat(statuses).containsExactlyInAnyOrder(503, 200);
+        assertThat(INVOCATIONS).hasValue(CONCURRENT_REQUESTS);
+        assertThat(meter("coalesced")).isZero();
+    }
+
+    @Test
+    void executesWaitingRequestsIfTheLeadingRequestThrows() throws Exception {
+        final List<Future<Response>> responses = sendConcurrently("/coalesced/throwing");
+        release.countDown();
+
+        final List<Integer> statuses = new ArrayList<>();
+        for (Future<Response> future : responses) {
+            statuses.add(future.get(10, TimeUnit.SECONDS).getStatus());
+        }
+        assertThat(statuses).containsExactlyInAnyOrder(500, 200);
+        assertThat(meter("timeouts")).isZero();
+        assertThat(requireNonNull(metricRegistry().getGauges()
+            .get(MetricRegistry.name(RequestCoalescingFeature.class, "in-flight"))).getValue()).isEqualTo(0);
+    }
+
+    @Priority(1)
+    public static class ArrivalCountingFilter implements ContainerRequestFilter {
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            ARRIVALS.incrementAndGet();
+        }
+    }
+
+    @Path("/coalesced")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class CoalescedResource {
+        @GET
+        @Path("/slow")
+        @Coalesced
+        public Response showSlow() throws InterruptedException {
+            final int invocation = INVOCATIONS.incrementAndGet();
+            release.await(10, TimeUnit.SECONDS);
+            return Response.ok("slow-" + invocation).header("X-Invocation", invocation).build();
+        }
+
+        @GET
+        @Path("/impatient")
+        @Coalesced(maxWait = 10, maxWaitUnit = TimeUnit.MILLISECONDS)
+        public String showImpatient() throws InterruptedException {
+            final int invocation = INVOCATIONS.incrementAndGet();
+            if (invocation == 1) {
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return "impatient-" + invocation;
+        }
+
+        @GET
+        @Path("/failing")
+        @Coalesced
+        public Response showFailing() throws InterruptedException {
+            final int invocation = INVOCATIONS.incrementAndGet();
+            if (invocation == 1) {
+                release.await(10, TimeUnit.SECONDS);
+                return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
+            }
+            return Response.ok("failing-" + invocation).build();
+        }
+
+        @GET
+        @Path("/throwing")
+        @Coalesced(maxWait = 10, maxWaitUnit = TimeUnit.SECONDS)
+        public String showThrowing() throws InterruptedException {
+            final int invocation = INVOCATIONS.incrementAndGet();
+            if (invocation == 1) {
+                release.await(10, TimeUnit.SECONDS);
+                // Not mapped by the test application
+                throw new IllegalStateException("Unmapped");
+            }
+            return "throwing-" + invocation;
+        }
+
+        @GET
+        @Path("/cookie")
+        @Coalesced
+        public Response showCookie() throws InterruptedException {
+            final int invocation = INVOCATIONS.incrementAndGet();
+            if (invocation == 1) {
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return Response.ok("cookie-" + invocation).cookie(new NewCookie("session", "s" + invocation)).build();
+        }
+    }
+}
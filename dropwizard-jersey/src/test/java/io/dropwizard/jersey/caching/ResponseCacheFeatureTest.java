@@ -0,0 +1,203 @@
+package io.dropwizard.jersey.caching;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.util.DataSize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFeatureTest extends AbstractJerseyTest {
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting()
+            .register(new ResponseCacheFeature(metricRegistry(), DataSize.kibibytes(64), DataSize.kibibytes(1)))
+            .register(CachedResource.class);
+    }
+
+    @BeforeEach
+    void resetInvocations() {
+        INVOCATIONS.set(0);
+    }
+
+    private long meter(String name) {
+        return metricRegistry().meter(MetricRegistry.name(ResponseCacheFeature.class, name)).getCount();
+    }
+
+    @Test
+    void servesRepeatedRequestsFromTheCache() {
+        final Response first = target("/cached/public").request().get();
+        final Response second = target("/cached/public").request().get();
+
+        assertThat(first.readEntity(String.class)).isEqualTo("public-1");
+        assertThat(second.readEntity(String.class)).isEqualTo("public-1");
+        assertThat(second.getMediaType()).isEqualTo(MediaType.TEXT_PLAIN_TYPE);
+        assertThat(second.getEntityTag()).isEqualTo(first.getEntityTag()).isNotNull();
+        assertThat(second.getHeaderString(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-transform, max-age=60");
+        assertThat(INVOCATIONS).hasValue(1);
+        assertThat(meter("misses")).isEqualTo(1);
+        assertThat(meter("hits")).isEqualTo(1);
+        assertThat(metricRegistry().getGauges())
+            .containsKeys(MetricRegistry.name(ResponseCacheFeature.class, "bytes"),
+                MetricRegistry.name(ResponseCacheFeature.class, "entries"));
+    }
+
+    @Test
+    void servesCachedResponsesWithTheirHeaders() {
+        final Response first = target("/cached/headers").request().get();
+        final Response second = target("/cached/headers").request().get();
+
+        assertThat(second.readEntity(String.class)).isEqualTo(first.readEntity(String.class)).isEqualTo("headers-1");
+        assertThat(second.getStatus()).isEqualTo(first.getStatus());
+        assertThat(headers(second)).isEqualTo(headers(first))
+            .containsEntry("X-Custom", "custom")
+            .containsEntry(HttpHeaders.CONTENT_LANGUAGE, "fr")
+            .containsEntry(HttpHeaders.VARY, "X-Tenant")
+            .containsKeys(HttpHeaders.CACHE_CONTROL, HttpHeaders.ETAG);
+        assertThat(INVOCATIONS).hasValue(1);
+
+        final Response notModified = target("/cached/headers").request()
+            .header(HttpHeaders.IF_NONE_MATCH, first.getEntityTag())
+            .get();
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getHeaderString("X-Custom")).isEqualTo("custom");
+        assertThat(notModified.getHeaderString(HttpHeaders.CACHE_CONTROL))
+            .isEqualTo(first.getHeaderString(HttpHeaders.CACHE_CONTROL));
+    }
+
+    private static Map<String, String> headers(Response response) {
+        final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        response.getStringHeaders().forEach((name, values) -> headers.put(name, String.join(",", values)));
+        headers.remove(HttpHeaders.DATE);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        return headers;
+    }
+
+    @Test
+    void respondsWithNotModifiedForMatchingEntityTags() {
+        final Response first = target("/cached/public").request().get();
+        final Response second = target("/cached/public").request()
+            .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + first.getEntityTag())
+            .get();
+
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getEntityTag()).isEqualTo(first.getEntityTag());
+        assertThat(meter("not-modified")).isEqualTo(1);
+    }
+
+    @Test
+    void variesOnTheSelectedHeaders() {
+        assertThat(target("/cached/vary").request().header("X-Tenant", "a").get(String.class)).isEqualTo("vary-1");
+        assertThat(target("/cached/vary").request().header("X-Tenant", "b").get(String.class)).isEqualTo("vary-2");
+        assertThat(target("/cached/vary").request().header("X-Tenant", "a").get(String.class)).isEqualTo("vary-1");
+        assertThat(target("/cached/vary").request().header("X-Unrelated", "c").header("X-Tenant", "b").get(String.class))
+            .isEqualTo("vary-2");
+    }
+
+    @Test
+    void cachesPrivateResponsesPerUser() {
+        assertThat(target("/cached/private").request().header(HttpHeaders.AUTHORIZATION, "a").get(String.class))
+            .isEqualTo("private-1");
+        assertThat(target("/cached/private").request().header(HttpHeaders.AUTHORIZATION, "b").get(String.class))
+            .isEqualTo("private-2");
+        assertThat(target("/cached/private").request().header(HttpHeaders.AUTHORIZATION, "a").get(String.class))
+            .isEqualTo("private-1");
+    }
+
+    @Test
+    void doesNotCacheNoCacheResponses() {
+        assertThat(target("/cached/no-cache").request().get(String.class)).isEqualTo("no-cache-1");
+        assertThat(target("/cached/no-cache").request().get(String.class)).isEqualTo("no-cache-2");
+    }
+
+    @Test
+    void doesNotCacheResponsesWithoutMaxAge() {
+        assertThat(target("/cached/no-max-age").request().get(String.class)).isEqualTo("no-max-age-1");
+        assertThat(target("/cached/no-max-age").request().get(String.class)).isEqualTo("no-max-age-2");
+    }
+
+    @Test
+    void doesNotCacheResponsesLargerThanTheMaximumEntrySize() {
+        final Response first = target("/cached/large").request().get();
+
+        assertThat(first.readEntity(String.class)).hasSize(2048).startsWith("1");
+        assertThat(first.getEntityTag()).isNull();
+        assertThat(target("/cached/large").request().get(String.class)).startsWith("2");
+    }
+
+    @Path("/cached")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class CachedResource {
+        @GET
+        @Path("/public")
+        @CacheControl(maxAge = 60)
+        public String showPublic() {
+            return "public-" + INVOCATIONS.incrementAndGet();
+        }
+
+        @GET
+        @Path("/vary")
+        @CacheControl(maxAge = 60, vary = "X-Tenant")
+        public String showVary() {
+            return "vary-" + INVOCATIONS.incrementAndGet();
+        }
+
+        @GET
+        @Path("/headers")
+        @CacheControl(maxAge = 60, vary = "X-Tenant")
+        public Response showHeaders() {
+            return Response.ok("headers-" + INVOCATIONS.incrementAndGet())
+                .header("X-Custom", "custom")
+                .language(Locale.FRENCH)
+                .build();
+        }
+
+        @GET
+        @Path("/private")
+        @CacheControl(maxAge = 60, isPrivate = true)
+        public String showPrivate() {
+            return "private-" + INVOCATIONS.incrementAndGet();
+        }
+
+        @GET
+        @Path("/no-cache")
+        @CacheControl(maxAge = 60, noCache = true)
+        public String showNoCache() {
+            return "no-cache-" + INVOCATIONS.incrementAndGet();
+        }
+
+        @GET
+        @Path("/no-max-age")
+        @CacheControl(mustRevalidate = true)
+        public String showNoMaxAge() {
+            return "no-max-age-" + INVOCATIONS.incrementAndGet();
+        }
+
+        @GET
+        @Path("/large")
+        @CacheControl(maxAge = 60)
+        public String showLarge() {
+            final char[] entity = new char[2048];
+            Arrays.fill(entity, 'x');
+            entity[0] = Character.forDigit(INVOCATIONS.incrementAndGet(), 10);
+            return new String(entity);
+        }
+    }
+}
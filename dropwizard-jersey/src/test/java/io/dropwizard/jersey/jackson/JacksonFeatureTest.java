@@ -0,0 +1,132 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.glassfish.jersey.client.ClientConfig;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonFeatureTest extends AbstractJerseyTest {
+    private static final String SMILE = "application/x-jackson-smile";
+    private static final String CBOR = "application/cbor";
+
+    private static ObjectMapper newObjectMapper() {
+        final ObjectMapper mapper = Jackson.newObjectMapper();
+        mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        return mapper;
+    }
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting()
+            .register(new JacksonFeature(newObjectMapper(), EnumSet.allOf(JacksonBinaryFormat.class),
+                metricRegistry(), "server"))
+            .register(BinaryResource.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        super.configureClient(config);
+        config.register(new JacksonFeature(newObjectMapper(), EnumSet.allOf(JacksonBinaryFormat.class)));
+    }
+
+    @Test
+    void negotiatesJson() throws Exception {
+        final Response response = target("/binary").request(MediaType.APPLICATION_JSON_TYPE).get();
+
+        assertThat(response.getMediaType()).isEqualTo(MediaType.APPLICATION_JSON_TYPE);
+        assertThat(new ObjectMapper().readTree(response.readEntity(byte[].class)).get("first_name").asText())
+            .isEqualTo("Coda");
+        assertThat(metricRegistry().timer("server.json.writes").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void negotiatesSmileWithTheSameConfiguration() throws Exception {
+        final Response response = target("/binary").request(SMILE).get();
+
+        assertThat(response.getMediaType()).isEqualTo(MediaType.valueOf(SMILE));
+        final JsonNode node = new ObjectMapper(new SmileFactory()).readTree(response.readEntity(byte[].class));
+        assertThat(node.get("first_name").asText()).isEqualTo("Coda");
+        assertThat(metricRegistry().timer("server.smile.writes").getCount()).isEqualTo(1);
+        assertThat(metricRegistry().histogram("server.smile.write-bytes").getSnapshot().getMax()).isPositive();
+    }
+
+    @Test
+    void negotiatesCborWithTheSameConfiguration() throws Exception {
+        final Response response = target("/binary").request(CBOR).get();
+
+        assertThat(response.getMediaType()).isEqualTo(MediaType.valueOf(CBOR));
+        final JsonNode node = new ObjectMapper(new CBORFactory()).readTree(response.readEntity(byte[].class));
+        assertThat(node.get("first_name").asText()).isEqualTo("Coda");
+        assertThat(metricRegistry().timer("server.cbor.writes").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void roundTripsBinaryEntities() {
+        final Person person = target("/binary")
+            .request(CBOR)
+            .post(Entity.entity(new Person("Coda"), SMILE), Person.class);
+
+        assertThat(person.firstName).isEqualTo("Coda!");
+        assertThat(metricRegistry().timer("server.smile.reads").getCount()).isEqualTo(1);
+        assertThat(metricRegistry().timer("server.cbor.writes").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void binaryMappersShareTheConfiguredModules() {
+        final ObjectMapper mapper = newObjectMapper();
+        final ObjectMapper smileMapper = JacksonBinaryFormat.SMILE.newObjectMapper(mapper);
+
+        assertThat(smileMapper.getFactory()).isInstanceOf(SmileFactory.class);
+        assertThat(smileMapper.getSerializationConfig().getPropertyNamingStrategy())
+            .isSameAs(mapper.getSerializationConfig().getPropertyNamingStrategy());
+        assertThat(smileMapper.getSubtypeResolver()).isSameAs(mapper.getSubtypeResolver());
+        assertThat(smileMapper.getSerializerFactory()).isSameAs(mapper.getSerializerFactory());
+    }
+
+    @Path("/binary")
+    @Produces({MediaType.APPLICATION_JSON, SMILE, CBOR})
+    @Consumes({MediaType.APPLICATION_JSON, SMILE, CBOR})
+    public static class BinaryResource {
+        @GET
+        public Person get() {
+            return new Person("Coda");
+        }
+
+        @POST
+        public Person post(Person person) {
+            return new Person(person.firstName + "!");
+        }
+    }
+
+    public static class Person {
+        @JsonProperty
+        private String firstName = "";
+
+        public Person() {
+        }
+
+        Person(String firstName) {
+            this.firstName = firstName;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package io.dropwizard.jersey.jackson;
+
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class StreamingJsonMessageBodyWriterTest extends AbstractJerseyTest {
+    private static final AtomicBoolean STREAM_CLOSED = new AtomicBoolean();
+
+    private final StreamingJsonMessageBodyWriter writer =
+        new StreamingJsonMessageBodyWriter(Jackson.newObjectMapper(), 2);
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting()
+            .register(new JacksonFeature(Jackson.newObjectMapper()))
+            .register(new StreamingJsonMessageBodyWriter(Jackson.newObjectMapper(), 2))
+            .register(StreamingResource.class);
+    }
+
+    @Test
+    void writesStreamsAsJsonArrays() {
+        STREAM_CLOSED.set(false);
+        final String body = target("/streaming/stream").request(MediaType.APPLICATION_JSON).get(String.class);
+
+        assertThat(body).isEqualTo("[{\"message\":1,\"date\":null},{\"message\":2,\"date\":null},{\"message\":3,\"date\":null}]");
+        assertThat(STREAM_CLOSED).isTrue();
+    }
+
+    @Test
+    void writesStreamsAsNewlineDelimitedJson() {
+        final Response response = target("/streaming/stream")
+            .request(StreamingJsonMessageBodyWriter.APPLICATION_NDJSON)
+            .get();
+
+        assertThat(response.getMediaType()).isEqualTo(StreamingJsonMessageBodyWriter.APPLICATION_NDJSON_TYPE);
+        assertThat(response.readEntity(String.class))
+            .isEqualTo("{\"message\":1,\"date\":null}\n{\"message\":2,\"date\":null}\n{\"message\":3,\"date\":null}\n");
+    }
+
+    @Test
+    void writesIterators() {
+        assertThat(target("/streaming/iterator").request(MediaType.APPLICATION_JSON).get(String.class))
+            .isEqualTo("[\"a\",\"b\"]");
+    }
+
+    @Test
+    void writesEmptyArrays() {
+        assertThat(target("/streaming/empty").request(MediaType.APPLICATION_JSON).get(String.class))
+            .isEqualTo("[]");
+        assertThat(target("/streaming/empty").request(StreamingJsonMessageBodyWriter.APPLICATION_NDJSON).get(String.class))
+            .isEmpty();
+    }
+
+    @Test
+    void flushesAfterEveryInterval() throws Exception {
+        final FlushCountingOutputStream output = new FlushCountingOutputStream();
+        writer.writeTo(StreamingJsonArray.of(Arrays.asList(1, 2, 3, 4, 5).iterator()), StreamingJsonArray.class,
+            StreamingJsonArray.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(),
+            output);
+
+        // After the second and fourth element, and once the generator is closed
+        assertThat(output.flushes).isEqualTo(3);
+        assertThat(output.closed).isFalse();
+    }
+
+    @Test
+    void closesTheSourceWhenTheClientDisconnects() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final StreamingJsonArray<Integer> array = StreamingJsonArray.of(Stream.of(1, 2, 3).onClose(() -> closed.set(true)))
+            .flushEvery(1);
+        final OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> writer.writeTo(array, StreamingJsonArray.class,
+            StreamingJsonArray.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(),
+            disconnected));
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void closesCloseableIterators() throws Exception {
+        final CloseableIterator iterator = new CloseableIterator(Arrays.asList("a", "b"));
+        writer.writeTo(iterator, Iterator.class, Iterator.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE,
+            new MultivaluedHashMap<>(), new FlushCountingOutputStream());
+
+        assertThat(iterator.closed).isTrue();
+    }
+
+    @Test
+    void rejectsNonPositiveFlushIntervals() {
+        assertThatIllegalArgumentException().isThrownBy(() -> StreamingJsonArray.of(Stream.empty()).flushEvery(0));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new StreamingJsonMessageBodyWriter(Jackson.newObjectMapper(), 0));
+    }
+
+    @Test
+    void isOnlyWriteableForSequences() {
+        assertThat(writer.isWriteable(Stream.class, null, null, MediaType.APPLICATION_JSON_TYPE)).isTrue();
+        assertThat(writer.isWriteable(Iterator.class, null, null, StreamingJsonMessageBodyWriter.APPLICATION_NDJSON_TYPE))
+            .isTrue();
+        assertThat(writer.isWriteable(List.class, null, null, MediaType.APPLICATION_JSON_TYPE)).isFalse();
+        assertThat(writer.isWriteable(Stream.class, null, null, MediaType.TEXT_PLAIN_TYPE)).isFalse();
+    }
+
+    @Path("/streaming")
+    @Produces({MediaType.APPLICATION_JSON, StreamingJsonMessageBodyWriter.APPLICATION_NDJSON})
+    public static class StreamingResource {
+        @GET
+        @Path("/stream")
+        public Stream<OkRepresentation> stream() {
+            return Stream.of(1, 2, 3)
+                .map(i -> {
+                    final OkRepresentation representation = new OkRepresentation();
+                    representation.setMessage(i);
+                    return representation;
+                })
+                .onClose(() -> STREAM_CLOSED.set(true));
+        }
+
+        @GET
+        @Path("/iterator")
+        public Iterator<String> iterator() {
+            return Arrays.asList("a", "b").iterator();
+        }
+
+        @GET
+        @Path("/empty")
+        public StreamingJsonArray<String> empty() {
+            return StreamingJsonArray.of(Stream.empty());
+        }
+    }
+
+    private static class FlushCountingOutputStream extends OutputStream {
+        private int flushes;
+        private boolean closed;
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static class CloseableIterator implements Iterator<String>, AutoCloseable {
+        private final Iterator<String> delegate;
+        private boolean closed;
+
+        CloseableIterator(List<String> elements) {
+            this.delegate = elements.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public String next() {
+            return delegate.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
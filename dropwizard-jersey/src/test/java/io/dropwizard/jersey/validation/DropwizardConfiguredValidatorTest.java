@@ -0,0 +1,108 @@
+package io.dropwizard.jersey.validation;
+
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.MethodHandler;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotEmpty;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DropwizardConfiguredValidatorTest {
+    public static class Resource {
+        public String unconstrained(String value) {
+            return value;
+        }
+
+        @NotEmpty
+        public String constrained(@NotEmpty String value) {
+            return value;
+        }
+
+        public String containerElements(List<@NotEmpty String> values) {
+            return values.toString();
+        }
+
+        public String cascaded(@Valid ValidRepresentation representation) {
+            return representation.getName();
+        }
+    }
+
+    private final Validator validator = mock(Validator.class, delegatesTo(Validators.newValidator()));
+    private final DropwizardConfiguredValidator configuredValidator = new DropwizardConfiguredValidator(validator);
+    private final Resource resource = new Resource();
+
+    @Test
+    void skipsUnconstrainedMethods() throws Exception {
+        final Invocable invocable = invocable("unconstrained", String.class);
+
+        configuredValidator.validateResourceAndInputParams(resource, invocable, new Object[]{""});
+        configuredValidator.validateResult(resource, invocable, "");
+
+        verify(validator, never()).forExecutables();
+    }
+
+    @Test
+    void validatesConstrainedParameters() throws Exception {
+        final Invocable invocable = invocable("constrained", String.class);
+
+        assertThatCode(() -> configuredValidator.validateResourceAndInputParams(resource, invocable,
+            new Object[]{"value"})).doesNotThrowAnyException();
+        assertThatExceptionOfType(JerseyViolationException.class)
+            .isThrownBy(() -> configuredValidator.validateResourceAndInputParams(resource, invocable,
+                new Object[]{""}));
+    }
+
+    @Test
+    void validatesConstrainedReturnValues() throws Exception {
+        final Invocable invocable = invocable("constrained", String.class);
+
+        assertThatExceptionOfType(JerseyViolationException.class)
+            .isThrownBy(() -> configuredValidator.validateResult(resource, invocable, ""));
+    }
+
+    @Test
+    void validatesConstrainedContainerElements() throws Exception {
+        final Invocable invocable = invocable("containerElements", List.class);
+
+        assertThatExceptionOfType(JerseyViolationException.class)
+            .isThrownBy(() -> configuredValidator.validateResourceAndInputParams(resource, invocable,
+                new Object[]{Collections.singletonList("")}));
+    }
+
+    @Test
+    void validatesCascadedParameters() throws Exception {
+        final Invocable invocable = invocable("cascaded", ValidRepresentation.class);
+
+        assertThatExceptionOfType(JerseyViolationException.class)
+            .isThrownBy(() -> configuredValidator.validateResourceAndInputParams(resource, invocable,
+                new Object[]{new ValidRepresentation()}));
+    }
+
+    @Test
+    void looksUpTheConstraintsOfAnInvocableOnce() throws Exception {
+        final Invocable invocable = invocable("constrained", String.class);
+
+        configuredValidator.validateResourceAndInputParams(resource, invocable, new Object[]{"value"});
+        configuredValidator.validateResourceAndInputParams(resource, invocable, new Object[]{"value"});
+        configuredValidator.validateResult(resource, invocable, "value");
+
+        verify(validator, times(1)).getConstraintsForClass(Resource.class);
+    }
+
+    private static Invocable invocable(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        final Method method = Resource.class.getMethod(name, parameterTypes);
+        return Invocable.create(MethodHandler.create(Resource.class), method);
+    }
+}
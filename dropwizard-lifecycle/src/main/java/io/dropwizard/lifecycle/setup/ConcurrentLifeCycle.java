@@ -0,0 +1,182 @@
+package io.dropwizard.lifecycle.setup;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.lifecycle.JettyManaged;
+import io.dropwizard.util.Duration;
+import org.eclipse.jetty.util.MultiException;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Starts objects concurrently once the objects they depend on have started, and stops them concurrently once
+ * the objects which depend on them have stopped. The time spent starting and stopping each object is recorded by
+ * the {@code LifecycleEnvironment.<type>.<index>.start} and {@code LifecycleEnvironment.<type>.<index>.stop} timers,
+ * where {@code <index>} is the position of the object in the list of objects.
+ */
+class ConcurrentLifeCycle extends AbstractLifeCycle {
+    private final List<LifeCycle> objects;
+    private final List<List<Integer>> dependencies;
+    private final MetricRegistry metricRegistry;
+    private final Duration timeout;
+
+    /**
+     * @param objects        the objects to start and stop
+     * @param dependencies   the indexes of the objects each object depends on, which must be lower than its own
+     * @param metricRegistry the registry of the timers of the objects
+     * @param timeout        how long to wait for each object to start or stop
+     */
+    ConcurrentLifeCycle(List<LifeCycle> objects, List<List<Integer>> dependencies, MetricRegistry metricRegistry,
+                        Duration timeout) {
+        this.objects = objects;
+        this.dependencies = dependencies;
+        this.metricRegistry = metricRegistry;
+        this.timeout = timeout;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        final ExecutorService executor = newExecutor();
+        try {
+            final CompletableFuture<?>[] starts = new CompletableFuture<?>[objects.size()];
+            for (int i = 0; i < objects.size(); i++) {
+                final int index = i;
+                final CompletableFuture<?>[] started = dependencies.get(i).stream()
+                    .map(dependency -> starts[dependency])
+                    .toArray(CompletableFuture<?>[]::new);
+                starts[i] = CompletableFuture.allOf(started)
+                    .thenRunAsync(() -> run(executor, index, "start", lifeCycle -> lifeCycle.start()), executor);
+            }
+            // Waits for all the objects, so that none of them is still starting if one of them failed
+            CompletableFuture.allOf(starts).handle((result, e) -> result).join();
+            for (CompletableFuture<?> start : starts) {
+                try {
+                    start.join();
+                } catch (CompletionException e) {
+                    throw unwrap(e);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        final List<List<Integer>> dependents = new ArrayList<>();
+        for (int i = 0; i < objects.size(); i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < objects.size(); i++) {
+            for (Integer dependency : dependencies.get(i)) {
+                dependents.get(dependency).add(i);
+            }
+        }
+
+        final ExecutorService executor = newExecutor();
+        try {
+            final CompletableFuture<?>[] stops = new CompletableFuture<?>[objects.size()];
+            for (int i = objects.size() - 1; i >= 0; i--) {
+                final int index = i;
+                final LifeCycle object = objects.get(i);
+                final CompletableFuture<?>[] stopped = dependents.get(i).stream()
+                    .map(dependent -> stops[dependent])
+                    .toArray(CompletableFuture<?>[]::new);
+                // Stops the object even if an object which depends on it failed to stop
+                stops[i] = CompletableFuture.allOf(stopped)
+                    .handle((result, e) -> result)
+                    .thenRunAsync(() -> {
+                        if (object.isRunning()) {
+                            run(executor, index, "stop", lifeCycle -> lifeCycle.stop());
+                        }
+                    }, executor);
+            }
+            CompletableFuture.allOf(stops).handle((result, e) -> result).join();
+            final MultiException failures = new MultiException();
+            for (int i = stops.length - 1; i >= 0; i--) {
+                try {
+                    stops[i].join();
+                } catch (CompletionException e) {
+                    failures.add(unwrap(e));
+                }
+            }
+            failures.ifExceptionThrow();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void run(ExecutorService executor, int index, String action, Action step) {
+        final LifeCycle object = objects.get(index);
+        final Timer.Context context = metricRegistry.timer(
+            name(LifecycleEnvironment.class, typeOf(object), String.valueOf(index), action)).time();
+        final Future<?> future = executor.submit(() -> {
+            step.run(object);
+            return null;
+        });
+        try {
+            future.get(timeout.getQuantity(), timeout.getUnit());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new CompletionException(new TimeoutException(
+                "Unable to " + action + " " + object + " within " + timeout));
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new CompletionException(e);
+        } finally {
+            context.stop();
+        }
+    }
+
+    private static String typeOf(LifeCycle object) {
+        final Object type = object instanceof JettyManaged ? ((JettyManaged) object).getManaged() : object;
+        final String name = type.getClass().getName();
+        // Lambdas are named after the class declaring them, rather than their generated class
+        final int lambda = name.indexOf("$$Lambda$");
+        return lambda < 0 ? name : name.substring(0, lambda);
+    }
+
+    private static Exception unwrap(Throwable e) {
+        final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof Exception ? (Exception) cause : new Exception(cause);
+    }
+
+    private static ExecutorService newExecutor() {
+        final AtomicInteger threads = new AtomicInteger();
+        return Executors.newCachedThreadPool(r -> {
+            final Thread thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("lifecycle-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return objects.toString();
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run(LifeCycle object) throws Exception;
+    }
+}
@@ -4,6 +4,7 @@ import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.lifecycle.ServerLifecycleListener;
+import io.dropwizard.util.Duration;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.util.component.ContainerLifeCycle;
 import org.eclipse.jetty.util.component.LifeCycle;
@@ -11,6 +12,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.concurrent.ThreadFactory;
 
@@ -21,11 +24,15 @@ public class LifecycleEnvironment {
 
     private final List<LifeCycle> managedObjects;
     private final List<LifeCycle.Listener> lifecycleListeners;
+    private final IdentityHashMap<LifeCycle, List<LifeCycle>> dependencies;
     private final MetricRegistry metricRegistry;
+    private boolean concurrentManagedObjects;
+    private Duration managedObjectTimeout = Duration.minutes(1);
 
     public LifecycleEnvironment(MetricRegistry metricRegistry) {
         this.managedObjects = new ArrayList<>();
         this.lifecycleListeners = new ArrayList<>();
+        this.dependencies = new IdentityHashMap<>();
         this.metricRegistry = metricRegistry;
     }
 
@@ -44,6 +51,31 @@ public class LifecycleEnvironment {
         managedObjects.add(new JettyManaged(requireNonNull(managed)));
     }
 
+    /**
+     * Adds the given {@link Managed} instance to the set of objects managed by the server's lifecycle, along with
+     * the managed objects it depends on. When managed objects are started concurrently (see
+     * {@link #setConcurrentManagedObjects(boolean)}), {@code managed} is only started once its dependencies have
+     * started, and is stopped before them. Managed objects which don't declare their dependencies depend on all the
+     * objects managed before them.
+     *
+     * @param managed      a managed object
+     * @param dependencies the managed objects {@code managed} depends on, which must have been managed before it
+     * @throws IllegalArgumentException if one of the dependencies isn't managed yet
+     * @since 2.1.2
+     */
+    public void manage(Managed managed, Collection<? extends Managed> dependencies) {
+        final List<LifeCycle> managedDependencies = new ArrayList<>();
+        for (Managed dependency : dependencies) {
+            managedDependencies.add(managedObjects.stream()
+                .filter(object -> object instanceof JettyManaged && ((JettyManaged) object).getManaged() == dependency)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(dependency + " must be managed before " + managed)));
+        }
+        final JettyManaged object = new JettyManaged(requireNonNull(managed));
+        managedObjects.add(object);
+        this.dependencies.put(object, managedDependencies);
+    }
+
     /**
      * Adds the given Jetty {@link LifeCycle} instances to the server's lifecycle.
      *
@@ -81,9 +113,60 @@ public class LifecycleEnvironment {
         lifecycleListeners.add(listener);
     }
 
+    /**
+     * Returns whether the managed objects are started and stopped concurrently.
+     *
+     * @since 2.1.2
+     */
+    public boolean isConcurrentManagedObjects() {
+        return concurrentManagedObjects;
+    }
+
+    /**
+     * Sets whether the managed objects are started and stopped concurrently, according to their dependencies (see
+     * {@link #manage(Managed, Collection)}), rather than one after the other. Disabled by default.
+     * <p>
+     * When enabled, the time spent starting and stopping each object is recorded by the
+     * {@code io.dropwizard.lifecycle.setup.LifecycleEnvironment.<type>.<index>.start} and
+     * {@code io.dropwizard.lifecycle.setup.LifecycleEnvironment.<type>.<index>.stop} timers, where {@code <index>} is
+     * the order in which the object was added.
+     *
+     * @param concurrentManagedObjects whether to start and stop the managed objects concurrently
+     * @since 2.1.2
+     */
+    public void setConcurrentManagedObjects(boolean concurrentManagedObjects) {
+        this.concurrentManagedObjects = concurrentManagedObjects;
+    }
+
+    /**
+     * Returns how long to wait for each managed object to start or stop, when they are started concurrently.
+     *
+     * @since 2.1.2
+     */
+    public Duration getManagedObjectTimeout() {
+        return managedObjectTimeout;
+    }
+
+    /**
+     * Sets how long to wait for each managed object to start or stop, when they are started concurrently. The
+     * startup fails if an object doesn't start in time, and the objects it depends on are stopped anyway if it
+     * doesn't stop in time. Defaults to 1 minute.
+     *
+     * @param managedObjectTimeout how long to wait for each managed object
+     * @since 2.1.2
+     */
+    public void setManagedObjectTimeout(Duration managedObjectTimeout) {
+        this.managedObjectTimeout = requireNonNull(managedObjectTimeout);
+    }
+
     public void attach(ContainerLifeCycle container) {
-        for (LifeCycle object : managedObjects) {
-            container.addBean(object);
+        if (concurrentManagedObjects) {
+            container.addBean(new ConcurrentLifeCycle(new ArrayList<>(managedObjects), getDependencyIndexes(),
+                metricRegistry, managedObjectTimeout));
+        } else {
+            for (LifeCycle object : managedObjects) {
+                container.addBean(object);
+            }
         }
         container.addLifeCycleListener(new LifeCycle.Listener() {
             @Override
@@ -97,12 +180,36 @@ public class LifecycleEnvironment {
     }
 
     /**
+     * Returns the metric registry recording the time spent starting and stopping the managed objects.
+     *
      * @since 2.0
      */
     public MetricRegistry getMetricRegistry() {
         return metricRegistry;
     }
 
+    private List<List<Integer>> getDependencyIndexes() {
+        final IdentityHashMap<LifeCycle, Integer> indexes = new IdentityHashMap<>();
+        final List<List<Integer>> dependencyIndexes = new ArrayList<>();
+        for (int i = 0; i < managedObjects.size(); i++) {
+            final LifeCycle object = managedObjects.get(i);
+            final List<LifeCycle> objectDependencies = dependencies.get(object);
+            final List<Integer> objectDependencyIndexes = new ArrayList<>();
+            if (objectDependencies == null) {
+                for (int j = 0; j < i; j++) {
+                    objectDependencyIndexes.add(j);
+                }
+            } else {
+                for (LifeCycle dependency : objectDependencies) {
+                    objectDependencyIndexes.add(indexes.get(dependency));
+                }
+            }
+            dependencyIndexes.add(objectDependencyIndexes);
+            indexes.putIfAbsent(object, i);
+        }
+        return dependencyIndexes;
+    }
+
     private static class ServerListener implements LifeCycle.Listener {
         private final ServerLifecycleListener listener;
 
@@ -3,19 +3,28 @@ package io.dropwizard.lifecycle.setup;
 import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.util.Duration;
 import org.eclipse.jetty.util.component.ContainerLifeCycle;
 import org.eclipse.jetty.util.component.LifeCycle;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.InstanceOfAssertFactories.BOOLEAN;
 import static org.assertj.core.api.InstanceOfAssertFactories.STRING;
 import static org.mockito.Mockito.mock;
@@ -96,6 +105,103 @@ class LifecycleEnvironmentTest {
             .startsWith(expectedName);
     }
 
+    @Test
+    void startsAndStopsManagedObjectsConcurrently() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final Managed first = new RecordingManaged("first", latch, events);
+        final Managed second = new RecordingManaged("second", latch, events);
+        environment.setConcurrentManagedObjects(true);
+        environment.manage(first, Collections.emptyList());
+        environment.manage(second, Collections.emptyList());
+        environment.manage(new RecordingManaged("last", new CountDownLatch(0), events), Arrays.asList(first, second));
+
+        final ContainerLifeCycle container = new ContainerLifeCycle();
+        environment.attach(container);
+        container.start();
+        container.stop();
+
+        assertThat(events).hasSize(6);
+        assertThat(events.subList(0, 2)).containsExactlyInAnyOrder("start first", "start second");
+        assertThat(events.subList(2, 4)).containsExactly("start last", "stop last");
+        assertThat(events.subList(4, 6)).containsExactlyInAnyOrder("stop first", "stop second");
+        for (String index : Arrays.asList("0", "1", "2")) {
+            assertThat(environment.getMetricRegistry().timer(MetricRegistry.name(LifecycleEnvironment.class,
+                RecordingManaged.class.getName(), index, "start")).getCount()).isEqualTo(1);
+            assertThat(environment.getMetricRegistry().timer(MetricRegistry.name(LifecycleEnvironment.class,
+                RecordingManaged.class.getName(), index, "stop")).getCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void namesTheTimersOfLambdasAfterTheirDeclaringClass() throws Exception {
+        environment.setConcurrentManagedObjects(true);
+        final StartingManaged managed = () -> { };
+        environment.manage(managed);
+
+        final ContainerLifeCycle container = new ContainerLifeCycle();
+        environment.attach(container);
+        container.start();
+        container.stop();
+
+        assertThat(environment.getMetricRegistry().getTimers()).containsOnlyKeys(
+            MetricRegistry.name(LifecycleEnvironment.class, LifecycleEnvironmentTest.class.getName(), "0", "start"),
+            MetricRegistry.name(LifecycleEnvironment.class, LifecycleEnvironmentTest.class.getName(), "0", "stop"));
+    }
+
+    @Test
+    void failsToStartManagedObjectsWhichTakeTooLong() throws Exception {
+        environment.setConcurrentManagedObjects(true);
+        environment.setManagedObjectTimeout(Duration.milliseconds(100));
+        environment.manage(new Managed() {
+            @Override
+            public void start() throws Exception {
+                Thread.sleep(10_000);
+            }
+        });
+
+        final ContainerLifeCycle container = new ContainerLifeCycle();
+        environment.attach(container);
+
+        assertThatExceptionOfType(TimeoutException.class).isThrownBy(container::start);
+        container.stop();
+    }
+
+    @Test
+    void rejectsDependenciesWhichAreNotManaged() {
+        final Managed dependency = mock(Managed.class);
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> environment.manage(mock(Managed.class), Collections.singletonList(dependency)));
+    }
+
+    private static class RecordingManaged implements Managed {
+        private final String name;
+        private final CountDownLatch latch;
+        private final List<String> events;
+
+        RecordingManaged(String name, CountDownLatch latch, List<String> events) {
+            this.name = name;
+            this.latch = latch;
+            this.events = events;
+        }
+
+        @Override
+        public void start() throws Exception {
+            // Only returns once all the objects sharing the latch are starting
+            latch.countDown();
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException(name + " hasn't been started concurrently");
+            }
+            events.add("start " + name);
+        }
+
+        @Override
+        public void stop() {
+            events.add("stop " + name);
+        }
+    }
+
     private ThreadFactory buildThreadFactory(String expectedNamePattern) {
         return new ThreadFactory() {
             final AtomicLong counter = new AtomicLong(0L);
@@ -108,4 +214,10 @@ class LifecycleEnvironmentTest {
             }
         };
     }
+
+    @FunctionalInterface
+    private interface StartingManaged extends Managed {
+        @Override
+        void start() throws Exception;
+    }
 }
@@ -39,6 +39,7 @@ import javax.validation.constraints.NotNull;
 import java.io.PrintStream;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -265,12 +266,7 @@ public class DefaultLoggingFactory implements LoggingFactory {
                 logger.setLevel(toLevel(jsonNode.asText()));
             } else if (jsonNode.isObject()) {
                 // A level and an appender
-                final LoggerConfiguration configuration;
-                try {
-                    configuration = Jackson.newObjectMapper().treeToValue(jsonNode, LoggerConfiguration.class);
-                } catch (JsonProcessingException e) {
-                    throw new IllegalArgumentException("Wrong format of logger '" + entry.getKey() + "'", e);
-                }
+                final LoggerConfiguration configuration = toLoggerConfiguration(entry.getKey(), jsonNode);
                 logger.setLevel(toLevel(configuration.getLevel()));
                 logger.setAdditive(configuration.isAdditive());
 
@@ -285,6 +281,43 @@ public class DefaultLoggingFactory implements LoggingFactory {
         return root;
     }
 
+    /**
+     * Applies the levels of the root logger and of the configured loggers, without resetting the loggers nor
+     * their appenders, e.g. after the levels of the configuration have been changed at runtime. The loggers which
+     * were configured previously but aren't configured anymore inherit their levels again.
+     *
+     * @param previousLoggers the names of the loggers which were configured previously
+     * @since 2.1.2
+     */
+    public void configureLevels(Collection<String> previousLoggers) {
+        CHANGE_LOGGER_CONTEXT_LOCK.lock();
+        try {
+            loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(toLevel(level));
+            for (String name : previousLoggers) {
+                if (!loggers.containsKey(name)) {
+                    loggerContext.getLogger(name).setLevel(null);
+                }
+            }
+            for (Map.Entry<String, JsonNode> entry : loggers.entrySet()) {
+                final JsonNode jsonNode = entry.getValue();
+                final Level loggerLevel = jsonNode.isObject()
+                    ? toLevel(toLoggerConfiguration(entry.getKey(), jsonNode).getLevel())
+                    : toLevel(jsonNode.asText());
+                loggerContext.getLogger(entry.getKey()).setLevel(loggerLevel);
+            }
+        } finally {
+            CHANGE_LOGGER_CONTEXT_LOCK.unlock();
+        }
+    }
+
+    private static LoggerConfiguration toLoggerConfiguration(String name, JsonNode jsonNode) {
+        try {
+            return Jackson.newObjectMapper().treeToValue(jsonNode, LoggerConfiguration.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Wrong format of logger '" + name + "'", e);
+        }
+    }
+
     static Level toLevel(@Nullable String text) {
         if ("false".equalsIgnoreCase(text)) {
             // required because YAML maps "off" to a boolean false
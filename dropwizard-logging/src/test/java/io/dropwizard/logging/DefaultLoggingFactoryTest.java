@@ -16,6 +16,7 @@ import io.dropwizard.configuration.SubstitutingSourceProvider;
 import io.dropwizard.configuration.YamlConfigurationFactory;
 import io.dropwizard.jackson.Jackson;
 import io.dropwizard.util.Maps;
+import io.dropwizard.util.Sets;
 import io.dropwizard.validation.BaseValidator;
 import org.apache.commons.text.StringSubstitutor;
 import org.assertj.core.data.MapEntry;
@@ -27,6 +28,7 @@ import org.slf4j.LoggerFactory;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -78,6 +80,31 @@ class DefaultLoggingFactoryTest {
         }
     }
 
+    @Test
+    void configuresLevelsWithoutResettingTheLoggers() throws Exception {
+        final DefaultLoggingFactory config = new DefaultLoggingFactory();
+        try {
+            config.setLoggers(Maps.of("com.example.app", new TextNode("WARN"),
+                "com.example.removed", new TextNode("ERROR")));
+            config.configure(new MetricRegistry(), "test-logger");
+
+            final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+            final Logger rootLogger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+            final Appender<?> appender = rootLogger.iteratorForAppenders().next();
+
+            config.setLevel("DEBUG");
+            config.setLoggers(Collections.singletonMap("com.example.app", objectMapper.readTree("{\"level\": \"TRACE\"}")));
+            config.configureLevels(Sets.of("com.example.app", "com.example.removed"));
+
+            assertThat(rootLogger.getLevel()).isEqualTo(Level.DEBUG);
+            assertThat(rootLogger.iteratorForAppenders().next()).isSameAs(appender);
+            assertThat(loggerContext.getLogger("com.example.app").getLevel()).isEqualTo(Level.TRACE);
+            assertThat(loggerContext.getLogger("com.example.removed").getLevel()).isNull();
+        } finally {
+            config.reset();
+        }
+    }
+
     @Test
     void canParseNewLoggerFormat() throws Exception {
         final DefaultLoggingFactory config = factory.build(configurationSourceProvider, "yaml/logging_advanced.yml");
@@ -12,6 +12,8 @@ import javax.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A factory for configuring the metrics sub-system for the environment.
@@ -56,6 +58,11 @@ public class MetricsFactory {
 
     private boolean reportOnStop = false;
 
+    /**
+     * The managers of the reporters which have been configured, by the index of their reporter.
+     */
+    private final Map<Integer, ScheduledReporterManager> managers = new ConcurrentHashMap<>();
+
     @JsonProperty
     public List<ReporterFactory> getReporters() {
         return reporters;
@@ -105,19 +112,47 @@ public class MetricsFactory {
      * @param registry the metric registry to report metrics from.
      */
     public void configure(LifecycleEnvironment environment, MetricRegistry registry) {
-        for (ReporterFactory reporter : reporters) {
+        for (int i = 0; i < reporters.size(); i++) {
+            final ReporterFactory reporter = reporters.get(i);
             try {
                 final ScheduledReporterManager manager =
                         new ScheduledReporterManager(reporter.build(registry),
                                                      reporter.getFrequency().orElseGet(this::getFrequency),
                                                      isReportOnStop());
                 environment.manage(manager);
+                managers.put(i, manager);
             } catch (Exception e) {
                 LOGGER.warn("Failed to create reporter, metrics may not be properly reported.", e);
             }
         }
     }
 
+    /**
+     * Applies the frequencies of another configuration to the reporters configured by
+     * {@link #configure(LifecycleEnvironment, MetricRegistry)}. The reporters whose frequency changed are replaced by
+     * reporters built again from this configuration, so that only their frequency changes.
+     *
+     * @param metricsFactory the configuration with the new frequencies
+     * @param registry       the metric registry to report metrics from
+     * @throws IllegalArgumentException if the configurations don't have the same number of reporters
+     * @since 2.1.2
+     */
+    public void reschedule(MetricsFactory metricsFactory, MetricRegistry registry) {
+        final List<ReporterFactory> newReporters = metricsFactory.getReporters();
+        if (newReporters.size() != reporters.size()) {
+            throw new IllegalArgumentException("Reporters can only be added or removed by a restart");
+        }
+        for (Map.Entry<Integer, ScheduledReporterManager> entry : managers.entrySet()) {
+            final int index = entry.getKey();
+            final ScheduledReporterManager manager = entry.getValue();
+            final Duration period = newReporters.get(index).getFrequency().orElseGet(metricsFactory::getFrequency);
+            if (!period.equals(manager.getPeriod())) {
+                manager.reschedule(reporters.get(index).build(registry), period);
+                LOGGER.info("Reporting metrics every {} with {}", period, reporters.get(index));
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return "MetricsFactory{frequency=" + frequency + ", reporters=" + reporters + ", reportOnStop=" + reportOnStop + '}';
@@ -8,9 +8,10 @@ import io.dropwizard.util.Duration;
  * Manages a {@link ScheduledReporter} lifecycle.
  */
 public class ScheduledReporterManager implements Managed {
-    private final ScheduledReporter reporter;
-    private final Duration period;
+    private ScheduledReporter reporter;
+    private Duration period;
     private final boolean reportOnStop;
+    private boolean started;
 
     /**
      * Manages the given {@code reporter} by reporting with the given {@code period}.
@@ -43,8 +44,9 @@ public class ScheduledReporterManager implements Managed {
      * @throws Exception
      */
     @Override
-    public void start() throws Exception {
+    public synchronized void start() throws Exception {
         reporter.start(period.getQuantity(), period.getUnit());
+        started = true;
     }
 
     /**
@@ -53,7 +55,8 @@ public class ScheduledReporterManager implements Managed {
      * @throws Exception
      */
     @Override
-    public void stop() throws Exception {
+    public synchronized void stop() throws Exception {
+        started = false;
         try {
             if (reportOnStop) {
                 reporter.report();
@@ -62,4 +65,30 @@ public class ScheduledReporterManager implements Managed {
             reporter.stop();
         }
     }
+
+    /**
+     * @return the frequency metrics are reported at
+     * @since 2.1.2
+     */
+    public synchronized Duration getPeriod() {
+        return period;
+    }
+
+    /**
+     * Replaces the reporter with one reporting at another frequency. A reporter can't be started again once it has
+     * been stopped, so the current reporter is stopped, without a last report, and the new one is started if the
+     * manager has been started.
+     *
+     * @param newReporter the reporter replacing the current one
+     * @param newPeriod   the frequency to report metrics at
+     * @since 2.1.2
+     */
+    public synchronized void reschedule(ScheduledReporter newReporter, Duration newPeriod) {
+        if (started) {
+            reporter.stop();
+            newReporter.start(newPeriod.getQuantity(), newPeriod.getUnit());
+        }
+        this.reporter = newReporter;
+        this.period = newPeriod;
+    }
 }
@@ -1,10 +1,13 @@
 package io.dropwizard.metrics;
 
 import com.codahale.metrics.MetricAttribute;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.ScheduledReporter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
 import io.dropwizard.configuration.YamlConfigurationFactory;
 import io.dropwizard.jackson.Jackson;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.logging.BootstrapLogging;
 import io.dropwizard.util.Duration;
 import io.dropwizard.validation.BaseValidator;
@@ -12,9 +15,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.EnumSet;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class MetricsFactoryTest {
     static {
@@ -78,4 +87,31 @@ class MetricsFactoryTest {
         assertThat(config.isReportOnStop()).isTrue();
     }
 
+    @Test
+    void reschedulesTheConfiguredReporters() {
+        final MetricRegistry registry = new MetricRegistry();
+        final ReporterFactory reporter = mock(ReporterFactory.class);
+        when(reporter.build(registry)).thenReturn(mock(ScheduledReporter.class));
+        final MetricsFactory metricsFactory = new MetricsFactory();
+        metricsFactory.setReporters(Collections.singletonList(reporter));
+        metricsFactory.configure(new LifecycleEnvironment(registry), registry);
+
+        final MetricsFactory reloaded = new MetricsFactory();
+        reloaded.setReporters(Collections.singletonList(mock(ReporterFactory.class)));
+        reloaded.setFrequency(Duration.seconds(5));
+        metricsFactory.reschedule(reloaded, registry);
+        // The reporter is only replaced when its frequency changes
+        metricsFactory.reschedule(reloaded, registry);
+
+        verify(reporter, times(2)).build(registry);
+    }
+
+    @Test
+    void doesNotRescheduleAddedReporters() {
+        final MetricsFactory reloaded = new MetricsFactory();
+        reloaded.setReporters(Collections.singletonList(mock(ReporterFactory.class)));
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new MetricsFactory().reschedule(reloaded, new MetricRegistry()));
+    }
 }
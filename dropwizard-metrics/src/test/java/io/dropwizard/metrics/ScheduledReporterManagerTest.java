@@ -41,4 +41,34 @@ class ScheduledReporterManagerTest {
         verifyNoMoreInteractions(mockReporter);
     }
 
+    @Test
+    void testReschedule() throws Exception {
+        ScheduledReporter mockReporter = mock(ScheduledReporter.class);
+        ScheduledReporter newReporter = mock(ScheduledReporter.class);
+        ScheduledReporterManager manager = new ScheduledReporterManager(mockReporter, Duration.minutes(5), false);
+
+        manager.start();
+        manager.reschedule(newReporter, Duration.seconds(10));
+        manager.stop();
+
+        verify(mockReporter).start(5L, TimeUnit.MINUTES);
+        verify(mockReporter).stop();
+        verifyNoMoreInteractions(mockReporter);
+        verify(newReporter).start(10L, TimeUnit.SECONDS);
+        verify(newReporter).stop();
+        verifyNoMoreInteractions(newReporter);
+    }
+
+    @Test
+    void testRescheduleBeforeStart() throws Exception {
+        ScheduledReporter mockReporter = mock(ScheduledReporter.class);
+        ScheduledReporter newReporter = mock(ScheduledReporter.class);
+        ScheduledReporterManager manager = new ScheduledReporterManager(mockReporter, Duration.minutes(5), false);
+
+        manager.reschedule(newReporter, Duration.seconds(10));
+        manager.start();
+
+        verifyNoMoreInteractions(mockReporter);
+        verify(newReporter).start(10L, TimeUnit.SECONDS);
+    }
 }
@@ -9,19 +9,28 @@ import com.fasterxml.classmate.members.ResolvedMethod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
  * This class is the base validator for the <code>@SelfValidating</code> annotation. It
  * initiates the self validation process on an object, generating wrapping methods to call
- * the validation methods efficiently and then calls them.
+ * the validation methods efficiently and then calls them. The validated object is passed to
+ * the wrapping methods, so that they can be shared by concurrent validations.
  */
 public class SelfValidatingValidator implements ConstraintValidator<SelfValidating, Object> {
     private final Logger log;
@@ -46,8 +55,7 @@ public class SelfValidatingValidator implements ConstraintValidator<SelfValidati
         final ViolationCollector collector = new ViolationCollector(context);
         context.disableDefaultConstraintViolation();
         for (ValidationCaller caller : methodMap.computeIfAbsent(value.getClass(), this::findMethods)) {
-            caller.setValidationObject(value);
-            caller.call(collector);
+            caller.call(value, collector);
         }
         return !collector.hasViolationOccurred();
     }
@@ -62,7 +70,7 @@ public class SelfValidatingValidator implements ConstraintValidator<SelfValidati
         final List<ValidationCaller> callers = Arrays.stream(annotatedType.getMemberMethods())
             .filter(this::isValidationMethod)
             .filter(this::isMethodCorrect)
-            .map(m -> new ProxyValidationCaller<>(annotated, m))
+            .map(m -> createCaller(annotated, m))
             .collect(Collectors.toList());
         if (callers.isEmpty()) {
             log.warn("The class {} is annotated with @SelfValidating but contains no valid methods that are annotated " +
@@ -90,6 +98,80 @@ public class SelfValidatingValidator implements ConstraintValidator<SelfValidati
         return true;
     }
 
+    /**
+     * Creates the caller of a validation method, which calls it through a generated {@link BiConsumer} when
+     * possible, and through reflection otherwise.
+     */
+    <T> ValidationCaller<T> createCaller(Class<T> cls, ResolvedMethod resolvedMethod) {
+        final BiConsumer<T, ViolationCollector> invoker = generateInvoker(resolvedMethod.getRawMember());
+        return invoker == null ? new ProxyValidationCaller<>(cls, resolvedMethod)
+            : new GeneratedValidationCaller<>(resolvedMethod, invoker);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private <T> BiConsumer<T, ViolationCollector> generateInvoker(Method method) {
+        // The generated class resolves the declaring class of the method through the class loader of this class
+        if (!isVisible(method.getDeclaringClass())) {
+            return null;
+        }
+        final MethodHandle handle;
+        final CallSite callSite;
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            handle = lookup.unreflect(method);
+            callSite = LambdaMetafactory.metafactory(lookup, "accept",
+                MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(void.class, Object.class, Object.class),
+                handle,
+                handle.type());
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            log.debug("Couldn't generate an invoker for {}, calling it through reflection", method, e);
+            return null;
+        }
+        try {
+            return (BiConsumer<T, ViolationCollector>) callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            log.debug("Couldn't generate an invoker for {}, calling it through reflection", method, e);
+            return null;
+        }
+    }
+
+    private static boolean isVisible(Class<?> cls) {
+        try {
+            return Class.forName(cls.getName(), false, SelfValidatingValidator.class.getClassLoader()) == cls;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Calls a validation method through a generated {@link BiConsumer}, which the JIT compiler can inline.
+     */
+    static final class GeneratedValidationCaller<T> extends ValidationCaller<T> {
+        private final ResolvedMethod resolvedMethod;
+        private final BiConsumer<T, ViolationCollector> invoker;
+
+        GeneratedValidationCaller(ResolvedMethod resolvedMethod, BiConsumer<T, ViolationCollector> invoker) {
+            this.resolvedMethod = resolvedMethod;
+            this.invoker = invoker;
+        }
+
+        @Override
+        public void call(ViolationCollector vc) {
+            final T obj = getValidationObject();
+            if (obj == null) {
+                throw new IllegalStateException("Couldn't call " + resolvedMethod + " without an object");
+            }
+            call(obj, vc);
+        }
+
+        @Override
+        public void call(T obj, ViolationCollector vc) {
+            invoker.accept(obj, vc);
+        }
+    }
+
     static final class ProxyValidationCaller<T> extends ValidationCaller<T> {
         private final Class<T> cls;
         private final ResolvedMethod resolvedMethod;
@@ -101,12 +183,16 @@ public class SelfValidatingValidator implements ConstraintValidator<SelfValidati
 
         @Override
         public void call(ViolationCollector vc) {
+            call(cls.cast(getValidationObject()), vc);
+        }
+
+        @Override
+        public void call(@Nullable T obj, ViolationCollector vc) {
             final Method method = resolvedMethod.getRawMember();
-            final T obj = cls.cast(getValidationObject());
             try {
                 method.invoke(obj, vc);
             } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Couldn't call " + resolvedMethod + " on " + getValidationObject(), e);
+                throw new IllegalStateException("Couldn't call " + resolvedMethod + " on " + obj, e);
             }
         }
     }
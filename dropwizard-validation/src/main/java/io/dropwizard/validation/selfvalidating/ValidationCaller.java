@@ -23,4 +23,18 @@ public abstract class ValidationCaller<T> {
     }
 
     public abstract void call(ViolationCollector vc);
+
+    /**
+     * Calls the validation method on the given object. Unlike {@link #setValidationObject(Object)} and
+     * {@link #call(ViolationCollector)}, this doesn't change the state of the caller, so that callers which
+     * override it can be shared across threads.
+     *
+     * @param obj the object to validate
+     * @param vc  the collector of the violations
+     * @since 2.1.2
+     */
+    public void call(T obj, ViolationCollector vc) {
+        setValidationObject(obj);
+        call(vc);
+    }
 }
@@ -18,6 +18,7 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class SelfValidatingValidatorTest {
     private final Logger log = mock(Logger.class);
@@ -77,17 +78,37 @@ class SelfValidatingValidatorTest {
             ViolationCollector.class);
     }
 
+    @Test
+    void generatesCallersWhichTakeTheValidatedObject() {
+        final ValidationCaller<ValidExample> caller = selfValidatingValidator.createCaller(ValidExample.class,
+            getMethod(ValidExample.class, "validate", ViolationCollector.class));
+        assertThat(caller).isInstanceOf(SelfValidatingValidator.GeneratedValidationCaller.class);
+
+        final ViolationCollector invalid = mock(ViolationCollector.class);
+        final ViolationCollector valid = mock(ViolationCollector.class);
+        caller.call(new ValidExample(-1), invalid);
+        caller.call(new ValidExample(1), valid);
+
+        verify(invalid).addViolation("n must be positive!");
+        verifyNoInteractions(valid);
+        assertThat(caller.getValidationObject()).isNull();
+    }
+
     private ResolvedMethod getMethod(String name, Class<?>... params) {
+        return getMethod(InvalidExample.class, name, params);
+    }
+
+    private ResolvedMethod getMethod(Class<?> cls, String name, Class<?>... params) {
         AnnotationConfiguration annotationConfiguration = new AnnotationConfiguration.StdConfiguration(AnnotationInclusion.INCLUDE_AND_INHERIT_IF_INHERITED);
         TypeResolver typeResolver = new TypeResolver();
         MemberResolver memberResolver = new MemberResolver(typeResolver);
-        ResolvedTypeWithMembers annotatedType = memberResolver.resolve(typeResolver.resolve(InvalidExample.class), annotationConfiguration, null);
+        ResolvedTypeWithMembers annotatedType = memberResolver.resolve(typeResolver.resolve(cls), annotationConfiguration, null);
         for (ResolvedMethod m : annotatedType.getMemberMethods()) {
             if (hasSignature(m, name, params)) {
                 return m;
             }
         }
-        throw new IllegalStateException("Could not resolve method " + name + Arrays.toString(params) + " in " + InvalidExample.class);
+        throw new IllegalStateException("Could not resolve method " + name + Arrays.toString(params) + " in " + cls);
     }
 
     private boolean hasSignature(ResolvedMethod m, String name, Class<?>[] params) {